@@ -0,0 +1,73 @@
+package module.common.utils;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import module.common.compress.ArchiveEntryFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 항목 필터 비교 비용 (실행: ./gradlew :module-common:jmh -Pjmh.includes=ArchiveEntryFilterBenchmark)
+ * - 항목 이름: 소스 트리 경로 10만 개 (일부는 node_modules, .DS_Store)
+ * - defaultFilter: 기본 제외 목록, gitignoreFilter: 와일드카드 / 최상위 기준 / '!' 패턴 포함
+ * 가비지 발생량은 -prof gc 로 확인
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class ArchiveEntryFilterBenchmark {
+
+    private static final int ENTRY_COUNT = 100_000;
+
+    private String[] entryNames;
+    private ArchiveEntryFilter defaultFilter;
+    private ArchiveEntryFilter gitignoreFilter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        entryNames = new String[ENTRY_COUNT];
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            String directory = "project/src/main/java/module" + random.nextInt(50) + "/pkg";
+            entryNames[i] = switch (i % 50) {
+                case 0 -> "project/node_modules/lib" + i + "/index.js";
+                case 1 -> directory + "/.DS_Store";
+                default -> directory + "/File" + i + ".java";
+            };
+        }
+
+        defaultFilter = ArchiveEntryFilter.DEFAULT;
+        gitignoreFilter = ArchiveEntryFilter.compile(List.of(
+                ".DS_Store", "node_modules/", "*.class", "/build/", "**/generated/**", "tmp*", "!keep.tmp"),
+            ArchiveEntryFilter.UNLIMITED_SIZE, Set.of());
+    }
+
+    @Benchmark
+    public void defaultFilter(Blackhole blackhole) {
+        for (String entryName : entryNames) {
+            blackhole.consume(defaultFilter.excludes(entryName, false, 1024));
+        }
+    }
+
+    @Benchmark
+    public void gitignoreFilter(Blackhole blackhole) {
+        for (String entryName : entryNames) {
+            blackhole.consume(gitignoreFilter.excludes(entryName, false, 1024));
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package module.common.utils;
+
+import java.io.BufferedInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import module.common.compress.FileTransfer;
+import module.common.enums.CompressFileType;
+import org.apache.commons.io.IOUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 압축 항목 기록 I/O 경로 비교 (실행: ./gradlew :module-common:jmh -Pjmh.includes=ArchiveIoBenchmark)
+ * - SMALL_FILES: 4KB 파일 4000개 (항목별 버퍼 할당 비용이 큰 경우)
+ * - LARGE_FILES: 96MB 파일 4개
+ * - streamCopy 는 기존 방식(BufferedInputStream + IOUtils.copy), pooledCopy 는 FileTransfer
+ * GC 발생량 비교는 jmh { profilers = ['gc'] } 설정 후 gc.alloc.rate.norm 확인
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ArchiveIoBenchmark {
+
+    public enum Tree {
+        SMALL_FILES(4000, 4 * 1024),
+        LARGE_FILES(4, 96 * 1024 * 1024);
+
+        private final int fileCount;
+        private final int fileSize;
+
+        Tree(int fileCount, int fileSize) {
+            this.fileCount = fileCount;
+            this.fileSize = fileSize;
+        }
+    }
+
+    @Param({"SMALL_FILES", "LARGE_FILES"})
+    private Tree tree;
+
+    private Path corpusRoot;
+    private List<Path> files;
+    private List<Path> targetPaths;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        corpusRoot = Files.createTempDirectory("archive-io-benchmark");
+        Path dataDir = Files.createDirectories(corpusRoot.resolve("data"));
+        Random random = new Random(42);
+        byte[] content = new byte[tree.fileSize];
+        for (int i = 0; i < tree.fileCount; i++) {
+            random.nextBytes(content);
+            Files.write(dataDir.resolve("file" + i + ".bin"), content);
+        }
+
+        try (Stream<Path> paths = Files.list(dataDir)) {
+            files = paths.sorted().toList();
+        }
+        targetPaths = List.of(dataDir);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(corpusRoot)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public long streamCopy() throws IOException {
+        long total = 0;
+        for (Path file : files) {
+            try (InputStream is = new BufferedInputStream(new FileInputStream(file.toFile()))) {
+                total += IOUtils.copy(is, OutputStream.nullOutputStream());
+            }
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long pooledCopy() throws IOException {
+        long total = 0;
+        for (Path file : files) {
+            total += FileTransfer.copy(file, OutputStream.nullOutputStream());
+        }
+        return total;
+    }
+
+    @Benchmark
+    public void tar() {
+        CompressUtils.compressToOutputStream(targetPaths, CompressFileType.TAR, OutputStream.nullOutputStream());
+    }
+}
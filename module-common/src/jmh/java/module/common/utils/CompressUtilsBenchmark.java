@@ -0,0 +1,86 @@
+package module.common.utils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import module.common.dto.CompressOptions;
+import module.common.enums.CompressFileType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ZIP 병렬 압축 스레드 수별 처리 시간 (실행: ./gradlew :module-common:jmh -Pjmh.includes=CompressUtilsBenchmark)
+ * - 코퍼스: 하위 디렉토리 3개에 나눠진 텍스트 파일 (압축률이 있는 데이터)
+ * - parallelism = 1 은 기존 순차 압축(ZipArchiveOutputStream)과 동일한 경로
+ * 압축 결과는 버리고(null output) deflate 처리량만 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CompressUtilsBenchmark {
+
+    private static final int FILE_COUNT = 512;
+    private static final int FILE_SIZE = 256 * 1024;
+
+    @Param({"1", "2", "4", "8"})
+    private int parallelism;
+
+    private Path corpusRoot;
+    private List<Path> targetPaths;
+    private CompressOptions compressOptions;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        corpusRoot = Files.createTempDirectory("compress-benchmark");
+        Path dataDir = Files.createDirectories(corpusRoot.resolve("data"));
+        Random random = new Random(42);
+        for (int i = 0; i < FILE_COUNT; i++) {
+            Path dir = Files.createDirectories(dataDir.resolve("dir" + (i % 3)));
+            StringBuilder content = new StringBuilder(FILE_SIZE);
+            while (content.length() < FILE_SIZE) {
+                content.append("interview-").append(random.nextInt(50_000)).append(' ')
+                    .append(Long.toHexString(random.nextLong())).append('\n');
+            }
+            Files.writeString(dir.resolve("file" + i + ".txt"), content, StandardCharsets.UTF_8);
+        }
+
+        targetPaths = List.of(dataDir);
+        compressOptions = CompressOptions.parallel(parallelism);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(corpusRoot)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public void zip() {
+        CompressUtils.compressToOutputStream(targetPaths, CompressFileType.ZIP, OutputStream.nullOutputStream(),
+            compressOptions);
+    }
+}
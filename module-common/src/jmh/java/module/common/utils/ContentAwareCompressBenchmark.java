@@ -0,0 +1,106 @@
+package module.common.utils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import module.common.compress.EntryCompressionPolicy;
+import module.common.dto.CompressOptions;
+import module.common.enums.CompressFileType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 항목별 압축 정책 적용 여부에 따른 ZIP 압축 시간 (실행: ./gradlew :module-common:jmh -Pjmh.includes=ContentAwareCompressBenchmark)
+ * - 코퍼스: 미디어 위주 업로드 (압축 불가능한 jpg/mp4 와 확장자 없는 jpeg 데이터, 텍스트 파일 일부)
+ * - contentAware = false 는 모든 항목 deflate (기존 동작)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ContentAwareCompressBenchmark {
+
+    private static final int MEDIA_FILE_COUNT = 48;
+    private static final int MEDIA_FILE_SIZE = 2 * 1024 * 1024;
+    private static final int TEXT_FILE_COUNT = 32;
+    private static final int TEXT_FILE_SIZE = 256 * 1024;
+    private static final byte[] JPEG_HEADER = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0};
+
+    @Param({"false", "true"})
+    private boolean contentAware;
+
+    private Path corpusRoot;
+    private List<Path> targetPaths;
+    private CompressOptions compressOptions;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        corpusRoot = Files.createTempDirectory("content-aware-benchmark");
+        Path dataDir = Files.createDirectories(corpusRoot.resolve("data"));
+        Random random = new Random(42);
+
+        for (int i = 0; i < MEDIA_FILE_COUNT; i++) {
+            byte[] content = new byte[MEDIA_FILE_SIZE];
+            random.nextBytes(content);
+            // 1/3 은 확장자 없이 magic byte 로만 판별되는 파일
+            String fileName = switch (i % 3) {
+                case 0 -> "image" + i + ".jpg";
+                case 1 -> "video" + i + ".mp4";
+                default -> "upload" + i;
+            };
+            if (i % 3 == 2) {
+                System.arraycopy(JPEG_HEADER, 0, content, 0, JPEG_HEADER.length);
+            }
+            Files.write(dataDir.resolve(fileName), content);
+        }
+
+        for (int i = 0; i < TEXT_FILE_COUNT; i++) {
+            StringBuilder content = new StringBuilder(TEXT_FILE_SIZE);
+            while (content.length() < TEXT_FILE_SIZE) {
+                content.append("answer-").append(random.nextInt(50_000)).append(' ')
+                    .append(Long.toHexString(random.nextLong())).append('\n');
+            }
+            Files.writeString(dataDir.resolve("transcript" + i + ".txt"), content, StandardCharsets.UTF_8);
+        }
+
+        targetPaths = List.of(dataDir);
+        compressOptions = contentAware ?
+            CompressOptions.DEFAULT.withCompressionPolicy(EntryCompressionPolicy.DEFAULT) :
+            CompressOptions.DEFAULT;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(corpusRoot)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public void zip() {
+        CompressUtils.compressToOutputStream(targetPaths, CompressFileType.ZIP, OutputStream.nullOutputStream(),
+            compressOptions);
+    }
+}
@@ -0,0 +1,72 @@
+package module.common.utils;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import java.security.Key;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import module.common.dto.VerifiedToken;
+import module.common.enums.ProviderType;
+import module.common.enums.RoleType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * AuthTokenFilter의 access token 검증 경로 비교
+ * - legacy: 요청마다 parser 생성 + getUserIdFromJwt / isValidateToken 으로 두 번 서명 검증
+ * - singlePass: 재사용 parser로 한 번만 서명 검증 (JwtUtils.verifyToken)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtUtilsBenchmark {
+
+    // HS512 서명에 필요한 64byte 테스트용 키
+    private static final String SECRET =
+        "9KuUI3WevImdtYWmEo1px0ZkR1qYVraVVNp2wtERFCscJoKaNlkihBsjXXBIOFQUK4kiiWx0/723My4If/Bl9A==";
+
+    private JwtUtils jwtUtils;
+    private Key secretKey;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtils = new JwtUtils(SECRET, false, null);
+        secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        accessToken = jwtUtils.issueAccessToken(1L, "benchmark-session", RoleType.ROLE_USER, ProviderType.BASIC);
+    }
+
+    @Benchmark
+    public void legacy(Blackhole blackhole) {
+        String subject = legacyParseClaims(accessToken).getSubject();
+        blackhole.consume(Long.valueOf(subject));
+        blackhole.consume(legacyParseClaims(accessToken).getExpiration().after(new Date()));
+    }
+
+    @Benchmark
+    public VerifiedToken singlePass() {
+        return jwtUtils.verifyToken(accessToken);
+    }
+
+    private Claims legacyParseClaims(String token) {
+        return Jwts.parserBuilder()
+            .setSigningKey(secretKey)
+            .build()
+            .parseClaimsJws(token)
+            .getBody();
+    }
+}
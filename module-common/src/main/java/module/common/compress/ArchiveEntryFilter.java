@@ -0,0 +1,479 @@
+package module.common.compress;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 압축 / 압축 해제 시 제외할 항목 필터 (.gitignore 형식)
+ * - 패턴에 '/'가 없으면 모든 깊이의 경로 구성요소(파일명, 디렉토리명)와 비교 (예: node_modules, *.tmp)
+ * - 패턴에 '/'가 있으면 최상위 기준 경로와 비교 (앞의 '/'는 무시, 예: /build, docs/*.pdf)
+ * - 패턴이 '/'로 끝나면 디렉토리만 일치 (디렉토리가 제외되면 하위 항목도 모두 제외)
+ * - '*': '/' 이외의 문자 0개 이상, '?': '/' 이외의 문자 1개, '**': 모든 문자, '[a-z]', '[!abc]': 문자 범위
+ * - '!'로 시작하면 앞선 패턴에서 제외된 항목을 다시 포함 (마지막으로 일치한 패턴이 적용됨)
+ *   gitignore 와 다른 점: 항목마다 전체 경로를 검사하므로, 압축 해제 시에는 제외된 디렉토리의 하위 항목도
+ *   '!' 패턴으로 다시 포함할 수 있음 (예: "build/", "!build/keep.txt" 이면 build/keep.txt 만 압축 해제)
+ *   압축 시에는 제외된 디렉토리를 읽지 않으므로 하위 항목이 다시 포함되지 않음
+ * - 파일 크기 제한 (maxFileSize), 허용 확장자 (allowedExtensions, 비어있으면 모든 확장자 허용)
+ *
+ * 패턴은 생성 시 한 번만 해석해 종류별로 나눠 보관하고, 항목마다 문자열을 만들지 않고 비교
+ * - 와일드카드 없는 이름: 길이별 표, '*.확장자' / '접두어*': 접미어 / 접두어 목록
+ * - 그 외 glob: 패턴 위치를 long 비트로 표현한 NFA (패턴 요소 63개 이하)
+ * '!' 패턴이 없으면 순서와 관계없이 하나라도 일치하면 제외하므로 표 단위로 비교하고,
+ * '!' 패턴이 있으면 마지막 패턴부터 순서대로 비교
+ *
+ * 생성 후 변경되지 않으므로 여러 스레드에서 함께 사용 가능
+ */
+public final class ArchiveEntryFilter {
+
+    public static final long UNLIMITED_SIZE = -1;
+
+    // macOS 메타데이터, Windows 썸네일 캐시, node 의존성 디렉토리
+    public static final List<String> DEFAULT_EXCLUDES = List.of(
+        ".DS_Store", "__MACOSX/", "Thumbs.db", "node_modules/");
+
+    public static final ArchiveEntryFilter DEFAULT = compile(DEFAULT_EXCLUDES, UNLIMITED_SIZE, Set.of());
+    public static final ArchiveEntryFilter NONE = compile(List.of(), UNLIMITED_SIZE, Set.of());
+
+    private static final int MAX_GLOB_TOKENS = 63;
+
+    private final List<String> patterns;
+    private final Rule[] rules;
+    private final boolean ordered;
+    // '!' 패턴이 없는 경우의 종류별 표 (경로 구성요소 기준 패턴)
+    private final Rule[][] literalsByLength;
+    private final Rule[] segmentRules;
+    // 최상위 기준 패턴
+    private final Rule[] pathRules;
+    private final long maxFileSize;
+    private final String[] allowedSuffixes;
+
+    private ArchiveEntryFilter(List<String> patterns, Rule[] rules, long maxFileSize, String[] allowedSuffixes) {
+        this.patterns = patterns;
+        this.rules = rules;
+        this.maxFileSize = maxFileSize;
+        this.allowedSuffixes = allowedSuffixes;
+
+        boolean hasNegation = false;
+        int maxLiteralLength = 0;
+        for (Rule rule : rules) {
+            hasNegation |= rule.negate;
+            if (rule.kind == Kind.LITERAL && !rule.anchored) {
+                maxLiteralLength = Math.max(maxLiteralLength, rule.text.length());
+            }
+        }
+        this.ordered = hasNegation;
+
+        List<List<Rule>> literals = new ArrayList<>();
+        for (int i = 0; i <= maxLiteralLength; i++) {
+            literals.add(new ArrayList<>());
+        }
+        List<Rule> segments = new ArrayList<>();
+        List<Rule> paths = new ArrayList<>();
+        for (Rule rule : rules) {
+            if (rule.anchored) {
+                paths.add(rule);
+            } else if (rule.kind == Kind.LITERAL) {
+                literals.get(rule.text.length()).add(rule);
+            } else {
+                segments.add(rule);
+            }
+        }
+        this.literalsByLength = literals.stream().map(list -> list.toArray(Rule[]::new)).toArray(Rule[][]::new);
+        this.segmentRules = segments.toArray(Rule[]::new);
+        this.pathRules = paths.toArray(Rule[]::new);
+    }
+
+    /**
+     * @param patterns          제외 패턴 (.gitignore 형식, 빈 줄과 '#'으로 시작하는 줄은 무시)
+     * @param maxFileSize       이보다 큰 파일은 제외 (UNLIMITED_SIZE: 제한 없음)
+     * @param allowedExtensions 허용할 파일 확장자 ('.' 제외, 대소문자 무시, 비어있으면 모든 확장자 허용)
+     */
+    public static ArchiveEntryFilter compile(Collection<String> patterns, long maxFileSize,
+        Set<String> allowedExtensions) {
+        List<String> normalizedPatterns = new ArrayList<>();
+        List<Rule> rules = new ArrayList<>();
+        for (String pattern : patterns) {
+            String trimmed = pattern.strip();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            normalizedPatterns.add(trimmed);
+            rules.add(Rule.compile(trimmed));
+        }
+
+        String[] allowedSuffixes = allowedExtensions.stream()
+            .map(extension -> "." + extension.strip().toLowerCase(Locale.ROOT))
+            .distinct()
+            .toArray(String[]::new);
+
+        return new ArchiveEntryFilter(List.copyOf(normalizedPatterns), rules.toArray(Rule[]::new), maxFileSize,
+            allowedSuffixes);
+    }
+
+    /**
+     * 항목 제외 여부
+     *
+     * @param entryName 압축 파일 내 경로 ('/' 구분, 디렉토리는 '/'로 끝나도 됨, 앞의 "./", "/"는 무시)
+     * @param directory 디렉토리 여부
+     * @param size      파일 크기 (알 수 없으면 음수, 크기 제한을 적용하지 않음)
+     */
+    public boolean excludes(String entryName, boolean directory, long size) {
+        int start = 0;
+        int end = entryName.length();
+        while (end > start && entryName.charAt(end - 1) == '/') {
+            end--;
+        }
+        while (true) {
+            if (start < end && entryName.charAt(start) == '/') {
+                start++;
+            } else if (end - start >= 2 && entryName.charAt(start) == '.' && entryName.charAt(start + 1) == '/') {
+                start += 2;
+            } else {
+                break;
+            }
+        }
+        if (start >= end) {
+            return false;
+        }
+
+        if (!directory) {
+            if (maxFileSize >= 0 && size > maxFileSize) {
+                return true;
+            }
+            if (allowedSuffixes.length > 0 && !hasAllowedExtension(entryName, start, end)) {
+                return true;
+            }
+        }
+
+        return ordered ? matchesOrdered(entryName, start, end, directory)
+            : matchesAny(entryName, start, end, directory);
+    }
+
+    // 설정된 패턴 / 제한 (캐시 키 등 필터 구분용)
+    public String describe() {
+        return "patterns=" + patterns + ", maxFileSize=" + maxFileSize + ", allowedExtensions="
+            + String.join(",", allowedSuffixes);
+    }
+
+    @Override
+    public String toString() {
+        return "ArchiveEntryFilter[" + describe() + "]";
+    }
+
+    private boolean matchesAny(String path, int start, int end, boolean directory) {
+        int segmentStart = start;
+        while (segmentStart < end) {
+            int segmentEnd = indexOf(path, '/', segmentStart, end);
+            // 마지막 구성요소가 아니면 디렉토리
+            boolean segmentIsDirectory = segmentEnd < end || directory;
+            int length = segmentEnd - segmentStart;
+
+            if (length < literalsByLength.length) {
+                char first = path.charAt(segmentStart);
+                for (Rule rule : literalsByLength[length]) {
+                    if (rule.text.charAt(0) == first && (segmentIsDirectory || !rule.directoryOnly)
+                        && path.regionMatches(segmentStart, rule.text, 0, length)) {
+                        return true;
+                    }
+                }
+            }
+            for (Rule rule : segmentRules) {
+                if ((segmentIsDirectory || !rule.directoryOnly) && rule.matches(path, segmentStart, segmentEnd)) {
+                    return true;
+                }
+            }
+            for (Rule rule : pathRules) {
+                if ((segmentIsDirectory || !rule.directoryOnly) && rule.matches(path, start, segmentEnd)) {
+                    return true;
+                }
+            }
+            segmentStart = segmentEnd + 1;
+        }
+        return false;
+    }
+
+    private boolean matchesOrdered(String path, int start, int end, boolean directory) {
+        for (int i = rules.length - 1; i >= 0; i--) {
+            Rule rule = rules[i];
+            int segmentStart = start;
+            while (segmentStart < end) {
+                int segmentEnd = indexOf(path, '/', segmentStart, end);
+                boolean segmentIsDirectory = segmentEnd < end || directory;
+                if ((segmentIsDirectory || !rule.directoryOnly)
+                    && rule.matches(path, rule.anchored ? start : segmentStart, segmentEnd)) {
+                    return !rule.negate;
+                }
+                segmentStart = segmentEnd + 1;
+            }
+        }
+        return false;
+    }
+
+    private boolean hasAllowedExtension(String path, int start, int end) {
+        for (String suffix : allowedSuffixes) {
+            int length = suffix.length();
+            if (end - start > length && path.regionMatches(true, end - length, suffix, 0, length)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // String.indexOf 는 JIT intrinsic (벡터 비교) 이므로 직접 비교하는 것보다 빠름
+    private static int indexOf(String text, char c, int from, int end) {
+        int index = text.indexOf(c, from);
+        return index < 0 || index > end ? end : index;
+    }
+
+    private enum Kind {
+        // 와일드카드 없음
+        LITERAL,
+        // '접두어*'
+        PREFIX,
+        // '*접미어'
+        SUFFIX,
+        // 그 외 (비트 NFA)
+        GLOB
+    }
+
+    // 패턴 요소 종류 (GLOB)
+    private static final byte CHAR = 0;
+    private static final byte ANY = 1;
+    private static final byte STAR = 2;
+    private static final byte DOUBLE_STAR = 3;
+    // "**/" : 0개 이상의 디렉토리
+    private static final byte DIRECTORIES = 4;
+    private static final byte CLASS = 5;
+
+    private static final class Rule {
+
+        private final boolean negate;
+        private final boolean directoryOnly;
+        private final boolean anchored;
+        private final Kind kind;
+        private final String text;
+        // GLOB
+        private final byte[] tokens;
+        private final char[] chars;
+        private final String[] classes;
+        private final boolean[] classNegated;
+
+        private Rule(boolean negate, boolean directoryOnly, boolean anchored, Kind kind, String text,
+            byte[] tokens, char[] chars, String[] classes, boolean[] classNegated) {
+            this.negate = negate;
+            this.directoryOnly = directoryOnly;
+            this.anchored = anchored;
+            this.kind = kind;
+            this.text = text;
+            this.tokens = tokens;
+            this.chars = chars;
+            this.classes = classes;
+            this.classNegated = classNegated;
+        }
+
+        private static Rule compile(String pattern) {
+            boolean negate = pattern.startsWith("!");
+            if (negate) {
+                pattern = pattern.substring(1);
+            }
+            // '\'로 시작하면 '!', '#' 등을 문자 그대로 사용
+            if (pattern.startsWith("\\")) {
+                pattern = pattern.substring(1);
+            }
+            boolean directoryOnly = pattern.endsWith("/");
+            while (pattern.endsWith("/")) {
+                pattern = pattern.substring(0, pattern.length() - 1);
+            }
+            boolean anchored = pattern.indexOf('/') >= 0;
+            while (pattern.startsWith("/")) {
+                pattern = pattern.substring(1);
+            }
+            if (pattern.isEmpty()) {
+                throw new IllegalArgumentException("빈 패턴은 사용할 수 없습니다.");
+            }
+
+            if (!anchored && !hasWildcard(pattern, 0, pattern.length())) {
+                return new Rule(negate, directoryOnly, false, Kind.LITERAL, pattern, null, null, null, null);
+            }
+            if (!anchored && pattern.length() > 1 && pattern.charAt(0) == '*'
+                && !hasWildcard(pattern, 1, pattern.length())) {
+                return new Rule(negate, directoryOnly, false, Kind.SUFFIX, pattern.substring(1),
+                    null, null, null, null);
+            }
+            if (!anchored && pattern.length() > 1 && pattern.charAt(pattern.length() - 1) == '*'
+                && !hasWildcard(pattern, 0, pattern.length() - 1)) {
+                return new Rule(negate, directoryOnly, false, Kind.PREFIX,
+                    pattern.substring(0, pattern.length() - 1), null, null, null, null);
+            }
+            return compileGlob(pattern, negate, directoryOnly, anchored);
+        }
+
+        private static Rule compileGlob(String pattern, boolean negate, boolean directoryOnly, boolean anchored) {
+            List<Byte> tokens = new ArrayList<>();
+            StringBuilder chars = new StringBuilder();
+            List<String> classes = new ArrayList<>();
+            List<Boolean> classNegated = new ArrayList<>();
+
+            int i = 0;
+            while (i < pattern.length()) {
+                char c = pattern.charAt(i);
+                if (c == '*' && i + 1 < pattern.length() && pattern.charAt(i + 1) == '*') {
+                    boolean segmentStart = i == 0 || pattern.charAt(i - 1) == '/';
+                    if (segmentStart && i + 2 < pattern.length() && pattern.charAt(i + 2) == '/') {
+                        tokens.add(DIRECTORIES);
+                        i += 3;
+                    } else {
+                        tokens.add(DOUBLE_STAR);
+                        i += 2;
+                    }
+                    chars.append('\0');
+                } else if (c == '*') {
+                    tokens.add(STAR);
+                    chars.append('\0');
+                    i++;
+                } else if (c == '?') {
+                    tokens.add(ANY);
+                    chars.append('\0');
+                    i++;
+                } else if (c == '[' && pattern.indexOf(']', i + 2) > 0) {
+                    int close = pattern.indexOf(']', i + 2);
+                    boolean negated = pattern.charAt(i + 1) == '!' || pattern.charAt(i + 1) == '^';
+                    classes.add(expandClass(pattern.substring(negated ? i + 2 : i + 1, close)));
+                    classNegated.add(negated);
+                    tokens.add(CLASS);
+                    chars.append((char) (classes.size() - 1));
+                    i = close + 1;
+                } else {
+                    if (c == '\\' && i + 1 < pattern.length()) {
+                        c = pattern.charAt(++i);
+                    }
+                    tokens.add(CHAR);
+                    chars.append(c);
+                    i++;
+                }
+            }
+
+            if (tokens.size() > MAX_GLOB_TOKENS) {
+                throw new IllegalArgumentException("패턴이 너무 깁니다 (최대 " + MAX_GLOB_TOKENS + "개 요소): " + pattern);
+            }
+
+            byte[] tokenArray = new byte[tokens.size()];
+            for (int t = 0; t < tokenArray.length; t++) {
+                tokenArray[t] = tokens.get(t);
+            }
+            boolean[] classNegatedArray = new boolean[classNegated.size()];
+            for (int t = 0; t < classNegatedArray.length; t++) {
+                classNegatedArray[t] = classNegated.get(t);
+            }
+            return new Rule(negate, directoryOnly, anchored, Kind.GLOB, pattern, tokenArray,
+                chars.toString().toCharArray(), classes.toArray(String[]::new), classNegatedArray);
+        }
+
+        // [a-z0-9] -> 범위를 펼친 문자 목록
+        private static String expandClass(String body) {
+            StringBuilder expanded = new StringBuilder();
+            for (int i = 0; i < body.length(); i++) {
+                char c = body.charAt(i);
+                if (i + 2 < body.length() && body.charAt(i + 1) == '-') {
+                    // char 로 반복하면 범위 끝이 '\uffff' 일 때 0 으로 넘어가 끝나지 않으므로 int 로 반복
+                    int last = body.charAt(i + 2);
+                    for (int r = c; r <= last; r++) {
+                        expanded.append((char) r);
+                    }
+                    i += 2;
+                } else {
+                    expanded.append(c);
+                }
+            }
+            return expanded.toString();
+        }
+
+        private static boolean hasWildcard(String pattern, int from, int to) {
+            for (int i = from; i < to; i++) {
+                char c = pattern.charAt(i);
+                if (c == '*' || c == '?' || c == '[' || c == '\\') {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean matches(String path, int start, int end) {
+            int length = end - start;
+            return switch (kind) {
+                case LITERAL -> length == text.length() && path.regionMatches(start, text, 0, length);
+                case PREFIX -> length >= text.length() && path.regionMatches(start, text, 0, text.length());
+                case SUFFIX -> length >= text.length()
+                    && path.regionMatches(end - text.length(), text, 0, text.length());
+                case GLOB -> matchesGlob(path, start, end);
+            };
+        }
+
+        /**
+         * 비트 NFA: bit i = 패턴의 앞 i개 요소까지 일치한 상태
+         * 문자마다 가능한 상태를 한 번에 갱신하므로 되돌아가기(backtracking) 없이 경로 길이 * 패턴 길이에 비례
+         */
+        private boolean matchesGlob(String path, int start, int end) {
+            int n = tokens.length;
+            long states = closure(1L);
+            for (int p = start; p < end && states != 0; p++) {
+                char c = path.charAt(p);
+                long next = 0;
+                long remaining = states;
+                while (remaining != 0) {
+                    int i = Long.numberOfTrailingZeros(remaining);
+                    remaining &= remaining - 1;
+                    if (i == n) {
+                        continue;
+                    }
+                    switch (tokens[i]) {
+                        case CHAR -> {
+                            if (chars[i] == c) {
+                                next |= 1L << (i + 1);
+                            }
+                        }
+                        case ANY -> {
+                            if (c != '/') {
+                                next |= 1L << (i + 1);
+                            }
+                        }
+                        case CLASS -> {
+                            if (c != '/' && (classes[chars[i]].indexOf(c) >= 0) != classNegated[chars[i]]) {
+                                next |= 1L << (i + 1);
+                            }
+                        }
+                        case STAR -> {
+                            if (c != '/') {
+                                next |= 1L << i;
+                            }
+                        }
+                        case DOUBLE_STAR -> next |= 1L << i;
+                        case DIRECTORIES -> {
+                            next |= 1L << i;
+                            if (c == '/') {
+                                next |= 1L << (i + 1);
+                            }
+                        }
+                        default -> throw new IllegalStateException();
+                    }
+                }
+                states = closure(next);
+            }
+            return (states & (1L << n)) != 0;
+        }
+
+        // '*', '**', '**/' 는 0개 일치도 가능하므로 다음 상태로 전파
+        private long closure(long states) {
+            for (int i = 0; i < tokens.length; i++) {
+                if ((states & (1L << i)) != 0
+                    && (tokens[i] == STAR || tokens[i] == DOUBLE_STAR || tokens[i] == DIRECTORIES)) {
+                    states |= 1L << (i + 1);
+                }
+            }
+            return states;
+        }
+    }
+}
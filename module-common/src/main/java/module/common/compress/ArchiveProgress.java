@@ -0,0 +1,28 @@
+package module.common.compress;
+
+/**
+ * 압축 진행 상황
+ * - 전체 항목 수 / 크기는 압축과 동시에 진행되는 사전 탐색 결과이므로 탐색이 끝나기 전에는 추정치
+ *
+ * @param entriesDone      기록한 항목 수 (디렉토리 포함)
+ * @param bytesDone        기록한 파일 원본 크기 합
+ * @param estimatedEntries 지금까지 탐색한 전체 항목 수
+ * @param estimatedBytes   지금까지 탐색한 전체 파일 크기 합
+ * @param estimateComplete 사전 탐색 완료 여부 (true 이면 전체 값이 확정)
+ */
+public record ArchiveProgress(
+    long entriesDone,
+    long bytesDone,
+    long estimatedEntries,
+    long estimatedBytes,
+    boolean estimateComplete
+) {
+
+    // 크기 기준 진행률 (0.0 ~ 1.0, 탐색한 파일이 없으면 항목 수 기준)
+    public double ratio() {
+        if (estimatedBytes > 0) {
+            return Math.min(1.0, (double) bytesDone / estimatedBytes);
+        }
+        return estimatedEntries > 0 ? Math.min(1.0, (double) entriesDone / estimatedEntries) : 0.0;
+    }
+}
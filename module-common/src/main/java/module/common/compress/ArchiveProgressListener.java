@@ -0,0 +1,14 @@
+package module.common.compress;
+
+/**
+ * 압축 진행 상황 콜백
+ * 압축 스레드에서 호출되므로 오래 걸리는 작업을 하지 않아야 함
+ */
+@FunctionalInterface
+public interface ArchiveProgressListener {
+
+    ArchiveProgressListener NONE = progress -> {
+    };
+
+    void onProgress(ArchiveProgress progress);
+}
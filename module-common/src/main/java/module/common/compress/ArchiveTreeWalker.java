@@ -0,0 +1,147 @@
+package module.common.compress;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 압축 대상 디렉토리 트리 순회
+ * - Files.walkFileTree 사용: 재귀 호출 없이 깊이별로 열린 DirectoryStream 하나만 유지하며 항목을 하나씩 읽음
+ *   (디렉토리 전체 목록을 배열로 만들지 않으므로 항목 수가 많아도 메모리 사용량은 깊이에 비례)
+ * - 파일 크기 등 속성은 순회 중 한 번만 조회해 전달
+ * - 항목 이름은 대상 경로의 상위 디렉토리 기준 상대 경로 ('/' 구분, 디렉토리는 '/'로 끝남)
+ *
+ * startScan 으로 같은 트리를 별도 스레드에서 먼저 탐색해 전체 항목 수 / 크기를 추정
+ * (앞서 탐색하면서 다음에 읽을 디렉토리 목록과 속성이 OS 캐시에 올라가므로 압축 스레드의 조회 대기도 줄어듦)
+ */
+public final class ArchiveTreeWalker {
+
+    private ArchiveTreeWalker() {
+    }
+
+    public interface Visitor {
+        void directory(String entryName, Path directory) throws IOException;
+
+        void file(String entryName, Path file, long size) throws IOException;
+    }
+
+    /**
+     * 대상 목록을 순서대로 순회
+     *
+     * @param targetPaths 압축할 파일 또는 디렉토리 목록
+     * @param entryFilter 제외할 항목 (항목 이름 기준, 디렉토리가 제외되면 하위 항목은 읽지 않음)
+     * @param visitor     항목별 처리
+     */
+    public static void walk(List<Path> targetPaths, ArchiveEntryFilter entryFilter, Visitor visitor)
+        throws IOException {
+        for (Path targetPath : targetPaths) {
+            Path basePath = targetPath.toAbsolutePath().normalize().getParent();
+            Files.walkFileTree(targetPath.toAbsolutePath().normalize(), new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                    String entryName = entryName(basePath, dir) + "/";
+                    if (entryFilter.excludes(entryName, true, 0)) {
+                        return FileVisitResult.SKIP_SUBTREE;
+                    }
+                    visitor.directory(entryName, dir);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                    BasicFileAttributes fileAttrs = attrs.isSymbolicLink() ? targetAttributes(file) : attrs;
+                    // 디렉토리를 가리키는 링크, 소켓 등 일반 파일이 아닌 항목은 제외
+                    if (fileAttrs == null || !fileAttrs.isRegularFile()) {
+                        return FileVisitResult.CONTINUE;
+                    }
+                    String entryName = entryName(basePath, file);
+                    if (!entryFilter.excludes(entryName, false, fileAttrs.size())) {
+                        visitor.file(entryName, file, fileAttrs.size());
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        }
+    }
+
+    /**
+     * 별도 스레드에서 대상 트리를 탐색해 전체 항목 수 / 파일 크기를 집계
+     * 압축이 끝나면 반환된 Scan 을 닫아 탐색을 중단
+     */
+    public static Scan startScan(List<Path> targetPaths, ArchiveEntryFilter entryFilter) {
+        Scan scan = new Scan();
+        Thread thread = new Thread(() -> {
+            try {
+                walk(targetPaths, entryFilter, new Visitor() {
+                    @Override
+                    public void directory(String entryName, Path directory) throws IOException {
+                        scan.count(0);
+                    }
+
+                    @Override
+                    public void file(String entryName, Path file, long size) throws IOException {
+                        scan.count(size);
+                    }
+                });
+                scan.complete = true;
+            } catch (IOException e) {
+                // 추정 실패는 압축에 영향을 주지 않음 (같은 오류는 압축 스레드에서 발생)
+            }
+        }, "archive-scan");
+        thread.setDaemon(true);
+        scan.thread = thread;
+        thread.start();
+        return scan;
+    }
+
+    public static final class Scan implements AutoCloseable {
+
+        private final AtomicLong entries = new AtomicLong();
+        private final AtomicLong bytes = new AtomicLong();
+        private volatile boolean complete;
+        private volatile boolean closed;
+        private Thread thread;
+
+        private Scan() {
+        }
+
+        private void count(long size) throws IOException {
+            if (closed) {
+                throw new IOException("탐색이 중단되었습니다.");
+            }
+            entries.incrementAndGet();
+            bytes.addAndGet(size);
+        }
+
+        public ArchiveProgress progress(long entriesDone, long bytesDone) {
+            // 탐색보다 압축이 앞선 경우에도 진행률이 1을 넘지 않도록 보정
+            return new ArchiveProgress(entriesDone, bytesDone,
+                Math.max(entries.get(), entriesDone), Math.max(bytes.get(), bytesDone), complete);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            thread.interrupt();
+        }
+    }
+
+    private static String entryName(Path basePath, Path path) {
+        Path relativePath = basePath == null ? path.getFileName() : basePath.relativize(path);
+        return relativePath.toString().replace('\\', '/');
+    }
+
+    // 링크가 가리키는 대상의 속성 (끊어진 링크는 null)
+    private static BasicFileAttributes targetAttributes(Path link) {
+        try {
+            return Files.readAttributes(link, BasicFileAttributes.class);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package module.common.compress;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 고정 크기 ByteBuffer 풀
+ * - 압축 작업마다 버퍼를 새로 만들지 않고 재사용해 GC 부담(같은 서버의 API 지연)을 줄이기 위해 사용
+ * - 풀이 비어있으면 새로 할당하고, 반납 시 풀이 가득 차 있으면 버림 (풀 크기 이상으로 보관하지 않음)
+ */
+public class BufferPool {
+
+    private final int bufferSize;
+    private final boolean direct;
+    private final BlockingQueue<ByteBuffer> buffers;
+
+    public BufferPool(int bufferSize, int maxPooledBuffers, boolean direct) {
+        this.bufferSize = bufferSize;
+        this.direct = direct;
+        this.buffers = new ArrayBlockingQueue<>(maxPooledBuffers);
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public ByteBuffer acquire() {
+        ByteBuffer buffer = buffers.poll();
+        if (buffer == null) {
+            buffer = direct ? ByteBuffer.allocateDirect(bufferSize) : ByteBuffer.allocate(bufferSize);
+        }
+        return buffer.clear();
+    }
+
+    // 반납한 버퍼는 더 이상 사용하지 않아야 함
+    public void release(ByteBuffer buffer) {
+        if (buffer != null && buffer.capacity() == bufferSize && buffer.isDirect() == direct) {
+            buffers.offer(buffer.clear());
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package module.common.compress;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 병렬 압축 / 압축 해제 작업이 함께 사용하는 스레드 풀
+ * - 요청마다 스레드 풀을 만들지 않고, 프로세스 전체에서 CPU 코어 수만큼의 스레드만 사용
+ * - 요청별로는 scoped(parallelism) 로 얻은 ExecutorService 를 사용
+ *   (동시에 실행하는 작업 수를 parallelism 으로 제한하고, shutdown 해도 공용 풀은 종료되지 않음)
+ */
+public final class CompressExecutors {
+
+    private static final int POOL_SIZE = Runtime.getRuntime().availableProcessors();
+
+    private CompressExecutors() {
+    }
+
+    /**
+     * 공용 풀을 사용하는 요청 단위 ExecutorService
+     * - ParallelScatterZipCreator.writeTo 처럼 전달받은 executor 를 shutdown 하는 API 에도 그대로 넘길 수 있음
+     *
+     * @param parallelism 동시에 실행할 최대 작업 수 (공용 풀 크기를 넘지 않음)
+     */
+    public static ExecutorService scoped(int parallelism) {
+        return new ScopedExecutor(Holder.POOL, Math.max(1, Math.min(parallelism, POOL_SIZE)));
+    }
+
+    private static final class Holder {
+
+        private static final ExecutorService POOL = createPool();
+
+        private static ExecutorService createPool() {
+            AtomicInteger threadNumber = new AtomicInteger();
+            return Executors.newFixedThreadPool(POOL_SIZE, runnable -> {
+                Thread thread = new Thread(runnable, "compress-worker-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * 공용 풀 위에서 동작하는 요청 단위 executor
+     * - 실행 중인 작업이 maxActive 개 이상이면 로컬 큐에 쌓아두고, 작업이 끝날 때 하나씩 공용 풀에 넘김
+     * - shutdown 이후에는 새 작업을 받지 않고, 받은 작업이 모두 끝나면 terminated
+     * - shutdownNow 는 아직 공용 풀에 넘기지 않은 작업만 돌려줌 (실행 중인 작업은 끝까지 실행)
+     */
+    private static final class ScopedExecutor extends AbstractExecutorService {
+
+        private final ExecutorService pool;
+        private final int maxActive;
+        private final Queue<Runnable> pending = new ArrayDeque<>();
+        private int active;
+        private boolean shutdown;
+
+        private ScopedExecutor(ExecutorService pool, int maxActive) {
+            this.pool = pool;
+            this.maxActive = maxActive;
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            synchronized (this) {
+                if (shutdown) {
+                    throw new RejectedExecutionException("executor 가 종료되었습니다.");
+                }
+                if (active >= maxActive) {
+                    pending.add(command);
+                    return;
+                }
+                active++;
+            }
+            submitToPool(command);
+        }
+
+        private void submitToPool(Runnable command) {
+            pool.execute(() -> {
+                try {
+                    command.run();
+                } finally {
+                    onComplete();
+                }
+            });
+        }
+
+        private void onComplete() {
+            Runnable next;
+            synchronized (this) {
+                next = pending.poll();
+                if (next == null) {
+                    active--;
+                    notifyAll();
+                    return;
+                }
+            }
+            submitToPool(next);
+        }
+
+        @Override
+        public synchronized void shutdown() {
+            shutdown = true;
+            notifyAll();
+        }
+
+        @Override
+        public synchronized List<Runnable> shutdownNow() {
+            shutdown = true;
+            List<Runnable> notStarted = List.copyOf(pending);
+            pending.clear();
+            notifyAll();
+            return notStarted;
+        }
+
+        @Override
+        public synchronized boolean isShutdown() {
+            return shutdown;
+        }
+
+        @Override
+        public synchronized boolean isTerminated() {
+            return shutdown && active == 0 && pending.isEmpty();
+        }
+
+        @Override
+        public synchronized boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            long deadline = System.nanoTime() + unit.toNanos(timeout);
+            while (!isTerminated()) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+            return true;
+        }
+    }
+}
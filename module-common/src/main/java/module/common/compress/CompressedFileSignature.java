@@ -0,0 +1,73 @@
+package module.common.compress;
+
+import java.util.Arrays;
+import java.util.Optional;
+import lombok.Getter;
+
+/**
+ * 이미 압축된 형식의 파일 시그니처 (magic byte)
+ * 확장자가 없거나 잘못된 업로드 파일도 내용으로 판별하기 위해 사용
+ */
+@Getter
+public enum CompressedFileSignature {
+    // 이미지
+    JPEG("image/jpeg", 0, 0xFF, 0xD8, 0xFF),
+    PNG("image/png", 0, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A),
+    GIF("image/gif", 0, 'G', 'I', 'F', '8'),
+    WEBP("image/webp", 8, 'W', 'E', 'B', 'P'),
+    // 영상, 음성 (mp4, mov, m4a, heic 는 모두 ISO base media 형식)
+    ISO_BASE_MEDIA("video/mp4", 4, 'f', 't', 'y', 'p'),
+    MATROSKA("video/x-matroska", 0, 0x1A, 0x45, 0xDF, 0xA3),
+    MP3_ID3("audio/mpeg", 0, 'I', 'D', '3'),
+    MP3_FRAME("audio/mpeg", 0, 0xFF, 0xFB),
+    OGG("audio/ogg", 0, 'O', 'g', 'g', 'S'),
+    FLAC("audio/flac", 0, 'f', 'L', 'a', 'C'),
+    // 압축 파일 (docx, xlsx, pptx 등 OOXML 문서 포함)
+    ZIP("application/zip", 0, 'P', 'K', 0x03, 0x04),
+    GZIP("application/gzip", 0, 0x1F, 0x8B),
+    ZSTD("application/zstd", 0, 0x28, 0xB5, 0x2F, 0xFD),
+    XZ("application/x-xz", 0, 0xFD, '7', 'z', 'X', 'Z', 0x00),
+    BZIP2("application/x-bzip2", 0, 'B', 'Z', 'h'),
+    SEVEN_ZIP("application/x-7z-compressed", 0, '7', 'z', 0xBC, 0xAF, 0x27, 0x1C),
+    RAR("application/vnd.rar", 0, 'R', 'a', 'r', '!', 0x1A, 0x07);
+
+    // 판별에 필요한 최대 헤더 길이
+    public static final int MAX_SIGNATURE_LENGTH = Arrays.stream(values())
+        .mapToInt(signature -> signature.offset + signature.magic.length)
+        .max()
+        .orElse(0);
+
+    // 업로드 파일의 MIME type 판별용 (ISO base media 는 대표 형식인 mp4)
+    private final String contentType;
+    private final int offset;
+    private final byte[] magic;
+
+    CompressedFileSignature(String contentType, int offset, int... magic) {
+        this.contentType = contentType;
+        this.offset = offset;
+        this.magic = new byte[magic.length];
+        for (int i = 0; i < magic.length; i++) {
+            this.magic[i] = (byte) magic[i];
+        }
+    }
+
+    /**
+     * 파일 앞부분으로 압축된 형식인지 판별
+     *
+     * @param header 파일의 앞부분
+     * @param length header 중 유효한 길이
+     * @return 일치하는 시그니처 (없으면 empty)
+     */
+    public static Optional<CompressedFileSignature> detect(byte[] header, int length) {
+        return Arrays.stream(values())
+            .filter(signature -> signature.matches(header, length))
+            .findFirst();
+    }
+
+    private boolean matches(byte[] header, int length) {
+        if (length < offset + magic.length) {
+            return false;
+        }
+        return Arrays.equals(header, offset, offset + magic.length, magic, 0, magic.length);
+    }
+}
@@ -0,0 +1,85 @@
+package module.common.compress;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import module.common.compress.EntryCompressionDecision.Reason;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+
+/**
+ * ZIP 압축 결과 리포트 (항목별 압축 방식, 원본 크기, 압축 후 크기)
+ * - 압축된 크기는 항목 기록이 끝나야 확정되므로 압축 완료 후 조회
+ * - ZIP 이외 형식은 항목별 압축 방식이 없으므로 빈 리포트
+ */
+public class CompressionReport {
+
+    private final List<ReportEntry> reportEntries = new ArrayList<>();
+
+    public void add(ZipArchiveEntry zipArchiveEntry, EntryCompressionDecision decision) {
+        reportEntries.add(new ReportEntry(zipArchiveEntry, decision));
+    }
+
+    public List<EntryResult> getEntries() {
+        return reportEntries.stream()
+            .map(reportEntry -> new EntryResult(
+                reportEntry.zipArchiveEntry().getName(),
+                reportEntry.decision(),
+                reportEntry.zipArchiveEntry().getSize(),
+                reportEntry.zipArchiveEntry().getCompressedSize()))
+            .toList();
+    }
+
+    public long getTotalSize() {
+        return getEntries().stream().mapToLong(EntryResult::size).sum();
+    }
+
+    public long getTotalCompressedSize() {
+        return getEntries().stream().mapToLong(EntryResult::compressedSize).sum();
+    }
+
+    // 결정 근거별 항목 수
+    public Map<Reason, Integer> getReasonCounts() {
+        Map<Reason, Integer> reasonCounts = new EnumMap<>(Reason.class);
+        reportEntries.forEach(reportEntry -> reasonCounts.merge(reportEntry.decision().reason(), 1, Integer::sum));
+        return Collections.unmodifiableMap(reasonCounts);
+    }
+
+    // STORED로 저장해 deflate 하지 않은 원본 크기
+    public long getStoredSize() {
+        return getEntries().stream()
+            .filter(entryResult -> entryResult.decision().isStored())
+            .mapToLong(EntryResult::size)
+            .sum();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("entries=%d, size=%d, compressedSize=%d, storedSize=%d, reasons=%s",
+            reportEntries.size(), getTotalSize(), getTotalCompressedSize(), getStoredSize(), getReasonCounts());
+    }
+
+    /**
+     * 항목별 압축 결과
+     *
+     * @param entryName      압축 파일 내 항목명
+     * @param decision       압축 방식
+     * @param size           원본 크기
+     * @param compressedSize 압축 후 크기
+     */
+    public record EntryResult(
+        String entryName,
+        EntryCompressionDecision decision,
+        long size,
+        long compressedSize
+    ) {
+
+        public long savedBytes() {
+            return size - compressedSize;
+        }
+    }
+
+    private record ReportEntry(ZipArchiveEntry zipArchiveEntry, EntryCompressionDecision decision) {
+    }
+}
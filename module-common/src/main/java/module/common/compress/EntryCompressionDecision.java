@@ -0,0 +1,42 @@
+package module.common.compress;
+
+import java.util.zip.ZipEntry;
+
+/**
+ * ZIP 항목별 압축 방식 결정 결과
+ *
+ * @param method ZipEntry.STORED 또는 ZipEntry.DEFLATED
+ * @param level  DEFLATED 인 경우 압축 레벨 (STORED 이면 0)
+ * @param reason 결정 근거
+ */
+public record EntryCompressionDecision(
+    int method,
+    int level,
+    Reason reason
+) {
+
+    public enum Reason {
+        // 압축 정책 미사용 (항상 deflate)
+        NONE,
+        // 이미 압축된 형식의 확장자
+        EXTENSION,
+        // 이미 압축된 형식의 magic byte
+        SIGNATURE,
+        // 앞부분 샘플의 압축률
+        PROBE,
+        // 압축 가능한 파일 (기본 레벨로 deflate)
+        COMPRESSIBLE
+    }
+
+    public static EntryCompressionDecision stored(Reason reason) {
+        return new EntryCompressionDecision(ZipEntry.STORED, 0, reason);
+    }
+
+    public static EntryCompressionDecision deflated(int level, Reason reason) {
+        return new EntryCompressionDecision(ZipEntry.DEFLATED, level, reason);
+    }
+
+    public boolean isStored() {
+        return method == ZipEntry.STORED;
+    }
+}
@@ -0,0 +1,123 @@
+package module.common.compress;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.zip.Deflater;
+import lombok.Getter;
+import module.common.compress.EntryCompressionDecision.Reason;
+import org.apache.commons.io.FilenameUtils;
+
+/**
+ * ZIP 항목별 압축 정책
+ * 이미 압축된 파일(이미지, 영상, 압축 파일 등)은 deflate 해도 크기가 거의 줄지 않고 CPU만 사용하므로
+ * 아래 순서로 판별해 STORED(무압축) 또는 낮은 압축 레벨을 선택
+ * 1. 확장자가 storedExtensions 에 포함 -> STORED (파일을 읽지 않음)
+ * 2. 앞부분 magic byte 가 압축된 형식 -> STORED
+ * 3. 앞부분 probeSize 만큼을 가장 빠른 레벨로 압축해본 압축률(압축 후 / 원본)
+ *    - storeRatio 이상 -> STORED
+ *    - fastRatio 이상 -> fastLevel 로 deflate
+ *    - 그 외 -> 지정된 압축 레벨로 deflate
+ */
+@Getter
+public class EntryCompressionPolicy {
+
+    public static final Set<String> DEFAULT_STORED_EXTENSIONS = Set.of(
+        "jpg", "jpeg", "png", "gif", "webp", "heic", "avif",
+        "mp4", "m4a", "m4v", "mov", "webm", "mkv", "mp3", "aac", "ogg", "opus", "flac",
+        "zip", "gz", "tgz", "zst", "xz", "bz2", "7z", "rar", "jar",
+        "pdf", "docx", "xlsx", "pptx", "hwpx"
+    );
+    public static final int DEFAULT_PROBE_SIZE = 8 * 1024;
+    public static final double DEFAULT_STORE_RATIO = 0.95;
+    public static final double DEFAULT_FAST_RATIO = 0.8;
+
+    public static final EntryCompressionPolicy DEFAULT = new EntryCompressionPolicy(
+        DEFAULT_STORED_EXTENSIONS, DEFAULT_PROBE_SIZE, DEFAULT_STORE_RATIO, DEFAULT_FAST_RATIO, Deflater.BEST_SPEED);
+
+    private final Set<String> storedExtensions;
+    private final int probeSize;
+    private final double storeRatio;
+    private final double fastRatio;
+    private final int fastLevel;
+
+    public EntryCompressionPolicy(Set<String> storedExtensions, int probeSize, double storeRatio, double fastRatio,
+        int fastLevel) {
+        if (probeSize < CompressedFileSignature.MAX_SIGNATURE_LENGTH) {
+            throw new IllegalArgumentException(
+                "probeSize는 " + CompressedFileSignature.MAX_SIGNATURE_LENGTH + " 이상이어야 합니다: " + probeSize);
+        }
+        if (fastRatio > storeRatio) {
+            throw new IllegalArgumentException("fastRatio는 storeRatio 이하여야 합니다: " + fastRatio);
+        }
+        if (fastLevel < Deflater.BEST_SPEED || fastLevel > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("fastLevel은 1 ~ 9 사이여야 합니다: " + fastLevel);
+        }
+
+        this.storedExtensions = storedExtensions.stream()
+            .map(extension -> extension.toLowerCase(Locale.ROOT))
+            .collect(Collectors.toUnmodifiableSet());
+        this.probeSize = probeSize;
+        this.storeRatio = storeRatio;
+        this.fastRatio = fastRatio;
+        this.fastLevel = fastLevel;
+    }
+
+    /**
+     * 파일의 압축 방식 결정
+     *
+     * @param filePath     압축할 파일
+     * @param defaultLevel 압축 가능한 파일에 사용할 압축 레벨
+     * @return 압축 방식
+     */
+    public EntryCompressionDecision decide(Path filePath, int defaultLevel) throws IOException {
+        String extension = FilenameUtils.getExtension(filePath.getFileName().toString()).toLowerCase(Locale.ROOT);
+        if (storedExtensions.contains(extension)) {
+            return EntryCompressionDecision.stored(Reason.EXTENSION);
+        }
+
+        byte[] sample;
+        try (InputStream is = Files.newInputStream(filePath)) {
+            sample = is.readNBytes(probeSize);
+        }
+        if (sample.length == 0) {
+            return EntryCompressionDecision.deflated(defaultLevel, Reason.COMPRESSIBLE);
+        }
+
+        if (CompressedFileSignature.detect(sample, sample.length).isPresent()) {
+            return EntryCompressionDecision.stored(Reason.SIGNATURE);
+        }
+
+        double ratio = (double) deflatedLength(sample) / sample.length;
+        if (ratio >= storeRatio) {
+            return EntryCompressionDecision.stored(Reason.PROBE);
+        }
+        if (ratio >= fastRatio) {
+            return EntryCompressionDecision.deflated(fastLevel, Reason.PROBE);
+        }
+
+        return EntryCompressionDecision.deflated(defaultLevel, Reason.COMPRESSIBLE);
+    }
+
+    // 샘플을 가장 빠른 레벨로 압축한 크기 (헤더 없는 raw deflate)
+    private static int deflatedLength(byte[] sample) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+        try {
+            deflater.setInput(sample);
+            deflater.finish();
+
+            byte[] buffer = new byte[sample.length + 64];
+            int length = 0;
+            while (!deflater.finished()) {
+                length += deflater.deflate(buffer);
+            }
+            return length;
+        } finally {
+            deflater.end();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package module.common.compress;
+
+import module.common.enums.CompressFileType;
+
+/**
+ * 업로드 중 압축 해제(IncrementalArchiveExtractor) 진행 위치
+ * 호출 측이 저장해 두었다가 다음 호출에 그대로 전달 (다른 노드나 재시작 후에도 이 위치부터 이어서 압축 해제)
+ *
+ * @param format         아카이브 형식 (ZIP, TAR, 판별 전에는 null)
+ * @param offset         다음 항목(헤더)의 시작 위치, 이 위치 이전의 항목은 모두 압축 해제됨
+ * @param entries        압축 해제한 항목 수 (제외된 항목 포함)
+ * @param attemptedBytes 크기를 모르는 ZIP 항목(data descriptor)을 마지막으로 시도했을 때 받은 byte 수
+ * @param state          진행 상태
+ */
+public record ExtractCheckpoint(
+    CompressFileType format,
+    long offset,
+    long entries,
+    long attemptedBytes,
+    State state
+) {
+
+    public static final ExtractCheckpoint START = new ExtractCheckpoint(null, 0, 0, 0, State.IN_PROGRESS);
+
+    public enum State {
+        IN_PROGRESS,
+        // 마지막 항목까지 압축 해제함
+        FINISHED,
+        // 업로드 중 압축 해제할 수 없는 형식 (업로드 완료 후 전체 압축 해제 필요)
+        UNSUPPORTED,
+        // 압축 해제 중 오류 (손상된 파일, 허용되지 않은 항목 경로 등)
+        FAILED
+    }
+
+    public boolean isInProgress() {
+        return state == State.IN_PROGRESS;
+    }
+
+    ExtractCheckpoint withFormat(CompressFileType format) {
+        return new ExtractCheckpoint(format, offset, entries, attemptedBytes, state);
+    }
+
+    ExtractCheckpoint next(long offset) {
+        return new ExtractCheckpoint(format, offset, entries + 1, 0, state);
+    }
+
+    ExtractCheckpoint attempted(long attemptedBytes) {
+        return new ExtractCheckpoint(format, offset, entries, attemptedBytes, state);
+    }
+
+    public ExtractCheckpoint withState(State state) {
+        return new ExtractCheckpoint(format, offset, entries, attemptedBytes, state);
+    }
+}
@@ -0,0 +1,237 @@
+package module.common.compress;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.LongConsumer;
+import java.util.zip.CRC32;
+
+/**
+ * 압축 / 압축 해제 시 파일 내용 복사
+ * - BufferedInputStream, IOUtils.copy 처럼 항목마다 버퍼를 할당하지 않고 풀의 버퍼를 재사용
+ * - 파일은 FileChannel 로 direct 버퍼에 읽음
+ *   (사용자 파일은 다른 요청이 동시에 잘라낼 수 있어, 매핑한 영역이 사라지면 SIGBUS 로 JVM 이 중단될 수 있으므로 메모리 매핑하지 않음)
+ * - 아카이브 스트림(ArchiveOutputStream)은 OutputStream 쓰기만 받으므로 출력은 heap 버퍼를 거침
+ */
+public final class FileTransfer {
+
+    public static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final int MAX_POOLED_BUFFERS = Math.max(16, Runtime.getRuntime().availableProcessors() * 4);
+    private static final BufferPool DIRECT_BUFFERS = new BufferPool(BUFFER_SIZE, MAX_POOLED_BUFFERS, true);
+    private static final BufferPool HEAP_BUFFERS = new BufferPool(BUFFER_SIZE, MAX_POOLED_BUFFERS, false);
+
+    private FileTransfer() {
+    }
+
+    /**
+     * 파일 내용을 출력 스트림에 기록 (출력 스트림은 닫지 않음)
+     *
+     * @return 기록한 byte 수
+     */
+    public static long copy(Path source, OutputStream out) throws IOException {
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            ByteBuffer heapBuffer = HEAP_BUFFERS.acquire();
+            try {
+                return copyChannel(channel, heapBuffer.array(), out);
+            } finally {
+                HEAP_BUFFERS.release(heapBuffer);
+            }
+        }
+    }
+
+    /**
+     * 파일의 일부 영역을 출력 스트림에 기록 (position 을 지정해 읽으므로 같은 채널을 여러 스레드에서 사용 가능)
+     *
+     * @return 기록한 byte 수
+     */
+    public static long copy(FileChannel source, long position, long count, OutputStream out) throws IOException {
+        ByteBuffer heapBuffer = HEAP_BUFFERS.acquire();
+        ByteBuffer directBuffer = DIRECT_BUFFERS.acquire();
+        try {
+            byte[] array = heapBuffer.array();
+            long transferred = 0;
+            while (transferred < count) {
+                directBuffer.clear().limit((int) Math.min(directBuffer.capacity(), count - transferred));
+                int read = source.read(directBuffer, position + transferred);
+                if (read < 0) {
+                    throw new EOFException("파일의 데이터가 예상보다 짧습니다.");
+                }
+                directBuffer.flip().get(array, 0, read);
+                out.write(array, 0, read);
+                transferred += read;
+            }
+            return transferred;
+        } finally {
+            DIRECT_BUFFERS.release(directBuffer);
+            HEAP_BUFFERS.release(heapBuffer);
+        }
+    }
+
+    /**
+     * 입력 스트림 내용을 출력 스트림에 기록 (두 스트림 모두 닫지 않음)
+     *
+     * @return 기록한 byte 수
+     */
+    public static long copy(InputStream in, OutputStream out) throws IOException {
+        ByteBuffer heapBuffer = HEAP_BUFFERS.acquire();
+        try {
+            byte[] array = heapBuffer.array();
+            long total = 0;
+            int read;
+            while ((read = in.read(array)) != -1) {
+                out.write(array, 0, read);
+                total += read;
+            }
+            return total;
+        } finally {
+            HEAP_BUFFERS.release(heapBuffer);
+        }
+    }
+
+    /**
+     * 입력 스트림 내용을 파일에 기록 (기존 파일은 덮어씀, 입력 스트림은 닫지 않음)
+     *
+     * @return 기록한 byte 수
+     */
+    public static long copy(InputStream in, Path target) throws IOException {
+        try (FileChannel channel = FileChannel.open(target,
+            StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer heapBuffer = HEAP_BUFFERS.acquire();
+            ByteBuffer directBuffer = DIRECT_BUFFERS.acquire();
+            try {
+                byte[] array = heapBuffer.array();
+                long total = 0;
+                int read;
+                while ((read = in.read(array)) != -1) {
+                    directBuffer.clear();
+                    directBuffer.put(array, 0, read).flip();
+                    while (directBuffer.hasRemaining()) {
+                        channel.write(directBuffer);
+                    }
+                    total += read;
+                }
+                return total;
+            } finally {
+                DIRECT_BUFFERS.release(directBuffer);
+                HEAP_BUFFERS.release(heapBuffer);
+            }
+        }
+    }
+
+    /**
+     * 입력 스트림 내용을 파일의 지정한 위치부터 기록 (positional write, 채널의 position 은 바꾸지 않음)
+     * - 요청 본문 크기와 관계없이 풀의 버퍼 한 쌍만 사용
+     * - maxCount 까지만 읽으므로 입력이 더 길어도 그 이후는 읽지 않음 (남은 입력이 있는지는 호출 측에서 확인)
+     * - 버퍼를 기록할 때마다 지금까지 기록한 byte 수를 progress 로 전달 (입력이 중간에 끊겨도 기록한 만큼은 파일에 남음)
+     *
+     * @return 기록한 byte 수
+     */
+    public static long write(InputStream in, FileChannel target, long position, long maxCount,
+        LongConsumer progress) throws IOException {
+        ByteBuffer heapBuffer = HEAP_BUFFERS.acquire();
+        ByteBuffer directBuffer = DIRECT_BUFFERS.acquire();
+        try {
+            byte[] array = heapBuffer.array();
+            long total = 0;
+            while (total < maxCount) {
+                int read = in.read(array, 0, (int) Math.min(array.length, maxCount - total));
+                if (read == -1) {
+                    break;
+                }
+                directBuffer.clear();
+                directBuffer.put(array, 0, read).flip();
+                while (directBuffer.hasRemaining()) {
+                    target.write(directBuffer, position + total + directBuffer.position());
+                }
+                total += read;
+                progress.accept(total);
+            }
+            return total;
+        } finally {
+            DIRECT_BUFFERS.release(directBuffer);
+            HEAP_BUFFERS.release(heapBuffer);
+        }
+    }
+
+    /**
+     * 파일의 일부 영역을 다른 파일로 복사 (FileChannel.transferTo, 커널 내 복사로 사용자 버퍼를 거치지 않음)
+     * position 을 지정해 읽으므로 같은 source 채널을 여러 스레드에서 동시에 사용 가능
+     *
+     * @return 기록한 byte 수
+     */
+    public static long transfer(FileChannel source, long position, long count, Path target) throws IOException {
+        try (FileChannel channel = FileChannel.open(target,
+            StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            long transferred = 0;
+            while (transferred < count) {
+                long written = source.transferTo(position + transferred, count - transferred, channel);
+                if (written <= 0) {
+                    throw new EOFException("압축 파일의 데이터가 예상보다 짧습니다: " + target);
+                }
+                transferred += written;
+            }
+            return transferred;
+        }
+    }
+
+    /**
+     * 파일의 일부 영역을 다른 파일 채널의 지정한 위치에 복사 (FileChannel.transferTo, 커널 내 복사)
+     * target 의 position 을 바꾸므로 target 채널은 한 스레드에서만 사용해야 함
+     *
+     * @return 기록한 byte 수
+     */
+    public static long transfer(FileChannel source, long position, long count, FileChannel target,
+        long targetPosition) throws IOException {
+        target.position(targetPosition);
+        long transferred = 0;
+        while (transferred < count) {
+            long written = source.transferTo(position + transferred, count - transferred, target);
+            if (written <= 0) {
+                throw new EOFException("파일의 데이터가 예상보다 짧습니다.");
+            }
+            transferred += written;
+        }
+        return transferred;
+    }
+
+    // 파일의 CRC32 (direct 버퍼에서 바로 계산)
+    public static long crc32(Path source) throws IOException {
+        CRC32 crc32 = new CRC32();
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            ByteBuffer directBuffer = DIRECT_BUFFERS.acquire();
+            try {
+                while (channel.read(directBuffer) != -1) {
+                    crc32.update(directBuffer.flip());
+                    directBuffer.clear();
+                }
+            } finally {
+                DIRECT_BUFFERS.release(directBuffer);
+            }
+        }
+        return crc32.getValue();
+    }
+
+    private static long copyChannel(FileChannel channel, byte[] array, OutputStream out) throws IOException {
+        ByteBuffer directBuffer = DIRECT_BUFFERS.acquire();
+        try {
+            long total = 0;
+            while (channel.read(directBuffer) != -1) {
+                directBuffer.flip();
+                int length = directBuffer.remaining();
+                directBuffer.get(array, 0, length);
+                out.write(array, 0, length);
+                directBuffer.clear();
+                total += length;
+            }
+            return total;
+        } finally {
+            DIRECT_BUFFERS.release(directBuffer);
+        }
+    }
+}
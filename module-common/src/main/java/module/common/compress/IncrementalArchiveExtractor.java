@@ -0,0 +1,429 @@
+package module.common.compress;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipEntry;
+import module.common.compress.ExtractCheckpoint.State;
+import module.common.enums.CompressFileType;
+import module.common.exception.ErrorCode;
+import module.common.exception.ForbiddenException;
+import module.common.exception.InternalServerException;
+import module.common.exception.ValidationException;
+import module.common.utils.DecompressUtils;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+
+/**
+ * 업로드 중인 (앞부분만 기록된) 아카이브 파일의 압축 해제
+ * - 기록된 범위(available) 안에서 데이터가 모두 도착한 항목만 압축 해제하고, 다음 항목의 시작 위치를 checkpoint 로 반환
+ * - 호출 측은 checkpoint 를 저장해 두었다가 다음 청크가 기록되면 그 위치부터 이어서 호출
+ *   (마지막으로 완료된 항목 이후부터 다시 시작하므로 다른 노드나 재시작 후에도 이어서 진행 가능)
+ * - 항목 데이터는 업로드 파일에서 바로 읽음 (TAR / ZIP STORED 항목은 transferTo 로 커널 내 복사)
+ *
+ * 지원 범위
+ * - 압축되지 않은 TAR (ustar / GNU / PAX 헤더, sparse 항목 제외)
+ * - ZIP 로컬 헤더에 크기가 있는 STORED / DEFLATED 항목
+ * - ZIP data descriptor 를 쓰는 DEFLATED 항목은 압축 스트림이 끝날 때까지 받은 뒤 압축 해제
+ *   (받은 크기가 지난 시도의 2배 이상일 때만 다시 시도해 큰 항목을 청크마다 처음부터 압축 해제하지 않음)
+ * - ZIP 항목은 압축 해제한 데이터의 CRC-32 를 로컬 헤더(data descriptor 를 쓰면 descriptor)의 값과 비교
+ *   (다르거나 업로드가 끝났는데 마지막 항목이 잘려 있으면 ValidationException -> 호출 측에서 FAILED 처리)
+ * - 그 외 (tar.gz 등 압축된 스트림, data descriptor 를 쓰는 STORED 항목 등) 는 UNSUPPORTED 반환
+ *   -> 호출 측에서 업로드 완료 후 DecompressUtils 로 전체 압축 해제
+ */
+public final class IncrementalArchiveExtractor {
+
+    private static final int TAR_BLOCK_SIZE = 512;
+    private static final int TAR_MAGIC_OFFSET = 257;
+    private static final byte[] TAR_MAGIC = "ustar".getBytes(StandardCharsets.US_ASCII);
+
+    private static final int ZIP_LOCAL_HEADER_SIGNATURE = 0x04034b50;
+    private static final int ZIP_CENTRAL_DIRECTORY_SIGNATURE = 0x02014b50;
+    private static final int ZIP_END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06064b50;
+    private static final int ZIP_DATA_DESCRIPTOR_SIGNATURE = 0x08074b50;
+    private static final int ZIP_LOCAL_HEADER_LENGTH = 30;
+    private static final int ZIP_FLAG_ENCRYPTED = 1;
+    private static final int ZIP_FLAG_DATA_DESCRIPTOR = 1 << 3;
+    private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+    private static final int ZIP64_EXTRA_FIELD_ID = 0x0001;
+
+    private IncrementalArchiveExtractor() {
+    }
+
+    /**
+     * checkpoint 위치부터 데이터가 모두 도착한 항목을 압축 해제
+     *
+     * @param archivePath     업로드 중인 아카이브 파일
+     * @param available       파일 앞에서부터 연속으로 기록된 byte 수
+     * @param complete        업로드 완료 여부 (완료인데 마지막 항목까지 읽지 못하면 손상된 파일)
+     * @param destinationPath 압축 해제할 디렉토리 (이미 존재해야 함)
+     * @param entryFilter     압축 해제하지 않을 항목
+     * @param checkpoint      이전 호출의 결과 (처음이면 ExtractCheckpoint.START)
+     * @return 다음 호출에 전달할 checkpoint
+     */
+    public static ExtractCheckpoint extract(Path archivePath, long available, boolean complete,
+        Path destinationPath, ArchiveEntryFilter entryFilter, ExtractCheckpoint checkpoint) {
+        if (!checkpoint.isInProgress()) {
+            return checkpoint;
+        }
+
+        try (FileChannel channel = FileChannel.open(archivePath, StandardOpenOption.READ)) {
+            if (checkpoint.format() == null) {
+                if (!complete && available < TAR_MAGIC_OFFSET + TAR_MAGIC.length) {
+                    return checkpoint;
+                }
+                CompressFileType format = detectFormat(channel, available);
+                if (format == null) {
+                    return checkpoint.withState(State.UNSUPPORTED);
+                }
+                checkpoint = checkpoint.withFormat(format);
+            }
+
+            while (checkpoint.isInProgress()) {
+                ExtractCheckpoint next = checkpoint.format() == CompressFileType.TAR ?
+                    extractTarEntry(channel, available, complete, destinationPath, entryFilter, checkpoint) :
+                    extractZipEntry(channel, available, complete, destinationPath, entryFilter, checkpoint);
+                if (next.offset() == checkpoint.offset() && next.state() == checkpoint.state()) {
+                    // 다음 항목의 데이터가 아직 도착하지 않음
+                    if (complete) {
+                        throw new ValidationException("압축 파일의 마지막 항목이 잘려 있습니다: " + archivePath,
+                            ErrorCode.VALIDATION_ARCHIVE_CORRUPTED_EXCEPTION);
+                    }
+                    return next;
+                }
+                checkpoint = next;
+            }
+            return checkpoint;
+        } catch (IOException e) {
+            throw new InternalServerException("업로드 중인 압축 파일을 압축 해제할 수 없습니다: " + archivePath);
+        }
+    }
+
+    // 파일 앞부분으로 ZIP / TAR 판별 (압축된 tar 등 그 외 형식은 null)
+    private static CompressFileType detectFormat(FileChannel channel, long available) throws IOException {
+        if (available >= Integer.BYTES && readInt(channel, 0) == ZIP_LOCAL_HEADER_SIGNATURE) {
+            return CompressFileType.ZIP;
+        }
+        if (available >= TAR_MAGIC_OFFSET + TAR_MAGIC.length
+            && Arrays.equals(read(channel, TAR_MAGIC_OFFSET, TAR_MAGIC.length).array(), TAR_MAGIC)) {
+            return CompressFileType.TAR;
+        }
+        return null;
+    }
+
+    /**
+     * TAR 항목 하나 압축 해제
+     * 헤더(GNU long name, PAX 확장 헤더 포함)는 TarArchiveInputStream 으로 읽고, 데이터는 파일에서 바로 복사
+     */
+    private static ExtractCheckpoint extractTarEntry(FileChannel channel, long available, boolean complete,
+        Path destinationPath, ArchiveEntryFilter entryFilter, ExtractCheckpoint checkpoint) throws IOException {
+        long offset = checkpoint.offset();
+        if (available - offset < TAR_BLOCK_SIZE) {
+            return checkpoint;
+        }
+        // 빈 블록은 아카이브 끝
+        if (isZeroBlock(read(channel, offset, TAR_BLOCK_SIZE))) {
+            return checkpoint.withState(State.FINISHED);
+        }
+
+        ChannelRangeInputStream range = new ChannelRangeInputStream(channel, offset, available);
+        TarArchiveEntry entry;
+        long headerLength;
+        try {
+            TarArchiveInputStream tis = new TarArchiveInputStream(range);
+            entry = tis.getNextEntry();
+            headerLength = tis.getBytesRead();
+        } catch (IOException e) {
+            // 확장 헤더가 아직 다 도착하지 않은 경우가 아니면 손상된 헤더
+            if (range.isLimitReached() && !complete) {
+                return checkpoint;
+            }
+            throw e;
+        }
+        if (entry == null) {
+            return checkpoint;
+        }
+        if (entry.isSparse()) {
+            return checkpoint.withState(State.UNSUPPORTED);
+        }
+
+        long dataOffset = offset + headerLength;
+        long size = entry.isDirectory() ? 0 : entry.getSize();
+        if (dataOffset + size > available) {
+            return checkpoint;
+        }
+
+        if (!entryFilter.excludes(entry.getName(), entry.isDirectory(), size)) {
+            Path entryPath = DecompressUtils.resolveEntryPath(destinationPath, entry.getName());
+            if (entry.isDirectory()) {
+                Files.createDirectories(entryPath);
+            } else {
+                Files.createDirectories(entryPath.getParent());
+                FileTransfer.transfer(channel, dataOffset, size, entryPath);
+            }
+        }
+        long padding = (TAR_BLOCK_SIZE - size % TAR_BLOCK_SIZE) % TAR_BLOCK_SIZE;
+        return checkpoint.next(dataOffset + size + padding);
+    }
+
+    /**
+     * ZIP 항목 하나 압축 해제 (central directory 를 만나면 종료)
+     */
+    private static ExtractCheckpoint extractZipEntry(FileChannel channel, long available, boolean complete,
+        Path destinationPath, ArchiveEntryFilter entryFilter, ExtractCheckpoint checkpoint) throws IOException {
+        long offset = checkpoint.offset();
+        if (available - offset < Integer.BYTES) {
+            return checkpoint;
+        }
+        int signature = readInt(channel, offset);
+        if (signature != ZIP_LOCAL_HEADER_SIGNATURE) {
+            return signature == ZIP_CENTRAL_DIRECTORY_SIGNATURE
+                || signature == ZIP_END_OF_CENTRAL_DIRECTORY_SIGNATURE
+                || signature == ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE ?
+                checkpoint.withState(State.FINISHED) : checkpoint.withState(State.UNSUPPORTED);
+        }
+        if (available - offset < ZIP_LOCAL_HEADER_LENGTH) {
+            return checkpoint;
+        }
+
+        ByteBuffer header = read(channel, offset, ZIP_LOCAL_HEADER_LENGTH);
+        int flags = Short.toUnsignedInt(header.getShort(6));
+        int method = Short.toUnsignedInt(header.getShort(8));
+        long crc = Integer.toUnsignedLong(header.getInt(14));
+        long compressedSize = Integer.toUnsignedLong(header.getInt(18));
+        long size = Integer.toUnsignedLong(header.getInt(22));
+        int nameLength = Short.toUnsignedInt(header.getShort(26));
+        int extraLength = Short.toUnsignedInt(header.getShort(28));
+        long dataOffset = offset + ZIP_LOCAL_HEADER_LENGTH + nameLength + extraLength;
+        if (dataOffset > available) {
+            return checkpoint;
+        }
+
+        String name = new String(read(channel, offset + ZIP_LOCAL_HEADER_LENGTH, nameLength).array(),
+            StandardCharsets.UTF_8);
+        if ((flags & ZIP_FLAG_ENCRYPTED) != 0) {
+            throw new ForbiddenException("압축 해제할 수 없는 항목입니다 (암호화 또는 지원되지 않는 압축 방식): " + name,
+                ErrorCode.FORBIDDEN_FILE_TYPE_EXCEPTION);
+        }
+        boolean zip64 = false;
+        if (compressedSize == ZIP64_MAGIC || size == ZIP64_MAGIC) {
+            ByteBuffer zip64Sizes = findZip64Sizes(
+                read(channel, offset + ZIP_LOCAL_HEADER_LENGTH + nameLength, extraLength));
+            if (zip64Sizes == null) {
+                return checkpoint.withState(State.UNSUPPORTED);
+            }
+            zip64 = true;
+            size = size == ZIP64_MAGIC ? zip64Sizes.getLong() : size;
+            compressedSize = compressedSize == ZIP64_MAGIC ? zip64Sizes.getLong() : compressedSize;
+        }
+
+        boolean directory = name.endsWith("/");
+        boolean excluded = entryFilter.excludes(name, directory, size);
+        Path entryPath = excluded ? null : DecompressUtils.resolveEntryPath(destinationPath, name);
+        if (directory) {
+            if (entryPath != null) {
+                Files.createDirectories(entryPath);
+            }
+        } else if (entryPath != null) {
+            Files.createDirectories(entryPath.getParent());
+        }
+
+        if ((flags & ZIP_FLAG_DATA_DESCRIPTOR) == 0) {
+            if (dataOffset + compressedSize > available) {
+                return checkpoint;
+            }
+            if (!directory) {
+                if (method != ZipEntry.STORED && method != ZipEntry.DEFLATED) {
+                    return checkpoint.withState(State.UNSUPPORTED);
+                }
+                // 제외된 항목은 크기를 알고 있으므로 압축 해제하지 않고 건너뜀
+                if (entryPath != null) {
+                    if (method == ZipEntry.STORED) {
+                        FileTransfer.transfer(channel, dataOffset, compressedSize, entryPath);
+                        // transferTo 는 데이터를 사용자 버퍼로 읽지 않으므로 기록한 파일로 CRC 계산
+                        verifyCrc(name, crc, FileTransfer.crc32(entryPath));
+                    } else {
+                        CRC32 checksum = new CRC32();
+                        inflate(channel, dataOffset, dataOffset + compressedSize, entryPath, checksum);
+                        verifyCrc(name, crc, checksum.getValue());
+                    }
+                }
+            }
+            return checkpoint.next(dataOffset + compressedSize);
+        }
+
+        // data descriptor: 압축된 크기를 모르므로 DEFLATED 스트림이 끝나는 위치까지 압축 해제해 봐야 알 수 있음
+        if (method != ZipEntry.DEFLATED) {
+            return checkpoint.withState(State.UNSUPPORTED);
+        }
+        long received = available - dataOffset;
+        if (!complete && received < 2 * checkpoint.attemptedBytes()) {
+            return checkpoint;
+        }
+        CRC32 checksum = new CRC32();
+        long consumed = inflate(channel, dataOffset, available, directory ? null : entryPath, checksum);
+        if (consumed < 0) {
+            return checkpoint.attempted(Math.max(received, 1));
+        }
+
+        // data descriptor: [signature] crc32, 압축 크기, 원본 크기 (zip64 항목은 크기가 8 byte)
+        long descriptorOffset = dataOffset + consumed;
+        if (available - descriptorOffset < Integer.BYTES) {
+            return checkpoint.attempted(Math.max(received, 1));
+        }
+        int signatureLength = readInt(channel, descriptorOffset) == ZIP_DATA_DESCRIPTOR_SIGNATURE ? 4 : 0;
+        int descriptorLength = signatureLength + Integer.BYTES + (zip64 ? 2 * Long.BYTES : 2 * Integer.BYTES);
+        if (descriptorOffset + descriptorLength > available) {
+            return checkpoint.attempted(Math.max(received, 1));
+        }
+        verifyCrc(name, Integer.toUnsignedLong(readInt(channel, descriptorOffset + signatureLength)),
+            checksum.getValue());
+        return checkpoint.next(descriptorOffset + descriptorLength);
+    }
+
+    /**
+     * [start, end) 범위의 DEFLATED 데이터 압축 해제
+     *
+     * @param target   저장할 파일 (null 이면 압축 해제만 하고 버림, 제외된 항목의 끝 위치 확인용)
+     * @param checksum 압축 해제한 데이터의 CRC-32 를 누적할 객체
+     * @return 사용한 압축 데이터 크기 (범위 안에서 압축 스트림이 끝나지 않으면 -1, 기록하던 파일은 삭제)
+     */
+    private static long inflate(FileChannel channel, long start, long end, Path target, CRC32 checksum)
+        throws IOException {
+        Inflater inflater = new Inflater(true);
+        ChannelRangeInputStream range = new ChannelRangeInputStream(channel, start, end);
+        try (InputStream is = new CheckedInputStream(
+            new InflaterInputStream(range, inflater, FileTransfer.BUFFER_SIZE), checksum)) {
+            if (target == null) {
+                FileTransfer.copy(is, OutputStream.nullOutputStream());
+            } else {
+                FileTransfer.copy(is, target);
+            }
+            return inflater.getBytesRead();
+        } catch (EOFException e) {
+            if (target != null) {
+                Files.deleteIfExists(target);
+            }
+            if (range.isLimitReached()) {
+                return -1;
+            }
+            throw e;
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static void verifyCrc(String name, long expected, long actual) {
+        if (expected != actual) {
+            throw new ValidationException("압축 항목의 CRC 가 일치하지 않습니다: " + name,
+                ErrorCode.VALIDATION_ARCHIVE_CORRUPTED_EXCEPTION);
+        }
+    }
+
+    // 로컬 헤더 extra field 중 zip64 필드 (원본 크기, 압축 크기 순서)
+    private static ByteBuffer findZip64Sizes(ByteBuffer extra) {
+        while (extra.remaining() >= 2 * Short.BYTES) {
+            int id = Short.toUnsignedInt(extra.getShort());
+            int length = Short.toUnsignedInt(extra.getShort());
+            if (length > extra.remaining()) {
+                return null;
+            }
+            if (id == ZIP64_EXTRA_FIELD_ID) {
+                return extra.slice(extra.position(), length).order(ByteOrder.LITTLE_ENDIAN);
+            }
+            extra.position(extra.position() + length);
+        }
+        return null;
+    }
+
+    private static boolean isZeroBlock(ByteBuffer block) {
+        while (block.hasRemaining()) {
+            if (block.get() != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int readInt(FileChannel channel, long position) throws IOException {
+        return read(channel, position, Integer.BYTES).getInt(0);
+    }
+
+    // position 부터 length byte 읽기 (little endian, 호출 전에 범위가 기록되어 있는지 확인해야 함)
+    private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("압축 파일의 데이터가 예상보다 짧습니다.");
+            }
+        }
+        return buffer.flip();
+    }
+
+    /**
+     * 파일의 [position, limit) 범위를 읽는 InputStream (기록된 범위 밖은 읽지 않음)
+     * 범위 끝에 도달했는지 기록해 두어 "데이터가 아직 도착하지 않음" 과 "손상된 파일" 을 구분
+     */
+    private static final class ChannelRangeInputStream extends InputStream {
+
+        private final FileChannel channel;
+        private final long limit;
+        private long position;
+        private boolean limitReached;
+
+        private ChannelRangeInputStream(FileChannel channel, long position, long limit) {
+            this.channel = channel;
+            this.position = position;
+            this.limit = limit;
+        }
+
+        boolean isLimitReached() {
+            return limitReached;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) == -1 ? -1 : Byte.toUnsignedInt(single[0]);
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (position >= limit) {
+                limitReached = true;
+                return -1;
+            }
+            int read = channel.read(ByteBuffer.wrap(b, off, (int) Math.min(len, limit - position)), position);
+            if (read < 0) {
+                limitReached = true;
+                return -1;
+            }
+            position += read;
+            return read;
+        }
+
+        @Override
+        public long skip(long n) {
+            long skipped = Math.max(0, Math.min(n, limit - position));
+            position += skipped;
+            return skipped;
+        }
+    }
+}
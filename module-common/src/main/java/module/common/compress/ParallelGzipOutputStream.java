@@ -0,0 +1,230 @@
+package module.common.compress;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 블록 단위 병렬 gzip 출력 스트림 (pigz 방식)
+ * - 입력을 고정 크기 블록으로 나눠 각 블록을 독립된 gzip member로 동시에 압축
+ * - 압축된 member는 입력 순서대로 이어 붙여 기록 (RFC 1952 multi-member, gunzip 등 표준 도구로 해제 가능)
+ * - 동시에 처리 중인 블록 수를 (스레드 수 * 2)로 제한해 메모리 사용량을 제한
+ *
+ * - 입력 블록(direct)과 압축 결과 버퍼는 풀에서 재사용하고, Deflater는 스트림 안에서 재사용
+ * - 압축은 공용 스레드 풀(CompressExecutors)에서 실행 (스트림마다 스레드 풀을 만들지 않음)
+ *
+ * 블록 간 사전(dictionary)을 공유하지 않으므로 단일 스트림 gzip보다 압축률이 약간 낮음
+ */
+@Slf4j
+public class ParallelGzipOutputStream extends OutputStream {
+
+    public static final int DEFAULT_BLOCK_SIZE = 1024 * 1024;
+
+    // gzip member 헤더 (ID1, ID2, CM=deflate, FLG, MTIME(4), XFL, OS=unknown)
+    private static final byte[] MEMBER_HEADER = {0x1F, (byte) 0x8B, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xFF};
+    private static final int MEMBER_TRAILER_SIZE = 8;
+    private static final long WORKER_TERMINATION_TIMEOUT_SECONDS = 60;
+
+    private static final int MAX_POOLED_BLOCKS = Runtime.getRuntime().availableProcessors() * 2;
+    private static final BufferPool DEFAULT_BLOCK_POOL = new BufferPool(DEFAULT_BLOCK_SIZE, MAX_POOLED_BLOCKS, true);
+    private static final BufferPool DEFAULT_MEMBER_POOL = new BufferPool(
+        maxMemberSize(DEFAULT_BLOCK_SIZE), MAX_POOLED_BLOCKS, false);
+
+    private final OutputStream out;
+    private final int compressionLevel;
+    private final ExecutorService executor;
+    private final int maxPendingBlocks;
+    private final BufferPool blockPool;
+    private final BufferPool memberPool;
+    private final Deque<Future<ByteBuffer>> pendingBlocks = new ArrayDeque<>();
+    // 압축 스레드가 사용한 Deflater (스트림을 닫을 때 해제)
+    private final Queue<Deflater> idleDeflaters = new ConcurrentLinkedQueue<>();
+
+    private ByteBuffer block;
+    private boolean memberWritten;
+    private boolean closed;
+
+    public ParallelGzipOutputStream(OutputStream out, int parallelism, int compressionLevel) {
+        this(out, parallelism, compressionLevel, DEFAULT_BLOCK_SIZE);
+    }
+
+    public ParallelGzipOutputStream(OutputStream out, int parallelism, int compressionLevel, int blockSize) {
+        if (compressionLevel < Deflater.DEFAULT_COMPRESSION || compressionLevel > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("gzip 압축 레벨은 -1 또는 0 ~ 9 사이여야 합니다: " + compressionLevel);
+        }
+        int threads = Math.max(1, parallelism);
+
+        this.out = out;
+        this.compressionLevel = compressionLevel;
+        this.maxPendingBlocks = threads * 2;
+        if (blockSize == DEFAULT_BLOCK_SIZE) {
+            this.blockPool = DEFAULT_BLOCK_POOL;
+            this.memberPool = DEFAULT_MEMBER_POOL;
+        } else {
+            this.blockPool = new BufferPool(blockSize, maxPendingBlocks + 1, true);
+            this.memberPool = new BufferPool(maxMemberSize(blockSize), maxPendingBlocks, false);
+        }
+        this.block = blockPool.acquire();
+        this.executor = CompressExecutors.scoped(threads);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureOpen();
+        block.put((byte) b);
+        if (!block.hasRemaining()) {
+            submitBlock();
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        while (len > 0) {
+            int copyLength = Math.min(len, block.remaining());
+            block.put(b, off, copyLength);
+            off += copyLength;
+            len -= copyLength;
+
+            if (!block.hasRemaining()) {
+                submitBlock();
+            }
+        }
+    }
+
+    /**
+     * 현재까지 입력된 데이터를 모두 압축해 기록 (남은 데이터는 짧은 member로 기록됨)
+     */
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        if (block.position() > 0) {
+            submitBlock();
+        }
+        while (!pendingBlocks.isEmpty()) {
+            writeNextBlock();
+        }
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+
+        try {
+            // 빈 입력도 유효한 gzip이 되도록 최소 한 개의 member 기록
+            if (block.position() > 0 || (!memberWritten && pendingBlocks.isEmpty())) {
+                submitBlock();
+            }
+            while (!pendingBlocks.isEmpty()) {
+                writeNextBlock();
+            }
+            out.close();
+        } finally {
+            closed = true;
+            executor.shutdownNow();
+            awaitWorkers();
+            blockPool.release(block);
+            block = null;
+            Deflater deflater;
+            while ((deflater = idleDeflaters.poll()) != null) {
+                deflater.end();
+            }
+        }
+    }
+
+    // 실행 중인 compress() 가 Deflater 를 반환할 때까지 대기 (대기 전에 풀을 비우면 늦게 반환된 Deflater 는 end() 되지 않음)
+    private void awaitWorkers() {
+        try {
+            if (!executor.awaitTermination(WORKER_TERMINATION_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("gzip 압축 작업이 {}초 안에 끝나지 않았습니다.", WORKER_TERMINATION_TIMEOUT_SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void submitBlock() throws IOException {
+        ByteBuffer data = block.flip();
+        block = blockPool.acquire();
+
+        pendingBlocks.add(executor.submit(() -> compress(data)));
+        memberWritten = true;
+        // 압축이 기록보다 빠르게 쌓이지 않도록 가장 오래된 블록부터 기록
+        while (pendingBlocks.size() >= maxPendingBlocks) {
+            writeNextBlock();
+        }
+    }
+
+    private void writeNextBlock() throws IOException {
+        Future<ByteBuffer> future = pendingBlocks.poll();
+        try {
+            ByteBuffer member = future.get();
+            out.write(member.array(), 0, member.position());
+            memberPool.release(member);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("gzip 병렬 압축이 중단되었습니다.");
+        } catch (ExecutionException e) {
+            throw new IOException("gzip 블록 압축 중 오류가 발생했습니다.", e.getCause());
+        }
+    }
+
+    // 블록 하나를 gzip member(헤더 + raw deflate + CRC32, 원본 크기)로 압축
+    private ByteBuffer compress(ByteBuffer data) {
+        Deflater deflater = idleDeflaters.poll();
+        if (deflater == null) {
+            deflater = new Deflater(compressionLevel, true);
+        }
+        ByteBuffer member = memberPool.acquire().order(ByteOrder.LITTLE_ENDIAN);
+        try {
+            int length = data.remaining();
+            CRC32 crc32 = new CRC32();
+            crc32.update(data.duplicate());
+
+            member.put(MEMBER_HEADER);
+            deflater.setInput(data);
+            deflater.finish();
+            while (!deflater.finished()) {
+                if (!member.hasRemaining()) {
+                    throw new IllegalStateException("gzip member 버퍼 크기가 부족합니다.");
+                }
+                deflater.deflate(member);
+            }
+            member.putInt((int) crc32.getValue());
+            member.putInt(length);
+            return member;
+        } finally {
+            deflater.reset();
+            idleDeflaters.offer(deflater);
+            blockPool.release(data);
+        }
+    }
+
+    // 압축되지 않는 데이터도 담을 수 있는 member 크기 (zlib deflateBound 기준 + 헤더, 트레일러)
+    private static int maxMemberSize(int blockSize) {
+        return MEMBER_HEADER.length + blockSize + (blockSize >> 12) + (blockSize >> 14) + (blockSize >> 25) + 13
+            + MEMBER_TRAILER_SIZE;
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+}
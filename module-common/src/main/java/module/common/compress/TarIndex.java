@@ -0,0 +1,188 @@
+package module.common.compress;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarConstants;
+import org.apache.commons.compress.archivers.tar.TarFile;
+
+/**
+ * 압축되지 않은 TAR 파일의 항목 위치 색인
+ * - TAR는 central directory 가 없어 항목을 찾으려면 앞에서부터 헤더를 모두 읽어야 하므로
+ *   처음 조회할 때 항목별 데이터 위치(offset)를 색인 파일로 저장하고, 이후에는 색인으로 바로 찾아 읽음
+ * - 색인 파일에는 TAR 파일의 크기와 수정 시각을 함께 저장해 TAR 파일이 바뀌면 다시 생성
+ */
+@Slf4j
+public class TarIndex {
+
+    private static final int MAGIC = 0x54494458; // "TIDX"
+    // 2: 항목명을 writeUTF(최대 64KB) 대신 길이 + UTF-8 byte 로 기록 (이전 버전 색인은 다시 생성)
+    private static final int VERSION = 2;
+
+    private final Map<String, IndexedEntry> entries;
+
+    private TarIndex(List<IndexedEntry> entries) {
+        // 같은 이름의 항목이 여러 개이면 압축 해제 결과와 같도록 마지막 항목 사용
+        Map<String, IndexedEntry> entryMap = new LinkedHashMap<>();
+        entries.forEach(entry -> entryMap.put(entry.name(), entry));
+        this.entries = Collections.unmodifiableMap(entryMap);
+    }
+
+    /**
+     * 색인 파일을 읽거나, 없거나 TAR 파일이 바뀌었으면 새로 생성해 저장
+     *
+     * @param tarPath   TAR 파일
+     * @param indexPath 색인 파일 경로 (null 이면 저장하지 않음)
+     */
+    public static TarIndex loadOrBuild(Path tarPath, Path indexPath) throws IOException {
+        long archiveSize = Files.size(tarPath);
+        long archiveLastModified = Files.getLastModifiedTime(tarPath).toMillis();
+
+        if (indexPath != null) {
+            Optional<TarIndex> loaded = load(indexPath, archiveSize, archiveLastModified);
+            if (loaded.isPresent()) {
+                return loaded.get();
+            }
+        }
+
+        TarIndex tarIndex = build(tarPath);
+        if (indexPath != null) {
+            // 색인은 조회를 빠르게 하기 위한 것이므로 저장에 실패해도 조회는 계속 진행
+            try {
+                tarIndex.save(indexPath, archiveSize, archiveLastModified);
+            } catch (IOException e) {
+                log.warn("Failed to save tar index. index: {}", indexPath, e);
+            }
+        }
+        return tarIndex;
+    }
+
+    public List<IndexedEntry> getEntries() {
+        return List.copyOf(entries.values());
+    }
+
+    public Optional<IndexedEntry> find(String entryName) {
+        return Optional.ofNullable(entries.get(entryName));
+    }
+
+    private static TarIndex build(Path tarPath) throws IOException {
+        try (TarFile tarFile = new TarFile(tarPath)) {
+            List<IndexedEntry> entries = new ArrayList<>();
+            for (TarArchiveEntry entry : tarFile.getEntries()) {
+                entries.add(new IndexedEntry(
+                    entry.getName(),
+                    entry.isSparse() ? entry.getRealSize() : entry.getSize(),
+                    entry.getLastModifiedTime() == null ? 0 : entry.getLastModifiedTime().toMillis(),
+                    entry.getDataOffset(),
+                    entry.isDirectory(),
+                    entry.isSparse()
+                ));
+            }
+            return new TarIndex(entries);
+        }
+    }
+
+    private static Optional<TarIndex> load(Path indexPath, long archiveSize, long archiveLastModified) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexPath)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION
+                || in.readLong() != archiveSize || in.readLong() != archiveLastModified) {
+                return Optional.empty();
+            }
+
+            // 항목마다 512 byte 헤더가 있으므로 TAR 크기로 항목 수의 상한을 정함 (손상된 색인으로 큰 배열을 만들지 않도록)
+            int count = in.readInt();
+            if (count < 0 || count > archiveSize / TarConstants.DEFAULT_RCDSIZE) {
+                throw new IOException("Invalid entry count: " + count);
+            }
+            List<IndexedEntry> entries = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                entries.add(new IndexedEntry(readName(in), in.readLong(), in.readLong(), in.readLong(),
+                    in.readBoolean(), in.readBoolean()));
+            }
+            return Optional.of(new TarIndex(entries));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            log.warn("Invalid tar index, rebuilding. index: {}", indexPath, e);
+            return Optional.empty();
+        }
+    }
+
+    // PAX 확장 헤더의 긴 이름은 writeUTF 의 64KB 제한을 넘을 수 있어 길이(int) + UTF-8 byte 로 기록
+    private static String readName(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            throw new IOException("Invalid entry name length: " + length);
+        }
+        byte[] name = in.readNBytes(length);
+        if (name.length != length) {
+            throw new EOFException("Truncated entry name");
+        }
+        return new String(name, StandardCharsets.UTF_8);
+    }
+
+    // 임시 파일에 기록 후 이동 (동시에 생성해도 읽는 쪽에서 쓰다 만 색인을 읽지 않도록)
+    private void save(Path indexPath, long archiveSize, long archiveLastModified) throws IOException {
+        Files.createDirectories(indexPath.getParent());
+        Path tempPath = Files.createTempFile(indexPath.getParent(), indexPath.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(tempPath)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(archiveSize);
+                out.writeLong(archiveLastModified);
+                out.writeInt(entries.size());
+                for (IndexedEntry entry : entries.values()) {
+                    byte[] name = entry.name().getBytes(StandardCharsets.UTF_8);
+                    out.writeInt(name.length);
+                    out.write(name);
+                    out.writeLong(entry.size());
+                    out.writeLong(entry.lastModified());
+                    out.writeLong(entry.dataOffset());
+                    out.writeBoolean(entry.directory());
+                    out.writeBoolean(entry.streamOnly());
+                }
+            }
+            Files.move(tempPath, indexPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempPath);
+        }
+    }
+
+    /**
+     * 색인된 TAR 항목
+     *
+     * @param name         항목명
+     * @param size         원본 크기
+     * @param lastModified 수정 시각 (epoch millis)
+     * @param dataOffset   TAR 파일 내 데이터 시작 위치
+     * @param directory    디렉토리 여부
+     * @param streamOnly   sparse 파일 등 데이터가 연속되지 않아 위치로 바로 읽을 수 없는 항목
+     */
+    public record IndexedEntry(
+        String name,
+        long size,
+        long lastModified,
+        long dataOffset,
+        boolean directory,
+        boolean streamOnly
+    ) {
+    }
+}
@@ -1,5 +1,30 @@
 package module.common.contstant;
 
 public class RedisKey {
-    public static final String REFRESH_TOKEN = "RT:";
+    // 사용자별 refresh token 세션 hash (field: 세션 id)
+    public static final String REFRESH_TOKEN_SESSIONS = "RTS:";
+    // access token 재발급 결과 (key: RAT:{userId}:{세션 id}, 노드 간 재발급 합치기용, 짧은 TTL)
+    public static final String REISSUED_ACCESS_TOKEN = "RAT:";
+
+    // 압축 / 압축 해제 작업 상태 hash (key: AJ:{작업 id})
+    public static final String ARCHIVE_JOB = "AJ:";
+    // 사용자별 작업 id 목록 (sorted set, score: 생성 시각)
+    public static final String ARCHIVE_JOB_USER = "AJU:";
+    // 노드별 종료되지 않은 작업 id 목록 (set, key: AJN:{노드 id}, 재시작 시 중단된 작업을 FAILED 로 처리)
+    public static final String ARCHIVE_JOB_NODE = "AJN:";
+
+    // tus 업로드 상태 hash (key: TU:{업로드 id}, 만료 시각까지 TTL)
+    public static final String TUS_UPLOAD = "TU:";
+    // tus 업로드 PATCH 잠금 (key: TUL:{업로드 id}, 값: 잠금 token, 노드 간 같은 업로드 동시 기록 방지)
+    public static final String TUS_UPLOAD_LOCK = "TUL:";
+    // tus 최종(final) 업로드 병합 진행 상황 hash (key: TUC:{최종 업로드 id}, field: 부분 업로드 id, 값: 병합한 byte 수)
+    public static final String TUS_UPLOAD_CONCAT = "TUC:";
+
+    // access token 폐기 이벤트 stream (모든 노드가 구독해 로컬 폐기 목록 동기화)
+    public static final String TOKEN_REVOCATION_STREAM = "STREAM:TOKEN_REVOCATION";
+
+    // pub/sub 채널
+    public static final String USER_INFO_INVALIDATION_CHANNEL = "CH:USER_INFO_INVALIDATION";
+    // 압축 작업 취소 (작업을 실행 중인 노드가 처리)
+    public static final String ARCHIVE_JOB_CANCEL_CHANNEL = "CH:ARCHIVE_JOB_CANCEL";
 }
@@ -0,0 +1,19 @@
+package module.common.dto;
+
+/**
+ * 압축 파일 항목 정보
+ *
+ * @param name           압축 파일 내 항목명
+ * @param size           원본 크기
+ * @param compressedSize 압축된 크기 (압축된 TAR 처럼 항목별로 알 수 없으면 -1)
+ * @param lastModified   수정 시각 (epoch millis)
+ * @param directory      디렉토리 여부
+ */
+public record ArchiveEntryInfo(
+    String name,
+    long size,
+    long compressedSize,
+    long lastModified,
+    boolean directory
+) {
+}
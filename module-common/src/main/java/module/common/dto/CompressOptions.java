@@ -0,0 +1,61 @@
+package module.common.dto;
+
+import java.util.zip.Deflater;
+import module.common.compress.ArchiveEntryFilter;
+import module.common.compress.EntryCompressionPolicy;
+
+/**
+ * 압축 옵션
+ *
+ * @param parallelism       동시에 압축할 스레드 수 (1 이하이면 순차 압축)
+ *                          ZIP: 항목 단위 병렬, TAR_GZ: 블록 단위 병렬, TAR_ZST: zstd worker 수, TAR/TAR_XZ: 항상 순차
+ * @param compressionLevel  압축 레벨 (-1: 형식별 기본값, 범위는 CompressFileType 참고)
+ * @param compressionPolicy ZIP 항목별 압축 정책 (null 이면 모든 항목을 compressionLevel로 deflate)
+ * @param entryFilter       제외할 항목 (null 이면 ArchiveEntryFilter.DEFAULT)
+ */
+public record CompressOptions(
+    int parallelism,
+    int compressionLevel,
+    EntryCompressionPolicy compressionPolicy,
+    ArchiveEntryFilter entryFilter
+) {
+    public static final CompressOptions DEFAULT = new CompressOptions(1, Deflater.DEFAULT_COMPRESSION);
+
+    public CompressOptions {
+        // 형식별 범위는 압축 시 검사
+        if (compressionLevel < Deflater.DEFAULT_COMPRESSION) {
+            throw new IllegalArgumentException("압축 레벨은 -1 이상이어야 합니다: " + compressionLevel);
+        }
+        if (entryFilter == null) {
+            entryFilter = ArchiveEntryFilter.DEFAULT;
+        }
+    }
+
+    public CompressOptions(int parallelism, int compressionLevel) {
+        this(parallelism, compressionLevel, null, ArchiveEntryFilter.DEFAULT);
+    }
+
+    public static CompressOptions parallel(int parallelism) {
+        return new CompressOptions(parallelism, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    public boolean isParallel() {
+        return parallelism > 1;
+    }
+
+    public CompressOptions withParallelism(int parallelism) {
+        return new CompressOptions(parallelism, compressionLevel, compressionPolicy, entryFilter);
+    }
+
+    public CompressOptions withCompressionPolicy(EntryCompressionPolicy compressionPolicy) {
+        return new CompressOptions(parallelism, compressionLevel, compressionPolicy, entryFilter);
+    }
+
+    public CompressOptions withEntryFilter(ArchiveEntryFilter entryFilter) {
+        return new CompressOptions(parallelism, compressionLevel, compressionPolicy, entryFilter);
+    }
+
+    public boolean isDefaultLevel() {
+        return compressionLevel == Deflater.DEFAULT_COMPRESSION;
+    }
+}
@@ -0,0 +1,37 @@
+package module.common.dto;
+
+import java.time.Instant;
+import module.common.enums.ProviderType;
+import module.common.enums.RoleType;
+
+/**
+ * 서명 검증을 마친 JWT 정보 (한 번의 파싱 결과)
+ *
+ * @param userId       토큰 subject (사용자 id)
+ * @param tokenId      토큰 id (jti)
+ * @param sessionId    로그인 세션 id (refresh token 세션과 연결, 이전 방식으로 발급된 토큰이면 null)
+ * @param issuedAt     토큰 발급 시각
+ * @param expiresAt    토큰 만료 시각
+ * @param expired      서명은 유효하지만 만료된 토큰인 경우 true
+ * @param role         role claim (stateless 모드로 발급된 토큰이 아니면 null)
+ * @param providerType provider claim (stateless 모드로 발급된 토큰이 아니면 null)
+ */
+public record VerifiedToken(
+    long userId,
+    String tokenId,
+    String sessionId,
+    Instant issuedAt,
+    Instant expiresAt,
+    boolean expired,
+    RoleType role,
+    ProviderType providerType
+) {
+    public boolean isValid() {
+        return !expired;
+    }
+
+    // DB 조회 없이 인증 객체를 만들 수 있는 claim을 포함하는지 여부
+    public boolean hasAuthorityClaims() {
+        return role != null && providerType != null;
+    }
+}
@@ -6,8 +6,17 @@ import lombok.RequiredArgsConstructor;
 @Getter
 @RequiredArgsConstructor
 public enum CompressFileType {
-	ZIP("zip"),
-	TAR("tar");
+	ZIP("zip", "application/zip"),
+	TAR("tar", "application/x-tar"),
+	// 압축된 TAR (compressionLevel 범위: gzip 0~9, zstd 1~22, xz 0~9)
+	TAR_GZ("tar.gz", "application/gzip"),
+	TAR_ZST("tar.zst", "application/zstd"),
+	TAR_XZ("tar.xz", "application/x-xz");
 
 	private final String extension;
+	private final String contentType;
+
+	public boolean isTar() {
+		return this != ZIP;
+	}
 }
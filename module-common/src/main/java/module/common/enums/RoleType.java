@@ -11,4 +11,14 @@ public enum RoleType {
     ;
 
     private final String role;
+
+    // role 값("ADMIN", "USER")으로 RoleType 조회, 없으면 null
+    public static RoleType fromRole(String role) {
+        for (RoleType roleType : values()) {
+            if (roleType.role.equals(role)) {
+                return roleType;
+            }
+        }
+        return null;
+    }
 }
@@ -8,6 +8,8 @@ import static module.common.exception.ErrorStatusCode.INTERNAL_SERVER;
 import static module.common.exception.ErrorStatusCode.METHOD_NOT_ALLOWED;
 import static module.common.exception.ErrorStatusCode.NOT_ACCEPTABLE;
 import static module.common.exception.ErrorStatusCode.NOT_FOUND;
+import static module.common.exception.ErrorStatusCode.PAYLOAD_TOO_LARGE;
+import static module.common.exception.ErrorStatusCode.PRECONDITION_FAILED;
 import static module.common.exception.ErrorStatusCode.SERVICE_UNAVAILABLE;
 import static module.common.exception.ErrorStatusCode.UNAUTHORIZED;
 import static module.common.exception.ErrorStatusCode.UNSUPPORTED_MEDIA_TYPE;
@@ -26,6 +28,10 @@ public enum ErrorCode {
     VALIDATION_ENUM_VALUE_EXCEPTION(BAD_REQUEST, "잘못된 Enum 값 입니다."),
     VALIDATION_REQUEST_MISSING_EXCEPTION(BAD_REQUEST, "필수적인 요청 값이 입력되지 않았습니다."),
     VALIDATION_WRONG_TYPE_EXCEPTION(BAD_REQUEST, "잘못된 타입이 입력되었습니다."),
+    VALIDATION_UPLOAD_HEADER_EXCEPTION(BAD_REQUEST, "업로드 요청 헤더가 올바르지 않습니다."),
+    VALIDATION_UPLOAD_CONCAT_EXCEPTION(BAD_REQUEST, "병합할 수 없는 부분 업로드가 포함되어 있습니다."),
+    VALIDATION_MULTIPART_EXCEPTION(BAD_REQUEST, "multipart 요청 형식이 올바르지 않습니다."),
+    VALIDATION_ARCHIVE_CORRUPTED_EXCEPTION(BAD_REQUEST, "압축 파일이 손상되었습니다."),
 
     /**
      * 401 UnAuthorized
@@ -35,10 +41,12 @@ public enum ErrorCode {
     UNAUTHORIZED_UNSUPPORTED_TOKEN_EXCEPTION(UNAUTHORIZED, "지원되지 않는 JWT 토큰입니다."),
     UNAUTHORIZED_EMPTY_TOKEN_EXCEPTION(UNAUTHORIZED, "JWT 토큰이 비어있습니다."),
     UNAUTHORIZED_EXPIRED_REFRESH_TOKEN_EXCEPTION(UNAUTHORIZED, "리프레시 토큰 유효시간이 만료되었습니다.\n다시 로그인 해주세요."),
+    UNAUTHORIZED_INVALID_REFRESH_TOKEN_EXCEPTION(UNAUTHORIZED, "리프레시 토큰이 유효하지 않습니다.\n다시 로그인 해주세요."),
     UNAUTHORIZED_USER_NOT_FOUND_EXCEPTION(UNAUTHORIZED, "존재하지 않는 사용자입니다."),
     UNAUTHORIZED_MISSING_ACCESS_TOKEN(UNAUTHORIZED, "인증에 필요한 JWT 토큰이 존재하지 않습니다."),
     UNAUTHORIZED_UNKNOWN_TOKEN_EXCEPTION(UNAUTHORIZED, "JWT 처리 중 예상치 못한 오류가 발생했습니다."),
     UNAUTHORIZED_INVALID_TOKEN_SUBJECT(UNAUTHORIZED, "JWT의 subject가 유효하지 않습니다."),
+    UNAUTHORIZED_REVOKED_TOKEN_EXCEPTION(UNAUTHORIZED, "폐기된 JWT 토큰입니다.\n다시 로그인 해주세요."),
 
     /**
      * 403 Forbidden
@@ -46,12 +54,16 @@ public enum ErrorCode {
     FORBIDDEN_EXCEPTION(FORBIDDEN, "허용하지 않는 요청입니다."),
     FORBIDDEN_FILE_TYPE_EXCEPTION(FORBIDDEN, "허용되지 않은 파일 형식입니다."),
     FORBIDDEN_FILE_NAME_EXCEPTION(FORBIDDEN, "허용되지 않은 파일 이름입니다."),
+    FORBIDDEN_UPLOAD_CONCAT_FINAL_EXCEPTION(FORBIDDEN, "병합된 업로드에는 데이터를 추가할 수 없습니다."),
 
     /**
      * 404 Not Found
      */
     NOT_FOUND_EXCEPTION(NOT_FOUND, "존재하지 않습니다."),
     NOT_FOUND_USER_EXCEPTION(NOT_FOUND, "존재하지 않는 유저입니다."),
+    NOT_FOUND_ARCHIVE_ENTRY_EXCEPTION(NOT_FOUND, "압축 파일에 존재하지 않는 항목입니다."),
+    NOT_FOUND_ARCHIVE_JOB_EXCEPTION(NOT_FOUND, "존재하지 않는 압축 작업입니다."),
+    NOT_FOUND_UPLOAD_EXCEPTION(NOT_FOUND, "존재하지 않거나 만료된 업로드입니다."),
 
     /**
      * 405 Method Not Allowed
@@ -70,6 +82,21 @@ public enum ErrorCode {
     CONFLICT_REQUEST_EXCEPTION(CONFLICT, "처리중인 요청입니다."),
     CONFLICT_USER_EXCEPTION(CONFLICT, "이미 해당 계정으로 회원가입하셨습니다.\n로그인 해주세요."),
     CONFLICT_LOGIN_EXCEPTION(CONFLICT, "이미 로그인 중인 유저입니다."),
+    CONFLICT_ARCHIVE_JOB_LIMIT_EXCEPTION(CONFLICT, "대기 중인 압축 작업이 너무 많습니다.\n진행 중인 작업이 끝난 후 다시 시도해주세요."),
+    CONFLICT_ARCHIVE_JOB_FINISHED_EXCEPTION(CONFLICT, "이미 종료된 압축 작업입니다."),
+    CONFLICT_UPLOAD_OFFSET_EXCEPTION(CONFLICT, "업로드 위치가 서버에 저장된 위치와 다릅니다."),
+    CONFLICT_UPLOAD_LOCKED_EXCEPTION(CONFLICT, "같은 업로드에 대한 다른 요청이 처리 중입니다."),
+    CONFLICT_UPLOAD_CONCAT_EXCEPTION(CONFLICT, "다른 병합에 사용 중인 부분 업로드입니다."),
+
+    /**
+     * 412 Precondition Failed
+     */
+    PRECONDITION_FAILED_TUS_VERSION_EXCEPTION(PRECONDITION_FAILED, "지원하지 않는 tus 프로토콜 버전입니다."),
+
+    /**
+     * 413 Payload Too Large
+     */
+    PAYLOAD_TOO_LARGE_UPLOAD_EXCEPTION(PAYLOAD_TOO_LARGE, "업로드 가능한 최대 크기를 초과했습니다."),
 
     /**
      * 415 Unsupported Media Type
@@ -89,7 +116,9 @@ public enum ErrorCode {
     /**
      * 503 Service UnAvailable
      */
-    SERVICE_UNAVAILABLE_EXCEPTION(SERVICE_UNAVAILABLE, "현재 점검 중입니다.\n잠시 후 다시 시도해주세요!");
+    SERVICE_UNAVAILABLE_EXCEPTION(SERVICE_UNAVAILABLE, "현재 점검 중입니다.\n잠시 후 다시 시도해주세요!"),
+    SERVICE_UNAVAILABLE_LOGIN_BUSY_EXCEPTION(SERVICE_UNAVAILABLE, "로그인 요청이 많아 처리할 수 없습니다.\n잠시 후 다시 시도해주세요!"),
+    SERVICE_UNAVAILABLE_ARCHIVE_JOB_BUSY_EXCEPTION(SERVICE_UNAVAILABLE, "압축 작업 요청이 많아 처리할 수 없습니다.\n잠시 후 다시 시도해주세요!");
 
     private final ErrorStatusCode statusCode;
     private final String message;
@@ -22,6 +22,10 @@ public enum ErrorStatusCode {
     NOT_ACCEPTABLE(406),
     // 리소스의 현재 상태와 충돌이 발생한 경우 ex) 중복 데이터 생성, 상태 불일치 등
     CONFLICT(409),
+    // 요청 헤더의 전제 조건을 서버가 만족하지 않는 경우 ex) 지원하지 않는 프로토콜 버전
+    PRECONDITION_FAILED(412),
+    // 요청 본문이 서버가 허용하는 크기보다 큰 경우
+    PAYLOAD_TOO_LARGE(413),
     // 클라이언트가 서버가 처리할 수 없는 형식으로 요청할 경우
     UNSUPPORTED_MEDIA_TYPE(415),
     // 서버에서 처리 중에 예기치 않은 오류가 발생한 경우
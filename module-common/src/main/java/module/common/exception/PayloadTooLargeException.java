@@ -0,0 +1,15 @@
+package module.common.exception;
+
+import lombok.Getter;
+
+@Getter
+public class PayloadTooLargeException extends CustomException {
+
+    public PayloadTooLargeException(String message, ErrorCode errorCode) {
+        super(message, errorCode);
+    }
+
+    public PayloadTooLargeException(String message) {
+        super(message, ErrorCode.PAYLOAD_TOO_LARGE_UPLOAD_EXCEPTION);
+    }
+}
@@ -0,0 +1,15 @@
+package module.common.exception;
+
+import lombok.Getter;
+
+@Getter
+public class PreconditionFailedException extends CustomException {
+
+    public PreconditionFailedException(String message, ErrorCode errorCode) {
+        super(message, errorCode);
+    }
+
+    public PreconditionFailedException(String message) {
+        super(message, ErrorCode.PRECONDITION_FAILED_TUS_VERSION_EXCEPTION);
+    }
+}
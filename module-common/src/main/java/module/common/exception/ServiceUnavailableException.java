@@ -0,0 +1,15 @@
+package module.common.exception;
+
+import lombok.Getter;
+
+@Getter
+public class ServiceUnavailableException extends CustomException {
+
+    public ServiceUnavailableException(String message, ErrorCode errorCode) {
+        super(message, errorCode);
+    }
+
+    public ServiceUnavailableException(String message) {
+        super(message, ErrorCode.SERVICE_UNAVAILABLE_EXCEPTION);
+    }
+}
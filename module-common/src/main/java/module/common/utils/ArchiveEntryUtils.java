@@ -0,0 +1,335 @@
+package module.common.utils;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+import module.common.compress.FileTransfer;
+import module.common.compress.TarIndex;
+import module.common.compress.TarIndex.IndexedEntry;
+import module.common.dto.ArchiveEntryInfo;
+import module.common.exception.ErrorCode;
+import module.common.exception.ForbiddenException;
+import module.common.exception.InternalServerException;
+import module.common.exception.NotFoundException;
+import module.common.exception.ValidationException;
+import org.apache.commons.compress.archivers.ArchiveEntry;
+import org.apache.commons.compress.archivers.ArchiveException;
+import org.apache.commons.compress.archivers.ArchiveInputStream;
+import org.apache.commons.compress.archivers.ArchiveStreamFactory;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarFile;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.commons.compress.archivers.zip.ZipFile;
+import org.apache.commons.compress.compressors.CompressorException;
+import org.apache.commons.compress.compressors.CompressorStreamFactory;
+import org.apache.commons.io.output.CloseShieldOutputStream;
+
+/**
+ * 압축 해제 없이 압축 파일의 항목을 조회하거나 일부 항목만 읽기
+ * - ZIP: central directory 로 항목을 찾아 해당 항목만 읽음
+ * - TAR: 항목 위치 색인(TarIndex)을 만들어 저장하고, 이후에는 색인의 위치로 바로 읽음
+ * - 압축된 TAR(tar.gz 등): 위치로 읽을 수 없으므로 앞에서부터 스트림으로 읽음
+ */
+public final class ArchiveEntryUtils {
+
+    private enum ArchiveKind {
+        ZIP, TAR, COMPRESSED_TAR
+    }
+
+    private ArchiveEntryUtils() {
+        // 인스턴스화 방지
+    }
+
+    /**
+     * 압축 파일 항목 목록
+     *
+     * @param archivePath  압축 파일
+     * @param tarIndexPath TAR 항목 위치 색인을 저장할 경로 (null 이면 저장하지 않음, TAR 이외 형식은 사용하지 않음)
+     * @return 압축 파일에 기록된 순서의 항목 목록
+     */
+    public static List<ArchiveEntryInfo> listEntries(Path archivePath, Path tarIndexPath) {
+        try {
+            return switch (detectArchiveKind(archivePath)) {
+                case ZIP -> listZipEntries(archivePath);
+                case TAR -> TarIndex.loadOrBuild(archivePath, tarIndexPath).getEntries().stream()
+                    .map(entry -> new ArchiveEntryInfo(entry.name(), entry.size(), entry.size(),
+                        entry.lastModified(), entry.directory()))
+                    .toList();
+                case COMPRESSED_TAR -> listCompressedTarEntries(archivePath);
+            };
+        } catch (IOException | ArchiveException | CompressorException e) {
+            throw new InternalServerException("압축 파일 항목을 읽는 중 오류가 발생했습니다: " + archivePath);
+        }
+    }
+
+    /**
+     * glob 패턴과 일치하는 파일 항목 목록 (디렉토리 항목 제외)
+     *
+     * @param glob 항목명 glob 패턴 (* 는 '/' 를 넘지 않고 ** 는 하위 디렉토리까지 일치, 예: answers/*.txt)
+     */
+    public static List<ArchiveEntryInfo> findEntries(Path archivePath, Path tarIndexPath, String glob) {
+        Predicate<String> matcher = globMatcher(glob);
+        return listEntries(archivePath, tarIndexPath).stream()
+            .filter(entry -> !entry.directory() && matcher.test(entry.name()))
+            .toList();
+    }
+
+    /**
+     * 항목 하나의 원본 내용을 출력 스트림에 기록 (출력 스트림은 닫지 않음)
+     *
+     * @param entryName 압축 파일 내 항목명 (listEntries 의 name)
+     * @return 기록한 byte 수
+     */
+    public static long writeEntry(Path archivePath, Path tarIndexPath, String entryName, OutputStream out) {
+        try {
+            return switch (detectArchiveKind(archivePath)) {
+                case ZIP -> writeZipEntry(archivePath, entryName, out);
+                case TAR -> writeTarEntry(archivePath, tarIndexPath, entryName, out);
+                case COMPRESSED_TAR -> writeCompressedTarEntry(archivePath, entryName, out);
+            };
+        } catch (IOException | ArchiveException | CompressorException e) {
+            throw new InternalServerException("압축 파일 항목을 읽는 중 오류가 발생했습니다: " + entryName);
+        }
+    }
+
+    /**
+     * glob 패턴과 일치하는 파일 항목을 ZIP 으로 묶어 출력 스트림에 기록 (출력 스트림은 닫지 않음)
+     * 원본이 ZIP 이면 압축된 데이터를 다시 압축하지 않고 그대로 복사
+     *
+     * @return 기록한 항목 수
+     */
+    public static int writeEntries(Path archivePath, Path tarIndexPath, String glob, OutputStream out) {
+        Predicate<String> matcher = globMatcher(glob);
+        try {
+            ArchiveKind archiveKind = detectArchiveKind(archivePath);
+            try (ZipArchiveOutputStream zipOut = new ZipArchiveOutputStream(CloseShieldOutputStream.wrap(out))) {
+                zipOut.setEncoding(StandardCharsets.UTF_8.name());
+                return writeEntries(archiveKind, archivePath, tarIndexPath, matcher, zipOut);
+            }
+        } catch (IOException | ArchiveException | CompressorException e) {
+            throw new InternalServerException("압축 파일 항목을 읽는 중 오류가 발생했습니다: " + archivePath);
+        }
+    }
+
+    private static int writeEntries(ArchiveKind archiveKind, Path archivePath, Path tarIndexPath,
+        Predicate<String> matcher, ZipArchiveOutputStream zipOut)
+        throws IOException, ArchiveException, CompressorException {
+        return switch (archiveKind) {
+            case ZIP -> writeZipEntries(archivePath, matcher, zipOut);
+            case TAR -> writeTarEntries(archivePath, tarIndexPath, matcher, zipOut);
+            case COMPRESSED_TAR -> writeCompressedTarEntries(archivePath, matcher, zipOut);
+        };
+    }
+
+    private static ArchiveKind detectArchiveKind(Path archivePath) throws IOException, ArchiveException {
+        if (DecompressUtils.isZipFile(archivePath)) {
+            return ArchiveKind.ZIP;
+        }
+
+        try (InputStream is = new BufferedInputStream(Files.newInputStream(archivePath))) {
+            try {
+                CompressorStreamFactory.detect(is);
+                return ArchiveKind.COMPRESSED_TAR;
+            } catch (CompressorException e) {
+                // 압축 스트림이 아님
+            }
+
+            if (!ArchiveStreamFactory.TAR.equals(ArchiveStreamFactory.detect(is))) {
+                throw new ForbiddenException("지원되지 않는 압축 형식입니다: " + archivePath);
+            }
+            return ArchiveKind.TAR;
+        }
+    }
+
+    // 항목명 glob 매칭 ('/' 구분, ** 는 하위 디렉토리 포함)
+    private static Predicate<String> globMatcher(String glob) {
+        PathMatcher pathMatcher;
+        try {
+            pathMatcher = FileSystems.getDefault().getPathMatcher("glob:" + glob);
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("잘못된 glob 패턴입니다: " + glob);
+        }
+
+        return entryName -> {
+            try {
+                return pathMatcher.matches(Path.of(entryName));
+            } catch (InvalidPathException e) {
+                return false;
+            }
+        };
+    }
+
+    private static ZipFile openZipFile(Path archivePath) throws IOException {
+        return ZipFile.builder().setPath(archivePath).setCharset(StandardCharsets.UTF_8).get();
+    }
+
+    private static List<ArchiveEntryInfo> listZipEntries(Path archivePath) throws IOException {
+        try (ZipFile zipFile = openZipFile(archivePath)) {
+            return Collections.list(zipFile.getEntries()).stream()
+                .map(entry -> new ArchiveEntryInfo(entry.getName(), entry.getSize(), entry.getCompressedSize(),
+                    entry.getTime(), entry.isDirectory()))
+                .toList();
+        }
+    }
+
+    private static long writeZipEntry(Path archivePath, String entryName, OutputStream out) throws IOException {
+        try (ZipFile zipFile = openZipFile(archivePath)) {
+            ZipArchiveEntry entry = zipFile.getEntry(entryName);
+            if (entry == null || entry.isDirectory()) {
+                throw entryNotFound(entryName);
+            }
+            if (!zipFile.canReadEntryData(entry)) {
+                throw new ForbiddenException("읽을 수 없는 항목입니다 (암호화 또는 지원되지 않는 압축 방식): " + entryName,
+                    ErrorCode.FORBIDDEN_FILE_TYPE_EXCEPTION);
+            }
+
+            try (InputStream is = zipFile.getInputStream(entry)) {
+                return FileTransfer.copy(is, out);
+            }
+        }
+    }
+
+    private static int writeZipEntries(Path archivePath, Predicate<String> matcher, ZipArchiveOutputStream zipOut)
+        throws IOException {
+        try (ZipFile zipFile = openZipFile(archivePath)) {
+            int count = 0;
+            for (ZipArchiveEntry entry : Collections.list(zipFile.getEntries())) {
+                if (entry.isDirectory() || !matcher.test(entry.getName())) {
+                    continue;
+                }
+                // 압축된 데이터를 그대로 복사 (inflate / deflate 하지 않음)
+                try (InputStream raw = zipFile.getRawInputStream(entry)) {
+                    zipOut.addRawArchiveEntry(entry, raw);
+                }
+                count++;
+            }
+            return count;
+        }
+    }
+
+    private static long writeTarEntry(Path archivePath, Path tarIndexPath, String entryName, OutputStream out)
+        throws IOException {
+        IndexedEntry entry = TarIndex.loadOrBuild(archivePath, tarIndexPath).find(entryName)
+            .filter(indexedEntry -> !indexedEntry.directory())
+            .orElseThrow(() -> entryNotFound(entryName));
+
+        return copyTarEntry(archivePath, entry, out);
+    }
+
+    private static int writeTarEntries(Path archivePath, Path tarIndexPath, Predicate<String> matcher,
+        ZipArchiveOutputStream zipOut) throws IOException {
+        int count = 0;
+        for (IndexedEntry entry : TarIndex.loadOrBuild(archivePath, tarIndexPath).getEntries()) {
+            if (entry.directory() || !matcher.test(entry.name())) {
+                continue;
+            }
+
+            ZipArchiveEntry zipArchiveEntry = new ZipArchiveEntry(entry.name());
+            zipArchiveEntry.setSize(entry.size());
+            zipArchiveEntry.setTime(entry.lastModified());
+            zipOut.putArchiveEntry(zipArchiveEntry);
+            copyTarEntry(archivePath, entry, zipOut);
+            zipOut.closeArchiveEntry();
+            count++;
+        }
+        return count;
+    }
+
+    // 색인의 데이터 위치에서 바로 읽음 (sparse 항목은 TarFile 로 읽음)
+    private static long copyTarEntry(Path archivePath, IndexedEntry entry, OutputStream out) throws IOException {
+        if (entry.streamOnly()) {
+            try (TarFile tarFile = new TarFile(archivePath)) {
+                TarArchiveEntry tarArchiveEntry = tarFile.getEntries().stream()
+                    .filter(candidate -> candidate.getName().equals(entry.name()))
+                    .reduce((first, second) -> second)
+                    .orElseThrow(() -> entryNotFound(entry.name()));
+                try (InputStream is = tarFile.getInputStream(tarArchiveEntry)) {
+                    return FileTransfer.copy(is, out);
+                }
+            }
+        }
+
+        try (FileChannel channel = FileChannel.open(archivePath, StandardOpenOption.READ)) {
+            return FileTransfer.copy(channel, entry.dataOffset(), entry.size(), out);
+        }
+    }
+
+    private static ArchiveInputStream<?> openCompressedTar(Path archivePath)
+        throws IOException, ArchiveException, CompressorException {
+        InputStream is = new BufferedInputStream(Files.newInputStream(archivePath));
+        try {
+            return DecompressUtils.createArchiveInputStream(
+                new BufferedInputStream(DecompressUtils.openDecompressedStream(is)));
+        } catch (ArchiveException | CompressorException | RuntimeException e) {
+            is.close();
+            throw e;
+        }
+    }
+
+    private static List<ArchiveEntryInfo> listCompressedTarEntries(Path archivePath)
+        throws IOException, ArchiveException, CompressorException {
+        try (ArchiveInputStream<?> ais = openCompressedTar(archivePath)) {
+            List<ArchiveEntryInfo> entries = new ArrayList<>();
+            ArchiveEntry entry;
+            while ((entry = ais.getNextEntry()) != null) {
+                entries.add(new ArchiveEntryInfo(entry.getName(), entry.getSize(), -1,
+                    entry.getLastModifiedDate().getTime(), entry.isDirectory()));
+            }
+            return entries;
+        }
+    }
+
+    private static long writeCompressedTarEntry(Path archivePath, String entryName, OutputStream out)
+        throws IOException, ArchiveException, CompressorException {
+        try (ArchiveInputStream<?> ais = openCompressedTar(archivePath)) {
+            ArchiveEntry entry;
+            while ((entry = ais.getNextEntry()) != null) {
+                if (!entry.isDirectory() && entry.getName().equals(entryName)) {
+                    return FileTransfer.copy(ais, out);
+                }
+            }
+            throw entryNotFound(entryName);
+        }
+    }
+
+    private static int writeCompressedTarEntries(Path archivePath, Predicate<String> matcher,
+        ZipArchiveOutputStream zipOut) throws IOException, ArchiveException, CompressorException {
+        try (ArchiveInputStream<?> ais = openCompressedTar(archivePath)) {
+            int count = 0;
+            ArchiveEntry entry;
+            while ((entry = ais.getNextEntry()) != null) {
+                if (entry.isDirectory() || !matcher.test(entry.getName())) {
+                    continue;
+                }
+
+                ZipArchiveEntry zipArchiveEntry = new ZipArchiveEntry(entry.getName());
+                zipArchiveEntry.setSize(entry.getSize());
+                zipArchiveEntry.setTime(entry.getLastModifiedDate().getTime());
+                zipOut.putArchiveEntry(zipArchiveEntry);
+                FileTransfer.copy(ais, zipOut);
+                zipOut.closeArchiveEntry();
+                count++;
+            }
+            return count;
+        }
+    }
+
+    private static NotFoundException entryNotFound(String entryName) {
+        return new NotFoundException("압축 파일에 존재하지 않는 항목입니다: " + entryName,
+            ErrorCode.NOT_FOUND_ARCHIVE_ENTRY_EXCEPTION);
+    }
+}
@@ -1,29 +1,55 @@
 package module.common.utils;
 
-import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.zip.ZipEntry;
 import lombok.extern.slf4j.Slf4j;
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdOutputStream;
+import module.common.compress.ArchiveEntryFilter;
+import module.common.compress.ArchiveProgress;
+import module.common.compress.ArchiveProgressListener;
+import module.common.compress.ArchiveTreeWalker;
+import module.common.compress.CompressExecutors;
+import module.common.compress.CompressionReport;
+import module.common.compress.EntryCompressionDecision;
+import module.common.compress.EntryCompressionDecision.Reason;
+import module.common.compress.EntryCompressionPolicy;
+import module.common.compress.FileTransfer;
+import module.common.compress.ParallelGzipOutputStream;
+import module.common.dto.CompressOptions;
 import module.common.enums.CompressFileType;
+import module.common.exception.CustomException;
 import module.common.exception.ForbiddenException;
 import module.common.exception.InternalServerException;
 import org.apache.commons.compress.archivers.ArchiveOutputStream;
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.compress.archivers.zip.DefaultBackingStoreSupplier;
+import org.apache.commons.compress.archivers.zip.ParallelScatterZipCreator;
 import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
 import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
+import org.apache.commons.compress.compressors.gzip.GzipParameters;
+import org.apache.commons.compress.compressors.xz.XZCompressorOutputStream;
+import org.apache.commons.compress.parallel.ScatterGatherBackingStore;
+import org.apache.commons.compress.parallel.ScatterGatherBackingStoreSupplier;
 import org.apache.commons.compress.utils.FileNameUtils;
-import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.output.CloseShieldOutputStream;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.ObjectUtils;
+import org.tukaani.xz.LZMA2Options;
 
 @Slf4j
 public class CompressUtils {
@@ -37,26 +63,35 @@ public class CompressUtils {
      */
     public static Path saveCompressFile(List<Path> targetPaths, Path destinationPath,
         CompressFileType compressFileType) {
+        return saveCompressFile(targetPaths, destinationPath, compressFileType, CompressOptions.DEFAULT);
+    }
+
+    /**
+     * 지정된 압축 형식과 옵션으로 파일이나 디렉토리 목록을 압축해 지정된 대상 경로에 저장
+     *
+     * @param targetPaths      압축할 파일 또는 디렉토리 목록
+     * @param destinationPath  압축된 파일을 저장할 대상 경로 (null 입력시, 압축하려는 파일이 위치한 경로에 압축파일 저장)
+     * @param compressFileType 사용할 압축 형식 (ZIP, TAR)
+     * @param compressOptions  병렬 압축 스레드 수, 압축 레벨
+     */
+    public static Path saveCompressFile(List<Path> targetPaths, Path destinationPath,
+        CompressFileType compressFileType, CompressOptions compressOptions) {
+        return saveCompressFile(targetPaths, destinationPath, compressFileType, compressOptions,
+            ArchiveProgressListener.NONE);
+    }
+
+    public static Path saveCompressFile(List<Path> targetPaths, Path destinationPath,
+        CompressFileType compressFileType, CompressOptions compressOptions, ArchiveProgressListener progressListener) {
         if (CollectionUtils.isEmpty(targetPaths)) {
             throw new ForbiddenException("압축할 대상 파일 또는 디렉토리가 존재하지 않습니다.");
         }
 
         Path destPath = initializeDestPath(targetPaths, destinationPath, compressFileType);
 
-        if (compressFileType == CompressFileType.ZIP) {
-            try (ZipArchiveOutputStream zipOut = new ZipArchiveOutputStream(
-                new BufferedOutputStream(new FileOutputStream(destPath.toFile())))) {
-                compressDirectoriesAndFiles(targetPaths, zipOut);
-            } catch (IOException e) {
-                throw new InternalServerException("ZIP 파일 압축 중 오류가 발생했습니다.");
-            }
-        } else if (compressFileType == CompressFileType.TAR) {
-            try (TarArchiveOutputStream tarOut = new TarArchiveOutputStream(
-                new BufferedOutputStream(new FileOutputStream(destPath.toFile())))) {
-                compressDirectoriesAndFiles(targetPaths, tarOut);
-            } catch (IOException e) {
-                throw new InternalServerException("TAR 파일 압축 중 오류가 발생했습니다.");
-            }
+        try (OutputStream os = new BufferedOutputStream(new FileOutputStream(destPath.toFile()))) {
+            writeArchive(targetPaths, compressFileType, os, compressOptions, progressListener);
+        } catch (IOException e) {
+            throw new InternalServerException("압축 파일을 저장하는 중 오류가 발생했습니다: " + destPath);
         }
 
         return destPath;
@@ -64,35 +99,89 @@ public class CompressUtils {
 
     /**
      * 지정된 압축 형식을 사용하여 파일이나 디렉토리 목록을 압축하여 Byte[]로 반환
+     * 압축 파일 전체를 메모리에 올리므로 작은 파일에만 사용 (다운로드는 compressToOutputStream 사용)
      *
      * @param targetPaths      압축할 파일 또는 디렉토리 목록
      * @param compressFileType 사용할 압축 형식 (ZIP, TAR)
-     * @return 압축이 성공하면 true, 그렇지 않으면 false를 반환
+     * @return 압축된 파일 byte[]
      */
     public static byte[] compressFileToByteArray(List<Path> targetPaths,
         CompressFileType compressFileType) {
+        return compressFileToByteArray(targetPaths, compressFileType, CompressOptions.DEFAULT);
+    }
+
+    public static byte[] compressFileToByteArray(List<Path> targetPaths,
+        CompressFileType compressFileType, CompressOptions compressOptions) {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        compressToOutputStream(targetPaths, compressFileType, baos, compressOptions);
+
+        return baos.toByteArray();
+    }
+
+    /**
+     * 지정된 압축 형식으로 파일이나 디렉토리 목록을 압축하면서 바로 outputStream에 기록
+     * - 파일 단위로 읽어 기록하므로 압축 파일 크기와 관계없이 사용하는 메모리는 버퍼 크기로 제한됨
+     * - outputStream은 닫지 않음 (압축 파일의 끝까지 기록 후 flush)
+     * - 기록 중 outputStream 오류(클라이언트 연결 종료 등)나 스레드 interrupt 발생 시 즉시 중단
+     *
+     * @param targetPaths      압축할 파일 또는 디렉토리 목록
+     * @param compressFileType 사용할 압축 형식 (ZIP, TAR)
+     * @param outputStream     압축 파일을 기록할 출력 스트림
+     * @return ZIP 항목별 압축 결과 (ZIP 이외 형식은 빈 리포트)
+     */
+    public static CompressionReport compressToOutputStream(List<Path> targetPaths, CompressFileType compressFileType,
+        OutputStream outputStream) {
+        return compressToOutputStream(targetPaths, compressFileType, outputStream, CompressOptions.DEFAULT);
+    }
+
+    /**
+     * 병렬 ZIP 압축 시에는 모든 항목의 압축이 끝난 뒤 outputStream에 기록이 시작됨
+     * (압축 중인 항목은 스레드별 임시 파일에 보관하므로 메모리 사용량은 동일하게 제한됨)
+     */
+    public static CompressionReport compressToOutputStream(List<Path> targetPaths, CompressFileType compressFileType,
+        OutputStream outputStream, CompressOptions compressOptions) {
+        return compressToOutputStream(targetPaths, compressFileType, outputStream, compressOptions,
+            ArchiveProgressListener.NONE);
+    }
+
+    /**
+     * 진행 상황 콜백을 받는 압축 (콜백은 압축 스레드에서 주기적으로 호출됨)
+     */
+    public static CompressionReport compressToOutputStream(List<Path> targetPaths, CompressFileType compressFileType,
+        OutputStream outputStream, CompressOptions compressOptions, ArchiveProgressListener progressListener) {
         if (CollectionUtils.isEmpty(targetPaths)) {
             throw new ForbiddenException("압축할 대상 파일 또는 디렉토리가 존재하지 않습니다.");
         }
 
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        if (compressFileType == CompressFileType.ZIP) {
-            try (ZipArchiveOutputStream zipOut = new ZipArchiveOutputStream(baos)) {
-                zipOut.setEncoding("UTF-8");
-                compressDirectoriesAndFiles(targetPaths, zipOut);
-            } catch (IOException e) {
-                throw new InternalServerException("ZIP 파일 압축 중 오류가 발생했습니다.");
-            }
-        } else if (compressFileType == CompressFileType.TAR) {
-            try (TarArchiveOutputStream tarOut = new TarArchiveOutputStream(baos)) {
-                tarOut.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
-                compressDirectoriesAndFiles(targetPaths, tarOut);
-            } catch (IOException e) {
-                throw new InternalServerException("TAR 파일 압축 중 오류가 발생했습니다.");
-            }
+        return writeArchive(targetPaths, compressFileType, CloseShieldOutputStream.wrap(outputStream),
+            compressOptions, progressListener);
+    }
+
+    /**
+     * 압축 파일명 반환
+     * 단일 파일 압축시 "압축할 파일명", 여러개의 파일 압축시 "archive"로 반환
+     *
+     * @param targetPaths      압축할 파일 또는 디렉토리 목록
+     * @param compressFileType 사용할 압축 형식 (예: ZIP, TAR)
+     * @return 확장자를 포함한 압축 파일명
+     */
+    public static String getCompressFileName(List<Path> targetPaths, CompressFileType compressFileType) {
+        return targetPaths.size() == 1 ?
+            getSaveFileName(FileNameUtils.getBaseName(targetPaths.get(0)), compressFileType) :
+            getSaveFileName("archive", compressFileType);
+    }
+
+    /**
+     * 압축 파일을 저장할 경로 (saveCompressFile 과 같은 규칙, 같은 이름의 파일이 있으면 "_번호"를 붙임)
+     * 임시 파일에 압축한 뒤 이동하는 경우 등 저장 경로를 먼저 알아야 할 때 사용
+     */
+    public static Path resolveCompressFilePath(List<Path> targetPaths, Path destinationPath,
+        CompressFileType compressFileType) {
+        if (CollectionUtils.isEmpty(targetPaths)) {
+            throw new ForbiddenException("압축할 대상 파일 또는 디렉토리가 존재하지 않습니다.");
         }
 
-        return baos.toByteArray();
+        return initializeDestPath(targetPaths, destinationPath, compressFileType);
     }
 
     /**
@@ -105,11 +194,7 @@ public class CompressUtils {
      */
     private static Path initializeDestPath(List<Path> targetPaths, Path destinationPath,
         CompressFileType compressFileType) {
-        // 저장할 압축 파일명 반환
-        // 단일 파일 압축시 "압축할 파일명", 여러개의 파일 압축시 "archive"로 반환
-        String saveCompressFileName = targetPaths.size() == 1 ?
-            getSaveFileName(FileNameUtils.getBaseName(targetPaths.get(0)), compressFileType) :
-            getSaveFileName("archive", compressFileType);
+        String saveCompressFileName = getCompressFileName(targetPaths, compressFileType);
 
         // destinationPath 없으면, 압축할 파일이 위치한 경로 반환
         destinationPath = ObjectUtils.isEmpty(destinationPath) ? Path.of(
@@ -118,10 +203,10 @@ public class CompressUtils {
                 destinationPath + File.separator + saveCompressFileName
             );
 
-        // 파일명 중복되면 파일명 수정
+        // 파일명 중복되면 파일명 수정 (tar.gz 처럼 확장자에 '.'이 포함된 경우를 위해 압축 형식의 확장자 사용)
         int cnt = 1;
-        String baseName = FileNameUtils.getBaseName(destinationPath);
-        String extension = FileNameUtils.getExtension(destinationPath);
+        String extension = compressFileType.getExtension();
+        String baseName = saveCompressFileName.substring(0, saveCompressFileName.length() - extension.length() - 1);
 
         while (destinationPath.toFile().exists()) {
             String changeFileName = baseName + "_" + cnt + "." + extension;
@@ -140,94 +225,391 @@ public class CompressUtils {
      * @return 압축된 파일 이름
      */
     private static String getSaveFileName(String fileName, CompressFileType compressFileType) {
+        if (compressFileType == null) {
+            throw new ForbiddenException("지원되지 않는 압축 형식입니다: " + compressFileType);
+        }
+
+        return fileName + "." + compressFileType.getExtension();
+    }
+
+    /**
+     * 압축 형식에 맞는 ArchiveOutputStream을 생성해 압축 (os는 압축 완료 후 닫힘)
+     * ZIP + 병렬 옵션인 경우 항목별 deflate를 스레드 풀에서 동시에 수행한 뒤 하나의 ZIP으로 합침
+     * ZIP 항목별 STORED / 압축 레벨은 CompressOptions.compressionPolicy 로 결정
+     */
+    private static CompressionReport writeArchive(List<Path> targetPaths, CompressFileType compressFileType,
+        OutputStream os, CompressOptions compressOptions, ArchiveProgressListener progressListener) {
+        CompressionReport compressionReport = new CompressionReport();
         if (compressFileType == CompressFileType.ZIP) {
-            fileName += "." + CompressFileType.ZIP.getExtension();
-        } else if (compressFileType == CompressFileType.TAR) {
-            fileName += "." + CompressFileType.TAR.getExtension();
+            try (ZipArchiveOutputStream zipOut = new ZipArchiveOutputStream(os)) {
+                zipOut.setEncoding("UTF-8");
+                if (compressOptions.isParallel()) {
+                    compressParallel(targetPaths, zipOut, compressOptions, compressionReport, progressListener);
+                } else {
+                    zipOut.setLevel(compressOptions.compressionLevel());
+                    compressDirectoriesAndFiles(targetPaths,
+                        new ZipStreamEntryWriter(zipOut, compressOptions, compressionReport),
+                        compressOptions.entryFilter(), progressListener);
+                }
+            } catch (IOException e) {
+                throw new InternalServerException("ZIP 파일 압축 중 오류가 발생했습니다.");
+            }
+        } else if (compressFileType.isTar()) {
+            try (TarArchiveOutputStream tarOut = new TarArchiveOutputStream(
+                createTarCompressorOutputStream(os, compressFileType, compressOptions))) {
+                tarOut.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+                compressDirectoriesAndFiles(targetPaths, new ArchiveStreamEntryWriter(tarOut),
+                    compressOptions.entryFilter(), progressListener);
+            } catch (IOException e) {
+                throw new InternalServerException(compressFileType.name() + " 파일 압축 중 오류가 발생했습니다.");
+            }
         } else {
             throw new ForbiddenException("지원되지 않는 압축 형식입니다: " + compressFileType);
         }
 
-        return fileName;
+        return compressionReport;
+    }
+
+    /**
+     * TAR 압축 형식별 압축 스트림 생성 (TAR는 압축 없이 그대로 반환)
+     * - TAR_GZ: 병렬 옵션이면 블록 단위 병렬 gzip (여러 gzip member를 이어 붙인 형식)
+     * - TAR_ZST: 병렬 옵션이면 zstd 내부 worker 스레드 사용
+     * - TAR_XZ: 항상 순차
+     */
+    private static OutputStream createTarCompressorOutputStream(OutputStream os, CompressFileType compressFileType,
+        CompressOptions compressOptions) throws IOException {
+        int level = compressOptions.compressionLevel();
+
+        return switch (compressFileType) {
+            case TAR -> os;
+            case TAR_GZ -> {
+                validateCompressionLevel(compressOptions, 0, 9, compressFileType);
+                if (compressOptions.isParallel()) {
+                    yield new ParallelGzipOutputStream(os, compressOptions.parallelism(), level);
+                }
+                GzipParameters gzipParameters = new GzipParameters();
+                gzipParameters.setCompressionLevel(level);
+                yield new GzipCompressorOutputStream(os, gzipParameters);
+            }
+            case TAR_ZST -> {
+                validateCompressionLevel(compressOptions, 1, 22, compressFileType);
+                ZstdOutputStream zstdOut = new ZstdOutputStream(os,
+                    compressOptions.isDefaultLevel() ? Zstd.defaultCompressionLevel() : level);
+                if (compressOptions.isParallel()) {
+                    zstdOut.setWorkers(compressOptions.parallelism());
+                }
+                yield zstdOut;
+            }
+            case TAR_XZ -> {
+                validateCompressionLevel(compressOptions, 0, 9, compressFileType);
+                yield new XZCompressorOutputStream(os,
+                    compressOptions.isDefaultLevel() ? LZMA2Options.PRESET_DEFAULT : level);
+            }
+            default -> throw new ForbiddenException("지원되지 않는 압축 형식입니다: " + compressFileType);
+        };
+    }
+
+    private static void validateCompressionLevel(CompressOptions compressOptions, int min, int max,
+        CompressFileType compressFileType) {
+        int level = compressOptions.compressionLevel();
+        if (!compressOptions.isDefaultLevel() && (level < min || level > max)) {
+            throw new ForbiddenException(
+                String.format("%s 압축 레벨은 %d ~ %d 사이여야 합니다: %d", compressFileType, min, max, level));
+        }
+    }
+
+    /**
+     * 병렬 ZIP 압축 (commons-compress scatter/gather)
+     * - 공용 스레드 풀(CompressExecutors)에서 요청당 최대 parallelism 개의 작업을 동시에 실행
+     *   (writeTo 가 executor 를 shutdown 해도 공용 풀은 종료되지 않음)
+     * - 각 스레드는 deflate 결과를 임시 파일에 기록하고, writeTo에서 압축된 데이터를 그대로 zipOut에 복사
+     * - ParallelScatterZipCreator 는 writeTo 에서만 임시 파일을 삭제하므로, 순회 중 실패 / 중단 / 클라이언트 연결 끊김에도
+     *   남지 않도록 생성한 임시 파일을 모두 기록해두고 finally 에서 삭제
+     */
+    private static void compressParallel(List<Path> targetPaths, ZipArchiveOutputStream zipOut,
+        CompressOptions compressOptions, CompressionReport compressionReport,
+        ArchiveProgressListener progressListener) throws IOException {
+        ExecutorService executor = CompressExecutors.scoped(compressOptions.parallelism());
+        TrackingBackingStoreSupplier backingStoreSupplier = new TrackingBackingStoreSupplier();
+        ParallelScatterZipCreator scatterZipCreator = new ParallelScatterZipCreator(
+            executor, backingStoreSupplier, compressOptions.compressionLevel());
+
+        try {
+            compressDirectoriesAndFiles(targetPaths,
+                new ParallelZipEntryWriter(scatterZipCreator, compressOptions, compressionReport),
+                compressOptions.entryFilter(), progressListener);
+            scatterZipCreator.writeTo(zipOut);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InternalServerException("압축이 중단되었습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CustomException cause) {
+                throw cause;
+            }
+            throw new InternalServerException("ZIP 파일 병렬 압축 중 오류가 발생했습니다.");
+        } finally {
+            executor.shutdownNow();
+            // 실행 중인 작업은 기록 중인 임시 파일이 닫혀 실패로 끝남 (writeTo 를 마친 경우 이미 삭제되어 있음)
+            backingStoreSupplier.close();
+        }
     }
 
     /**
      * 압축할 파일 또는 폴더 outputStream에 추가
+     * - 디렉토리는 ArchiveTreeWalker 로 순회 (재귀 호출 없이 디렉토리 항목을 하나씩 읽음)
+     * - CompressOptions.entryFilter 와 일치하는 항목은 제외 (제외된 디렉토리의 하위 항목은 읽지 않음)
      *
-     * @param targetPaths 압축할 파일 목록
-     * @param os          outputStream 타입
+     * @param targetPaths      압축할 파일 목록
+     * @param writer           압축 항목을 기록할 대상
+     * @param progressListener 진행 상황 콜백 (NONE 이 아니면 별도 스레드에서 전체 크기를 미리 탐색)
      */
-    private static <T extends ArchiveOutputStream<?>> void compressDirectoriesAndFiles(
-        List<Path> targetPaths, T os) {
+    private static void compressDirectoriesAndFiles(List<Path> targetPaths, EntryWriter writer,
+        ArchiveEntryFilter entryFilter, ArchiveProgressListener progressListener) {
         for (Path targetPath : targetPaths) {
-            if (Files.exists(targetPath)) {
+            if (!Files.exists(targetPath)) {
+                throw new ForbiddenException("대상 경로가 존재하지 않습니다: " + targetPath);
+            }
+        }
 
-                File targetFile = targetPath.toFile();
-                if (ValidUtils.isCheckExtensionForMac(targetFile.getName())) {
-                    return;
+        try (ProgressReporter progressReporter = new ProgressReporter(targetPaths, entryFilter, progressListener)) {
+            ArchiveTreeWalker.walk(targetPaths, entryFilter, new ArchiveTreeWalker.Visitor() {
+                @Override
+                public void directory(String entryName, Path directory) {
+                    addFolder(entryName, writer);
+                    progressReporter.entryDone(0);
                 }
 
-                if (targetFile.isDirectory()) {
-                    addFolder(targetPath, "", os);
-                } else if (targetFile.isFile()) {
-                    addFile(targetPath, "", os);
+                @Override
+                public void file(String entryName, Path file, long size) {
+                    addFile(file, entryName, size, writer);
+                    progressReporter.entryDone(size);
                 }
-            } else {
-                throw new ForbiddenException("대상 경로가 존재하지 않습니다: " + targetPath);
-            }
+            });
+            progressReporter.finish();
+        } catch (IOException e) {
+            throw new InternalServerException("압축 대상 디렉토리를 읽는 중 오류가 발생했습니다: " + e.getMessage());
         }
     }
 
     /**
-     * 폴더 및 폴더의 하위항목 내용을 zipOutputStream에 추가
+     * 폴더를 압축 항목으로 추가 (하위 항목은 ArchiveTreeWalker 가 이어서 전달)
      *
-     * @param targetFolderPath 압축할 폴더의 경로
-     * @param parentEntryName  압축 파일 내에서 저장될 이름
-     * @param os               출력 스트림
-     */
-    private static <T extends ArchiveOutputStream<?>> void addFolder(Path targetFolderPath,
-        String parentEntryName,
-        T os) {
-        File folder = targetFolderPath.toFile();
-
-        String entryName = parentEntryName + folder.getName() + File.separator;
-        putArchiveEntry(entryName, targetFolderPath.toFile().length(), os);
-
-        for (File file : folder.listFiles()) {
-            if (file.isDirectory()) {
-                addFolder(Path.of(file.getAbsolutePath()), entryName, os);
-            } else if (file.isFile()) {
-                addFile(Path.of(file.getAbsolutePath()), entryName, os);
-            }
+     * @param entryName 압축 파일 내에서 저장될 이름 ('/'로 끝남)
+     * @param writer    압축 항목을 기록할 대상
+     */
+    private static void addFolder(String entryName, EntryWriter writer) {
+        try {
+            writer.putDirectory(entryName);
+        } catch (IOException e) {
+            throw new InternalServerException("아카이브 항목 추가 중 오류가 발생했습니다: " + entryName);
         }
     }
 
     /**
-     * 파일을 zipOutputStream에 추가
+     * 파일을 압축 항목으로 추가
      *
-     * @param targetFilePath  압축할 파일의 경로
-     * @param parentEntryName 파일이 압축 파일 내에서 저장될 상위폴더명
-     * @param os              출력 스트림
+     * @param targetFilePath 압축할 파일의 경로
+     * @param entryName      압축 파일 내에서 저장될 이름
+     * @param fileSize       순회 중 조회한 파일 크기
+     * @param writer         압축 항목을 기록할 대상
      */
-    private static <T extends ArchiveOutputStream<?>> void addFile(Path targetFilePath,
-        String parentEntryName, T os) {
-        File targetFile = targetFilePath.toFile();
-        long fileSize = targetFilePath.toFile().length();
+    private static void addFile(Path targetFilePath, String entryName, long fileSize, EntryWriter writer) {
+        // 다운로드 취소(요청 타임아웃 등)로 interrupt 된 경우 남은 파일은 압축하지 않음
+        if (Thread.currentThread().isInterrupted()) {
+            throw new InternalServerException("압축이 중단되었습니다: " + targetFilePath);
+        }
+
+        try {
+            writer.putFile(entryName, targetFilePath, fileSize);
+        } catch (IOException e) {
+            throw new InternalServerException("파일을 압축 스트림에 추가하는 중 오류가 발생했습니다: " + targetFilePath);
+        }
+    }
+
+    /**
+     * 진행 상황 전달 (항목마다 호출하지 않고 REPORT_INTERVAL_NANOS 간격으로 전달, 완료 시 한 번 더 전달)
+     * 병렬 ZIP 압축은 항목을 압축 스레드에 넘긴 시점을 기준으로 집계됨
+     */
+    private static class ProgressReporter implements AutoCloseable {
+
+        private static final long REPORT_INTERVAL_NANOS = 200_000_000L;
+
+        private final ArchiveProgressListener progressListener;
+        private final ArchiveTreeWalker.Scan scan;
+        private long entriesDone;
+        private long bytesDone;
+        private long lastReportedAt = System.nanoTime();
+
+        private ProgressReporter(List<Path> targetPaths, ArchiveEntryFilter entryFilter,
+            ArchiveProgressListener progressListener) {
+            this.progressListener = progressListener;
+            this.scan = progressListener == ArchiveProgressListener.NONE ? null
+                : ArchiveTreeWalker.startScan(targetPaths, entryFilter);
+        }
+
+        private void entryDone(long size) {
+            entriesDone++;
+            bytesDone += size;
+            if (scan != null && System.nanoTime() - lastReportedAt >= REPORT_INTERVAL_NANOS) {
+                progressListener.onProgress(scan.progress(entriesDone, bytesDone));
+                lastReportedAt = System.nanoTime();
+            }
+        }
+
+        private void finish() {
+            if (scan != null) {
+                progressListener.onProgress(
+                    new ArchiveProgress(entriesDone, bytesDone, entriesDone, bytesDone, true));
+            }
+        }
+
+        @Override
+        public void close() {
+            if (scan != null) {
+                scan.close();
+            }
+        }
+    }
 
-        try (InputStream is = new BufferedInputStream(new FileInputStream(targetFile))) {
-            String entryName = parentEntryName + targetFile.getName();
+    /**
+     * 병렬 ZIP 압축 스레드별 임시 파일(DefaultBackingStoreSupplier) 생성 기록
+     * close 이후에는 새 임시 파일을 만들지 않음 (종료 직전에 시작된 작업이 임시 파일을 남기지 않도록)
+     */
+    private static final class TrackingBackingStoreSupplier implements ScatterGatherBackingStoreSupplier {
+
+        private final ScatterGatherBackingStoreSupplier delegate = new DefaultBackingStoreSupplier(null);
+        private final List<ScatterGatherBackingStore> stores = new ArrayList<>();
+        private boolean closed;
+
+        @Override
+        public synchronized ScatterGatherBackingStore get() throws IOException {
+            if (closed) {
+                throw new IOException("병렬 압축이 종료되었습니다.");
+            }
+            ScatterGatherBackingStore store = delegate.get();
+            stores.add(store);
+            return store;
+        }
+
+        // 임시 파일을 닫고 삭제 (FileBasedScatterGatherBackingStore.close, 여러 번 호출해도 안전)
+        private synchronized void close() {
+            closed = true;
+            for (ScatterGatherBackingStore store : stores) {
+                try {
+                    store.close();
+                } catch (IOException e) {
+                    log.warn("병렬 압축 임시 파일 삭제 실패", e);
+                }
+            }
+            stores.clear();
+        }
+    }
+
+    // 압축 항목 기록 방식 (TAR: ArchiveOutputStream, ZIP 순차: ZipArchiveOutputStream, ZIP 병렬: ParallelScatterZipCreator)
+    private interface EntryWriter {
+        void putDirectory(String entryName) throws IOException;
+
+        void putFile(String entryName, Path filePath, long fileSize) throws IOException;
+    }
+
+    private record ArchiveStreamEntryWriter(ArchiveOutputStream<?> os) implements EntryWriter {
+
+        @Override
+        public void putDirectory(String entryName) throws IOException {
+            putArchiveEntry(entryName, 0, os);
+            os.closeArchiveEntry();
+        }
+
+        @Override
+        public void putFile(String entryName, Path filePath, long fileSize) throws IOException {
             putArchiveEntry(entryName, fileSize, os);
 
-            IOUtils.copy(is, os);
+            FileTransfer.copy(filePath, os);
 
             os.closeArchiveEntry();
-        } catch (IOException e) {
-            throw new InternalServerException("파일을 압축 스트림에 추가하는 중 오류가 발생했습니다: " + targetFilePath);
         }
     }
 
-    private static <T extends ArchiveOutputStream<?>> void putArchiveEntry(String entryName,
-        long fileSize, T os) {
+    private record ZipStreamEntryWriter(ZipArchiveOutputStream zipOut, CompressOptions compressOptions,
+        CompressionReport compressionReport) implements EntryWriter {
+
+        @Override
+        public void putDirectory(String entryName) throws IOException {
+            putArchiveEntry(entryName, 0, zipOut);
+            zipOut.closeArchiveEntry();
+        }
+
+        @Override
+        public void putFile(String entryName, Path filePath, long fileSize) throws IOException {
+            EntryCompressionDecision decision = decideCompression(filePath, compressOptions);
+
+            ZipArchiveEntry zipArchiveEntry = new ZipArchiveEntry(entryName);
+            zipArchiveEntry.setSize(fileSize);
+            zipArchiveEntry.setMethod(decision.method());
+            if (decision.isStored()) {
+                // 스트림에 기록하는 경우 STORED 항목은 로컬 헤더에 CRC가 먼저 기록되어야 하므로 미리 계산
+                // (CRC 계산을 위해 한 번 더 읽지만 deflate 비용에 비하면 무시할 수준)
+                zipArchiveEntry.setCompressedSize(fileSize);
+                zipArchiveEntry.setCrc(FileTransfer.crc32(filePath));
+            } else {
+                zipOut.setLevel(decision.level());
+            }
+
+            zipOut.putArchiveEntry(zipArchiveEntry);
+
+            FileTransfer.copy(filePath, zipOut);
+
+            zipOut.closeArchiveEntry();
+            compressionReport.add(zipArchiveEntry, decision);
+        }
+    }
+
+    /**
+     * 병렬 압축 스레드는 하나의 압축 레벨만 사용하므로 항목별로는 STORED / DEFLATED 만 적용됨
+     * (정책이 낮은 압축 레벨을 선택한 항목도 CompressOptions.compressionLevel 로 압축)
+     */
+    private record ParallelZipEntryWriter(ParallelScatterZipCreator scatterZipCreator, CompressOptions compressOptions,
+        CompressionReport compressionReport) implements EntryWriter {
+
+        @Override
+        public void putDirectory(String entryName) {
+            ZipArchiveEntry zipArchiveEntry = new ZipArchiveEntry(entryName);
+            zipArchiveEntry.setMethod(ZipEntry.STORED);
+            scatterZipCreator.addArchiveEntry(zipArchiveEntry, InputStream::nullInputStream);
+        }
+
+        @Override
+        public void putFile(String entryName, Path filePath, long fileSize) throws IOException {
+            EntryCompressionDecision decision = decideCompression(filePath, compressOptions);
+
+            ZipArchiveEntry zipArchiveEntry = new ZipArchiveEntry(entryName);
+            zipArchiveEntry.setMethod(decision.method());
+            zipArchiveEntry.setSize(fileSize);
+            // 압축된 크기는 writeTo 에서 항목이 합쳐질 때 zipArchiveEntry 에 기록됨
+            compressionReport.add(zipArchiveEntry, decision);
+            // 파일은 압축 스레드에서 열고, 항목 압축이 끝나면 닫힘
+            // (압축 스레드가 자체 버퍼로 읽으므로 BufferedInputStream 으로 감싸지 않음)
+            scatterZipCreator.addArchiveEntry(zipArchiveEntry, () -> {
+                try {
+                    return Files.newInputStream(filePath);
+                } catch (IOException e) {
+                    throw new InternalServerException("압축할 파일을 읽을 수 없습니다: " + filePath);
+                }
+            });
+        }
+    }
+
+    private static EntryCompressionDecision decideCompression(Path filePath, CompressOptions compressOptions)
+        throws IOException {
+        EntryCompressionPolicy compressionPolicy = compressOptions.compressionPolicy();
+        if (compressionPolicy == null) {
+            return EntryCompressionDecision.deflated(compressOptions.compressionLevel(), Reason.NONE);
+        }
+
+        return compressionPolicy.decide(filePath, compressOptions.compressionLevel());
+    }
+
+    private static void putArchiveEntry(String entryName, long fileSize, ArchiveOutputStream<?> os) {
         try {
             if (os instanceof ZipArchiveOutputStream) {
                 ZipArchiveOutputStream zos = (ZipArchiveOutputStream) os;
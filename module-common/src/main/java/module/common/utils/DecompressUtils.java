@@ -1,82 +1,325 @@
 package module.common.utils;
 
 import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.ZipEntry;
 import lombok.extern.slf4j.Slf4j;
+import module.common.compress.ArchiveEntryFilter;
+import module.common.compress.CompressExecutors;
+import module.common.compress.FileTransfer;
 import module.common.enums.CompressFileType;
+import module.common.exception.CustomException;
+import module.common.exception.ErrorCode;
 import module.common.exception.ForbiddenException;
 import module.common.exception.InternalServerException;
+import module.common.exception.ValidationException;
 import org.apache.commons.compress.archivers.ArchiveEntry;
 import org.apache.commons.compress.archivers.ArchiveException;
 import org.apache.commons.compress.archivers.ArchiveInputStream;
 import org.apache.commons.compress.archivers.ArchiveStreamFactory;
-import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
 import org.apache.commons.compress.archivers.zip.ZipArchiveInputStream;
+import org.apache.commons.compress.archivers.zip.ZipFile;
+import org.apache.commons.compress.compressors.CompressorException;
+import org.apache.commons.compress.compressors.CompressorStreamFactory;
 import org.apache.commons.compress.utils.FileNameUtils;
-import org.apache.commons.io.IOUtils;
 import org.springframework.util.ObjectUtils;
 
 @Slf4j
 public class DecompressUtils {
 
+    private static final int ZIP_SIGNATURE_LENGTH = 4;
+
     /**
      * 지정된 압축 형식으로 파일이나 디렉토리 목록을 압축 해제해 지정된 대상 경로에 저장
      *
      * @param targetPath      압축 해제할 압축 파일
      * @param destinationPath 압축된 파일을 저장할 대상 경로 (null 입력시, 압축하려는 파일이 위치한 경로에 압축파일 저장)
+     * @return 압축 해제된 항목이 저장된 디렉토리
+     */
+    public static Path saveDecompressFile(Path targetPath, Path destinationPath) {
+        return saveDecompressFile(targetPath, destinationPath, 1);
+    }
+
+    /**
+     * ZIP 파일은 central directory 를 읽어 항목을 parallelism 개의 스레드에서 동시에 압축 해제
+     * (tar, tar.gz 등은 항목 위치를 앞에서부터 읽어야 알 수 있으므로 항상 순차 압축 해제)
+     *
+     * 압축 해제 중 오류가 발생하거나 중단(interrupt)되면 생성한 디렉토리를 삭제 (일부만 압축 해제된 결과를 남기지 않음)
+     *
+     * @param parallelism 동시에 압축 해제할 스레드 수 (1 이하이면 호출한 스레드에서 순차 처리)
+     */
+    public static Path saveDecompressFile(Path targetPath, Path destinationPath, int parallelism) {
+        return saveDecompressFile(targetPath, destinationPath, parallelism, ArchiveEntryFilter.DEFAULT);
+    }
+
+    /**
+     * @param entryFilter 압축 해제하지 않을 항목 (제외된 디렉토리의 하위 항목도 제외)
      */
-    public static void saveDecompressFile(Path targetPath, Path destinationPath) {
+    public static Path saveDecompressFile(Path targetPath, Path destinationPath, int parallelism,
+        ArchiveEntryFilter entryFilter) {
         // 압축해제할 파일 없으면 throw
         if (ObjectUtils.isEmpty(targetPath)) {
             throw new ForbiddenException("압축 해제할 대상 파일이 존재하지 않습니다.");
         }
 
-        String extension = FileNameUtils.getExtension(targetPath);
         destinationPath = initializeDestPath(targetPath, destinationPath);
 
-        if (CompressFileType.ZIP.getExtension().equals(extension)) {
-            try (InputStream is = new BufferedInputStream(new FileInputStream(targetPath.toFile()));
-                ZipArchiveInputStream zais = new ArchiveStreamFactory().createArchiveInputStream(
-                    CompressFileType.ZIP.getExtension(), is)) {
-                decompressDirectoriesAndFiles(destinationPath, zais);
-            } catch (IOException | ArchiveException e) {
-                throw new InternalServerException("ZIP 파일 압축 해제 중 오류가 발생했습니다: " + targetPath);
+        try {
+            if (isZipFile(targetPath)) {
+                extractZipFile(targetPath, destinationPath, parallelism, entryFilter);
+            } else {
+                extractArchiveStream(targetPath, destinationPath, entryFilter);
+            }
+        } catch (RuntimeException e) {
+            deleteRecursively(destinationPath);
+            throw e;
+        }
+
+        return destinationPath;
+    }
+
+    // 확장자 대신 파일 앞부분의 magic byte로 압축(gzip, zstd, xz) / 아카이브(zip, tar) 형식 판별
+    private static void extractArchiveStream(Path targetPath, Path destinationPath, ArchiveEntryFilter entryFilter) {
+        try (InputStream is = new BufferedInputStream(new FileInputStream(targetPath.toFile()));
+            InputStream archiveIs = new BufferedInputStream(openDecompressedStream(is));
+            ArchiveInputStream<?> ais = createArchiveInputStream(archiveIs)) {
+            decompressDirectoriesAndFiles(destinationPath, ais, entryFilter);
+        } catch (IOException | ArchiveException | CompressorException e) {
+            throw new InternalServerException("압축 파일 압축 해제 중 오류가 발생했습니다: " + targetPath);
+        }
+    }
+
+    // 압축 해제 실패 시 생성한 디렉토리 정리 (삭제 실패는 원래 오류를 가리지 않도록 로그만 남김)
+    public static void deleteRecursively(Path directory) {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to delete partially extracted directory. path: {}", directory, e);
+        }
+    }
+
+    // 파일 앞부분이 ZIP 시그니처인지 확인
+    static boolean isZipFile(Path targetPath) {
+        try (InputStream is = Files.newInputStream(targetPath)) {
+            byte[] signature = is.readNBytes(ZIP_SIGNATURE_LENGTH);
+            return ZipArchiveInputStream.matches(signature, signature.length);
+        } catch (IOException e) {
+            throw new InternalServerException("압축 파일을 읽을 수 없습니다: " + targetPath);
+        }
+    }
+
+    /**
+     * central directory 기반 ZIP 압축 해제
+     * 1. 항목 목록을 읽어 경로 검사(zip slip) 후 필요한 디렉토리를 한 번에 생성
+     * 2. 파일 항목을 크기가 큰 순서로 스레드 풀에 나눠 압축 해제
+     *    - STORED 항목은 압축 파일의 데이터 영역을 FileChannel.transferTo 로 그대로 복사
+     *    - DEFLATED 등은 항목마다 별도 inflater 로 압축 해제 (ZipFile 은 위치 기반 읽기라 동시에 읽을 수 있음)
+     *    - 압축 해제한 데이터의 CRC-32 가 central directory 의 값과 다르면 실패 (손상된 압축 파일)
+     *    - 같은 이름의 파일 항목은 처음 항목만 압축 해제
+     */
+    private static void extractZipFile(Path targetPath, Path destinationPath, int parallelism,
+        ArchiveEntryFilter entryFilter) {
+        try (ZipFile zipFile = ZipFile.builder().setPath(targetPath).setCharset(StandardCharsets.UTF_8).get();
+            FileChannel archiveChannel = FileChannel.open(targetPath, StandardOpenOption.READ)) {
+            List<ZipEntryTask> tasks = new ArrayList<>();
+            Set<Path> directories = new TreeSet<>();
+            Set<Path> filePaths = new HashSet<>();
+
+            for (ZipArchiveEntry entry : Collections.list(zipFile.getEntriesInPhysicalOrder())) {
+                if (entryFilter.excludes(entry.getName(), entry.isDirectory(), entry.getSize())) {
+                    continue;
+                }
+
+                Path entryPath = resolveEntryPath(destinationPath, entry.getName());
+                if (entry.isDirectory()) {
+                    directories.add(entryPath);
+                    continue;
+                }
+                if (!zipFile.canReadEntryData(entry)) {
+                    throw new ForbiddenException("압축 해제할 수 없는 항목입니다 (암호화 또는 지원되지 않는 압축 방식): "
+                        + entry.getName(), ErrorCode.FORBIDDEN_FILE_TYPE_EXCEPTION);
+                }
+                // 같은 이름의 항목이 여러 개면 두 작업이 같은 파일에 동시에 쓰게 되므로 처음 항목만 압축 해제
+                if (!filePaths.add(entryPath)) {
+                    log.warn("Skipped duplicate zip entry. name: {}", entry.getName());
+                    continue;
+                }
+                directories.add(entryPath.getParent());
+                tasks.add(new ZipEntryTask(entry, entryPath));
+            }
+
+            for (Path directory : directories) {
+                Files.createDirectories(directory);
+            }
+
+            // 큰 항목을 먼저 시작해 마지막에 큰 항목 하나만 남아 한 스레드만 일하는 구간을 줄임
+            tasks.sort(Comparator.comparingLong((ZipEntryTask task) -> task.entry().getSize()).reversed());
+            if (parallelism <= 1) {
+                for (ZipEntryTask task : tasks) {
+                    checkInterrupted();
+                    extractZipEntry(zipFile, archiveChannel, task);
+                }
+            } else {
+                extractZipEntriesParallel(zipFile, archiveChannel, tasks, parallelism);
+            }
+        } catch (IOException e) {
+            throw new InternalServerException("ZIP 파일 압축 해제 중 오류가 발생했습니다: " + targetPath);
+        }
+    }
+
+    private static void extractZipEntriesParallel(ZipFile zipFile, FileChannel archiveChannel,
+        List<ZipEntryTask> tasks, int parallelism) {
+        ExecutorService executor = CompressExecutors.scoped(parallelism);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>(tasks.size());
+            for (ZipEntryTask task : tasks) {
+                futures.add(executor.submit(() -> {
+                    extractZipEntry(zipFile, archiveChannel, task);
+                    return null;
+                }));
+            }
+            // 하나라도 실패하면 finally 에서 남은 항목을 취소
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InternalServerException("압축 해제가 중단되었습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CustomException cause) {
+                throw cause;
             }
-        } else if (CompressFileType.TAR.getExtension().equals(extension)) {
-            try (InputStream is = new BufferedInputStream(new FileInputStream(targetPath.toFile()));
-                TarArchiveInputStream tais = new ArchiveStreamFactory().createArchiveInputStream(
-                    CompressFileType.TAR.getExtension(), is)) {
-                decompressDirectoriesAndFiles(destinationPath, tais);
-            } catch (IOException | ArchiveException e) {
-                throw new InternalServerException("TAR 파일 압축 해제 중 오류가 발생했습니다: " + targetPath);
+            throw new InternalServerException("ZIP 파일 병렬 압축 해제 중 오류가 발생했습니다.");
+        } finally {
+            // 시작하지 않은 항목은 취소하고, 실행 중인 항목은 ZipFile 을 닫기 전에 끝나기를 기다림
+            executor.shutdownNow();
+            awaitTermination(executor);
+        }
+    }
+
+    private static void awaitTermination(ExecutorService executor) {
+        try {
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void extractZipEntry(ZipFile zipFile, FileChannel archiveChannel, ZipEntryTask task) {
+        ZipArchiveEntry entry = task.entry();
+        long crc;
+        try {
+            if (entry.getMethod() == ZipEntry.STORED) {
+                FileTransfer.transfer(archiveChannel, entry.getDataOffset(), entry.getCompressedSize(), task.path());
+                // transferTo 는 데이터를 사용자 버퍼로 읽지 않으므로 기록한 파일로 CRC 계산 (방금 쓴 파일이라 page cache 에서 읽음)
+                crc = FileTransfer.crc32(task.path());
+            } else {
+                try (CheckedInputStream is = new CheckedInputStream(zipFile.getInputStream(entry), new CRC32())) {
+                    FileTransfer.copy(is, task.path());
+                    crc = is.getChecksum().getValue();
+                }
             }
-        } else {
-            throw new ForbiddenException("지원되지 않는 압축 형식입니다: " + extension);
+        } catch (IOException e) {
+            throw new InternalServerException("파일을 저장하는 중 오류가 발생했습니다: " + task.path());
+        }
+
+        // CRC 를 알 수 없는 항목(-1)은 검사하지 않음
+        if (entry.getCrc() != -1 && entry.getCrc() != crc) {
+            throw new ValidationException("압축 항목의 CRC 가 일치하지 않습니다: " + entry.getName(),
+                ErrorCode.VALIDATION_ARCHIVE_CORRUPTED_EXCEPTION);
+        }
+    }
+
+    // 압축 파일 내 항목명을 저장 경로로 변환 (../ 등으로 대상 디렉토리를 벗어나는 항목은 거부)
+    public static Path resolveEntryPath(Path destinationPath, String entryName) {
+        Path basePath = destinationPath.toAbsolutePath().normalize();
+        Path entryPath = basePath.resolve(entryName).normalize();
+        if (!entryPath.startsWith(basePath) || entryPath.equals(basePath)) {
+            throw new ForbiddenException("허용되지 않은 경로의 압축 항목입니다: " + entryName,
+                ErrorCode.FORBIDDEN_FILE_NAME_EXCEPTION);
+        }
+        return entryPath;
+    }
+
+    // 작업 취소(interrupt) 시 남은 항목은 압축 해제하지 않음
+    private static void checkInterrupted() {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new InternalServerException("압축 해제가 중단되었습니다.");
+        }
+    }
+
+    private record ZipEntryTask(ZipArchiveEntry entry, Path path) {
+    }
+
+    // 압축된 스트림(tar.gz, tar.zst, tar.xz 등)이면 압축 해제 스트림으로 감싸고, 아니면 그대로 반환
+    static InputStream openDecompressedStream(InputStream is) throws CompressorException {
+        String compressor;
+        try {
+            compressor = CompressorStreamFactory.detect(is);
+        } catch (CompressorException e) {
+            // 압축 스트림이 아님 (zip, tar)
+            return is;
         }
+
+        // 병렬 gzip 처럼 여러 member를 이어 붙인 스트림도 끝까지 읽도록 decompressConcatenated = true
+        return new CompressorStreamFactory(true).createCompressorInputStream(compressor, is);
+    }
+
+    static ArchiveInputStream<?> createArchiveInputStream(InputStream is) throws ArchiveException {
+        String archiver = ArchiveStreamFactory.detect(is);
+        if (!ArchiveStreamFactory.ZIP.equals(archiver) && !ArchiveStreamFactory.TAR.equals(archiver)) {
+            throw new ForbiddenException("지원되지 않는 압축 형식입니다: " + archiver);
+        }
+
+        return new ArchiveStreamFactory().createArchiveInputStream(archiver, is);
     }
 
     /**
      * 압축파일 저장할 대상 경로 반환
+     * 업로드 중 압축 해제(IncrementalArchiveExtractor)처럼 압축 파일이 아직 없을 때도 저장될 경로로 미리 생성
      *
      * @param targetPath      압축 해제할 파일 또는 디렉토리 항목
      * @param destinationPath
      * @return
      */
-    private static Path initializeDestPath(Path targetPath, Path destinationPath) {
+    public static Path initializeDestPath(Path targetPath, Path destinationPath) {
         // destinationPath 없으면, 압축할 파일과 동일한 경로 반환
         destinationPath = ObjectUtils.isEmpty(destinationPath) ?
             Path.of(targetPath.getParent().toString()) :
             destinationPath;
 
         // 상위 디렉토리 생성
+        // a.tar.gz -> a
         String targetFileName = FileNameUtils.getBaseName(targetPath);
+        if (targetFileName.endsWith("." + CompressFileType.TAR.getExtension())) {
+            targetFileName = FileNameUtils.getBaseName(targetFileName);
+        }
         Path dirPath = Path.of(destinationPath + File.separator + targetFileName);
 
         int cnt = 1;
@@ -97,34 +340,31 @@ public class DecompressUtils {
      *
      * @param destinationPath 저장될 경로
      * @param ais             압축파일 inputstream
+     * @param entryFilter     압축 해제하지 않을 항목
      */
     private static <T extends ArchiveInputStream> void decompressDirectoriesAndFiles(
-        Path destinationPath, T ais) {
+        Path destinationPath, T ais, ArchiveEntryFilter entryFilter) {
         try {
-            ArchiveEntry entry = ais.getNextEntry();
-            do {
-                if (ValidUtils.isCheckExtensionForMac(entry.getName())) {
-                    entry = ais.getNextEntry();
+            ArchiveEntry entry;
+            while ((entry = ais.getNextEntry()) != null) {
+                checkInterrupted();
+                if (entryFilter.excludes(entry.getName(), entry.isDirectory(), entry.getSize())) {
                     continue;
                 }
 
-                File saveFile = new File(destinationPath.toFile(), entry.getName());
+                Path savePath = resolveEntryPath(destinationPath, entry.getName());
 
                 if (entry.isDirectory()) {
-                    if (!saveFile.mkdirs()) {
-                        throw new ForbiddenException("디렉토리를 생성할 수 없습니다: " + saveFile);
-                    }
+                    Files.createDirectories(savePath);
                 } else {
-                    try (OutputStream os = new BufferedOutputStream(
-                        new FileOutputStream(saveFile))) {
-                        IOUtils.copy(ais, os);
+                    try {
+                        Files.createDirectories(savePath.getParent());
+                        FileTransfer.copy(ais, savePath);
                     } catch (IOException e) {
-                        throw new InternalServerException("파일을 저장하는 중 오류가 발생했습니다: " + saveFile);
+                        throw new InternalServerException("파일을 저장하는 중 오류가 발생했습니다: " + savePath);
                     }
                 }
-
-                entry = ais.getNextEntry();
-            } while (entry != null);
+            }
         } catch (IOException e) {
             throw new InternalServerException("압축 파일 처리 중 오류가 발생했습니다.");
         }
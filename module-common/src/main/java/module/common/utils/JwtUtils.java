@@ -2,6 +2,8 @@ package module.common.utils;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -11,15 +13,17 @@ import io.jsonwebtoken.io.DecodingException;
 import io.jsonwebtoken.security.Keys;
 import java.security.Key;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
+import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
-import module.common.contstant.RedisKey;
+import module.common.dto.VerifiedToken;
+import module.common.enums.ProviderType;
+import module.common.enums.RoleType;
 import module.common.exception.ErrorCode;
 import module.common.exception.UnAuthorizedException;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
@@ -28,56 +32,72 @@ import org.springframework.util.StringUtils;
 @Component
 public class JwtUtils {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final RefreshTokenStore refreshTokenStore;
     private final Key secretKey;
+    // 서명 키가 고정이므로 parser는 한 번만 생성해 재사용 (thread-safe)
+    private final JwtParser jwtParser;
+    // true: access token에 role/provider claim을 담아 DB 조회 없이 인증 (stateless 모드)
+    private final boolean statelessAuth;
 
     private static final Duration ACCESS_TOKEN_DURATION = Duration.ofMinutes(10);
     private static final Duration REFRESH_TOKEN_DURATION = Duration.ofDays(180);
-    private static final Duration REDIS_EXPIRED_DURATION = Duration.ofMillis(1);
+
+    private static final String SESSION_CLAIM = "sid";
+    private static final String ROLE_CLAIM = "rol";
+    private static final String PROVIDER_CLAIM = "prv";
+    // 발급 시각(epoch millis), iat 는 초 단위라 같은 초에 폐기 / 재로그인이 일어나면 선후를 구분할 수 없음
+    private static final String ISSUED_AT_MILLIS_CLAIM = "iam";
 
     public JwtUtils(
         @Value("${jwt.secret}") String secretKey,
-        RedisTemplate<String, Object> redisTemplate
+        @Value("${jwt.stateless-auth:false}") boolean statelessAuth,
+        RefreshTokenStore refreshTokenStore
     ) {
-        this.redisTemplate = redisTemplate;
+        this.refreshTokenStore = refreshTokenStore;
+        this.statelessAuth = statelessAuth;
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.secretKey = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder()
+            .setSigningKey(this.secretKey)
+            .build();
     }
 
-    // access, refresh token 발급
-    public List<String> createTokenInfo(Long userId) {
-        String accessToken = issueAccessToken(userId);
-        String refreshToken = issueRefreshToken();
+    // access, refresh token 발급 (로그인마다 새 세션을 만들어 기존 기기의 세션은 유지)
+    public List<String> createTokenInfo(Long userId, RoleType role, ProviderType providerType) {
+        String sessionId = UUID.randomUUID().toString();
+        Date expiry = new Date(System.currentTimeMillis() + REFRESH_TOKEN_DURATION.toMillis());
 
-        redisTemplate.opsForValue().set(
-            RedisKey.REFRESH_TOKEN + userId,
-            refreshToken,
-            REFRESH_TOKEN_DURATION.toMillis(),
-            TimeUnit.MILLISECONDS
-        );
+        String accessToken = issueAccessToken(userId, sessionId, role, providerType);
+        String refreshToken = issueRefreshToken(sessionId, expiry);
+
+        refreshTokenStore.save(userId, sessionId, refreshToken, expiry.toInstant());
 
         return List.of(accessToken, refreshToken);
     }
 
-    // access token 재발급
-    public String reissueAccessToken(Long userId) {
-        String refreshToken = (String) redisTemplate.opsForValue().get(RedisKey.REFRESH_TOKEN + userId);
-
-        if (!StringUtils.hasText(refreshToken) || !isValidateToken(refreshToken)) {
+    // access token 재발급 (stateless 모드에서는 최신 role/provider로 claim 갱신)
+    public String reissueAccessToken(Long userId, String sessionId, RoleType role, ProviderType providerType) {
+        if (!StringUtils.hasText(sessionId) || !refreshTokenStore.isActive(userId, sessionId)) {
             throw new UnAuthorizedException(ErrorCode.UNAUTHORIZED_EXPIRED_REFRESH_TOKEN_EXCEPTION);
         }
 
-        return issueAccessToken(userId);
+        return issueAccessToken(userId, sessionId, role, providerType);
     }
 
-    // refresh token 만료
-    public void expireRefreshToken(Long userId) {
-        redisTemplate.opsForValue().set(
-            RedisKey.REFRESH_TOKEN + userId,
-            "",
-            REDIS_EXPIRED_DURATION.toMillis(),
-            TimeUnit.MILLISECONDS
-        );
+    /**
+     * 재발급 요청의 refresh token 검증 (세션에 저장된 토큰 해시와 비교)
+     * 일치하지 않으면 RefreshTokenStore 가 해당 세션을 삭제
+     */
+    public void verifyRefreshToken(Long userId, String sessionId, String refreshToken) {
+        if (!StringUtils.hasText(sessionId) || !StringUtils.hasText(refreshToken)
+            || !refreshTokenStore.verify(userId, sessionId, refreshToken)) {
+            throw new UnAuthorizedException(ErrorCode.UNAUTHORIZED_INVALID_REFRESH_TOKEN_EXCEPTION);
+        }
+    }
+
+    // refresh token 만료 (해당 세션만)
+    public void expireRefreshToken(Long userId, String sessionId) {
+        refreshTokenStore.delete(userId, sessionId);
     }
 
     // 토큰 검증
@@ -90,43 +110,115 @@ public class JwtUtils {
         return claims.getExpiration().after(new Date());
     }
 
-    // access token에서 userId(subject) 추출
-    public String getUserIdFromJwt(String accessToken) {
-        return parseClaims(accessToken).getSubject();
+    /**
+     * access token을 한 번만 파싱/서명 검증하여 userId, 만료 시각, 만료 여부를 반환
+     *
+     * @param accessToken 검증할 access token
+     * @return 검증된 토큰 정보 (서명은 유효하지만 만료된 경우 expired = true)
+     */
+    public VerifiedToken verifyToken(String accessToken) {
+        Claims claims = parseClaims(accessToken);
+        Date expiration = claims.getExpiration();
+
+        return new VerifiedToken(
+            parseUserId(claims.getSubject()),
+            claims.getId(),
+            claims.get(SESSION_CLAIM, String.class),
+            parseIssuedAt(claims),
+            expiration == null ? null : expiration.toInstant(),
+            expiration != null && !expiration.after(new Date()),
+            parseRole(claims.get(ROLE_CLAIM, String.class)),
+            parseProviderType(claims.get(PROVIDER_CLAIM, String.class))
+        );
+    }
+
+    public boolean isStatelessAuth() {
+        return statelessAuth;
+    }
+
+    public Duration getAccessTokenDuration() {
+        return ACCESS_TOKEN_DURATION;
     }
 
     // --- 내부 토큰 발급 로직 ---
 
-    private String issueAccessToken(Long userId) {
+    String issueAccessToken(Long userId, String sessionId, RoleType role, ProviderType providerType) {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + ACCESS_TOKEN_DURATION.toMillis());
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
             .setHeaderParam("typ", "JWT")
+            .setId(UUID.randomUUID().toString()) // jti: 토큰 단위 폐기(revocation)에 사용
             .setSubject(String.valueOf(userId))
+            .claim(SESSION_CLAIM, sessionId) // 재발급 시 refresh token 세션 조회에 사용
+            .claim(ISSUED_AT_MILLIS_CLAIM, now.getTime()) // 사용자 단위 폐기 시각과 비교
             .setIssuedAt(now)
-            .setExpiration(expiry)
+            .setExpiration(expiry);
+
+        // stateless 모드에서만 인가에 필요한 최소 claim 추가
+        if (statelessAuth && role != null && providerType != null) {
+            builder.claim(ROLE_CLAIM, role.getRole())
+                .claim(PROVIDER_CLAIM, providerType.name());
+        }
+
+        return builder
             .signWith(secretKey, SignatureAlgorithm.HS512)
             .compact();
     }
 
-    private String issueRefreshToken() {
-        Date now = new Date();
-        Date expiry = new Date(now.getTime() + REFRESH_TOKEN_DURATION.toMillis());
-
+    private String issueRefreshToken(String sessionId, Date expiry) {
         return Jwts.builder()
             .setHeaderParam("typ", "JWT")
-            .setIssuedAt(now)
+            .setId(sessionId)
+            .setIssuedAt(new Date())
             .setExpiration(expiry)
             .signWith(secretKey, SignatureAlgorithm.HS512)
             .compact();
     }
 
+    // token subject에 숫자 형태의 userId가 없는 경우 exception 처리
+    private long parseUserId(String subject) {
+        if (!StringUtils.hasText(subject)) {
+            throw new UnAuthorizedException(ErrorCode.UNAUTHORIZED_INVALID_TOKEN_SUBJECT);
+        }
+
+        try {
+            return Long.parseLong(subject);
+        } catch (NumberFormatException e) {
+            throw new UnAuthorizedException(ErrorCode.UNAUTHORIZED_INVALID_TOKEN_SUBJECT);
+        }
+    }
+
+    // 밀리초 claim 이 없는 이전 토큰은 iat(초 단위, 내림)를 사용하므로 같은 초의 폐기 이후에 발급되었어도 폐기로 판단됨
+    private Instant parseIssuedAt(Claims claims) {
+        Long issuedAtMillis = claims.get(ISSUED_AT_MILLIS_CLAIM, Long.class);
+        if (issuedAtMillis != null) {
+            return Instant.ofEpochMilli(issuedAtMillis);
+        }
+        Date issuedAt = claims.getIssuedAt();
+        return issuedAt == null ? null : issuedAt.toInstant();
+    }
+
+    // claim이 없거나 알 수 없는 값이면 null (DB 조회 방식으로 인증)
+    private RoleType parseRole(String role) {
+        return role == null ? null : RoleType.fromRole(role);
+    }
+
+    private ProviderType parseProviderType(String providerType) {
+        if (providerType == null) {
+            return null;
+        }
+
+        try {
+            return ProviderType.valueOf(providerType);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     private Claims parseClaims(String token) {
         try {
-            return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
+            return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException | DecodingException e) {
@@ -0,0 +1,176 @@
+package module.common.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.LongStream;
+import module.common.contstant.RedisKey;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 refresh token 세션 저장소 (여러 기기 동시 로그인 지원)
+ * - key: RTS:{userId} (hash), field: 세션 id, value: "{만료 epoch millis}:{refresh token SHA-256(base64url)}"
+ * - refresh token 원문(JWT) 대신 고정 길이 해시만 저장해 세션당 메모리 사용량을 줄임
+ * - 필드 단위 만료는 저장 시 Lua 스크립트에서 만료된 필드를 정리하는 방식으로 처리
+ *   (key TTL은 가장 늦게 만료되는 세션에 맞춤)
+ * - 여러 사용자 대상 일괄 삭제는 pipeline으로 한 번에 전송
+ */
+@Component
+public class RefreshTokenStore {
+
+    private static final int PIPELINE_BATCH_SIZE = 1_000;
+    private static final String VALUE_SEPARATOR = ":";
+
+    /**
+     * KEYS[1]: 세션 hash key
+     * ARGV[1]: 현재 시각, ARGV[2]: 세션 id, ARGV[3]: 저장 값, ARGV[4]: 만료 시각, ARGV[5]: 사용자당 최대 세션 수
+     * - 만료된 필드 삭제 후, 최대 세션 수를 넘으면 가장 먼저 만료되는 세션부터 삭제
+     */
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>("""
+        local now = tonumber(ARGV[1])
+        local entries = redis.call('HGETALL', KEYS[1])
+        local live = {}
+        for i = 1, #entries, 2 do
+            local expiry = tonumber(string.match(entries[i + 1], '^(%d+):'))
+            if expiry == nil or expiry <= now then
+                redis.call('HDEL', KEYS[1], entries[i])
+            elseif entries[i] ~= ARGV[2] then
+                table.insert(live, { entries[i], expiry })
+            end
+        end
+        local overflow = #live - tonumber(ARGV[5]) + 1
+        if overflow > 0 then
+            table.sort(live, function(a, b) return a[2] < b[2] end)
+            for i = 1, overflow do
+                redis.call('HDEL', KEYS[1], live[i][1])
+            end
+        end
+        redis.call('HSET', KEYS[1], ARGV[2], ARGV[3])
+        redis.call('PEXPIREAT', KEYS[1], ARGV[4])
+        return #live - math.max(overflow, 0) + 1
+        """, Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final int maxSessions;
+
+    public RefreshTokenStore(
+        RedisTemplate<String, Object> redisTemplate,
+        @Value("${jwt.refresh.max-sessions:10}") int maxSessions
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.maxSessions = maxSessions;
+    }
+
+    /**
+     * 세션 저장 (같은 세션 id가 있으면 덮어씀)
+     *
+     * @return 저장 후 사용자의 활성 세션 수
+     */
+    public Long save(Long userId, String sessionId, String refreshToken, Instant expiresAt) {
+        return redisTemplate.execute(
+            SAVE_SCRIPT,
+            List.of(key(userId)),
+            String.valueOf(System.currentTimeMillis()),
+            sessionId,
+            expiresAt.toEpochMilli() + VALUE_SEPARATOR + hash(refreshToken),
+            String.valueOf(expiresAt.toEpochMilli()),
+            String.valueOf(maxSessions)
+        );
+    }
+
+    // 세션이 존재하고 만료되지 않았는지 확인
+    public boolean isActive(Long userId, String sessionId) {
+        return activeHash(userId, sessionId) != null;
+    }
+
+    /**
+     * 재발급 요청에 포함된 refresh token 이 세션에 저장된 토큰인지 확인
+     * 세션은 있지만 다른 토큰이면 (이전 토큰 재사용, 탈취 의심) 세션을 삭제
+     *
+     * @return 세션이 유효하고 토큰이 일치하면 true
+     */
+    public boolean verify(Long userId, String sessionId, String refreshToken) {
+        String storedHash = activeHash(userId, sessionId);
+        if (storedHash == null) {
+            return false;
+        }
+        if (!MessageDigest.isEqual(storedHash.getBytes(StandardCharsets.US_ASCII),
+            hash(refreshToken).getBytes(StandardCharsets.US_ASCII))) {
+            delete(userId, sessionId);
+            return false;
+        }
+        return true;
+    }
+
+    // 만료되지 않은 세션의 refresh token 해시 (세션이 없거나 만료되었으면 null)
+    private String activeHash(Long userId, String sessionId) {
+        Object value = redisTemplate.opsForHash().get(key(userId), sessionId);
+        if (value == null) {
+            return null;
+        }
+
+        String stored = value.toString();
+        int separator = stored.indexOf(VALUE_SEPARATOR);
+        try {
+            if (separator > 0 && Long.parseLong(stored.substring(0, separator)) > System.currentTimeMillis()) {
+                return stored.substring(separator + VALUE_SEPARATOR.length());
+            }
+            return null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // 단일 세션 삭제 (기기 로그아웃)
+    public void delete(Long userId, String sessionId) {
+        redisTemplate.opsForHash().delete(key(userId), sessionId);
+    }
+
+    // 사용자들의 전체 세션 삭제
+    public void deleteAll(Collection<Long> userIds) {
+        List<Long> ids = List.copyOf(userIds);
+        for (int from = 0; from < ids.size(); from += PIPELINE_BATCH_SIZE) {
+            deletePipelined(ids.subList(from, Math.min(from + PIPELINE_BATCH_SIZE, ids.size())));
+        }
+    }
+
+    // userId 범위(fromUserId ~ toUserId, 양 끝 포함)의 전체 세션 삭제
+    public void deleteRange(long fromUserId, long toUserId) {
+        for (long from = fromUserId; from <= toUserId; from += PIPELINE_BATCH_SIZE) {
+            long to = Math.min(from + PIPELINE_BATCH_SIZE - 1, toUserId);
+            deletePipelined(LongStream.rangeClosed(from, to).boxed().toList());
+        }
+    }
+
+    private void deletePipelined(List<Long> userIds) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long userId : userIds) {
+                connection.keyCommands().del(key(userId).getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+    }
+
+    private String key(Long userId) {
+        return RedisKey.REFRESH_TOKEN_SESSIONS + userId;
+    }
+
+    private String hash(String refreshToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest(refreshToken.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
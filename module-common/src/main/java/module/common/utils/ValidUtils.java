@@ -1,7 +1,5 @@
 package module.common.utils;
 
-import java.util.Arrays;
-
 import lombok.NoArgsConstructor;
 
 @NoArgsConstructor
@@ -23,10 +21,4 @@ public class ValidUtils {
 	public static boolean isNullOrEmpty(String value) {
 		return value == null || value.isEmpty() || "null".equalsIgnoreCase(value);
 	}
-
-	// 파일이 Mac 시스템에서 생성된 파일인지 검사
-	public static boolean isCheckExtensionForMac(String fileName) {
-		String[] macFileExtensions = new String[]{".DS_Store", "__MACOSX"};
-		return Arrays.stream(macFileExtensions).anyMatch(fileName::contains);
-	}
 }
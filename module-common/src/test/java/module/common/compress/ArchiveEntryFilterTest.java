@@ -0,0 +1,168 @@
+package module.common.compress;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+class ArchiveEntryFilterTest {
+
+    private static final long SIZE = 10;
+
+    @Test
+    @DisplayName("'/' 없는 패턴은 모든 깊이의 경로 구성요소와 비교")
+    void unanchoredPatternMatchesAnySegment() {
+        ArchiveEntryFilter filter = filter("*.log", "Thumbs.db", "tmp*");
+
+        assertThat(filter.excludes("a.log", false, SIZE)).isTrue();
+        assertThat(filter.excludes("dir/sub/a.log", false, SIZE)).isTrue();
+        assertThat(filter.excludes("photos/Thumbs.db", false, SIZE)).isTrue();
+        assertThat(filter.excludes("tmp-data/a.txt", false, SIZE)).isTrue();
+        assertThat(filter.excludes("a.log.txt", false, SIZE)).isFalse();
+        assertThat(filter.excludes("dir/a.txt", false, SIZE)).isFalse();
+    }
+
+    @Test
+    @DisplayName("'/'가 들어간 패턴은 최상위 기준으로 비교")
+    void anchoredPatternMatchesFromRoot() {
+        ArchiveEntryFilter filter = filter("/build", "docs/*.pdf");
+
+        assertThat(filter.excludes("build", true, -1)).isTrue();
+        assertThat(filter.excludes("build/out.bin", false, SIZE)).isTrue();
+        assertThat(filter.excludes("src/build/out.bin", false, SIZE)).isFalse();
+        assertThat(filter.excludes("docs/a.pdf", false, SIZE)).isTrue();
+        assertThat(filter.excludes("x/docs/a.pdf", false, SIZE)).isFalse();
+        // '*' 는 '/' 와 일치하지 않음
+        assertThat(filter.excludes("docs/sub/a.pdf", false, SIZE)).isFalse();
+    }
+
+    @Test
+    @DisplayName("앞의 './', '/' 와 디렉토리 끝의 '/' 는 무시")
+    void normalizesEntryName() {
+        ArchiveEntryFilter filter = filter("/build");
+
+        assertThat(filter.excludes("./build/a.txt", false, SIZE)).isTrue();
+        assertThat(filter.excludes("/build/", true, -1)).isTrue();
+        assertThat(filter.excludes("./", true, -1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("'**' 는 0개 이상의 디렉토리와 일치")
+    void doubleStarMatchesAnyDepth() {
+        ArchiveEntryFilter filter = filter("**/test/*.java", "a/**/z", "logs/**");
+
+        assertThat(filter.excludes("test/A.java", false, SIZE)).isTrue();
+        assertThat(filter.excludes("src/main/test/A.java", false, SIZE)).isTrue();
+        assertThat(filter.excludes("src/test/pkg/A.java", false, SIZE)).isFalse();
+        assertThat(filter.excludes("a/z", false, SIZE)).isTrue();
+        assertThat(filter.excludes("a/b/c/z", false, SIZE)).isTrue();
+        assertThat(filter.excludes("b/a/z", false, SIZE)).isFalse();
+        assertThat(filter.excludes("logs/2024/01/app.txt", false, SIZE)).isTrue();
+    }
+
+    @Test
+    @DisplayName("'/'로 끝나는 패턴은 디렉토리와 그 하위 항목만 제외")
+    void directoryOnlyPattern() {
+        ArchiveEntryFilter filter = filter("node_modules/");
+
+        assertThat(filter.excludes("node_modules", true, -1)).isTrue();
+        assertThat(filter.excludes("app/node_modules/", true, -1)).isTrue();
+        assertThat(filter.excludes("app/node_modules/lib/index.js", false, SIZE)).isTrue();
+        // 같은 이름의 파일은 제외하지 않음
+        assertThat(filter.excludes("app/node_modules", false, SIZE)).isFalse();
+    }
+
+    @Test
+    @DisplayName("'?' 와 문자 클래스 ('[a-z]', '[!abc]')")
+    void characterClasses() {
+        ArchiveEntryFilter filter = filter("file[0-9].txt", "[!ab]?.csv");
+
+        assertThat(filter.excludes("file1.txt", false, SIZE)).isTrue();
+        assertThat(filter.excludes("filea.txt", false, SIZE)).isFalse();
+        assertThat(filter.excludes("file10.txt", false, SIZE)).isFalse();
+        assertThat(filter.excludes("c1.csv", false, SIZE)).isTrue();
+        assertThat(filter.excludes("a1.csv", false, SIZE)).isFalse();
+        assertThat(filter.excludes("c.csv", false, SIZE)).isFalse();
+    }
+
+    @Test
+    @Timeout(5)
+    @DisplayName("문자 클래스 범위가 '\\uffff' 로 끝나도 해석이 끝남")
+    void characterRangeEndingAtMaxChar() {
+        ArchiveEntryFilter filter = filter("[\ufff0-\uffff]*");
+
+        assertThat(filter.excludes("\uffffname", false, SIZE)).isTrue();
+        assertThat(filter.excludes("name", false, SIZE)).isFalse();
+    }
+
+    @Test
+    @DisplayName("'!' 패턴은 앞에서 제외된 항목을 다시 포함하고, 마지막으로 일치한 패턴이 적용됨")
+    void negationLastMatchWins() {
+        ArchiveEntryFilter filter = filter("*.log", "!keep.log", "keep.log");
+        ArchiveEntryFilter reincluded = filter("*.log", "!keep.log");
+
+        assertThat(filter.excludes("keep.log", false, SIZE)).isTrue();
+        assertThat(reincluded.excludes("keep.log", false, SIZE)).isFalse();
+        assertThat(reincluded.excludes("dir/keep.log", false, SIZE)).isFalse();
+        assertThat(reincluded.excludes("other.log", false, SIZE)).isTrue();
+    }
+
+    @Test
+    @DisplayName("gitignore 와 달리 제외된 디렉토리의 하위 항목도 '!' 패턴으로 다시 포함 (압축 해제 시)")
+    void negatedChildUnderExcludedParent() {
+        ArchiveEntryFilter filter = filter("build/", "!build/keep.txt");
+
+        assertThat(filter.excludes("build/", true, -1)).isTrue();
+        assertThat(filter.excludes("build/keep.txt", false, SIZE)).isFalse();
+        assertThat(filter.excludes("build/other.txt", false, SIZE)).isTrue();
+    }
+
+    @Test
+    @DisplayName("빈 줄과 '#' 주석은 무시")
+    void ignoresBlankLinesAndComments() {
+        ArchiveEntryFilter filter = filter("", "  ", "# *.txt", "*.log");
+
+        assertThat(filter.excludes("a.txt", false, SIZE)).isFalse();
+        assertThat(filter.excludes("a.log", false, SIZE)).isTrue();
+        assertThat(filter.describe()).contains("patterns=[*.log]");
+    }
+
+    @Test
+    @DisplayName("크기 제한과 허용 확장자는 파일에만 적용")
+    void sizeAndExtensionLimits() {
+        ArchiveEntryFilter filter = ArchiveEntryFilter.compile(List.of(), 100, Set.of("TXT", " csv "));
+
+        assertThat(filter.excludes("a.txt", false, 100)).isFalse();
+        assertThat(filter.excludes("a.txt", false, 101)).isTrue();
+        // 크기를 모르면 제한하지 않음
+        assertThat(filter.excludes("a.txt", false, -1)).isFalse();
+        assertThat(filter.excludes("b.CSV", false, 1)).isFalse();
+        assertThat(filter.excludes("c.bin", false, 1)).isTrue();
+        assertThat(filter.excludes("dir.bin", true, -1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("기본 필터는 OS 메타데이터와 node_modules 를 제외")
+    void defaultFilter() {
+        assertThat(ArchiveEntryFilter.DEFAULT.excludes("a/.DS_Store", false, SIZE)).isTrue();
+        assertThat(ArchiveEntryFilter.DEFAULT.excludes("__MACOSX/a/._b.txt", false, SIZE)).isTrue();
+        assertThat(ArchiveEntryFilter.DEFAULT.excludes("a/node_modules/x.js", false, SIZE)).isTrue();
+        assertThat(ArchiveEntryFilter.DEFAULT.excludes("a/b.txt", false, SIZE)).isFalse();
+        assertThat(ArchiveEntryFilter.NONE.excludes("a/.DS_Store", false, SIZE)).isFalse();
+    }
+
+    @Test
+    @DisplayName("패턴 요소가 너무 많으면 생성 실패")
+    void rejectsTooManyTokens() {
+        assertThatThrownBy(() -> filter("a*".repeat(40)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ArchiveEntryFilter filter(String... patterns) {
+        return ArchiveEntryFilter.compile(List.of(patterns), ArchiveEntryFilter.UNLIMITED_SIZE, Set.of());
+    }
+}
@@ -0,0 +1,260 @@
+package module.common.compress;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import module.common.compress.ExtractCheckpoint.State;
+import module.common.enums.CompressFileType;
+import module.common.exception.ValidationException;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class IncrementalArchiveExtractorTest {
+
+    private static final String CONTENT_A = "a".repeat(1000);
+    private static final String CONTENT_B = "b-content";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("TAR 를 청크 단위로 받으면서 도착한 항목부터 압축 해제")
+    void tarExtractedAsChunksArrive() throws IOException {
+        Path tar = writeTar(tempDir.resolve("a.tar"));
+        Path destination = Files.createDirectories(tempDir.resolve("out"));
+
+        ExtractCheckpoint checkpoint = extractInChunks(tar, destination, 100, ArchiveEntryFilter.NONE);
+
+        assertThat(checkpoint.state()).isEqualTo(State.FINISHED);
+        assertThat(checkpoint.format()).isEqualTo(CompressFileType.TAR);
+        assertThat(checkpoint.entries()).isEqualTo(3L);
+        assertThat(destination.resolve("a.txt")).hasContent(CONTENT_A);
+        assertThat(destination.resolve("dir/b.txt")).hasContent(CONTENT_B);
+    }
+
+    @Test
+    @DisplayName("잘린 TAR 는 업로드 중에는 기다리고, 업로드가 끝나면 손상된 파일로 실패")
+    void truncatedTar() throws IOException {
+        Path tar = writeTar(tempDir.resolve("a.tar"));
+        // 첫 항목 헤더와 데이터 일부만 남김
+        truncate(tar, 512 + 100);
+        Path destination = Files.createDirectories(tempDir.resolve("out"));
+        long available = Files.size(tar);
+
+        ExtractCheckpoint waiting = IncrementalArchiveExtractor.extract(tar, available, false, destination,
+            ArchiveEntryFilter.NONE, ExtractCheckpoint.START);
+
+        assertThat(waiting.state()).isEqualTo(State.IN_PROGRESS);
+        assertThat(waiting.offset()).isZero();
+        assertThat(destination.resolve("a.txt")).doesNotExist();
+        assertThatThrownBy(() -> IncrementalArchiveExtractor.extract(tar, available, true, destination,
+            ArchiveEntryFilter.NONE, waiting))
+            .isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    @DisplayName("로컬 헤더에 크기가 있는 ZIP 을 청크 단위로 압축 해제")
+    void zipWithSizesExtractedAsChunksArrive() throws IOException {
+        Path zip = writeZip(tempDir.resolve("a.zip"), ZipEntry.DEFLATED);
+        Path destination = Files.createDirectories(tempDir.resolve("out"));
+
+        ExtractCheckpoint checkpoint = extractInChunks(zip, destination, 64, ArchiveEntryFilter.NONE);
+
+        assertThat(checkpoint.state()).isEqualTo(State.FINISHED);
+        assertThat(checkpoint.format()).isEqualTo(CompressFileType.ZIP);
+        assertThat(destination.resolve("a.txt")).hasContent(CONTENT_A);
+        assertThat(destination.resolve("dir/b.txt")).hasContent(CONTENT_B);
+    }
+
+    @Test
+    @DisplayName("data descriptor 를 쓰는 ZIP 을 청크 단위로 압축 해제")
+    void zipWithDataDescriptorExtractedAsChunksArrive() throws IOException {
+        Path zip = writeStreamedZip(tempDir.resolve("a.zip"));
+        Path destination = Files.createDirectories(tempDir.resolve("out"));
+
+        ExtractCheckpoint checkpoint = extractInChunks(zip, destination, 64, ArchiveEntryFilter.NONE);
+
+        assertThat(checkpoint.state()).isEqualTo(State.FINISHED);
+        assertThat(destination.resolve("a.txt")).hasContent(CONTENT_A);
+        assertThat(destination.resolve("dir/b.txt")).hasContent(CONTENT_B);
+    }
+
+    @Test
+    @DisplayName("잘린 ZIP 은 업로드가 끝나면 손상된 파일로 실패")
+    void truncatedZip() throws IOException {
+        Path zip = writeStreamedZip(tempDir.resolve("a.zip"));
+        truncate(zip, 40);
+        Path destination = Files.createDirectories(tempDir.resolve("out"));
+        long available = Files.size(zip);
+
+        ExtractCheckpoint waiting = IncrementalArchiveExtractor.extract(zip, available, false, destination,
+            ArchiveEntryFilter.NONE, ExtractCheckpoint.START);
+
+        assertThat(waiting.state()).isEqualTo(State.IN_PROGRESS);
+        assertThat(waiting.offset()).isZero();
+        assertThatThrownBy(() -> IncrementalArchiveExtractor.extract(zip, available, true, destination,
+            ArchiveEntryFilter.NONE, waiting))
+            .isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    @DisplayName("STORED 항목의 데이터가 손상되면 CRC 불일치로 실패")
+    void storedEntryCrcMismatch() throws IOException {
+        Path zip = writeZip(tempDir.resolve("a.zip"), ZipEntry.STORED);
+        corrupt(zip, indexOf(zip, CONTENT_B));
+        Path destination = Files.createDirectories(tempDir.resolve("out"));
+
+        assertThatThrownBy(() -> IncrementalArchiveExtractor.extract(zip, Files.size(zip), true, destination,
+            ArchiveEntryFilter.NONE, ExtractCheckpoint.START))
+            .isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    @DisplayName("DEFLATED 항목의 CRC 가 로컬 헤더 값과 다르면 실패")
+    void deflatedEntryCrcMismatch() throws IOException {
+        Path zip = writeZip(tempDir.resolve("a.zip"), ZipEntry.DEFLATED);
+        // 첫 로컬 헤더의 CRC-32 (offset 14)
+        corrupt(zip, 14);
+        Path destination = Files.createDirectories(tempDir.resolve("out"));
+
+        assertThatThrownBy(() -> IncrementalArchiveExtractor.extract(zip, Files.size(zip), true, destination,
+            ArchiveEntryFilter.NONE, ExtractCheckpoint.START))
+            .isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    @DisplayName("data descriptor 의 CRC 가 압축 해제한 데이터와 다르면 실패")
+    void dataDescriptorCrcMismatch() throws IOException {
+        Path zip = writeStreamedZip(tempDir.resolve("a.zip"));
+        // 첫 data descriptor 의 signature 다음 CRC-32
+        corrupt(zip, indexOf(zip, "PK\u0007\u0008") + Integer.BYTES);
+        Path destination = Files.createDirectories(tempDir.resolve("out"));
+
+        assertThatThrownBy(() -> IncrementalArchiveExtractor.extract(zip, Files.size(zip), true, destination,
+            ArchiveEntryFilter.NONE, ExtractCheckpoint.START))
+            .isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    @DisplayName("크기를 아는 제외 항목은 압축 해제하지 않고 건너뜀")
+    void excludedEntryIsSkipped() throws IOException {
+        Path zip = writeZip(tempDir.resolve("a.zip"), ZipEntry.DEFLATED);
+        // 제외할 항목의 압축 데이터를 손상시켜도 읽지 않으므로 실패하지 않음
+        long dataOffset = 30 + "a.txt".length();
+        corrupt(zip, dataOffset);
+        corrupt(zip, dataOffset + 1);
+        Path destination = Files.createDirectories(tempDir.resolve("out"));
+        ArchiveEntryFilter filter = ArchiveEntryFilter.compile(List.of("a.txt"), ArchiveEntryFilter.UNLIMITED_SIZE,
+            Set.of());
+
+        ExtractCheckpoint checkpoint = IncrementalArchiveExtractor.extract(zip, Files.size(zip), true, destination,
+            filter, ExtractCheckpoint.START);
+
+        assertThat(checkpoint.state()).isEqualTo(State.FINISHED);
+        assertThat(destination.resolve("a.txt")).doesNotExist();
+        assertThat(destination.resolve("dir/b.txt")).hasContent(CONTENT_B);
+    }
+
+    @Test
+    @DisplayName("TAR / ZIP 이 아니면 UNSUPPORTED")
+    void unsupportedFormat() throws IOException {
+        Path file = Files.write(tempDir.resolve("a.bin"), new byte[1024]);
+        Path destination = Files.createDirectories(tempDir.resolve("out"));
+
+        ExtractCheckpoint checkpoint = IncrementalArchiveExtractor.extract(file, Files.size(file), true,
+            destination, ArchiveEntryFilter.NONE, ExtractCheckpoint.START);
+
+        assertThat(checkpoint.state()).isEqualTo(State.UNSUPPORTED);
+    }
+
+    // chunkSize 씩 기록된다고 보고 업로드가 끝날 때까지 이어서 압축 해제 (TAR 는 끝 블록을 받으면 FINISHED)
+    private static ExtractCheckpoint extractInChunks(Path archive, Path destination, int chunkSize,
+        ArchiveEntryFilter filter) throws IOException {
+        long size = Files.size(archive);
+        ExtractCheckpoint checkpoint = ExtractCheckpoint.START;
+        for (long available = chunkSize; available < size && checkpoint.isInProgress(); available += chunkSize) {
+            checkpoint = IncrementalArchiveExtractor.extract(archive, available, false, destination, filter,
+                checkpoint);
+        }
+        return IncrementalArchiveExtractor.extract(archive, size, true, destination, filter, checkpoint);
+    }
+
+    private static Path writeTar(Path tar) throws IOException {
+        try (TarArchiveOutputStream tarOut = new TarArchiveOutputStream(Files.newOutputStream(tar))) {
+            writeTarEntry(tarOut, "a.txt", CONTENT_A);
+            tarOut.putArchiveEntry(new TarArchiveEntry("dir/"));
+            tarOut.closeArchiveEntry();
+            writeTarEntry(tarOut, "dir/b.txt", CONTENT_B);
+        }
+        return tar;
+    }
+
+    private static void writeTarEntry(TarArchiveOutputStream tarOut, String name, String content)
+        throws IOException {
+        byte[] data = content.getBytes(StandardCharsets.UTF_8);
+        TarArchiveEntry entry = new TarArchiveEntry(name);
+        entry.setSize(data.length);
+        tarOut.putArchiveEntry(entry);
+        tarOut.write(data);
+        tarOut.closeArchiveEntry();
+    }
+
+    // 파일에 바로 기록하므로 로컬 헤더에 크기와 CRC 가 기록됨
+    private static Path writeZip(Path zip, int method) throws IOException {
+        try (ZipArchiveOutputStream zipOut = new ZipArchiveOutputStream(zip)) {
+            zipOut.setMethod(method);
+            writeZipEntry(zipOut, "a.txt", CONTENT_A);
+            writeZipEntry(zipOut, "dir/b.txt", CONTENT_B);
+        }
+        return zip;
+    }
+
+    private static void writeZipEntry(ZipArchiveOutputStream zipOut, String name, String content)
+        throws IOException {
+        zipOut.putArchiveEntry(new ZipArchiveEntry(name));
+        zipOut.write(content.getBytes(StandardCharsets.UTF_8));
+        zipOut.closeArchiveEntry();
+    }
+
+    // 스트림에 기록하므로 DEFLATED 항목의 크기와 CRC 는 data descriptor 에 기록됨
+    private static Path writeStreamedZip(Path zip) throws IOException {
+        try (OutputStream out = Files.newOutputStream(zip); ZipOutputStream zipOut = new ZipOutputStream(out)) {
+            zipOut.putNextEntry(new ZipEntry("a.txt"));
+            zipOut.write(CONTENT_A.getBytes(StandardCharsets.UTF_8));
+            zipOut.putNextEntry(new ZipEntry("dir/b.txt"));
+            zipOut.write(CONTENT_B.getBytes(StandardCharsets.UTF_8));
+            zipOut.closeEntry();
+        }
+        return zip;
+    }
+
+    private static void truncate(Path file, int length) throws IOException {
+        byte[] data = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(data, length));
+    }
+
+    private static void corrupt(Path file, long position) throws IOException {
+        byte[] data = Files.readAllBytes(file);
+        data[(int) position] ^= 0x5A;
+        Files.write(file, data);
+    }
+
+    private static int indexOf(Path file, String text) throws IOException {
+        return new String(Files.readAllBytes(file), StandardCharsets.ISO_8859_1).indexOf(text);
+    }
+}
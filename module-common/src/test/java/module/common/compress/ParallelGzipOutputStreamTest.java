@@ -0,0 +1,102 @@
+package module.common.compress;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ParallelGzipOutputStreamTest {
+
+    private static final int BLOCK_SIZE = 4 * 1024;
+
+    @Test
+    @DisplayName("여러 블록으로 나뉜 입력을 표준 gzip 으로 그대로 해제")
+    void roundTrip() throws IOException {
+        byte[] data = new byte[BLOCK_SIZE * 10 + 123];
+        new Random(1).nextBytes(data);
+
+        assertThat(gunzip(gzip(data, 4, -1))).isEqualTo(data);
+    }
+
+    @Test
+    @DisplayName("블록 크기 경계에 맞는 입력과 1 byte 단위 쓰기도 해제 결과가 같음")
+    void roundTripBlockBoundary() throws IOException {
+        byte[] data = new byte[BLOCK_SIZE * 3];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) (i % 7);
+        }
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (ParallelGzipOutputStream out = new ParallelGzipOutputStream(compressed, 2, 9, BLOCK_SIZE)) {
+            for (byte b : data) {
+                out.write(b);
+            }
+        }
+
+        assertThat(gunzip(compressed.toByteArray())).isEqualTo(data);
+    }
+
+    @Test
+    @DisplayName("flush 후 이어서 쓴 데이터도 순서대로 해제")
+    void roundTripWithFlush() throws IOException {
+        byte[] first = "first-part ".repeat(500).getBytes();
+        byte[] second = "second-part ".repeat(500).getBytes();
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (ParallelGzipOutputStream out = new ParallelGzipOutputStream(compressed, 3, 1, BLOCK_SIZE)) {
+            out.write(first);
+            out.flush();
+            out.write(second);
+        }
+
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        expected.write(first);
+        expected.write(second);
+        assertThat(gunzip(compressed.toByteArray())).isEqualTo(expected.toByteArray());
+    }
+
+    @Test
+    @DisplayName("빈 입력도 유효한 gzip")
+    void emptyInput() throws IOException {
+        assertThat(gunzip(gzip(new byte[0], 2, -1))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("닫은 뒤 쓰면 예외")
+    void writeAfterClose() throws IOException {
+        ParallelGzipOutputStream out = new ParallelGzipOutputStream(new ByteArrayOutputStream(), 2, -1, BLOCK_SIZE);
+        out.close();
+
+        assertThatThrownBy(() -> out.write(1)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("압축 레벨이 -1 ~ 9 범위를 벗어나면 생성 시 예외")
+    void invalidCompressionLevel() {
+        assertThatThrownBy(() -> new ParallelGzipOutputStream(new ByteArrayOutputStream(), 2, 10))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ParallelGzipOutputStream(new ByteArrayOutputStream(), 2, -2))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static byte[] gzip(byte[] data, int parallelism, int level) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (ParallelGzipOutputStream out = new ParallelGzipOutputStream(compressed, parallelism, level, BLOCK_SIZE)) {
+            out.write(data);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] compressed) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package module.common.compress;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.List;
+import module.common.compress.TarIndex.IndexedEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class TarIndexTest {
+
+    // writeUTF 제한(64KB)을 넘는 PAX 긴 이름
+    private static final String LONG_NAME = "long/" + "가".repeat(30_000) + ".txt";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("색인을 저장한 뒤 다시 읽으면 같은 항목 목록")
+    void roundTrip() throws IOException {
+        Path tar = writeTar(tempDir.resolve("a.tar"));
+        Path index = tempDir.resolve("index/a.tar.idx");
+
+        List<IndexedEntry> built = TarIndex.loadOrBuild(tar, index).getEntries();
+        // TAR 를 같은 크기, 같은 수정 시각의 다른 내용으로 바꿔도 색인에서 읽으므로 결과가 같음
+        FileTime lastModified = Files.getLastModifiedTime(tar);
+        Files.write(tar, new byte[(int) Files.size(tar)]);
+        Files.setLastModifiedTime(tar, lastModified);
+        List<IndexedEntry> loaded = TarIndex.loadOrBuild(tar, index).getEntries();
+
+        assertThat(index).exists();
+        assertThat(loaded).isEqualTo(built);
+        assertThat(loaded).extracting(IndexedEntry::name).containsExactly("dir/", "dir/a.txt", LONG_NAME);
+        assertThat(loaded.get(1).size()).isEqualTo(5);
+        assertThat(loaded.get(0).directory()).isTrue();
+    }
+
+    @Test
+    @DisplayName("데이터 위치(dataOffset)로 항목 내용을 바로 읽을 수 있음")
+    void dataOffset() throws IOException {
+        Path tar = writeTar(tempDir.resolve("a.tar"));
+
+        IndexedEntry entry = TarIndex.loadOrBuild(tar, null).find(LONG_NAME).orElseThrow();
+
+        byte[] data = Files.readAllBytes(tar);
+        assertThat(new String(data, (int) entry.dataOffset(), (int) entry.size(), StandardCharsets.UTF_8))
+            .isEqualTo("long-name-content");
+    }
+
+    @Test
+    @DisplayName("TAR 파일이 바뀌면 색인을 다시 생성")
+    void rebuildWhenArchiveChanged() throws IOException {
+        Path tar = writeTar(tempDir.resolve("a.tar"));
+        Path index = tempDir.resolve("index/a.tar.idx");
+        TarIndex.loadOrBuild(tar, index);
+
+        try (TarArchiveOutputStream tarOut = new TarArchiveOutputStream(Files.newOutputStream(tar))) {
+            writeFile(tarOut, "other.txt", "changed content");
+        }
+        Files.setLastModifiedTime(tar, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+
+        assertThat(TarIndex.loadOrBuild(tar, index).getEntries())
+            .extracting(IndexedEntry::name).containsExactly("other.txt");
+    }
+
+    @Test
+    @DisplayName("손상된 색인 파일은 무시하고 다시 생성")
+    void rebuildWhenIndexCorrupted() throws IOException {
+        Path tar = writeTar(tempDir.resolve("a.tar"));
+        Path index = tempDir.resolve("index/a.tar.idx");
+        TarIndex.loadOrBuild(tar, index);
+
+        byte[] indexData = Files.readAllBytes(index);
+        Files.write(index, Arrays.copyOf(indexData, indexData.length / 2));
+
+        assertThat(TarIndex.loadOrBuild(tar, index).getEntries())
+            .extracting(IndexedEntry::name).containsExactly("dir/", "dir/a.txt", LONG_NAME);
+    }
+
+    @ParameterizedTest(name = "count={0}")
+    @CsvSource({"-1", "100", "2147483647"})
+    @DisplayName("색인의 항목 수가 TAR 크기로 가능한 범위를 벗어나면 다시 생성")
+    void rebuildWhenEntryCountOutOfRange(int count) throws IOException {
+        Path tar = tempDir.resolve("small.tar");
+        try (TarArchiveOutputStream tarOut = new TarArchiveOutputStream(Files.newOutputStream(tar))) {
+            writeFile(tarOut, "a.txt", "hello");
+        }
+        Path index = tempDir.resolve("index/small.tar.idx");
+        TarIndex.loadOrBuild(tar, index);
+
+        // MAGIC(4) + VERSION(4) + 크기(8) + 수정 시각(8) 다음이 항목 수
+        byte[] indexData = Files.readAllBytes(index);
+        ByteBuffer.wrap(indexData).putInt(24, count);
+        Files.write(index, indexData);
+
+        assertThat(TarIndex.loadOrBuild(tar, index).getEntries())
+            .extracting(IndexedEntry::name).containsExactly("a.txt");
+    }
+
+    private static Path writeTar(Path tar) throws IOException {
+        try (TarArchiveOutputStream tarOut = new TarArchiveOutputStream(Files.newOutputStream(tar))) {
+            tarOut.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+            tarOut.putArchiveEntry(new TarArchiveEntry("dir/"));
+            tarOut.closeArchiveEntry();
+            writeFile(tarOut, "dir/a.txt", "hello");
+            writeFile(tarOut, LONG_NAME, "long-name-content");
+        }
+        return tar;
+    }
+
+    private static void writeFile(TarArchiveOutputStream tarOut, String name, String content) throws IOException {
+        byte[] data = content.getBytes(StandardCharsets.UTF_8);
+        TarArchiveEntry entry = new TarArchiveEntry(name);
+        entry.setSize(data.length);
+        tarOut.putArchiveEntry(entry);
+        tarOut.write(data);
+        tarOut.closeArchiveEntry();
+    }
+}
@@ -0,0 +1,76 @@
+package module.common.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import module.common.dto.CompressOptions;
+import module.common.enums.CompressFileType;
+import module.common.exception.InternalServerException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CompressUtilsTest {
+
+    private static final Path SCATTER_DIRECTORY = Path.of(System.getProperty("java.io.tmpdir"));
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("병렬 ZIP 압축이 writeTo 전에 중단되어도 스레드별 임시 파일이 남지 않음")
+    void deletesScatterFilesWhenInterrupted() throws Exception {
+        Path source = Files.createDirectory(tempDir.resolve("source"));
+        Random random = new Random(0);
+        byte[] content = new byte[4 * 1024 * 1024];
+        for (int i = 0; i < 16; i++) {
+            random.nextBytes(content);
+            Files.write(source.resolve("file" + i + ".bin"), content);
+        }
+        Set<Path> before = scatterFiles();
+
+        // 첫 임시 파일이 생성되면 압축 중인 스레드를 interrupt (압축된 데이터 기록 전)
+        Thread compressThread = Thread.currentThread();
+        Thread interrupter = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    if (!before.containsAll(scatterFiles())) {
+                        compressThread.interrupt();
+                        return;
+                    }
+                } catch (IOException ignored) {
+                    // 임시 디렉토리 목록 조회 중 파일이 삭제된 경우 다시 조회
+                }
+            }
+        });
+        interrupter.start();
+
+        try {
+            assertThatThrownBy(() -> CompressUtils.compressToOutputStream(List.of(source), CompressFileType.ZIP,
+                new ByteArrayOutputStream(), CompressOptions.parallel(2)))
+                .isInstanceOf(InternalServerException.class);
+        } finally {
+            interrupter.interrupt();
+            interrupter.join();
+            Thread.interrupted();
+        }
+
+        assertThat(scatterFiles()).isSubsetOf(before);
+    }
+
+    private static Set<Path> scatterFiles() throws IOException {
+        try (Stream<Path> files = Files.list(SCATTER_DIRECTORY)) {
+            return files.filter(file -> file.getFileName().toString().startsWith("parallelscatter"))
+                .collect(Collectors.toSet());
+        }
+    }
+}
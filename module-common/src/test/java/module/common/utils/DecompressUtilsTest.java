@@ -0,0 +1,68 @@
+package module.common.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import module.common.exception.ValidationException;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class DecompressUtilsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @ParameterizedTest(name = "method={0}, parallelism={1}")
+    @CsvSource({"0, 1", "0, 3", "8, 1", "8, 3"})
+    @DisplayName("같은 이름의 항목이 여러 개면 처음 항목만 압축 해제")
+    void duplicateEntryNames(int method, int parallelism) throws IOException {
+        Path zip = tempDir.resolve("duplicate.zip");
+        try (ZipArchiveOutputStream zipOut = new ZipArchiveOutputStream(zip)) {
+            writeEntry(zipOut, "a.txt", method, "first");
+            writeEntry(zipOut, "dir/b.txt", method, "b");
+            writeEntry(zipOut, "a.txt", method, "second");
+        }
+
+        Path extracted = DecompressUtils.saveDecompressFile(zip, tempDir.resolve("out"), parallelism);
+
+        assertThat(extracted.resolve("a.txt")).hasContent("first");
+        assertThat(extracted.resolve("dir/b.txt")).hasContent("b");
+    }
+
+    @ParameterizedTest(name = "parallelism={0}")
+    @CsvSource({"1", "3"})
+    @DisplayName("STORED 항목의 데이터가 손상되면 CRC 불일치로 실패하고 압축 해제한 디렉토리를 삭제")
+    void storedEntryCrcMismatch(int parallelism) throws IOException {
+        Path zip = tempDir.resolve("corrupted.zip");
+        try (ZipArchiveOutputStream zipOut = new ZipArchiveOutputStream(zip)) {
+            writeEntry(zipOut, "a.txt", ZipEntry.STORED, "stored-content");
+        }
+        byte[] data = Files.readAllBytes(zip);
+        int dataOffset = new String(data, StandardCharsets.ISO_8859_1).indexOf("stored-content");
+        data[dataOffset] ^= 1;
+        Files.write(zip, data);
+
+        Path destination = Files.createDirectories(tempDir.resolve("out"));
+        assertThatThrownBy(() -> DecompressUtils.saveDecompressFile(zip, destination, parallelism))
+            .isInstanceOf(ValidationException.class);
+        assertThat(destination).isEmptyDirectory();
+    }
+
+    private static void writeEntry(ZipArchiveOutputStream zipOut, String name, int method, String content)
+        throws IOException {
+        ZipArchiveEntry entry = new ZipArchiveEntry(name);
+        entry.setMethod(method);
+        zipOut.putArchiveEntry(entry);
+        zipOut.write(content.getBytes(StandardCharsets.UTF_8));
+        zipOut.closeArchiveEntry();
+    }
+}
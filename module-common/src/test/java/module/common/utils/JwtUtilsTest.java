@@ -0,0 +1,32 @@
+package module.common.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.Base64;
+import module.common.dto.VerifiedToken;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class JwtUtilsTest {
+
+    // HS512 서명 키 (64 byte)
+    private static final String SECRET = Base64.getEncoder().encodeToString("k".repeat(64).getBytes());
+
+    private final JwtUtils jwtUtils = new JwtUtils(SECRET, false, mock(RefreshTokenStore.class));
+
+    @Test
+    @DisplayName("access token 발급 시각은 밀리초 단위로 검증 결과에 포함")
+    void issuedAtHasMillisPrecision() {
+        long before = System.currentTimeMillis();
+        String accessToken = jwtUtils.issueAccessToken(1L, "sid", null, null);
+        long after = System.currentTimeMillis();
+
+        VerifiedToken verifiedToken = jwtUtils.verifyToken(accessToken);
+
+        assertThat(verifiedToken.issuedAt().toEpochMilli()).isBetween(before, after);
+        assertThat(verifiedToken.userId()).isEqualTo(1L);
+        assertThat(verifiedToken.sessionId()).isEqualTo("sid");
+        assertThat(verifiedToken.isValid()).isTrue();
+    }
+}
@@ -0,0 +1,385 @@
+package module.core.domain.blob;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import module.core.domain.blob.mysql.FileBlobRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 내용 주소(SHA-256) 기반 중복 제거 저장소
+ * - blob 파일: {storage.blob.directory}/{hash 앞 2자리}/{hash}
+ * - 사용자 파일은 blob 파일의 하드 링크 (같은 내용을 여러 번 업로드해도 디스크에는 한 번만 저장)
+ * - 업로드 처리 측이 사용자 저장소에 파일을 저장한 뒤 adopt 로 등록
+ *   처음 보는 내용이면 blob 링크만 추가하고, 이미 있는 내용이면 사용자 파일을 blob 링크로 교체 (중복 데이터 삭제)
+ * - 사용자 파일은 항상 올바른 내용으로 존재하므로 등록 / GC 가 실패하거나 경합해도 중복이 남을 뿐 데이터는 잃지 않음
+ *   (blob 파일을 삭제해도 사용자 파일 링크가 있으면 데이터는 유지됨)
+ *
+ * 참조 수
+ * - adopt 할 때 DB(FileBlob) 참조 수 증가
+ * - 사용자 파일 삭제는 별도 알림 없이 링크 수로만 알 수 있으므로, GC 가 blob 파일의 링크 수(unix:nlink - 1)로 맞춤
+ * - 참조 수가 0 이 된 뒤 gc-grace 가 지나면 GC 가 DB 항목과 blob 파일 삭제
+ *   (삭제 직전 링크 수를 다시 확인하고, DB 삭제는 참조 수가 0 일 때만 수행하므로 노드마다 GC 가 실행되어도 안전)
+ *
+ * 주의
+ * - 같은 내용의 사용자 파일은 inode 를 공유하므로 제자리 수정하면 안 됨 (새 파일에 쓰고 이동)
+ * - blob 디렉토리는 사용자 저장소와 같은 파일 시스템에 있어야 함 (하드 링크를 만들 수 없으면 중복 제거 생략)
+ */
+@Slf4j
+@Component
+public class BlobStore {
+
+    private static final String LINK_FILE_SUFFIX = ".link";
+    private static final int LINK_ATTEMPTS = 3;
+
+    private final FileBlobRepository fileBlobRepository;
+    private final boolean enabled;
+    private final Path directory;
+    private final Duration gcInterval;
+    private final Duration gcGrace;
+    private final Duration statsInterval;
+    private final int batchSize;
+
+    private final LongAdder deduplicatedFiles = new LongAdder();
+    private final LongAdder deduplicatedBytes = new LongAdder();
+    private volatile FileBlobStats stats = FileBlobStats.EMPTY;
+    // 하드 링크를 만들 수 없는 파일 시스템이면 false (이후 등록 생략)
+    private volatile boolean linkSupported = true;
+    // 링크 수(unix:nlink)를 조회할 수 없으면 참조 수를 줄이지 못하므로 GC 생략
+    private boolean linkCountSupported;
+
+    private ScheduledExecutorService gcExecutor;
+
+    public BlobStore(
+        FileBlobRepository fileBlobRepository,
+        @Value("${storage.blob.enabled:true}") boolean enabled,
+        @Value("${storage.blob.directory:${storage.root:./storage}/.blobs}") String directory,
+        @Value("${storage.blob.gc-interval:1h}") Duration gcInterval,
+        // 참조가 없어진 뒤 이 시간 동안은 삭제하지 않음 (그 사이 같은 내용이 다시 업로드되면 재사용)
+        @Value("${storage.blob.gc-grace:1d}") Duration gcGrace,
+        @Value("${storage.blob.stats-interval:1m}") Duration statsInterval,
+        @Value("${storage.blob.gc-batch-size:500}") int batchSize
+    ) {
+        this.fileBlobRepository = fileBlobRepository;
+        this.enabled = enabled;
+        this.directory = Path.of(directory).toAbsolutePath().normalize();
+        this.gcInterval = gcInterval;
+        this.gcGrace = gcGrace;
+        this.statsInterval = statsInterval;
+        this.batchSize = batchSize;
+    }
+
+    @PostConstruct
+    void start() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        Files.createDirectories(directory);
+        linkCountSupported = Files.getFileStore(directory).supportsFileAttributeView("unix");
+        if (!linkCountSupported) {
+            log.warn("링크 수를 조회할 수 없는 파일 시스템이므로 blob GC 를 실행하지 않습니다: {}", directory);
+        }
+
+        gcExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "blob-gc");
+            thread.setDaemon(true);
+            return thread;
+        });
+        gcExecutor.scheduleWithFixedDelay(this::refreshStats, 0, statsInterval.toMillis(), TimeUnit.MILLISECONDS);
+        if (linkCountSupported) {
+            gcExecutor.scheduleWithFixedDelay(this::collectGarbage, gcInterval.toMillis(), gcInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (gcExecutor != null) {
+            gcExecutor.shutdownNow();
+        }
+    }
+
+    public static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static String toHash(MessageDigest digest) {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * 기록하면서 해시를 계산하지 못한 파일 등록 (파일을 한 번 더 읽어 SHA-256 계산)
+     *
+     * @return 중복 제거 여부
+     */
+    public boolean adopt(Path file) {
+        if (!isActive()) {
+            return false;
+        }
+        MessageDigest digest = newDigest();
+        try (InputStream in = new DigestInputStream(Files.newInputStream(file), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            log.warn("blob 등록을 위한 해시 계산 실패: {}", file, e);
+            return false;
+        }
+        return adopt(file, toHash(digest));
+    }
+
+    /**
+     * 사용자 저장소에 저장을 마친 파일을 blob 으로 등록
+     * 실패해도 파일은 그대로 남으므로 예외를 던지지 않음
+     *
+     * @param file   사용자 파일 (기록이 끝나 더 이상 수정하지 않는 파일)
+     * @param sha256 파일 내용의 SHA-256 (hex, 기록하면서 계산한 값)
+     * @return 중복 제거 여부 (이미 있는 내용이라 사용자 파일을 blob 링크로 교체했으면 true)
+     */
+    public boolean adopt(Path file, String sha256) {
+        if (!isActive()) {
+            return false;
+        }
+        Path blobPath = blobPath(sha256);
+        boolean duplicate;
+        long size;
+        try {
+            size = Files.size(file);
+            Files.createDirectories(blobPath.getParent());
+            if (Files.exists(blobPath) && Files.isSameFile(file, blobPath)) {
+                return false;
+            }
+            duplicate = link(file, blobPath);
+        } catch (NoSuchFileException e) {
+            log.warn("blob 등록 대상 파일이 없습니다: {}", file);
+            return false;
+        } catch (UnsupportedOperationException e) {
+            // 하드 링크를 지원하지 않는 파일 시스템
+            linkSupported = false;
+            log.warn("하드 링크를 만들 수 없어 중복 제거를 중단합니다: {} -> {}", file, directory, e);
+            return false;
+        } catch (IOException e) {
+            if (isCrossDevice(e)) {
+                linkSupported = false;
+                log.warn("blob 디렉토리가 다른 파일 시스템에 있어 중복 제거를 중단합니다: {} -> {}", file, directory, e);
+            } else {
+                // 권한, 링크 수 한도 등 이 파일만의 문제일 수 있으므로 이 파일만 건너뜀
+                log.warn("blob 등록 실패: {}", file, e);
+            }
+            return false;
+        }
+
+        try {
+            reference(sha256, size);
+        } catch (RuntimeException e) {
+            // DB 에 등록하지 못한 새 blob 파일은 GC 대상이 되지 않으므로 삭제 (사용자 파일은 그대로)
+            log.warn("blob 참조 등록 실패: {}", sha256, e);
+            if (!duplicate) {
+                deleteBlobFile(blobPath);
+            }
+            return duplicate;
+        }
+        if (duplicate) {
+            deduplicatedFiles.increment();
+            deduplicatedBytes.add(size);
+            log.info("중복 파일을 blob 링크로 교체: {} ({}, {} bytes)", file, sha256, size);
+        }
+        return duplicate;
+    }
+
+    // 마지막 집계 (stats-interval 마다 갱신)
+    public FileBlobStats getStats() {
+        return stats;
+    }
+
+    // 이 노드가 시작된 뒤 중복 제거한 파일 수
+    public long getDeduplicatedFiles() {
+        return deduplicatedFiles.sum();
+    }
+
+    // 이 노드가 시작된 뒤 중복 제거로 절약한 크기
+    public long getDeduplicatedBytes() {
+        return deduplicatedBytes.sum();
+    }
+
+    private boolean isActive() {
+        return enabled && linkSupported;
+    }
+
+    /**
+     * 처음 보는 내용이면 사용자 파일을 blob 경로에 링크하고 false
+     * 이미 있는 내용이면 blob 의 링크를 임시 이름으로 만든 뒤 사용자 파일 자리로 이동(교체)하고 true
+     * (교체는 rename 한 번이므로 사용자 파일이 없거나 쓰다 만 상태로 보이는 순간이 없음)
+     */
+    private boolean link(Path file, Path blobPath) throws IOException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Files.createLink(blobPath, file);
+                return false;
+            } catch (FileAlreadyExistsException e) {
+                // 이미 있는 내용
+            }
+
+            Path linkPath = file.resolveSibling("." + file.getFileName() + "." + UUID.randomUUID()
+                + LINK_FILE_SUFFIX);
+            try {
+                Files.createLink(linkPath, blobPath);
+            } catch (NoSuchFileException e) {
+                // 그 사이 GC 가 blob 파일을 삭제한 경우 처음 보는 내용으로 다시 시도
+                if (attempt >= LINK_ATTEMPTS) {
+                    throw e;
+                }
+                continue;
+            }
+            try {
+                Files.move(linkPath, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                Files.deleteIfExists(linkPath);
+                throw e;
+            }
+            return true;
+        }
+    }
+
+    // 다른 파일 시스템 사이의 하드 링크 (EXDEV, "Invalid cross-device link")
+    private static boolean isCrossDevice(IOException e) {
+        return e instanceof FileSystemException fileSystemException
+            && fileSystemException.getReason() != null
+            && fileSystemException.getReason().toLowerCase(Locale.ROOT).contains("cross-device");
+    }
+
+    private void reference(String hash, long size) {
+        if (fileBlobRepository.increaseRefCount(hash) > 0) {
+            return;
+        }
+        try {
+            fileBlobRepository.saveAndFlush(FileBlob.newInstance(hash, size));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 요청이 먼저 등록한 경우
+            fileBlobRepository.increaseRefCount(hash);
+        }
+    }
+
+    private Path blobPath(String hash) {
+        if (hash.length() != 64) {
+            throw new IllegalArgumentException("SHA-256 hex 값이 아닙니다: " + hash);
+        }
+        return directory.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    void refreshStats() {
+        try {
+            stats = fileBlobRepository.aggregateStats();
+        } catch (RuntimeException e) {
+            log.warn("blob 집계 실패", e);
+        }
+    }
+
+    /**
+     * 참조 수를 링크 수에 맞춘 뒤, gc-grace 이전부터 참조가 없는 blob 삭제
+     */
+    void collectGarbage() {
+        try {
+            reconcile();
+            sweep();
+        } catch (RuntimeException e) {
+            log.warn("blob GC 실패", e);
+        }
+    }
+
+    // 사용자 파일 삭제로 줄어든 참조 수 반영 (조회 이후 참조가 추가된 blob 은 다음 실행에서 반영)
+    private void reconcile() {
+        LocalDateTime now = LocalDateTime.now();
+        String afterHash = "";
+        int updated = 0;
+        while (true) {
+            List<FileBlob> fileBlobs = fileBlobRepository.findPageAfter(afterHash, batchSize);
+            for (FileBlob fileBlob : fileBlobs) {
+                long refCount = referenceCount(fileBlob.getHash());
+                if (refCount != fileBlob.getRefCount()) {
+                    updated += fileBlobRepository.updateRefCount(fileBlob.getHash(), fileBlob.getRefCount(), refCount,
+                        refCount == 0 ? now : null);
+                }
+            }
+            if (fileBlobs.size() < batchSize) {
+                break;
+            }
+            afterHash = fileBlobs.get(fileBlobs.size() - 1).getHash();
+        }
+        if (updated > 0) {
+            log.info("blob 참조 수 갱신: {}개", updated);
+        }
+    }
+
+    private void sweep() {
+        LocalDateTime before = LocalDateTime.now().minus(gcGrace);
+        int deleted = 0;
+        long freedBytes = 0;
+        List<FileBlob> fileBlobs;
+        do {
+            fileBlobs = fileBlobRepository.findUnreferenced(before, batchSize);
+            for (FileBlob fileBlob : fileBlobs) {
+                String hash = fileBlob.getHash();
+                // 마지막 집계 이후 다시 링크된 경우 삭제하지 않고 참조 수 복구
+                long refCount = referenceCount(hash);
+                if (refCount > 0) {
+                    fileBlobRepository.updateRefCount(hash, 0, refCount, null);
+                    continue;
+                }
+                if (fileBlobRepository.deleteUnreferenced(hash, before) > 0) {
+                    deleteBlobFile(blobPath(hash));
+                    deleted++;
+                    freedBytes += fileBlob.getSize();
+                }
+            }
+        } while (fileBlobs.size() == batchSize);
+        if (deleted > 0) {
+            log.info("참조가 없는 blob 삭제: {}개, {} bytes", deleted, freedBytes);
+        }
+    }
+
+    // blob 파일을 가리키는 사용자 파일 수 (blob 파일이 없으면 0)
+    private long referenceCount(String hash) {
+        try {
+            return ((Number) Files.getAttribute(blobPath(hash), "unix:nlink")).longValue() - 1;
+        } catch (NoSuchFileException e) {
+            return 0;
+        } catch (IOException e) {
+            throw new IllegalStateException("blob 링크 수를 조회할 수 없습니다: " + hash, e);
+        }
+    }
+
+    private void deleteBlobFile(Path blobPath) {
+        try {
+            Files.deleteIfExists(blobPath);
+        } catch (IOException e) {
+            log.warn("blob 파일 삭제 실패: {}", blobPath, e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package module.core.domain.blob;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import module.core.domain.common.AuditingTimeEntity;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 내용 주소(SHA-256) 기준으로 저장한 파일 (BlobStore)
+ * - 참조 수: 이 내용을 가리키는 사용자 파일(하드 링크) 수
+ * - 참조 수 변경은 동시 요청이 덮어쓰지 않도록 FileBlobRepository 의 update 쿼리로만 처리
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder(access = AccessLevel.PRIVATE)
+public class FileBlob extends AuditingTimeEntity implements Persistable<String> {
+
+    // SHA-256 (hex, 소문자)
+    @Id
+    @Column(length = 64)
+    private String hash;
+
+    @NotNull
+    private Long size;
+
+    @NotNull
+    private Long refCount;
+
+    // 참조 수가 0 이 된 시각 (GC 유예 시간 계산용, 참조가 있으면 null)
+    private LocalDateTime unreferencedAt;
+
+    public static FileBlob newInstance(String hash, long size) {
+        return builder()
+            .hash(hash)
+            .size(size)
+            .refCount(1L)
+            .build();
+    }
+
+    @Override
+    public String getId() {
+        return hash;
+    }
+
+    // id 를 직접 지정하므로 저장 전 조회(merge) 없이 바로 insert 하도록 생성 시각으로 판단
+    @Override
+    public boolean isNew() {
+        return getCreatedAt() == null;
+    }
+}
@@ -0,0 +1,29 @@
+package module.core.domain.blob;
+
+/**
+ * 참조 중인 blob 집계
+ *
+ * @param blobCount      blob 수
+ * @param referenceCount 참조 수 합계 (사용자 파일 수)
+ * @param storedBytes    실제 저장한 크기 (blob 당 한 번)
+ * @param logicalBytes   중복 제거 전 크기 (blob 크기 * 참조 수)
+ */
+public record FileBlobStats(
+    long blobCount,
+    long referenceCount,
+    long storedBytes,
+    long logicalBytes
+) {
+
+    public static final FileBlobStats EMPTY = new FileBlobStats(0, 0, 0, 0);
+
+    // 중복 제거 비율 (중복 제거 전 크기 / 실제 저장 크기, 중복이 없으면 1)
+    public double dedupRatio() {
+        return storedBytes == 0 ? 1.0 : (double) logicalBytes / storedBytes;
+    }
+
+    // 중복 제거로 절약한 크기
+    public long savedBytes() {
+        return logicalBytes - storedBytes;
+    }
+}
@@ -0,0 +1,9 @@
+package module.core.domain.blob.mysql;
+
+import module.core.domain.blob.FileBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface FileBlobRepository extends JpaRepository<FileBlob, String>, FileBlobRepositoryCustom {
+}
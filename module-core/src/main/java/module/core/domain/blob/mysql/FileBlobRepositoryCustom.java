@@ -0,0 +1,24 @@
+package module.core.domain.blob.mysql;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import module.core.domain.blob.FileBlob;
+import module.core.domain.blob.FileBlobStats;
+
+public interface FileBlobRepositoryCustom {
+    // hash 순서로 afterHash 다음부터 limit 개 (전체 순회용)
+    List<FileBlob> findPageAfter(String afterHash, int limit);
+
+    List<FileBlob> findUnreferenced(LocalDateTime before, int limit);
+
+    FileBlobStats aggregateStats();
+
+    // 참조 추가 (없는 blob 이면 0 반환)
+    int increaseRefCount(String hash);
+
+    // 조회한 참조 수(expected)가 그대로일 때만 변경 (그 사이 다른 요청이 참조를 추가했으면 0 반환)
+    int updateRefCount(String hash, long expected, long refCount, LocalDateTime unreferencedAt);
+
+    // before 이전부터 참조가 없는 경우에만 삭제 (그 사이 참조가 추가되었으면 0 반환)
+    int deleteUnreferenced(String hash, LocalDateTime before);
+}
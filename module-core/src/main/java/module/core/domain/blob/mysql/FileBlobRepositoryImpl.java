@@ -0,0 +1,102 @@
+package module.core.domain.blob.mysql;
+
+import static module.core.domain.blob.QFileBlob.fileBlob;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import module.core.domain.blob.FileBlob;
+import module.core.domain.blob.FileBlobStats;
+import org.springframework.transaction.annotation.Transactional;
+
+@RequiredArgsConstructor
+public class FileBlobRepositoryImpl implements FileBlobRepositoryCustom {
+    private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
+
+    @Override
+    public List<FileBlob> findPageAfter(String afterHash, int limit) {
+        return queryFactory
+            .selectFrom(fileBlob)
+            .where(fileBlob.hash.gt(afterHash))
+            .orderBy(fileBlob.hash.asc())
+            .limit(limit)
+            .fetch();
+    }
+
+    @Override
+    public List<FileBlob> findUnreferenced(LocalDateTime before, int limit) {
+        return queryFactory
+            .selectFrom(fileBlob)
+            .where(fileBlob.refCount.eq(0L), fileBlob.unreferencedAt.lt(before))
+            .limit(limit)
+            .fetch();
+    }
+
+    @Override
+    public FileBlobStats aggregateStats() {
+        NumberExpression<Long> blobCount = fileBlob.count();
+        NumberExpression<Long> referenceCount = fileBlob.refCount.sum();
+        NumberExpression<Long> storedBytes = fileBlob.size.sum();
+        NumberExpression<Long> logicalBytes = fileBlob.size.multiply(fileBlob.refCount).sum();
+        Tuple tuple = queryFactory
+            .select(blobCount, referenceCount, storedBytes, logicalBytes)
+            .from(fileBlob)
+            .where(fileBlob.refCount.gt(0L))
+            .fetchOne();
+        if (tuple == null) {
+            return FileBlobStats.EMPTY;
+        }
+        return new FileBlobStats(valueOf(tuple.get(blobCount)), valueOf(tuple.get(referenceCount)),
+            valueOf(tuple.get(storedBytes)), valueOf(tuple.get(logicalBytes)));
+    }
+
+    @Override
+    @Transactional
+    public int increaseRefCount(String hash) {
+        long updated = queryFactory
+            .update(fileBlob)
+            .set(fileBlob.refCount, fileBlob.refCount.add(1L))
+            .setNull(fileBlob.unreferencedAt)
+            .where(fileBlob.hash.eq(hash))
+            .execute();
+        return clearAfterBulk(updated);
+    }
+
+    @Override
+    @Transactional
+    public int updateRefCount(String hash, long expected, long refCount, LocalDateTime unreferencedAt) {
+        long updated = queryFactory
+            .update(fileBlob)
+            .set(fileBlob.refCount, refCount)
+            .set(fileBlob.unreferencedAt, unreferencedAt)
+            .where(fileBlob.hash.eq(hash), fileBlob.refCount.eq(expected))
+            .execute();
+        return clearAfterBulk(updated);
+    }
+
+    @Override
+    @Transactional
+    public int deleteUnreferenced(String hash, LocalDateTime before) {
+        long deleted = queryFactory
+            .delete(fileBlob)
+            .where(fileBlob.hash.eq(hash), fileBlob.refCount.eq(0L), fileBlob.unreferencedAt.lt(before))
+            .execute();
+        return clearAfterBulk(deleted);
+    }
+
+    // bulk 쿼리는 영속성 컨텍스트를 거치지 않으므로 이미 조회한 엔티티가 이전 값으로 남지 않도록 비움
+    private int clearAfterBulk(long affected) {
+        entityManager.clear();
+        return (int) affected;
+    }
+
+    // 집계 대상이 없으면 sum 결과는 null
+    private static long valueOf(Long value) {
+        return value == null ? 0L : value;
+    }
+}
@@ -54,4 +54,12 @@ public class User extends AuditingTimeEntity {
             .role(role)
             .build();
     }
+
+    public void updatePassword(String password) {
+        this.password = password;
+    }
+
+    public void updateRole(RoleType role) {
+        this.role = role;
+    }
 }
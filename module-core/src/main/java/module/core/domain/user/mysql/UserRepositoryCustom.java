@@ -1,7 +1,11 @@
 package module.core.domain.user.mysql;
 
+import java.util.List;
+import module.common.enums.RoleType;
 import module.core.domain.user.User;
 
 public interface UserRepositoryCustom {
     User findUserByUsername(String username);
+
+    List<Long> findIdsByRole(RoleType role);
 }
@@ -3,7 +3,9 @@ package module.core.domain.user.mysql;
 import static module.core.domain.user.QUser.user;
 
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import module.common.enums.RoleType;
 import module.core.domain.user.User;
 
 @RequiredArgsConstructor
@@ -17,4 +19,13 @@ public class UserRepositoryImpl implements UserRepositoryCustom{
             .where(user.username.eq(username))
             .fetchOne();
     }
+
+    @Override
+    public List<Long> findIdsByRole(RoleType role) {
+        return queryFactory
+            .select(user.id)
+            .from(user)
+            .where(user.role.eq(role))
+            .fetch();
+    }
 }
@@ -0,0 +1,85 @@
+package module.core.domain.blob.mysql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import module.core.domain.blob.FileBlob;
+import module.core.domain.common.RepositoryTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class FileBlobRepositoryTest extends RepositoryTest {
+
+    private static final String HASH = "a".repeat(64);
+    private static final String UNKNOWN_HASH = "b".repeat(64);
+    private static final LocalDateTime UNREFERENCED_AT = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Autowired
+    private FileBlobRepository fileBlobRepository;
+
+    @BeforeEach
+    void setUp() {
+        fileBlobRepository.saveAndFlush(FileBlob.newInstance(HASH, 10));
+    }
+
+    @Test
+    @DisplayName("참조 추가는 참조 수를 늘리고 참조가 없어진 시각을 지움")
+    void increaseRefCount() {
+        fileBlobRepository.updateRefCount(HASH, 1, 0, UNREFERENCED_AT);
+
+        assertThat(fileBlobRepository.increaseRefCount(HASH)).isEqualTo(1);
+
+        FileBlob fileBlob = fileBlobRepository.findById(HASH).orElseThrow();
+        assertThat(fileBlob.getRefCount()).isEqualTo(1L);
+        assertThat(fileBlob.getUnreferencedAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 blob 에 참조를 추가하면 0")
+    void increaseRefCountOfUnknownBlob() {
+        assertThat(fileBlobRepository.increaseRefCount(UNKNOWN_HASH)).isZero();
+        assertThat(fileBlobRepository.existsById(UNKNOWN_HASH)).isFalse();
+    }
+
+    @Test
+    @DisplayName("조회한 참조 수가 그대로일 때만 참조 수 변경")
+    void updateRefCountOnlyWhenExpectedMatches() {
+        fileBlobRepository.increaseRefCount(HASH);
+
+        // 조회 이후 다른 요청이 참조를 추가한 경우
+        assertThat(fileBlobRepository.updateRefCount(HASH, 1, 0, UNREFERENCED_AT)).isZero();
+        assertThat(fileBlobRepository.findById(HASH).orElseThrow().getRefCount()).isEqualTo(2L);
+
+        assertThat(fileBlobRepository.updateRefCount(HASH, 2, 0, UNREFERENCED_AT)).isEqualTo(1);
+        FileBlob fileBlob = fileBlobRepository.findById(HASH).orElseThrow();
+        assertThat(fileBlob.getRefCount()).isZero();
+        assertThat(fileBlob.getUnreferencedAt()).isEqualTo(UNREFERENCED_AT);
+    }
+
+    @Test
+    @DisplayName("참조가 있는 blob 은 삭제하지 않음")
+    void deleteUnreferencedKeepsReferencedBlob() {
+        assertThat(fileBlobRepository.deleteUnreferenced(HASH, UNREFERENCED_AT.plusDays(1))).isZero();
+        assertThat(fileBlobRepository.existsById(HASH)).isTrue();
+    }
+
+    @Test
+    @DisplayName("기준 시각 이후에 참조가 없어진 blob 은 삭제하지 않음")
+    void deleteUnreferencedKeepsBlobWithinGrace() {
+        fileBlobRepository.updateRefCount(HASH, 1, 0, UNREFERENCED_AT);
+
+        assertThat(fileBlobRepository.deleteUnreferenced(HASH, UNREFERENCED_AT)).isZero();
+        assertThat(fileBlobRepository.existsById(HASH)).isTrue();
+    }
+
+    @Test
+    @DisplayName("기준 시각 이전부터 참조가 없는 blob 삭제")
+    void deleteUnreferenced() {
+        fileBlobRepository.updateRefCount(HASH, 1, 0, UNREFERENCED_AT);
+
+        assertThat(fileBlobRepository.deleteUnreferenced(HASH, UNREFERENCED_AT.plusDays(1))).isEqualTo(1);
+        assertThat(fileBlobRepository.existsById(HASH)).isFalse();
+    }
+}
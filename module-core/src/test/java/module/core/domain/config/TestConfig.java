@@ -1,8 +1,10 @@
 package module.core.domain.config;
 
+import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
 @EnableJpaAuditing
@@ -10,4 +12,10 @@ import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 public class TestConfig {
     @PersistenceContext
     private EntityManager entityManager;
+
+    // @DataJpaTest 는 QueryDslConfig 를 불러오지 않으므로 커스텀 리포지토리용으로 등록
+    @Bean
+    public JPAQueryFactory jpaQueryFactory() {
+        return new JPAQueryFactory(entityManager);
+    }
 }
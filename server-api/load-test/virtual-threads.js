@@ -0,0 +1,57 @@
+/**
+ * 플랫폼 스레드 / 가상 스레드 모드 처리량, p99 비교용 k6 스크립트
+ *
+ * 같은 장비, 같은 DB/Redis 에서 profile만 바꿔 두 번 실행하고 결과(summary)를 비교
+ *   1) 플랫폼 스레드: java -jar server-api.jar --spring.profiles.active=<profile>
+ *   2) 가상 스레드 : java -jar server-api.jar --spring.profiles.active=<profile>,virtual   (JDK 21 이상)
+ *
+ *   k6 run -e BASE_URL=http://localhost:8080 -e ACCESS_TOKEN=<로그인 후 발급된 access token> \
+ *          --summary-export=summary-<mode>.json server-api/load-test/virtual-threads.js
+ *
+ * 비교 지표
+ * - http_reqs (rate)            : 처리량
+ * - http_req_duration p(99)     : 인증 API p99 (JWT 검증 + 사용자 캐시/DB + Redis)
+ * - http_req_failed             : 503(로그인 폭주), 커넥션 대기 시간 초과 비율
+ */
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const ACCESS_TOKEN = __ENV.ACCESS_TOKEN;
+// 인증이 필요한 경로 (AuthTokenFilter를 거치는 API)
+const AUTHENTICATED_PATH = __ENV.AUTHENTICATED_PATH || '/api/v1/users/me';
+const PUBLIC_PATH = __ENV.PUBLIC_PATH || '/login';
+
+export const options = {
+    scenarios: {
+        // 동시 사용자 수를 단계적으로 올려 스레드 풀 포화 구간 확인
+        ramp: {
+            executor: 'ramping-vus',
+            startVUs: 50,
+            stages: [
+                { duration: '30s', target: 200 },
+                { duration: '1m', target: 1000 },
+                { duration: '1m', target: 2000 },
+                { duration: '30s', target: 0 },
+            ],
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        'http_req_duration{type:authenticated}': ['p(99)<1000'],
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+export default function () {
+    const authenticated = http.get(`${BASE_URL}${AUTHENTICATED_PATH}`, {
+        headers: { Authorization: `Bearer ${ACCESS_TOKEN}` },
+        tags: { type: 'authenticated' },
+        // 매핑되지 않은 경로라도 인증 필터까지의 비용 측정이 목적이므로 404도 성공으로 간주
+        responseCallback: http.expectedStatuses(200, 404),
+    });
+    check(authenticated, { 'authenticated: not 401/503': (r) => r.status !== 401 && r.status !== 503 });
+
+    const page = http.get(`${BASE_URL}${PUBLIC_PATH}`, { tags: { type: 'public' } });
+    check(page, { 'public: 200': (r) => r.status === 200 });
+}
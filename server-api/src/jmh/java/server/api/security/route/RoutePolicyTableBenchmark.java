@@ -0,0 +1,77 @@
+package server.api.security.route;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 경로 정책 조회 비교 (실행: ./gradlew :server-api:jmh -Pjmh.includes=RoutePolicyTableBenchmark)
+ * - legacy: 기존 AuthTokenFilter.shouldNotFilter (요청마다 List.of + stream startsWith)
+ * - trie: RoutePolicyTable.match
+ * URI 구성은 정적 리소스 위주의 페이지 로딩 + API 호출 비율을 가정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoutePolicyTableBenchmark {
+
+    private static final String[] URIS = {
+        "/css/bootstrap.min.css",
+        "/css/bootstrap.css.map",
+        "/js/app.js",
+        "/lib/jquery/jquery.min.js",
+        "/images/img-logo.png",
+        "/images/ogimage.png",
+        "/favicon.ico",
+        "/index.html",
+        "/login",
+        "/error",
+        "/oauth2/authorization/google",
+        "/api/v1/users/me",
+        "/api/v1/interviews/42/questions",
+        "/api/v1/archives/download",
+        "/data_learnway/api/tus/3f2b9c1e",
+        "/admin/users",
+    };
+
+    private RoutePolicyTable routePolicyTable;
+
+    @Setup
+    public void setUp() {
+        routePolicyTable = new RoutePolicyTable(
+            new String[]{"/css/**", "/js/**", "/lib/**", "/images/**", "/favicon.ico", "/index.html"},
+            new String[]{"/login", "/error", "/oauth2/**"},
+            new String[]{"/api/**"},
+            new String[]{"ROLE_ADMIN:/admin/**"}
+        );
+    }
+
+    @Benchmark
+    public void legacy(Blackhole blackhole) {
+        for (String uri : URIS) {
+            List<String> whiteList = List.of("/login", "/css", "/js", "/favicon.ico", "/error", "/lib", "/oauth2",
+                "/images", "/index.html");
+            blackhole.consume(whiteList.stream().anyMatch(uri::startsWith));
+        }
+    }
+
+    @Benchmark
+    public void trie(Blackhole blackhole) {
+        for (String uri : URIS) {
+            blackhole.consume(routePolicyTable.match(uri));
+        }
+    }
+}
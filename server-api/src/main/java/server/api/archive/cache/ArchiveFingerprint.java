@@ -0,0 +1,92 @@
+package server.api.archive.cache;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HexFormat;
+import java.util.List;
+import module.common.dto.CompressOptions;
+import module.common.enums.CompressFileType;
+
+/**
+ * 압축 대상의 내용 지문 (압축 결과 캐시 키)
+ * 대상 경로, 하위 파일의 상대 경로 / 크기 / 수정 시각, 압축 형식과 레벨, 제외 필터를 SHA-256 으로 요약
+ * - 파일 내용은 읽지 않음 (수정 시각이 그대로인 내용 변경은 감지하지 않음)
+ * - 디렉토리마다 하위 항목을 이름순으로 정렬해 순회 (파일 시스템의 목록 순서와 관계없이 같은 값)
+ */
+final class ArchiveFingerprint {
+
+    private static final String VERSION = "v1";
+
+    private ArchiveFingerprint() {
+    }
+
+    static String of(List<Path> targetPaths, CompressFileType compressFileType, CompressOptions compressOptions)
+        throws IOException {
+        MessageDigest digest = sha256();
+        update(digest, VERSION);
+        update(digest, compressFileType.name());
+        update(digest, String.valueOf(compressOptions.compressionLevel()));
+        update(digest, String.valueOf(compressOptions.compressionPolicy() != null));
+        update(digest, compressOptions.entryFilter().describe());
+
+        for (Path targetPath : targetPaths) {
+            Path root = targetPath.toAbsolutePath().normalize();
+            update(digest, root.toString());
+            walk(root, digest);
+        }
+
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    // 디렉토리 단위로 목록을 읽어 순회 (재귀 호출 없이 Deque 사용)
+    private static void walk(Path root, MessageDigest digest) throws IOException {
+        Deque<Path> paths = new ArrayDeque<>();
+        paths.push(root);
+
+        while (!paths.isEmpty()) {
+            Path path = paths.pop();
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class,
+                LinkOption.NOFOLLOW_LINKS);
+            update(digest, root.relativize(path).toString());
+            update(digest, attributes.isDirectory() ? "d" : "f");
+            update(digest, String.valueOf(attributes.size()));
+            update(digest, String.valueOf(attributes.lastModifiedTime().toMillis()));
+
+            if (attributes.isDirectory()) {
+                List<Path> children = new ArrayList<>();
+                try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(path)) {
+                    directoryStream.forEach(children::add);
+                }
+                // 이름 역순으로 넣어 이름순으로 꺼냄
+                children.sort(Path::compareTo);
+                for (int i = children.size() - 1; i >= 0; i--) {
+                    paths.push(children.get(i));
+                }
+            }
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        // 구분자 (값이 이어 붙어 다른 입력과 같아지지 않도록)
+        digest.update((byte) 0);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
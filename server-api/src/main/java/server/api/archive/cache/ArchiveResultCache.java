@@ -0,0 +1,192 @@
+package server.api.archive.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import lombok.extern.slf4j.Slf4j;
+import module.common.compress.CompressionReport;
+import module.common.dto.CompressOptions;
+import module.common.enums.CompressFileType;
+import module.common.exception.InternalServerException;
+import module.common.utils.CompressUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 압축 결과 디스크 캐시
+ * - 키: 압축 대상의 내용 지문(ArchiveFingerprint) + 확장자, 값: 캐시 디렉토리의 압축 파일
+ * - 캐시 파일 전체 크기를 max-size 로 제한 (Caffeine 크기 기반 제거, 제거된 항목의 파일은 삭제)
+ * - 같은 키를 동시에 요청하면 처음 요청한 스레드만 압축하고 나머지는 완료를 기다림
+ * - 압축은 임시 파일에 기록한 뒤 이동하므로 쓰다 만 파일을 읽지 않음
+ * - 캐시 파일 이름은 키 + 생성할 때마다 새로 만든 UUID
+ *   (제거된 항목의 파일 삭제는 비동기로 실행되므로, 같은 키로 다시 만든 파일을 늦게 실행된 삭제가 지우지 않도록)
+ * - hit/miss/eviction 지표는 micrometer("cache.*", name=archiveResultCache)로 노출
+ */
+@Slf4j
+@Component
+public class ArchiveResultCache {
+
+    private static final String CACHE_NAME = "archiveResultCache";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private final Path directory;
+    private final AsyncCache<String, CachedArchive> cache;
+
+    public ArchiveResultCache(
+        @Value("${archive.cache.directory:${storage.root:./storage}/.archive-cache}") String directory,
+        @Value("${archive.cache.max-size:10GB}") DataSize maxSize,
+        MeterRegistry meterRegistry
+    ) {
+        this.directory = Path.of(directory).toAbsolutePath().normalize();
+        this.cache = Caffeine.newBuilder()
+            // weight 단위: KB
+            .maximumWeight(maxSize.toKilobytes())
+            .weigher((String key, CachedArchive cachedArchive) -> cachedArchive.weight())
+            .removalListener((String key, CachedArchive cachedArchive, RemovalCause cause) -> delete(cachedArchive))
+            .recordStats()
+            .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    // 재시작 전에 만든 캐시 파일 등록 (쓰다 만 임시 파일은 삭제)
+    @PostConstruct
+    void loadExisting() throws IOException {
+        Files.createDirectories(directory);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                if (fileName.endsWith(TEMP_FILE_SUFFIX)) {
+                    Files.deleteIfExists(file);
+                } else if (Files.isRegularFile(file) && fileName.lastIndexOf('.') > 0) {
+                    // 같은 키의 파일이 여러 개면 나중에 등록한 파일로 교체되고 이전 파일은 removalListener 가 삭제
+                    String key = fileName.substring(0, fileName.lastIndexOf('.'));
+                    cache.put(key, CompletableFuture.completedFuture(new CachedArchive(file, Files.size(file))));
+                }
+            }
+        }
+    }
+
+    /**
+     * 캐시된 압축 파일을 열고, 없으면 압축해 캐시에 저장한 뒤 열기
+     * (반환된 채널을 읽는 중 캐시에서 제거되어도 이미 연 파일은 끝까지 읽을 수 있음)
+     */
+    public FileChannel open(List<Path> targetPaths, CompressFileType compressFileType,
+        CompressOptions compressOptions) {
+        String key = key(targetPaths, compressFileType, compressOptions);
+
+        // 캐시에서 꺼낸 직후 제거되어 파일이 삭제된 경우 한 번 더 시도
+        for (int attempt = 0; ; attempt++) {
+            CachedArchive cachedArchive = getOrBuild(key, targetPaths, compressFileType, compressOptions);
+            try {
+                return FileChannel.open(cachedArchive.path(), StandardOpenOption.READ);
+            } catch (NoSuchFileException e) {
+                // 그 사이 다른 요청이 다시 만든 항목은 제거하지 않도록 꺼낸 항목일 때만 제거
+                cache.synchronous().asMap().remove(key, cachedArchive);
+                if (attempt > 0) {
+                    throw new InternalServerException("캐시된 압축 파일을 열 수 없습니다: " + key);
+                }
+            } catch (IOException e) {
+                throw new InternalServerException("캐시된 압축 파일을 열 수 없습니다: " + key);
+            }
+        }
+    }
+
+    public CacheStats stats() {
+        return cache.synchronous().stats();
+    }
+
+    private CachedArchive getOrBuild(String key, List<Path> targetPaths, CompressFileType compressFileType,
+        CompressOptions compressOptions) {
+        CompletableFuture<CachedArchive> created = new CompletableFuture<>();
+        CompletableFuture<CachedArchive> future = cache.get(key, (k, executor) -> created);
+        if (future == created) {
+            try {
+                created.complete(build(key, targetPaths, compressFileType, compressOptions));
+            } catch (RuntimeException e) {
+                // 실패한 결과는 캐시에서 자동으로 제거됨
+                created.completeExceptionally(e);
+            }
+        }
+
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private CachedArchive build(String key, List<Path> targetPaths, CompressFileType compressFileType,
+        CompressOptions compressOptions) {
+        Path target = directory.resolve(key + "." + UUID.randomUUID());
+        Path tempFile = null;
+        try {
+            tempFile = Files.createTempFile(directory, key, TEMP_FILE_SUFFIX);
+            try (OutputStream os = Files.newOutputStream(tempFile)) {
+                CompressionReport compressionReport = CompressUtils.compressToOutputStream(
+                    targetPaths, compressFileType, os, compressOptions);
+                log.debug("Archive cached. key: {}, {}", key, compressionReport);
+            }
+            Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE);
+            return new CachedArchive(target, Files.size(target));
+        } catch (IOException e) {
+            throw new InternalServerException("압축 결과를 캐시에 저장하는 중 오류가 발생했습니다: " + key);
+        } finally {
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException e) {
+                    log.warn("Failed to delete archive cache temp file. file: {}", tempFile, e);
+                }
+            }
+        }
+    }
+
+    private static String key(List<Path> targetPaths, CompressFileType compressFileType,
+        CompressOptions compressOptions) {
+        try {
+            return ArchiveFingerprint.of(targetPaths, compressFileType, compressOptions) + "."
+                + compressFileType.getExtension();
+        } catch (IOException e) {
+            throw new InternalServerException("압축 대상 정보를 읽는 중 오류가 발생했습니다.");
+        }
+    }
+
+    private static void delete(CachedArchive cachedArchive) {
+        if (cachedArchive == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(cachedArchive.path());
+        } catch (IOException e) {
+            log.warn("Failed to delete archive cache file. file: {}", cachedArchive.path(), e);
+        }
+    }
+
+    private record CachedArchive(Path path, long size) {
+
+        private int weight() {
+            return (int) Math.min(Integer.MAX_VALUE, size / 1024 + 1);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package server.api.archive.controller;
+
+import jakarta.validation.Valid;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import module.common.dto.SuccessResponse;
+import module.common.enums.CompressFileType;
+import module.common.exception.ErrorCode;
+import module.common.exception.ValidationException;
+import module.common.success.SuccessCode;
+import module.common.utils.CompressUtils;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import server.api.archive.dto.request.ArchiveDownloadRequestDto;
+import server.api.archive.dto.request.ArchiveEntryRequestDto;
+import server.api.archive.dto.response.ArchiveEntryListResponseDto;
+import server.api.archive.service.ArchiveService;
+import server.api.security.details.CustomUserDetails;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/archives")
+public class ArchiveController {
+
+    private final ArchiveService archiveService;
+
+    /**
+     * 사용자 저장소의 파일/디렉토리를 압축해 스트리밍 다운로드
+     * 응답 크기를 미리 알 수 없으므로 chunked 전송 (Content-Length 없음)
+     * 큰 파일은 spring.mvc.async.request-timeout 을 다운로드 시간보다 길게 설정해야 함
+     */
+    @GetMapping("/download")
+    public ResponseEntity<StreamingResponseBody> download(
+        @AuthenticationPrincipal CustomUserDetails userDetails,
+        @Valid @ModelAttribute ArchiveDownloadRequestDto requestDto
+    ) {
+        CompressFileType compressFileType = requestDto.getCompressFileType();
+        List<Path> targetPaths = archiveService.resolveTargets(
+            userDetails.customUserInfo().id(), requestDto.getPaths());
+
+        return ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                attachment(CompressUtils.getCompressFileName(targetPaths, compressFileType)))
+            .contentType(MediaType.parseMediaType(compressFileType.getContentType()))
+            .body(archiveService.streamArchive(targetPaths, compressFileType));
+    }
+
+    /**
+     * 압축 해제 없이 압축 파일 항목 목록 조회 (ZIP: central directory, TAR: 항목 위치 색인)
+     */
+    @GetMapping("/entries")
+    public ResponseEntity<SuccessResponse<ArchiveEntryListResponseDto>> entries(
+        @AuthenticationPrincipal CustomUserDetails userDetails,
+        @Valid @ModelAttribute ArchiveEntryRequestDto requestDto
+    ) {
+        Long userId = userDetails.customUserInfo().id();
+        Path archivePath = archiveService.resolveArchive(userId, requestDto.getPath());
+
+        return SuccessResponse.success(SuccessCode.OK_SUCCESS,
+            ArchiveEntryListResponseDto.of(requestDto.getPath(), archiveService.listEntries(userId, archivePath)));
+    }
+
+    /**
+     * 압축 파일의 항목만 다운로드
+     * - entry: 항목 하나를 원본 그대로 다운로드
+     * - glob: 일치하는 항목을 ZIP 으로 묶어 다운로드 (원본이 ZIP 이면 다시 압축하지 않음)
+     * 압축된 TAR(tar.gz 등)는 항목 위치를 알 수 없어 glob 확인과 다운로드에서 각각 처음부터 읽음
+     */
+    @GetMapping("/entries/download")
+    public ResponseEntity<StreamingResponseBody> downloadEntries(
+        @AuthenticationPrincipal CustomUserDetails userDetails,
+        @Valid @ModelAttribute ArchiveEntryRequestDto requestDto
+    ) {
+        boolean hasEntry = StringUtils.hasText(requestDto.getEntry());
+        if (hasEntry == StringUtils.hasText(requestDto.getGlob())) {
+            throw new ValidationException("entry, glob 중 하나만 입력해야 합니다.",
+                ErrorCode.VALIDATION_REQUEST_MISSING_EXCEPTION);
+        }
+
+        Long userId = userDetails.customUserInfo().id();
+        Path archivePath = archiveService.resolveArchive(userId, requestDto.getPath());
+
+        if (hasEntry) {
+            String entryName = requestDto.getEntry();
+            String fileName = entryName.substring(entryName.lastIndexOf('/') + 1);
+            return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, attachment(fileName))
+                .contentType(MediaTypeFactory.getMediaType(fileName).orElse(MediaType.APPLICATION_OCTET_STREAM))
+                .body(archiveService.streamEntry(userId, archivePath, entryName));
+        }
+
+        archiveService.findEntries(userId, archivePath, requestDto.getGlob());
+        String fileName = StringUtils.stripFilenameExtension(archivePath.getFileName().toString()) + "-entries."
+            + CompressFileType.ZIP.getExtension();
+        return ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_DISPOSITION, attachment(fileName))
+            .contentType(MediaType.parseMediaType(CompressFileType.ZIP.getContentType()))
+            .body(archiveService.streamEntries(userId, archivePath, requestDto.getGlob()));
+    }
+
+    private static String attachment(String fileName) {
+        return ContentDisposition.attachment()
+            .filename(fileName, StandardCharsets.UTF_8)
+            .build()
+            .toString();
+    }
+}
@@ -0,0 +1,81 @@
+package server.api.archive.controller;
+
+import jakarta.validation.Valid;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import module.common.dto.SuccessResponse;
+import module.common.success.SuccessCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import server.api.archive.dto.request.ArchiveCompressJobRequestDto;
+import server.api.archive.dto.request.ArchiveDecompressJobRequestDto;
+import server.api.archive.dto.response.ArchiveJobResponseDto;
+import server.api.archive.job.ArchiveJobService;
+import server.api.security.details.CustomUserDetails;
+
+/**
+ * 비동기 압축 / 압축 해제 작업
+ * 작업 요청은 작업 id 를 바로 반환하고, 상태 / 진행률 / 결과 경로는 조회 API 로 확인
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/archives/jobs")
+public class ArchiveJobController {
+
+    private final ArchiveJobService archiveJobService;
+
+    @PostMapping("/compress")
+    public ResponseEntity<SuccessResponse<ArchiveJobResponseDto>> compress(
+        @AuthenticationPrincipal CustomUserDetails userDetails,
+        @Valid @RequestBody ArchiveCompressJobRequestDto requestDto
+    ) {
+        return SuccessResponse.success(SuccessCode.CREATED_SUCCESS, ArchiveJobResponseDto.of(
+            archiveJobService.submitCompress(userDetails.customUserInfo().id(), userDetails.customUserInfo().role(),
+                requestDto.getPaths(), requestDto.getCompressFileType(), requestDto.getPriority())));
+    }
+
+    @PostMapping("/decompress")
+    public ResponseEntity<SuccessResponse<ArchiveJobResponseDto>> decompress(
+        @AuthenticationPrincipal CustomUserDetails userDetails,
+        @Valid @RequestBody ArchiveDecompressJobRequestDto requestDto
+    ) {
+        return SuccessResponse.success(SuccessCode.CREATED_SUCCESS, ArchiveJobResponseDto.of(
+            archiveJobService.submitDecompress(userDetails.customUserInfo().id(), userDetails.customUserInfo().role(),
+                requestDto.getPath(), requestDto.getPriority())));
+    }
+
+    // 최근 작업 목록 (최신순)
+    @GetMapping
+    public ResponseEntity<SuccessResponse<List<ArchiveJobResponseDto>>> jobs(
+        @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        return SuccessResponse.success(SuccessCode.OK_SUCCESS,
+            ArchiveJobResponseDto.of(archiveJobService.getJobs(userDetails.customUserInfo().id())));
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<SuccessResponse<ArchiveJobResponseDto>> job(
+        @AuthenticationPrincipal CustomUserDetails userDetails,
+        @PathVariable String jobId
+    ) {
+        return SuccessResponse.success(SuccessCode.OK_SUCCESS,
+            ArchiveJobResponseDto.of(archiveJobService.getJob(userDetails.customUserInfo().id(), jobId)));
+    }
+
+    // 취소 요청 (실제 중단 여부는 status 가 CANCELLED 로 바뀌었는지로 확인)
+    @DeleteMapping("/{jobId}")
+    public ResponseEntity<SuccessResponse<ArchiveJobResponseDto>> cancel(
+        @AuthenticationPrincipal CustomUserDetails userDetails,
+        @PathVariable String jobId
+    ) {
+        return SuccessResponse.success(SuccessCode.OK_SUCCESS,
+            ArchiveJobResponseDto.of(archiveJobService.cancel(userDetails.customUserInfo().id(), jobId)));
+    }
+}
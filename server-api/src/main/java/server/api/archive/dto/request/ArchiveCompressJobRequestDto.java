@@ -0,0 +1,30 @@
+package server.api.archive.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import module.common.enums.CompressFileType;
+import server.api.archive.job.ArchiveJobPriority;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder(access = AccessLevel.PRIVATE)
+public class ArchiveCompressJobRequestDto {
+    // 사용자 저장소 기준 상대 경로 (파일 또는 디렉토리)
+    @NotEmpty
+    private List<String> paths;
+    @NotNull
+    private CompressFileType compressFileType;
+    // 관리자만 지정 가능 (입력하지 않거나 관리자가 아니면 NORMAL)
+    private ArchiveJobPriority priority;
+
+    public ArchiveJobPriority getPriority() {
+        return priority == null ? ArchiveJobPriority.NORMAL : priority;
+    }
+}
@@ -0,0 +1,25 @@
+package server.api.archive.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import server.api.archive.job.ArchiveJobPriority;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder(access = AccessLevel.PRIVATE)
+public class ArchiveDecompressJobRequestDto {
+    // 사용자 저장소 기준 압축 파일 상대 경로 (같은 디렉토리에 압축 해제)
+    @NotBlank
+    private String path;
+    // 관리자만 지정 가능 (입력하지 않거나 관리자가 아니면 NORMAL)
+    private ArchiveJobPriority priority;
+
+    public ArchiveJobPriority getPriority() {
+        return priority == null ? ArchiveJobPriority.NORMAL : priority;
+    }
+}
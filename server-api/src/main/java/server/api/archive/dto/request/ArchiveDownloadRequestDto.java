@@ -0,0 +1,23 @@
+package server.api.archive.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import module.common.enums.CompressFileType;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder(access = AccessLevel.PRIVATE)
+public class ArchiveDownloadRequestDto {
+    // 사용자 저장소 기준 상대 경로 (파일 또는 디렉토리)
+    @NotEmpty
+    private List<String> paths;
+    @NotNull
+    private CompressFileType compressFileType;
+}
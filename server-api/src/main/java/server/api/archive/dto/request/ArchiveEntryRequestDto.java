@@ -0,0 +1,22 @@
+package server.api.archive.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder(access = AccessLevel.PRIVATE)
+public class ArchiveEntryRequestDto {
+    // 사용자 저장소 기준 압축 파일 상대 경로
+    @NotBlank
+    private String path;
+    // 압축 파일 내 항목명 (entry, glob 중 하나만 입력)
+    private String entry;
+    // 압축 파일 내 항목명 glob 패턴 (일치하는 항목을 ZIP 으로 묶어 다운로드)
+    private String glob;
+}
@@ -0,0 +1,25 @@
+package server.api.archive.dto.response;
+
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import module.common.dto.ArchiveEntryInfo;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder(access = AccessLevel.PRIVATE)
+public class ArchiveEntryListResponseDto {
+    private String path;
+    private List<ArchiveEntryInfo> entries;
+
+    public static ArchiveEntryListResponseDto of(String path, List<ArchiveEntryInfo> entries) {
+        return ArchiveEntryListResponseDto.builder()
+            .path(path)
+            .entries(entries)
+            .build();
+    }
+}
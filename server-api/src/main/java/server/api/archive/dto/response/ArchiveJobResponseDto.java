@@ -0,0 +1,64 @@
+package server.api.archive.dto.response;
+
+import java.time.Instant;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import module.common.enums.CompressFileType;
+import server.api.archive.job.ArchiveJob;
+import server.api.archive.job.ArchiveJobPriority;
+import server.api.archive.job.ArchiveJobStatus;
+import server.api.archive.job.ArchiveJobType;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder(access = AccessLevel.PRIVATE)
+public class ArchiveJobResponseDto {
+    private String jobId;
+    private ArchiveJobType type;
+    private ArchiveJobStatus status;
+    private ArchiveJobPriority priority;
+    private List<String> sources;
+    private CompressFileType compressFileType;
+    // 진행률 (0.0 ~ 1.0)
+    private double progress;
+    private long entriesDone;
+    private long bytesDone;
+    private long estimatedBytes;
+    // 완료된 결과의 사용자 저장소 기준 상대 경로
+    private String resultPath;
+    private String error;
+    private boolean cancelRequested;
+    private Instant createdAt;
+    private Instant updatedAt;
+
+    public static ArchiveJobResponseDto of(ArchiveJob archiveJob) {
+        return ArchiveJobResponseDto.builder()
+            .jobId(archiveJob.jobId())
+            .type(archiveJob.type())
+            .status(archiveJob.status())
+            .priority(archiveJob.priority())
+            .sources(archiveJob.sources())
+            .compressFileType(archiveJob.compressFileType())
+            .progress(archiveJob.progress())
+            .entriesDone(archiveJob.entriesDone())
+            .bytesDone(archiveJob.bytesDone())
+            .estimatedBytes(archiveJob.estimatedBytes())
+            .resultPath(archiveJob.resultPath())
+            .error(archiveJob.error())
+            .cancelRequested(archiveJob.cancelRequested())
+            .createdAt(archiveJob.createdAt())
+            .updatedAt(archiveJob.updatedAt())
+            .build();
+    }
+
+    public static List<ArchiveJobResponseDto> of(List<ArchiveJob> archiveJobs) {
+        return archiveJobs.stream()
+            .map(ArchiveJobResponseDto::of)
+            .toList();
+    }
+}
@@ -0,0 +1,110 @@
+package server.api.archive.job;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import module.common.enums.CompressFileType;
+
+/**
+ * 압축 / 압축 해제 작업 상태 (Redis hash 한 개에 저장)
+ *
+ * @param sources          사용자 저장소 기준 상대 경로 (압축: 대상 목록, 압축 해제: 압축 파일 하나)
+ * @param compressFileType 압축 형식 (압축 해제 작업은 null)
+ * @param resultPath       완료된 결과의 사용자 저장소 기준 상대 경로
+ * @param cancelRequested  취소 요청 여부 (실행 중인 노드가 처리하면 status 가 CANCELLED 로 바뀜)
+ */
+public record ArchiveJob(
+    String jobId,
+    Long userId,
+    ArchiveJobType type,
+    ArchiveJobStatus status,
+    ArchiveJobPriority priority,
+    List<String> sources,
+    CompressFileType compressFileType,
+    String resultPath,
+    String error,
+    long entriesDone,
+    long bytesDone,
+    long estimatedEntries,
+    long estimatedBytes,
+    boolean cancelRequested,
+    Instant createdAt,
+    Instant updatedAt
+) {
+
+    // 경로 목록 구분자 (경로에 포함될 수 없는 문자)
+    private static final String SOURCE_SEPARATOR = "\0";
+
+    static final String STATUS = "status";
+    static final String RESULT_PATH = "resultPath";
+    static final String ERROR = "error";
+    static final String ENTRIES_DONE = "entriesDone";
+    static final String BYTES_DONE = "bytesDone";
+    static final String ESTIMATED_ENTRIES = "estimatedEntries";
+    static final String ESTIMATED_BYTES = "estimatedBytes";
+    static final String CANCEL_REQUESTED = "cancelRequested";
+    static final String UPDATED_AT = "updatedAt";
+
+    public static ArchiveJob queued(String jobId, Long userId, ArchiveJobType type, ArchiveJobPriority priority,
+        List<String> sources, CompressFileType compressFileType) {
+        Instant now = Instant.now();
+        return new ArchiveJob(jobId, userId, type, ArchiveJobStatus.QUEUED, priority, sources, compressFileType,
+            null, null, 0, 0, 0, 0, false, now, now);
+    }
+
+    // 진행률 (0.0 ~ 1.0, 압축 해제 작업은 완료 전까지 0)
+    public double progress() {
+        if (status == ArchiveJobStatus.COMPLETED) {
+            return 1.0;
+        }
+        if (estimatedBytes > 0) {
+            return Math.min(1.0, (double) bytesDone / estimatedBytes);
+        }
+        return estimatedEntries > 0 ? Math.min(1.0, (double) entriesDone / estimatedEntries) : 0.0;
+    }
+
+    Map<String, String> toHash() {
+        Map<String, String> hash = new HashMap<>();
+        hash.put("jobId", jobId);
+        hash.put("userId", String.valueOf(userId));
+        hash.put("type", type.name());
+        hash.put(STATUS, status.name());
+        hash.put("priority", priority.name());
+        hash.put("sources", String.join(SOURCE_SEPARATOR, sources));
+        if (compressFileType != null) {
+            hash.put("compressFileType", compressFileType.name());
+        }
+        hash.put(ENTRIES_DONE, String.valueOf(entriesDone));
+        hash.put(BYTES_DONE, String.valueOf(bytesDone));
+        hash.put(ESTIMATED_ENTRIES, String.valueOf(estimatedEntries));
+        hash.put(ESTIMATED_BYTES, String.valueOf(estimatedBytes));
+        hash.put(CANCEL_REQUESTED, String.valueOf(cancelRequested));
+        hash.put("createdAt", String.valueOf(createdAt.toEpochMilli()));
+        hash.put(UPDATED_AT, String.valueOf(updatedAt.toEpochMilli()));
+        return hash;
+    }
+
+    static ArchiveJob fromHash(Map<Object, Object> hash) {
+        String compressFileType = (String) hash.get("compressFileType");
+        return new ArchiveJob(
+            (String) hash.get("jobId"),
+            Long.valueOf((String) hash.get("userId")),
+            ArchiveJobType.valueOf((String) hash.get("type")),
+            ArchiveJobStatus.valueOf((String) hash.get(STATUS)),
+            ArchiveJobPriority.valueOf((String) hash.get("priority")),
+            Arrays.asList(((String) hash.get("sources")).split(SOURCE_SEPARATOR)),
+            compressFileType == null ? null : CompressFileType.valueOf(compressFileType),
+            (String) hash.get(RESULT_PATH),
+            (String) hash.get(ERROR),
+            Long.parseLong((String) hash.get(ENTRIES_DONE)),
+            Long.parseLong((String) hash.get(BYTES_DONE)),
+            Long.parseLong((String) hash.get(ESTIMATED_ENTRIES)),
+            Long.parseLong((String) hash.get(ESTIMATED_BYTES)),
+            Boolean.parseBoolean((String) hash.get(CANCEL_REQUESTED)),
+            Instant.ofEpochMilli(Long.parseLong((String) hash.get("createdAt"))),
+            Instant.ofEpochMilli(Long.parseLong((String) hash.get(UPDATED_AT)))
+        );
+    }
+}
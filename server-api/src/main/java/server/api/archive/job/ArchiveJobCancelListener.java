@@ -0,0 +1,22 @@
+package server.api.archive.job;
+
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 압축 작업 취소 메시지(작업 id)를 수신해 이 노드에서 대기 / 실행 중인 작업을 취소
+ */
+@Component
+@RequiredArgsConstructor
+public class ArchiveJobCancelListener implements MessageListener {
+
+    private final ArchiveJobService archiveJobService;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        archiveJobService.cancelLocal(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,219 @@
+package server.api.archive.job;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import module.common.exception.ConflictException;
+import module.common.exception.ErrorCode;
+import module.common.exception.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 압축 작업 전용 실행기 (노드 단위)
+ * - 요청 처리 스레드, applicationTaskExecutor 와 분리된 고정 개수의 작업 스레드에서 실행
+ *   작업이 사용하는 CPU 는 작업 스레드 수 * 작업당 스레드 수(archive.job.parallelism)로만 제한되므로
+ *   시작 시 그 값이 CPU 코어 수를 넘지 않도록 작업 스레드 수를 줄임
+ *   (스레드 우선순위는 Linux HotSpot 에서 기본적으로 적용되지 않아 사용하지 않음)
+ * - 대기 중인 작업은 우선순위 -> 요청 순서로 실행하되, 사용자별 동시 실행 수를 넘는 작업은 건너뜀
+ *   (한 사용자의 대량 요청이 작업 스레드를 모두 차지하지 않도록)
+ * - 전체 / 사용자별 대기 작업 수를 제한해 요청이 몰려도 메모리 사용량이 늘어나지 않음
+ * - 실행 중인 작업 취소는 작업 스레드 interrupt (압축 유틸은 항목 단위로 interrupt 를 확인해 중단)
+ */
+@Slf4j
+@Component
+public class ArchiveJobExecutor {
+
+    public enum CancelResult {
+        // 이 노드에 없는 작업
+        NOT_FOUND,
+        // 대기 중인 작업을 실행 전에 제거
+        DEQUEUED,
+        // 실행 중인 작업 스레드에 interrupt
+        INTERRUPTED
+    }
+
+    private final int workerCount;
+    private final int maxRunningPerUser;
+    private final int maxQueued;
+    private final int maxQueuedPerUser;
+    private final List<Thread> workers = new ArrayList<>();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition jobAvailable = lock.newCondition();
+    private final TreeSet<QueuedJob> queue = new TreeSet<>(
+        Comparator.comparing(QueuedJob::priority).thenComparingLong(QueuedJob::sequence));
+    private final Map<Long, Integer> runningPerUser = new HashMap<>();
+    private final Map<String, Thread> runningJobs = new HashMap<>();
+    private long sequence;
+    private boolean shutdown;
+
+    public ArchiveJobExecutor(
+        // 작업 스레드 수 (0 이하이면 CPU 코어 수의 절반을 작업당 스레드 수로 나눈 값, 나머지 코어는 API 요청 처리에 사용)
+        @Value("${archive.job.workers:0}") int workers,
+        // 작업 하나가 사용할 압축 / 압축 해제 스레드 수 (ArchiveJobService 와 같은 설정)
+        @Value("${archive.job.parallelism:1}") int parallelism,
+        @Value("${archive.job.max-running-per-user:1}") int maxRunningPerUser,
+        @Value("${archive.job.max-queued:100}") int maxQueued,
+        @Value("${archive.job.max-queued-per-user:10}") int maxQueuedPerUser
+    ) {
+        this.workerCount = resolveWorkerCount(workers, parallelism, Runtime.getRuntime().availableProcessors());
+        this.maxRunningPerUser = maxRunningPerUser;
+        this.maxQueued = maxQueued;
+        this.maxQueuedPerUser = maxQueuedPerUser;
+    }
+
+    // 작업 스레드 수 * 작업당 스레드 수가 CPU 코어 수를 넘지 않도록 제한 (최소 1)
+    static int resolveWorkerCount(int workers, int parallelism, int cores) {
+        int threadsPerJob = Math.max(1, parallelism);
+        int maxWorkers = Math.max(1, cores / threadsPerJob);
+        if (workers <= 0) {
+            return Math.max(1, cores / 2 / threadsPerJob);
+        }
+        if (workers > maxWorkers) {
+            log.warn("archive.job.workers({}) * archive.job.parallelism({}) exceeds {} cores. Using {} workers.",
+                workers, threadsPerJob, cores, maxWorkers);
+            return maxWorkers;
+        }
+        return workers;
+    }
+
+    @PostConstruct
+    void start() {
+        for (int i = 1; i <= workerCount; i++) {
+            Thread thread = new Thread(this::work, "archive-job-" + i);
+            thread.setDaemon(true);
+            workers.add(thread);
+            thread.start();
+        }
+    }
+
+    /**
+     * 작업 등록 (대기 작업 수를 넘으면 거부)
+     *
+     * @throws ServiceUnavailableException 전체 대기 작업 수 초과
+     * @throws ConflictException           사용자별 대기 작업 수 초과
+     */
+    public void submit(String jobId, Long userId, ArchiveJobPriority priority, Runnable task) {
+        lock.lock();
+        try {
+            if (shutdown || queue.size() >= maxQueued) {
+                throw new ServiceUnavailableException("압축 작업 대기열이 가득 찼습니다.",
+                    ErrorCode.SERVICE_UNAVAILABLE_ARCHIVE_JOB_BUSY_EXCEPTION);
+            }
+            long queuedByUser = queue.stream().filter(queuedJob -> queuedJob.userId().equals(userId)).count();
+            if (queuedByUser >= maxQueuedPerUser) {
+                throw new ConflictException("사용자의 대기 작업 수를 초과했습니다: " + userId,
+                    ErrorCode.CONFLICT_ARCHIVE_JOB_LIMIT_EXCEPTION);
+            }
+
+            queue.add(new QueuedJob(jobId, userId, priority, sequence++, task));
+            jobAvailable.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public CancelResult cancel(String jobId) {
+        lock.lock();
+        try {
+            if (queue.removeIf(queuedJob -> queuedJob.jobId().equals(jobId))) {
+                return CancelResult.DEQUEUED;
+            }
+            // 작업이 끝나 목록에서 제거된 스레드는 interrupt 하지 않음 (다음 작업에 영향 없도록 lock 안에서 확인)
+            Thread thread = runningJobs.get(jobId);
+            if (thread != null) {
+                thread.interrupt();
+                return CancelResult.INTERRUPTED;
+            }
+            return CancelResult.NOT_FOUND;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        lock.lock();
+        try {
+            shutdown = true;
+            queue.clear();
+            jobAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        workers.forEach(Thread::interrupt);
+    }
+
+    private void work() {
+        while (true) {
+            QueuedJob queuedJob;
+            try {
+                queuedJob = take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (queuedJob == null) {
+                return;
+            }
+
+            try {
+                queuedJob.task().run();
+            } catch (RuntimeException e) {
+                log.error("Archive job failed. jobId: {}", queuedJob.jobId(), e);
+            } finally {
+                release(queuedJob);
+            }
+        }
+    }
+
+    // 실행 가능한 작업 중 우선순위가 가장 높은 작업 (종료 시 null)
+    private QueuedJob take() throws InterruptedException {
+        lock.lock();
+        try {
+            while (!shutdown) {
+                Iterator<QueuedJob> iterator = queue.iterator();
+                while (iterator.hasNext()) {
+                    QueuedJob queuedJob = iterator.next();
+                    if (runningPerUser.getOrDefault(queuedJob.userId(), 0) < maxRunningPerUser) {
+                        iterator.remove();
+                        runningPerUser.merge(queuedJob.userId(), 1, Integer::sum);
+                        runningJobs.put(queuedJob.jobId(), Thread.currentThread());
+                        return queuedJob;
+                    }
+                }
+                // 대기 작업이 없거나 모두 사용자별 동시 실행 수에 걸린 경우 (작업 등록 / 종료 시 signal)
+                jobAvailable.await();
+            }
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(QueuedJob queuedJob) {
+        lock.lock();
+        try {
+            runningJobs.remove(queuedJob.jobId());
+            runningPerUser.computeIfPresent(queuedJob.userId(), (userId, count) -> count > 1 ? count - 1 : null);
+            // 작업 종료 직전에 취소된 경우 interrupt 상태가 다음 작업에 남지 않도록 초기화
+            Thread.interrupted();
+            // 같은 사용자의 대기 작업이 실행 가능해졌으므로 다른 작업 스레드도 깨움
+            jobAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record QueuedJob(String jobId, Long userId, ArchiveJobPriority priority, long sequence, Runnable task) {
+    }
+}
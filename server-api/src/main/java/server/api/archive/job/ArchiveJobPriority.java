@@ -0,0 +1,10 @@
+package server.api.archive.job;
+
+/**
+ * 작업 실행 우선순위 (같은 우선순위는 먼저 요청한 작업부터 실행)
+ */
+public enum ArchiveJobPriority {
+    HIGH,
+    NORMAL,
+    LOW
+}
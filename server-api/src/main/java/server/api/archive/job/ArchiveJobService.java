@@ -0,0 +1,285 @@
+package server.api.archive.job;
+
+import jakarta.annotation.PostConstruct;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import module.common.contstant.RedisKey;
+import module.common.dto.CompressOptions;
+import module.common.enums.CompressFileType;
+import module.common.enums.RoleType;
+import module.common.exception.ConflictException;
+import module.common.exception.CustomException;
+import module.common.exception.ErrorCode;
+import module.common.exception.NotFoundException;
+import module.common.utils.CompressUtils;
+import module.common.utils.DecompressUtils;
+import module.core.domain.blob.BlobStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import server.api.archive.service.ArchiveService;
+import server.api.storage.UserStorage;
+
+/**
+ * 비동기 압축 / 압축 해제 작업
+ * - 요청 시 작업 id 를 바로 반환하고, 작업은 ArchiveJobExecutor 의 작업 스레드에서 실행
+ * - 상태 / 진행률 / 결과 경로는 ArchiveJobStore(Redis)에 기록하므로 어느 노드에서든 조회 가능
+ * - 취소는 Redis pub/sub 으로 모든 노드에 전달하고, 작업을 가진 노드가 처리
+ *   메시지를 놓쳐도 작업 상태에 기록한 취소 요청을 실행 전 / 압축 진행 상황 기록 시 확인해 중단
+ * - 압축은 임시 파일(.{파일명}.{작업 id}.part)에 기록한 뒤 이동, 실패 / 취소 시 임시 파일 삭제
+ *   압축 해제는 실패 / 취소 시 DecompressUtils 가 생성한 디렉토리를 삭제
+ * - 압축 결과는 기록하면서 SHA-256 을 계산해 BlobStore 에 등록 (같은 대상을 다시 압축한 결과는 중복 제거)
+ * - 우선순위는 관리자만 지정할 수 있고, 그 외 사용자의 작업은 항상 NORMAL
+ * - 작업 대기열은 노드 메모리에만 있으므로, 시작 시 이전 프로세스가 끝내지 못한 이 노드의 작업을 FAILED 로 처리
+ */
+@Slf4j
+@Service
+public class ArchiveJobService {
+
+    private static final int RECENT_JOB_LIMIT = 50;
+    private static final String PART_FILE_SUFFIX = ".part";
+    private static final String INTERRUPTED_BY_RESTART = "서버가 재시작되어 작업이 중단되었습니다.\n다시 요청해주세요.";
+
+    private final ArchiveService archiveService;
+    private final ArchiveJobStore archiveJobStore;
+    private final ArchiveJobExecutor archiveJobExecutor;
+    private final UserStorage userStorage;
+    private final BlobStore blobStore;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final CompressOptions compressOptions;
+    private final int decompressParallelism;
+
+    public ArchiveJobService(
+        ArchiveService archiveService,
+        ArchiveJobStore archiveJobStore,
+        ArchiveJobExecutor archiveJobExecutor,
+        UserStorage userStorage,
+        BlobStore blobStore,
+        RedisTemplate<String, Object> redisTemplate,
+        // 작업 하나가 사용할 압축 / 압축 해제 스레드 수
+        // (작업 스레드 수 * parallelism 이 CPU 코어 수를 넘으면 ArchiveJobExecutor 가 작업 스레드 수를 줄임)
+        @Value("${archive.job.parallelism:1}") int parallelism
+    ) {
+        this.archiveService = archiveService;
+        this.archiveJobStore = archiveJobStore;
+        this.archiveJobExecutor = archiveJobExecutor;
+        this.userStorage = userStorage;
+        this.blobStore = blobStore;
+        this.redisTemplate = redisTemplate;
+        this.compressOptions = archiveService.getCompressOptions().withParallelism(parallelism);
+        this.decompressParallelism = parallelism;
+    }
+
+    // 재시작 전에 대기 / 실행 중이던 이 노드의 작업은 다시 실행되지 않으므로 FAILED 로 처리
+    @PostConstruct
+    void failInterruptedJobs() {
+        try {
+            for (String jobId : archiveJobStore.findNodeJobIds()) {
+                Optional<ArchiveJob> archiveJob = archiveJobStore.find(jobId);
+                if (archiveJob.isPresent() && !archiveJob.get().status().isFinished()) {
+                    archiveJobStore.fail(jobId, INTERRUPTED_BY_RESTART);
+                    log.info("Archive job interrupted by restart. jobId: {}", jobId);
+                } else {
+                    // 만료되었거나 이미 종료된 작업
+                    archiveJobStore.removeNodeJob(jobId);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to clean up archive jobs interrupted by restart.", e);
+        }
+    }
+
+    /**
+     * @param requesterRole 요청한 사용자의 권한 (관리자가 아니면 priority 는 무시하고 NORMAL)
+     */
+    public ArchiveJob submitCompress(Long userId, RoleType requesterRole, List<String> paths,
+        CompressFileType compressFileType, ArchiveJobPriority priority) {
+        List<Path> targetPaths = archiveService.resolveTargets(userId, paths);
+        ArchiveJob archiveJob = ArchiveJob.queued(newJobId(), userId, ArchiveJobType.COMPRESS,
+            resolvePriority(requesterRole, priority), paths, compressFileType);
+
+        return submit(archiveJob, () -> runCompress(archiveJob, targetPaths, compressFileType));
+    }
+
+    public ArchiveJob submitDecompress(Long userId, RoleType requesterRole, String path,
+        ArchiveJobPriority priority) {
+        Path archivePath = archiveService.resolveArchive(userId, path);
+        ArchiveJob archiveJob = ArchiveJob.queued(newJobId(), userId, ArchiveJobType.DECOMPRESS,
+            resolvePriority(requesterRole, priority), List.of(path), null);
+
+        return submit(archiveJob, () -> runDecompress(archiveJob, archivePath));
+    }
+
+    // 사용자 본인의 작업만 조회 (다른 사용자의 작업은 존재하지 않는 작업으로 처리)
+    public ArchiveJob getJob(Long userId, String jobId) {
+        return archiveJobStore.find(jobId)
+            .filter(archiveJob -> archiveJob.userId().equals(userId))
+            .orElseThrow(() -> new NotFoundException("존재하지 않는 압축 작업입니다: " + jobId,
+                ErrorCode.NOT_FOUND_ARCHIVE_JOB_EXCEPTION));
+    }
+
+    public List<ArchiveJob> getJobs(Long userId) {
+        return archiveJobStore.findByUser(userId, RECENT_JOB_LIMIT);
+    }
+
+    /**
+     * 작업 취소 요청 (대기 중인 작업은 실행되지 않고, 실행 중인 작업은 다음 항목을 처리하기 전에 중단)
+     * 작업이 실제로 중단되면 상태가 CANCELLED 로 바뀜
+     */
+    public ArchiveJob cancel(Long userId, String jobId) {
+        ArchiveJob archiveJob = getJob(userId, jobId);
+        if (archiveJob.status().isFinished()) {
+            throw new ConflictException("이미 종료된 압축 작업입니다: " + jobId,
+                ErrorCode.CONFLICT_ARCHIVE_JOB_FINISHED_EXCEPTION);
+        }
+
+        archiveJobStore.requestCancel(jobId);
+        redisTemplate.convertAndSend(RedisKey.ARCHIVE_JOB_CANCEL_CHANNEL, jobId);
+        return getJob(userId, jobId);
+    }
+
+    // 취소 메시지 수신 시 이 노드에 있는 작업만 취소
+    void cancelLocal(String jobId) {
+        if (archiveJobExecutor.cancel(jobId) == ArchiveJobExecutor.CancelResult.DEQUEUED) {
+            archiveJobStore.updateStatus(jobId, ArchiveJobStatus.CANCELLED);
+            log.info("Archive job cancelled before start. jobId: {}", jobId);
+        }
+    }
+
+    // 클라이언트가 우선순위를 정하면 모든 작업을 HIGH 로 요청해 다른 사용자보다 먼저 실행할 수 있으므로 관리자만 허용
+    private static ArchiveJobPriority resolvePriority(RoleType requesterRole, ArchiveJobPriority priority) {
+        return requesterRole == RoleType.ROLE_ADMIN && priority != null ? priority : ArchiveJobPriority.NORMAL;
+    }
+
+    private ArchiveJob submit(ArchiveJob archiveJob, Runnable task) {
+        archiveJobStore.create(archiveJob);
+        try {
+            archiveJobExecutor.submit(archiveJob.jobId(), archiveJob.userId(), archiveJob.priority(), task);
+        } catch (CustomException e) {
+            archiveJobStore.delete(archiveJob);
+            throw e;
+        }
+        return archiveJob;
+    }
+
+    private void runCompress(ArchiveJob archiveJob, List<Path> targetPaths, CompressFileType compressFileType) {
+        String jobId = archiveJob.jobId();
+        if (cancelledBeforeStart(jobId)) {
+            return;
+        }
+        archiveJobStore.updateStatus(jobId, ArchiveJobStatus.RUNNING);
+
+        Path destPath = CompressUtils.resolveCompressFilePath(targetPaths, null, compressFileType);
+        Path partPath = destPath.resolveSibling("." + destPath.getFileName() + "." + jobId + PART_FILE_SUFFIX);
+        MessageDigest digest = BlobStore.newDigest();
+        try {
+            try (OutputStream os = new BufferedOutputStream(
+                new DigestOutputStream(Files.newOutputStream(partPath), digest))) {
+                CompressUtils.compressToOutputStream(targetPaths, compressFileType, os, compressOptions,
+                    progress -> {
+                        archiveJobStore.updateProgress(jobId, progress);
+                        checkCancelRequested(jobId);
+                    });
+            }
+            Files.move(partPath, destPath);
+            blobStore.adopt(destPath, BlobStore.toHash(digest));
+            archiveJobStore.complete(jobId, relativePath(archiveJob.userId(), destPath));
+            log.info("Archive compress job completed. jobId: {}, result: {}", jobId, destPath);
+        } catch (IOException | RuntimeException e) {
+            // 취소 interrupt 로 Redis 명령이 실패하거나 walker 의 UncheckedIOException 등도 작업을 종료 상태로 기록
+            finishWithError(jobId, e);
+        } finally {
+            // 완료된 경우 이미 이동되어 없음
+            deletePartFile(partPath);
+        }
+    }
+
+    private void runDecompress(ArchiveJob archiveJob, Path archivePath) {
+        String jobId = archiveJob.jobId();
+        if (cancelledBeforeStart(jobId)) {
+            return;
+        }
+        archiveJobStore.updateStatus(jobId, ArchiveJobStatus.RUNNING);
+
+        try {
+            Path destPath = DecompressUtils.saveDecompressFile(archivePath, null, decompressParallelism,
+                compressOptions.entryFilter());
+            archiveJobStore.complete(jobId, relativePath(archiveJob.userId(), destPath));
+            log.info("Archive decompress job completed. jobId: {}, result: {}", jobId, destPath);
+        } catch (RuntimeException e) {
+            finishWithError(jobId, e);
+        }
+    }
+
+    /**
+     * 취소 메시지(pub/sub)는 구독이 다시 연결되는 동안이나 대기열에서 꺼낸 직후에 도착하면 놓칠 수 있으므로
+     * 실행 전에 작업 상태의 취소 요청을 다시 확인
+     */
+    private boolean cancelledBeforeStart(String jobId) {
+        if (!archiveJobStore.isCancelRequested(jobId)) {
+            return false;
+        }
+        archiveJobStore.updateStatus(jobId, ArchiveJobStatus.CANCELLED);
+        log.info("Archive job cancelled before start. jobId: {}", jobId);
+        return true;
+    }
+
+    // 실행 중에도 진행 상황을 기록할 때마다 확인해, 취소 요청이 있으면 메시지를 받은 경우와 같이 작업 스레드 interrupt
+    private void checkCancelRequested(String jobId) {
+        if (archiveJobStore.isCancelRequested(jobId)) {
+            archiveJobExecutor.cancel(jobId);
+        }
+    }
+
+    /**
+     * 작업 스레드가 interrupt 된 경우(취소) CANCELLED, 그 외 FAILED
+     * interrupt 상태에서는 Redis 명령이 바로 실패하므로 상태를 지운 뒤 기록하고 다시 설정
+     */
+    private void finishWithError(String jobId, Exception e) {
+        boolean cancelled = Thread.interrupted();
+        try {
+            if (cancelled) {
+                archiveJobStore.updateStatus(jobId, ArchiveJobStatus.CANCELLED);
+                log.info("Archive job cancelled. jobId: {}", jobId);
+                return;
+            }
+
+            // 응답과 같이 서버 경로가 포함된 예외 메시지 대신 ErrorCode 메시지를 저장
+            ErrorCode errorCode = e instanceof CustomException customException ? customException.getErrorCode()
+                : ErrorCode.INTERNAL_SERVER_EXCEPTION;
+            archiveJobStore.fail(jobId, errorCode.getMessage());
+            log.warn("Archive job failed. jobId: {}", jobId, e);
+        } catch (RuntimeException storeException) {
+            log.error("Failed to record archive job result. jobId: {}", jobId, storeException);
+        } finally {
+            if (cancelled) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void deletePartFile(Path partPath) {
+        try {
+            Files.deleteIfExists(partPath);
+        } catch (IOException e) {
+            log.warn("Failed to delete archive job part file. path: {}", partPath, e);
+        }
+    }
+
+    private String relativePath(Long userId, Path path) {
+        return userStorage.userRoot(userId).relativize(path).toString().replace('\\', '/');
+    }
+
+    private static String newJobId() {
+        return UUID.randomUUID().toString();
+    }
+}
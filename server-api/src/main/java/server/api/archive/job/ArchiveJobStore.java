@@ -0,0 +1,158 @@
+package server.api.archive.job;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import module.common.compress.ArchiveProgress;
+import module.common.contstant.RedisKey;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 압축 작업 상태 저장소
+ * - key: AJ:{작업 id} (hash, 필드는 ArchiveJob 참고)
+ * - key: AJU:{userId} (sorted set, member: 작업 id, score: 생성 시각) 사용자별 최근 작업 조회용
+ * - key: AJN:{노드 id} (set) 이 노드에서 대기 / 실행 중인 작업 id (작업 실행기의 대기열은 메모리에만 있으므로
+ *   노드가 재시작되면 이 목록으로 중단된 작업을 찾아 FAILED 로 처리)
+ * - 상태가 바뀔 때마다 retention 만큼 만료 시간을 연장 (종료된 작업은 retention 이후 삭제)
+ */
+@Component
+public class ArchiveJobStore {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Duration retention;
+    private final String nodeKey;
+
+    public ArchiveJobStore(
+        RedisTemplate<String, Object> redisTemplate,
+        @Value("${archive.job.retention:1d}") Duration retention,
+        // 재시작해도 바뀌지 않고 노드마다 다른 식별자 (비어 있으면 "호스트 이름:포트")
+        @Value("${archive.job.node-id:}") String nodeId,
+        @Value("${server.port:8080}") int serverPort
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.retention = retention;
+        this.nodeKey = RedisKey.ARCHIVE_JOB_NODE + resolveNodeId(nodeId, serverPort);
+    }
+
+    /**
+     * 노드 식별자가 겹치면 한 노드가 재시작할 때 다른 노드의 실행 중인 작업을 FAILED 로 처리하므로
+     * 설정하지 않았으면 호스트 이름과 포트로 만듦 (HOSTNAME 은 셸 변수라 컨테이너 밖에서는 JVM 에 전달되지 않는 경우가 많음)
+     */
+    static String resolveNodeId(String nodeId, int serverPort) {
+        if (StringUtils.hasText(nodeId)) {
+            return nodeId.trim();
+        }
+        if (serverPort <= 0) {
+            // 임의 포트는 재시작마다 바뀌고 같은 호스트의 노드끼리 구분되지 않음
+            throw new IllegalStateException("server.port 가 고정되지 않은 경우 archive.job.node-id 를 설정해야 합니다");
+        }
+        try {
+            return InetAddress.getLocalHost().getHostName() + ":" + serverPort;
+        } catch (UnknownHostException e) {
+            throw new IllegalStateException("호스트 이름을 확인할 수 없으므로 archive.job.node-id 를 설정해야 합니다", e);
+        }
+    }
+
+    public void create(ArchiveJob archiveJob) {
+        String userKey = RedisKey.ARCHIVE_JOB_USER + archiveJob.userId();
+        redisTemplate.opsForHash().putAll(jobKey(archiveJob.jobId()), archiveJob.toHash());
+        redisTemplate.expire(jobKey(archiveJob.jobId()), retention);
+        redisTemplate.opsForZSet().add(userKey, archiveJob.jobId(), archiveJob.createdAt().toEpochMilli());
+        // 만료된 작업 id 정리
+        redisTemplate.opsForZSet().removeRangeByScore(userKey, 0,
+            Instant.now().minus(retention).toEpochMilli());
+        redisTemplate.expire(userKey, retention);
+        redisTemplate.opsForSet().add(nodeKey, archiveJob.jobId());
+        redisTemplate.expire(nodeKey, retention);
+    }
+
+    public Optional<ArchiveJob> find(String jobId) {
+        Map<Object, Object> hash = redisTemplate.opsForHash().entries(jobKey(jobId));
+        return hash.isEmpty() ? Optional.empty() : Optional.of(ArchiveJob.fromHash(hash));
+    }
+
+    // 사용자의 최근 작업 (최신순)
+    public List<ArchiveJob> findByUser(Long userId, int limit) {
+        Set<Object> jobIds = redisTemplate.opsForZSet()
+            .reverseRange(RedisKey.ARCHIVE_JOB_USER + userId, 0, limit - 1L);
+        List<ArchiveJob> archiveJobs = new ArrayList<>();
+        if (jobIds != null) {
+            for (Object jobId : jobIds) {
+                find((String) jobId).ifPresent(archiveJobs::add);
+            }
+        }
+        return archiveJobs;
+    }
+
+    public void delete(ArchiveJob archiveJob) {
+        redisTemplate.delete(jobKey(archiveJob.jobId()));
+        redisTemplate.opsForZSet().remove(RedisKey.ARCHIVE_JOB_USER + archiveJob.userId(), archiveJob.jobId());
+        removeNodeJob(archiveJob.jobId());
+    }
+
+    public void updateStatus(String jobId, ArchiveJobStatus status) {
+        update(jobId, Map.of(ArchiveJob.STATUS, status.name()));
+        if (status.isFinished()) {
+            removeNodeJob(jobId);
+        }
+    }
+
+    public void complete(String jobId, String resultPath) {
+        update(jobId, Map.of(ArchiveJob.STATUS, ArchiveJobStatus.COMPLETED.name(), ArchiveJob.RESULT_PATH, resultPath));
+        removeNodeJob(jobId);
+    }
+
+    public void fail(String jobId, String error) {
+        update(jobId, Map.of(ArchiveJob.STATUS, ArchiveJobStatus.FAILED.name(), ArchiveJob.ERROR, error));
+        removeNodeJob(jobId);
+    }
+
+    // 이 노드에서 종료되지 않은 작업 id (재시작 직후 호출하면 이전 프로세스가 끝내지 못한 작업)
+    public List<String> findNodeJobIds() {
+        Set<Object> jobIds = redisTemplate.opsForSet().members(nodeKey);
+        return jobIds == null ? List.of() : jobIds.stream().map(String.class::cast).toList();
+    }
+
+    public void removeNodeJob(String jobId) {
+        redisTemplate.opsForSet().remove(nodeKey, jobId);
+    }
+
+    public void requestCancel(String jobId) {
+        update(jobId, Map.of(ArchiveJob.CANCEL_REQUESTED, String.valueOf(true)));
+    }
+
+    // 취소 메시지를 받지 못한 노드도 확인할 수 있도록 작업 상태에 기록된 취소 요청 조회
+    public boolean isCancelRequested(String jobId) {
+        Object cancelRequested = redisTemplate.opsForHash().get(jobKey(jobId), ArchiveJob.CANCEL_REQUESTED);
+        return cancelRequested != null && Boolean.parseBoolean((String) cancelRequested);
+    }
+
+    public void updateProgress(String jobId, ArchiveProgress progress) {
+        update(jobId, Map.of(
+            ArchiveJob.ENTRIES_DONE, String.valueOf(progress.entriesDone()),
+            ArchiveJob.BYTES_DONE, String.valueOf(progress.bytesDone()),
+            ArchiveJob.ESTIMATED_ENTRIES, String.valueOf(progress.estimatedEntries()),
+            ArchiveJob.ESTIMATED_BYTES, String.valueOf(progress.estimatedBytes())));
+    }
+
+    private void update(String jobId, Map<String, String> fields) {
+        Map<String, String> hash = new HashMap<>(fields);
+        hash.put(ArchiveJob.UPDATED_AT, String.valueOf(Instant.now().toEpochMilli()));
+        redisTemplate.opsForHash().putAll(jobKey(jobId), hash);
+        redisTemplate.expire(jobKey(jobId), retention);
+    }
+
+    private static String jobKey(String jobId) {
+        return RedisKey.ARCHIVE_JOB + jobId;
+    }
+}
@@ -0,0 +1,6 @@
+package server.api.archive.job;
+
+public enum ArchiveJobType {
+    COMPRESS,
+    DECOMPRESS
+}
@@ -0,0 +1,223 @@
+package server.api.archive.service;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.Deflater;
+import lombok.extern.slf4j.Slf4j;
+import module.common.compress.ArchiveEntryFilter;
+import module.common.compress.CompressionReport;
+import module.common.compress.EntryCompressionPolicy;
+import module.common.compress.FileTransfer;
+import module.common.dto.ArchiveEntryInfo;
+import module.common.dto.CompressOptions;
+import module.common.enums.CompressFileType;
+import module.common.exception.CustomException;
+import module.common.exception.ErrorCode;
+import module.common.exception.ForbiddenException;
+import module.common.exception.NotFoundException;
+import module.common.utils.ArchiveEntryUtils;
+import module.common.utils.CompressUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import server.api.archive.cache.ArchiveResultCache;
+import server.api.storage.UserStorage;
+
+@Slf4j
+@Service
+public class ArchiveService {
+
+    private final UserStorage userStorage;
+    private final ArchiveResultCache archiveResultCache;
+    private final boolean archiveCacheEnabled;
+    private final CompressOptions compressOptions;
+
+    public ArchiveService(
+        UserStorage userStorage,
+        ArchiveResultCache archiveResultCache,
+        // 같은 대상(경로, 크기, 수정 시각)과 옵션의 압축 결과를 디스크에 캐시해 재사용
+        // 캐시를 사용하면 압축 파일을 끝까지 만든 뒤에 첫 byte 를 보내므로 기본값은 false (스트리밍 다운로드)
+        @Value("${archive.cache.enabled:false}") boolean archiveCacheEnabled,
+        // ZIP 항목을 동시에 압축할 스레드 수 (0 이하이면 CPU 코어 수)
+        // 병렬 ZIP 은 모든 항목을 임시 파일에 압축한 뒤에야 첫 byte 를 쓰므로, 다운로드 스트리밍을 위해 기본값은 1
+        @Value("${archive.zip.parallelism:1}") int parallelism,
+        @Value("${archive.zip.compression-level:-1}") int compressionLevel,
+        // 이미 압축된 파일(이미지, 영상 등)은 STORED 로 저장 (false 이면 모든 항목 deflate)
+        @Value("${archive.zip.content-aware.enabled:true}") boolean contentAware,
+        // STORED 로 저장할 확장자 (비어있으면 EntryCompressionPolicy 기본값)
+        @Value("${archive.zip.content-aware.stored-extensions:}") Set<String> storedExtensions,
+        @Value("${archive.zip.content-aware.probe-size:8192}") int probeSize,
+        @Value("${archive.zip.content-aware.store-ratio:0.95}") double storeRatio,
+        @Value("${archive.zip.content-aware.fast-ratio:0.8}") double fastRatio,
+        // 압축 / 압축 해제에서 제외할 항목 (.gitignore 형식, 비어있으면 ArchiveEntryFilter 기본값)
+        @Value("${archive.filter.excludes:}") List<String> excludes,
+        // 이보다 큰 파일은 제외 (-1: 제한 없음)
+        @Value("${archive.filter.max-file-size:-1B}") DataSize maxFileSize,
+        // 허용할 확장자 (비어있으면 모든 확장자 허용)
+        @Value("${archive.filter.allowed-extensions:}") Set<String> allowedExtensions
+    ) {
+        this.userStorage = userStorage;
+        this.archiveResultCache = archiveResultCache;
+        this.archiveCacheEnabled = archiveCacheEnabled;
+
+        ArchiveEntryFilter entryFilter = ArchiveEntryFilter.compile(
+            excludes.isEmpty() ? ArchiveEntryFilter.DEFAULT_EXCLUDES : excludes,
+            maxFileSize.isNegative() ? ArchiveEntryFilter.UNLIMITED_SIZE : maxFileSize.toBytes(), allowedExtensions);
+        // 레벨이 잘못되면 첫 요청에서 Deflater 를 만들 때가 아니라 기동 시 실패하도록 미리 검사
+        if (compressionLevel < Deflater.DEFAULT_COMPRESSION || compressionLevel > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException(
+                "archive.zip.compression-level 은 -1 또는 0 ~ 9 사이여야 합니다: " + compressionLevel);
+        }
+        CompressOptions options = new CompressOptions(
+            parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors(), compressionLevel)
+            .withEntryFilter(entryFilter);
+        this.compressOptions = contentAware ? options.withCompressionPolicy(new EntryCompressionPolicy(
+            storedExtensions.isEmpty() ? EntryCompressionPolicy.DEFAULT_STORED_EXTENSIONS : storedExtensions,
+            probeSize, storeRatio, fastRatio, Deflater.BEST_SPEED)) : options;
+    }
+
+    // 다운로드 압축 옵션 (비동기 작업은 parallelism 만 바꿔 사용)
+    public CompressOptions getCompressOptions() {
+        return compressOptions;
+    }
+
+    // 압축 대상 경로 검증 (사용자 저장소 하위의 존재하는 경로만 허용)
+    public List<Path> resolveTargets(Long userId, List<String> paths) {
+        return paths.stream()
+            .map(path -> userStorage.resolveExisting(userId, path))
+            .toList();
+    }
+
+    // 사용자 저장소의 압축 파일 경로 검증 (존재하는 일반 파일만 허용)
+    public Path resolveArchive(Long userId, String path) {
+        Path archivePath = userStorage.resolveExisting(userId, path);
+        if (!Files.isRegularFile(archivePath)) {
+            throw new ForbiddenException("압축 파일이 아닙니다: " + path, ErrorCode.FORBIDDEN_FILE_TYPE_EXCEPTION);
+        }
+        return archivePath;
+    }
+
+    // 압축 해제 없이 압축 파일 항목 목록 조회
+    public List<ArchiveEntryInfo> listEntries(Long userId, Path archivePath) {
+        return ArchiveEntryUtils.listEntries(archivePath, userStorage.archiveIndexPath(userId, archivePath));
+    }
+
+    // glob 패턴과 일치하는 파일 항목 목록 (일치하는 항목이 없으면 NotFoundException)
+    public List<ArchiveEntryInfo> findEntries(Long userId, Path archivePath, String glob) {
+        List<ArchiveEntryInfo> entries = ArchiveEntryUtils.findEntries(
+            archivePath, userStorage.archiveIndexPath(userId, archivePath), glob);
+        if (entries.isEmpty()) {
+            throw new NotFoundException("일치하는 항목이 없습니다: " + glob, ErrorCode.NOT_FOUND_ARCHIVE_ENTRY_EXCEPTION);
+        }
+        return entries;
+    }
+
+    /**
+     * 압축 파일의 항목 하나를 압축 해제해 응답 스트림에 기록
+     * 항목을 찾기 전에는 응답에 기록하지 않으므로 항목이 없으면 404 응답
+     */
+    public StreamingResponseBody streamEntry(Long userId, Path archivePath, String entryName) {
+        Path tarIndexPath = userStorage.archiveIndexPath(userId, archivePath);
+        return outputStream -> {
+            ArchiveEntryUtils.writeEntry(archivePath, tarIndexPath, entryName, outputStream);
+            outputStream.flush();
+        };
+    }
+
+    // glob 패턴과 일치하는 항목을 ZIP 으로 묶어 응답 스트림에 기록 (findEntries 로 먼저 확인)
+    public StreamingResponseBody streamEntries(Long userId, Path archivePath, String glob) {
+        Path tarIndexPath = userStorage.archiveIndexPath(userId, archivePath);
+        return outputStream -> {
+            int count = ArchiveEntryUtils.writeEntries(archivePath, tarIndexPath, glob, outputStream);
+            outputStream.flush();
+            log.debug("Archive entries download completed. archive: {}, entries: {}", archivePath, count);
+        };
+    }
+
+    /**
+     * 압축 파일을 메모리에 만들지 않고 응답 스트림에 바로 기록
+     * 캐시를 사용하면 캐시된 압축 파일을 그대로 기록하고, 없으면 캐시에 압축한 뒤 기록
+     * 클라이언트가 연결을 끊으면 다음 쓰기에서 실패하므로 남은 파일은 읽지 않고 즉시 중단
+     */
+    public StreamingResponseBody streamArchive(List<Path> targetPaths, CompressFileType compressFileType) {
+        return outputStream -> {
+            AbortAwareOutputStream responseStream = new AbortAwareOutputStream(outputStream);
+            try {
+                if (archiveCacheEnabled) {
+                    writeCachedArchive(targetPaths, compressFileType, responseStream);
+                } else {
+                    CompressionReport compressionReport = CompressUtils.compressToOutputStream(
+                        targetPaths, compressFileType, responseStream, compressOptions);
+                    log.debug("Archive download completed. {}", compressionReport);
+                }
+                responseStream.flush();
+            } catch (CustomException | IOException e) {
+                if (responseStream.isAborted()) {
+                    log.info("Archive download aborted by client. targets: {}", targetPaths.size());
+                    return;
+                }
+                throw e;
+            }
+        };
+    }
+
+    // 클라이언트가 연결을 끊어도 캐시 압축은 끝까지 진행 (같은 대상을 기다리는 요청이 결과를 사용)
+    private void writeCachedArchive(List<Path> targetPaths, CompressFileType compressFileType,
+        OutputStream responseStream) throws IOException {
+        try (FileChannel archive = archiveResultCache.open(targetPaths, compressFileType, compressOptions)) {
+            long size = FileTransfer.copy(archive, 0, archive.size(), responseStream);
+            log.debug("Archive download completed from cache. targets: {}, size: {}", targetPaths.size(), size);
+        }
+    }
+
+    // 응답 스트림 쓰기 실패(클라이언트 연결 종료) 여부 기록
+    private static class AbortAwareOutputStream extends FilterOutputStream {
+
+        private boolean aborted;
+
+        private AbortAwareOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            try {
+                out.write(b);
+            } catch (IOException e) {
+                aborted = true;
+                throw e;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            try {
+                out.write(b, off, len);
+            } catch (IOException e) {
+                aborted = true;
+                throw e;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            try {
+                out.flush();
+            } catch (IOException e) {
+                aborted = true;
+                throw e;
+            }
+        }
+
+        private boolean isAborted() {
+            return aborted;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package server.api.auth.controller;
+
+import lombok.RequiredArgsConstructor;
+import module.common.dto.SuccessResponse;
+import module.common.dto.VerifiedToken;
+import module.common.success.SuccessCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import server.api.auth.service.AuthService;
+import server.api.security.filter.AuthTokenFilter;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/auth")
+public class AuthController {
+
+    private final AuthService authService;
+
+    // 요청한 access token 의 세션(기기)만 로그아웃
+    @PostMapping("/logout")
+    public ResponseEntity<SuccessResponse<Void>> logout(
+        @RequestAttribute(AuthTokenFilter.VERIFIED_TOKEN_ATTRIBUTE) VerifiedToken verifiedToken
+    ) {
+        authService.logout(verifiedToken);
+        return SuccessResponse.success(SuccessCode.OK_SUCCESS, null);
+    }
+}
@@ -2,15 +2,21 @@ package server.api.auth.service;
 
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import module.common.dto.VerifiedToken;
+import module.common.exception.ErrorCode;
+import module.common.exception.UnAuthorizedException;
 import module.common.utils.JwtUtils;
 import module.core.domain.user.User;
 import module.core.domain.user.mysql.UserRepository;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import server.api.auth.dto.request.LoginRequestDto;
 import server.api.auth.dto.response.LoginResponseDto;
+import server.api.security.cache.UserInfoCache;
+import server.api.security.revocation.SessionRevocationService;
+import server.api.security.service.PasswordVerificationService;
+import server.api.security.service.PasswordVerificationService.PasswordCheck;
 import server.api.user.service.UserServiceUtils;
 
 @Service
@@ -19,19 +25,40 @@ import server.api.user.service.UserServiceUtils;
 public class AuthService {
 
     private final JwtUtils jwtUtils;
-    private final AuthenticationManager authenticationManager;
+    private final PasswordVerificationService passwordVerificationService;
     private final UserRepository userRepository;
+    private final UserInfoCache userInfoCache;
+    private final SessionRevocationService sessionRevocationService;
 
-
+    // 비밀번호 검증(BCrypt) 동안 DB 커넥션을 점유하지 않도록 트랜잭션 없이 실행
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public LoginResponseDto login(LoginRequestDto loginRequestDto) {
+        // 사용자 조회는 한 번만 수행하고, 조회한 해시로 비밀번호 검증
         User user = UserServiceUtils.findUserByUsername(userRepository, loginRequestDto.getUsername());
+        if (user.getPassword() == null) { // 소셜 로그인 사용자
+            throw new UnAuthorizedException(ErrorCode.UNAUTHORIZED_EXCEPTION);
+        }
+
+        PasswordCheck passwordCheck = passwordVerificationService.verify(
+            loginRequestDto.getPassword(), user.getPassword());
+        if (!passwordCheck.matched()) {
+            throw new UnAuthorizedException(ErrorCode.UNAUTHORIZED_EXCEPTION);
+        }
+        if (passwordCheck.upgradedPassword() != null) { // BCrypt cost 변경 시 재해시
+            user.updatePassword(passwordCheck.upgradedPassword());
+            userRepository.save(user);
+            userInfoCache.invalidate(user.getId());
+        }
 
-        UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = loginRequestDto.toAuthentication();
-        authenticationManager.authenticate(usernamePasswordAuthenticationToken);
-        List<String> tokenInfo = jwtUtils.createTokenInfo(user.getId());
+        List<String> tokenInfo = jwtUtils.createTokenInfo(user.getId(), user.getRole(), user.getProviderType());
         String accessToken = tokenInfo.get(0);
         String refreshToken = tokenInfo.get(1);
 
         return LoginResponseDto.of(user.getId(), accessToken, refreshToken);
     }
+
+    // refresh token 세션 삭제 + 현재 access token 폐기
+    public void logout(VerifiedToken verifiedToken) {
+        sessionRevocationService.revokeSession(verifiedToken);
+    }
 }
@@ -0,0 +1,59 @@
+package server.api.config;
+
+import java.util.Map;
+import org.slf4j.MDC;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * 비동기 작업(@Async, applicationTaskExecutor) 설정
+ * - 플랫폼 스레드 모드: ThreadPoolTaskExecutor, 가상 스레드 모드: SimpleAsyncTaskExecutor (spring.task.execution.*)
+ * - 두 모드 모두 아래 TaskDecorator가 적용되어 호출 스레드의 MDC, 인증 정보를 작업 스레드로 복사
+ *
+ * SecurityContextHolder는 기본 전략(ThreadLocal)을 유지
+ * (InheritableThreadLocal 전략은 풀 스레드에 이전 요청의 인증 정보가 남을 수 있음)
+ * 트랜잭션은 스레드에 묶이므로 비동기 작업은 호출 측 트랜잭션에 참여하지 않고 필요 시 새로 시작해야 함
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    @Bean
+    public TaskDecorator contextPropagatingTaskDecorator() {
+        return runnable -> {
+            Map<String, String> mdc = MDC.getCopyOfContextMap();
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+            return () -> {
+                Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+                SecurityContext previousContext = SecurityContextHolder.getContext();
+
+                setMdc(mdc);
+                // 호출 스레드의 SecurityContext 객체를 공유하지 않도록 새 context에 인증 정보만 복사
+                SecurityContext context = SecurityContextHolder.createEmptyContext();
+                context.setAuthentication(authentication);
+                SecurityContextHolder.setContext(context);
+                try {
+                    runnable.run();
+                } finally {
+                    // 작업 스레드가 재사용되는 경우를 위해 실행 전 상태로 복원
+                    setMdc(previousMdc);
+                    SecurityContextHolder.setContext(previousContext);
+                }
+            };
+        };
+    }
+
+    private static void setMdc(Map<String, String> mdc) {
+        if (mdc == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(mdc);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package server.api.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.RequestPath;
+import org.springframework.web.multipart.MultipartResolver;
+import org.springframework.web.multipart.support.StandardServletMultipartResolver;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * multipart 요청 처리 설정
+ * - 스트리밍 업로드 경로(upload.multipart.path)는 DispatcherServlet 이 multipart 로 처리하지 않도록 제외
+ *   (Servlet 컨테이너가 요청 본문 전체를 임시 파일로 먼저 기록하지 않고, MultipartUploadService 가 본문을 직접 읽음)
+ *   경로는 컨트롤러 매핑과 같은 PathPattern 으로 비교 (URL 인코딩, matrix 변수(;..), 끝의 '/' 가 달라도 같은 경로)
+ * - 이 경로에서는 필터 등에서 request.getParameter / getParts 를 호출하면 안 됨 (본문을 컨테이너가 먼저 읽어버림)
+ * - 그 외 경로는 기본 설정(spring.servlet.multipart.*)과 같이 처리
+ */
+@Configuration
+public class MultipartConfig {
+
+    @Bean
+    public MultipartResolver multipartResolver(@Value("${upload.multipart.path:/api/data}") String streamingPath) {
+        PathPattern streamingPattern = PathPatternParser.defaultInstance.parse(streamingPath);
+        return new StandardServletMultipartResolver() {
+            @Override
+            public boolean isMultipart(HttpServletRequest request) {
+                return !isStreamingPath(streamingPattern, request) && super.isMultipart(request);
+            }
+        };
+    }
+
+    static boolean isStreamingPath(PathPattern streamingPattern, HttpServletRequest request) {
+        PathContainer path = RequestPath.parse(request.getRequestURI(), request.getContextPath())
+            .pathWithinApplication();
+        if (streamingPattern.matches(path)) {
+            return true;
+        }
+        // 끝의 '/' 제외하고 다시 비교
+        List<PathContainer.Element> elements = path.elements();
+        return elements.size() > 1 && elements.get(elements.size() - 1) instanceof PathContainer.Separator
+            && streamingPattern.matches(path.subPath(0, elements.size() - 1));
+    }
+}
@@ -1,15 +1,20 @@
 package server.api.config;
 
 import lombok.RequiredArgsConstructor;
+import module.common.contstant.RedisKey;
 import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.session.data.redis.config.ConfigureRedisAction;
+import server.api.archive.job.ArchiveJobCancelListener;
+import server.api.security.cache.UserInfoInvalidationListener;
 
 @RequiredArgsConstructor
 @Configuration
@@ -42,6 +47,24 @@ public class RedisConfig {
         return redisTemplate;
     }
 
+    /**
+     * Redis pub/sub 메시지 수신을 위한 컨테이너
+     * 사용자 정보 변경 시 모든 노드의 로컬 캐시(UserInfoCache)를 무효화
+     * 압축 작업 취소 요청을 작업을 실행 중인 노드에 전달
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+        UserInfoInvalidationListener userInfoInvalidationListener,
+        ArchiveJobCancelListener archiveJobCancelListener) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+        container.addMessageListener(userInfoInvalidationListener,
+            new ChannelTopic(RedisKey.USER_INFO_INVALIDATION_CHANNEL));
+        container.addMessageListener(archiveJobCancelListener,
+            new ChannelTopic(RedisKey.ARCHIVE_JOB_CANCEL_CHANNEL));
+        return container;
+    }
+
     // Redis 설정을 spirng에서 변경하지 않도록 하는 설정
     @Bean
     public ConfigureRedisAction configureRedisAction() {
@@ -1,10 +1,10 @@
 package server.api.config;
 
 import lombok.RequiredArgsConstructor;
+import module.common.enums.RoleType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -12,12 +12,12 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
-import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import server.api.security.filter.AuthTokenFilter;
 import server.api.security.filter.TokenExceptionFilter;
 import server.api.security.handler.CustomAccessDeniedHandler;
 import server.api.security.handler.CustomAuthenticationEntryPoint;
-import server.api.security.service.CustomUserDetailsService;
+import server.api.security.route.RoutePolicyTable;
 
 @RequiredArgsConstructor
 @Configuration
@@ -25,26 +25,15 @@ import server.api.security.service.CustomUserDetailsService;
 public class WebSecurityConfig {
 
     private final AuthTokenFilter authTokenFilter;
-    private final CustomUserDetailsService userDetailsService;
-
-    @Bean
-    public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
+    private final RoutePolicyTable routePolicyTable;
 
     /**
-     * UserDetailsService 및 PasswordEncoder를 사용하여 사용자 아이디와 암호를 인증하는 AuthenticationProvider 구현체
+     * 로그인 비밀번호 검증은 AuthenticationManager 대신 PasswordVerificationService에서 수행
+     * strength(cost)를 올리면 기존 해시는 다음 로그인 성공 시 새 cost로 재해시됨
      */
     @Bean
-    public AuthenticationManager authenticationManager(HttpSecurity http) throws Exception {
-        AuthenticationManagerBuilder authBuilder = http.getSharedObject(
-            AuthenticationManagerBuilder.class);
-
-        authBuilder
-            .userDetailsService(userDetailsService)
-            .passwordEncoder(passwordEncoder());
-
-        return authBuilder.build();
+    public BCryptPasswordEncoder passwordEncoder(@Value("${auth.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     @Bean
@@ -62,19 +51,16 @@ public class WebSecurityConfig {
                 session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)) // 세션 사용하지 않음
 
             // request 인증, 인가 설정
-            .authorizeHttpRequests((auth) -> auth
-                .requestMatchers(
-                    new AntPathRequestMatcher("/lib/**"),
-                    new AntPathRequestMatcher("/images/**"),
-                    new AntPathRequestMatcher("/css/**"),
-                    new AntPathRequestMatcher("/js/**"),
-                    new AntPathRequestMatcher("/login"),
-                    new AntPathRequestMatcher("/error"),
-                    new AntPathRequestMatcher("/favicon.ico"),
-                    new AntPathRequestMatcher("/index.html")
-                ).permitAll()
-                .anyRequest().authenticated()
-            )
+            // 경로별 정책은 RoutePolicyTable(security.route.*)에서 관리 (AuthTokenFilter와 공유)
+            .authorizeHttpRequests((auth) -> {
+                RequestMatcher permitAllMatcher = routePolicyTable::isPermitAll;
+                auth.requestMatchers(permitAllMatcher).permitAll();
+                for (RoleType role : RoleType.values()) {
+                    RequestMatcher roleMatcher = request -> routePolicyTable.requires(request, role);
+                    auth.requestMatchers(roleMatcher).hasAuthority(role.name());
+                }
+                auth.anyRequest().authenticated();
+            })
 
             .addFilterBefore(authTokenFilter, UsernamePasswordAuthenticationFilter.class)
             // 토큰 검증 과정에서 발생하는 UnAuthorizedException은 TokenExceptionFilter에서 처리
@@ -0,0 +1,93 @@
+package server.api.security.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import module.common.contstant.RedisKey;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import server.api.security.model.CustomUserInfo;
+
+/**
+ * 인증 필터에서 사용하는 사용자 정보(CustomUserInfo) 로컬 캐시
+ * - 최대 개수와 TTL로 크기를 제한
+ * - role/password 변경 시 Redis pub/sub 으로 모든 노드의 캐시를 무효화
+ * - hit/miss/eviction 지표는 micrometer("cache.*", name=userInfoCache)로 노출
+ *
+ * 조회(loader)는 캐시 내부 lock(synchronized) 밖에서 호출 스레드가 직접 실행
+ * (가상 스레드 모드에서 DB I/O 동안 carrier 스레드가 고정(pinning)되지 않도록 AsyncCache 사용)
+ */
+@Component
+public class UserInfoCache {
+
+    private static final String CACHE_NAME = "userInfoCache";
+
+    private final AsyncCache<Long, CustomUserInfo> cache;
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public UserInfoCache(
+        @Value("${security.user-cache.maximum-size:10000}") long maximumSize,
+        @Value("${security.user-cache.ttl:5m}") Duration ttl,
+        RedisTemplate<String, Object> redisTemplate,
+        MeterRegistry meterRegistry
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시된 사용자 정보를 반환하고, 없으면 loader로 조회 후 저장
+     * (동일 userId에 대한 동시 조회는 한 번만 loader 실행)
+     */
+    public CustomUserInfo get(Long userId, Function<Long, CustomUserInfo> loader) {
+        CompletableFuture<CustomUserInfo> created = new CompletableFuture<>();
+        CompletableFuture<CustomUserInfo> future = cache.get(userId, (id, executor) -> created);
+        if (future == created) {
+            try {
+                created.complete(loader.apply(userId));
+            } catch (RuntimeException e) {
+                // 실패한 결과는 캐시에서 자동으로 제거됨
+                created.completeExceptionally(e);
+            }
+        }
+
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 사용자 정보(role, password 등)가 변경된 경우 호출 (UserService, AuthService 재해시)
+     * 로컬 캐시를 비우고 다른 노드에도 무효화 메시지를 발행
+     */
+    public void invalidate(Long userId) {
+        cache.synchronous().invalidate(userId);
+        redisTemplate.convertAndSend(RedisKey.USER_INFO_INVALIDATION_CHANNEL, String.valueOf(userId));
+    }
+
+    // 다른 노드에서 발행한 무효화 메시지 수신 시 로컬 캐시만 비움
+    void invalidateLocal(Long userId) {
+        cache.synchronous().invalidate(userId);
+    }
+
+    public CacheStats stats() {
+        return cache.synchronous().stats();
+    }
+}
@@ -0,0 +1,29 @@
+package server.api.security.cache;
+
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 노드에서 발행한 사용자 정보 무효화 메시지(userId)를 수신해 로컬 캐시를 비움
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserInfoInvalidationListener implements MessageListener {
+
+    private final UserInfoCache userInfoCache;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String userId = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            userInfoCache.invalidateLocal(Long.valueOf(userId));
+        } catch (NumberFormatException e) {
+            log.warn("Invalid user info invalidation message: {}", userId);
+        }
+    }
+}
@@ -5,8 +5,8 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.List;
 import lombok.RequiredArgsConstructor;
+import module.common.dto.VerifiedToken;
 import module.common.exception.ErrorCode;
 import module.common.exception.UnAuthorizedException;
 import module.common.utils.JwtUtils;
@@ -17,21 +17,33 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
+import server.api.security.details.CustomUserDetails;
+import server.api.security.model.CustomUserInfo;
+import server.api.security.revocation.TokenRevocationService;
+import server.api.security.route.RoutePolicyTable;
 import server.api.security.service.CustomUserDetailsService;
+import server.api.security.service.TokenReissueService;
 
 @RequiredArgsConstructor
 @Component
 public class AuthTokenFilter extends OncePerRequestFilter {
 
+    // 검증한 access token 정보 (로그아웃 등 토큰 자체가 필요한 요청에서 사용)
+    public static final String VERIFIED_TOKEN_ATTRIBUTE = AuthTokenFilter.class.getName() + ".verifiedToken";
+    // access token 이 만료된 요청의 재발급에 필요한 refresh token
+    public static final String REFRESH_TOKEN_HEADER = "Refresh-Token";
+
     private final JwtUtils jwtUtils;
     private final CustomUserDetailsService customUserDetailsService;
+    private final TokenReissueService tokenReissueService;
+    private final RoutePolicyTable routePolicyTable;
+    private final TokenRevocationService tokenRevocationService;
     private final RedisTemplate<String, Object> redisTemplate;
 
+    // 정적 리소스, 공개 경로는 토큰 검증 제외 (WebSecurityConfig와 같은 RoutePolicyTable 사용)
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
-        String uri = request.getRequestURI();
-        List<String> whiteList = List.of("/login", "/css", "/js", "/favicon.ico", "/error", "/lib", "/oauth2", "/images", "/index.html");
-        return whiteList.stream().anyMatch(uri::startsWith);
+        return routePolicyTable.isPermitAll(request);
     }
 
     @Override
@@ -46,34 +58,41 @@ public class AuthTokenFilter extends OncePerRequestFilter {
         }
 
         String accessToken = bearerToken.substring("Bearer ".length());
-        String userId = jwtUtils.getUserIdFromJwt(accessToken);
-
-        // token subject에 아무것도 없는 경우 exception 처리
-        if (!StringUtils.hasText(userId)) {
-            throw new UnAuthorizedException(ErrorCode.UNAUTHORIZED_INVALID_TOKEN_SUBJECT);
-        }
+        // 서명 검증은 한 번만 수행 (subject 검증 포함)
+        VerifiedToken verifiedToken = jwtUtils.verifyToken(accessToken);
 
-        // token subject 숫자로 변환 못하는 경우 exception 처리
-        Long longUserId;
-        try {
-            longUserId = Long.valueOf(userId);
-        } catch (NumberFormatException e) {
-            throw new UnAuthorizedException(ErrorCode.UNAUTHORIZED_INVALID_TOKEN_SUBJECT);
+        // 폐기된 토큰은 만료 여부와 관계없이 거부 (재발급도 불가)
+        if (tokenRevocationService.isRevoked(verifiedToken)) {
+            throw new UnAuthorizedException(ErrorCode.UNAUTHORIZED_REVOKED_TOKEN_EXCEPTION);
         }
 
-        if (jwtUtils.isValidateToken(accessToken)) {
-            authenticateUser(longUserId);
-        } else { // access token이 만료된 경우
-            String reissueAccessToken = jwtUtils.reissueAccessToken(longUserId);
+        request.setAttribute(VERIFIED_TOKEN_ATTRIBUTE, verifiedToken);
+
+        if (verifiedToken.isValid()) {
+            authenticateUser(loadUserDetails(verifiedToken));
+        } else { // access token이 만료된 경우 (Refresh-Token 헤더의 refresh token 으로 재발급)
+            // 재발급 시에는 최신 role/provider가 claim에 반영되도록 사용자 정보를 조회
+            CustomUserDetails userDetails = customUserDetailsService.loadUserById(verifiedToken.userId());
+            CustomUserInfo customUserInfo = userDetails.customUserInfo();
+            // 같은 세션의 동시 재발급 요청은 하나로 합쳐 같은 토큰을 공유
+            String reissueAccessToken = tokenReissueService.reissue(customUserInfo.id(), verifiedToken.sessionId(),
+                request.getHeader(REFRESH_TOKEN_HEADER), customUserInfo.role(), customUserInfo.providerType());
             response.setHeader("Authorization", "Bearer " + reissueAccessToken);  // 응답에 새 토큰 설정
-            authenticateUser(longUserId);
+            authenticateUser(userDetails);
         }
 
         filterChain.doFilter(request, response);
     }
 
-    private void authenticateUser(Long userId) {
-        UserDetails userDetails = customUserDetailsService.loadUserById(userId);
+    private UserDetails loadUserDetails(VerifiedToken verifiedToken) {
+        // stateless 모드에서는 토큰 claim으로 인증 객체 생성 (DB, Redis 조회 없음)
+        if (jwtUtils.isStatelessAuth() && verifiedToken.hasAuthorityClaims()) {
+            return new CustomUserDetails(CustomUserInfo.of(verifiedToken), null);
+        }
+        return customUserDetailsService.loadUserById(verifiedToken.userId());
+    }
+
+    private void authenticateUser(UserDetails userDetails) {
         if (userDetails == null) {
             throw new UnAuthorizedException(ErrorCode.UNAUTHORIZED_USER_NOT_FOUND_EXCEPTION);
         }
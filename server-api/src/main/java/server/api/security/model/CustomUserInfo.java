@@ -2,6 +2,8 @@ package server.api.security.model;
 
 import lombok.AccessLevel;
 import lombok.Builder;
+import module.common.dto.VerifiedToken;
+import module.common.enums.ProviderType;
 import module.common.enums.RoleType;
 import module.core.domain.user.User;
 
@@ -10,13 +12,24 @@ public record CustomUserInfo(
         Long id,
         String username,
         String password,
-        RoleType role) {
+        RoleType role,
+        ProviderType providerType) {
     public static CustomUserInfo of(User user) {
         return builder()
                 .id(user.getId())
                 .username(user.getUsername())
                 .password(user.getPassword())
                 .role(user.getRole())
+                .providerType(user.getProviderType())
+                .build();
+    }
+
+    // stateless 모드: 검증된 access token claim만으로 생성 (username, password 없음)
+    public static CustomUserInfo of(VerifiedToken verifiedToken) {
+        return builder()
+                .id(verifiedToken.userId())
+                .role(verifiedToken.role())
+                .providerType(verifiedToken.providerType())
                 .build();
     }
 }
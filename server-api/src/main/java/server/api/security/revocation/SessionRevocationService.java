@@ -0,0 +1,67 @@
+package server.api.security.revocation;
+
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import module.common.dto.VerifiedToken;
+import module.common.enums.RoleType;
+import module.common.utils.RefreshTokenStore;
+import module.core.domain.user.mysql.UserRepository;
+import org.springframework.stereotype.Service;
+
+/**
+ * 로그인 세션 폐기 (로그아웃, 비밀번호 / role 변경, 관리자 일괄 폐기)
+ * - refresh token 세션을 먼저 삭제 (재발급 차단, 일괄 폐기는 pipeline으로 한 번에 삭제)
+ * - 이미 발급된 access token은 TokenRevocationService로 폐기 (즉시 차단)
+ * - 세션을 함께 삭제하므로 TokenRevocationService의 폐기 목록은 access token 유효시간만 유지하면 충분
+ */
+@Service
+@RequiredArgsConstructor
+public class SessionRevocationService {
+
+    // 폐기 이벤트 하나에 담는 사용자 수
+    private static final int BATCH_SIZE = 1_000;
+
+    private final RefreshTokenStore refreshTokenStore;
+    private final TokenRevocationService tokenRevocationService;
+    private final UserRepository userRepository;
+
+    // 로그아웃: 요청한 토큰의 세션(기기)만 폐기하고, 그 세션으로 발급된 access token 도 즉시 차단
+    public void revokeSession(VerifiedToken verifiedToken) {
+        if (verifiedToken.sessionId() != null) {
+            refreshTokenStore.delete(verifiedToken.userId(), verifiedToken.sessionId());
+        }
+        if (verifiedToken.tokenId() != null) {
+            tokenRevocationService.revokeTokens(List.of(verifiedToken.tokenId()));
+        }
+    }
+
+    // 비밀번호 / role 변경 등 사용자의 전체 세션 폐기
+    public void revokeUser(Long userId) {
+        revokeUsers(List.of(userId));
+    }
+
+    public void revokeUsers(Collection<Long> userIds) {
+        List<Long> ids = List.copyOf(userIds);
+        refreshTokenStore.deleteAll(ids);
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            tokenRevocationService.revokeUsers(ids.subList(from, Math.min(from + BATCH_SIZE, ids.size())));
+        }
+    }
+
+    // userId 범위(양 끝 포함)의 전체 세션 폐기
+    public void revokeUserRange(long fromUserId, long toUserId) {
+        if (fromUserId > toUserId) {
+            throw new IllegalArgumentException("fromUserId must not be greater than toUserId");
+        }
+
+        refreshTokenStore.deleteRange(fromUserId, toUserId);
+        // 범위의 id 를 펼치지 않고 범위 하나로 폐기 (폐기 목록 크기가 범위 크기와 무관)
+        tokenRevocationService.revokeUserRange(fromUserId, toUserId);
+    }
+
+    // 특정 role을 가진 사용자 전체 세션 폐기
+    public void revokeRole(RoleType role) {
+        revokeUsers(userRepository.findIdsByRole(role));
+    }
+}
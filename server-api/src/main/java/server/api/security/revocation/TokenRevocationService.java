@@ -0,0 +1,230 @@
+package server.api.security.revocation;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import module.common.contstant.RedisKey;
+import module.common.dto.VerifiedToken;
+import module.common.utils.JwtUtils;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamMessageListenerContainerOptions;
+import org.springframework.stereotype.Service;
+import org.springframework.util.CollectionUtils;
+
+/**
+ * access token 폐기(revocation) 관리
+ * - 폐기 목록은 각 노드 메모리에 보관해 요청마다 Redis를 조회하지 않음
+ * - 폐기 이벤트는 Redis stream에 기록하고, 모든 노드가 구독해 증분 동기화
+ * - 기동 시 access token 유효시간 이내의 이벤트를 다시 읽어 목록을 복구
+ * - 폐기된 항목은 access token 유효시간이 지나면 자동 정리
+ *   폐기 대상의 refresh token 세션은 SessionRevocationService 가 함께 삭제하므로,
+ *   정리된 뒤 만료된 토큰으로 재발급을 요청해도 세션이 없어 거부됨
+ *   (폐기는 항상 SessionRevocationService 를 통해 요청하도록 폐기 메서드는 package-private)
+ *
+ * access token 유효시간(10분)이 짧아 폐기 목록 자체가 작게 유지되므로,
+ * Bloom filter 없이 정확한 해시 조회만 사용
+ */
+@Slf4j
+@Service
+public class TokenRevocationService {
+
+    private static final long STREAM_MAX_LENGTH = 10_000;
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
+
+    private static final String TYPE_FIELD = "type";
+    private static final String IDS_FIELD = "ids";
+    private static final String REVOKED_AT_FIELD = "at";
+    private static final String ID_DELIMITER = ",";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisConnectionFactory redisConnectionFactory;
+    private final Duration retention;
+
+    // jti -> 폐기 시각(epoch millis)
+    private final Map<String, Long> revokedTokenIds = new ConcurrentHashMap<>();
+    // userId -> 폐기 시각(epoch millis), 이 시각 이전에 발급된 토큰은 모두 폐기
+    private final Map<Long, Long> revokedUsers = new ConcurrentHashMap<>();
+    // userId 범위 폐기는 id 를 펼치지 않고 범위 그대로 보관 (관리자 일괄 폐기라 건수가 적어 순차 비교)
+    private final List<RevokedUserRange> revokedUserRanges = new CopyOnWriteArrayList<>();
+
+    private StreamMessageListenerContainer<String, MapRecord<String, String, String>> listenerContainer;
+
+    public TokenRevocationService(
+        RedisTemplate<String, Object> redisTemplate,
+        RedisConnectionFactory redisConnectionFactory,
+        JwtUtils jwtUtils
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.redisConnectionFactory = redisConnectionFactory;
+        this.retention = jwtUtils.getAccessTokenDuration();
+    }
+
+    /**
+     * 인증 필터에서 매 요청 호출 (네트워크 I/O 없음)
+     */
+    public boolean isRevoked(VerifiedToken verifiedToken) {
+        if (verifiedToken.issuedAt() != null) {
+            // 발급 시각은 밀리초 단위 (이전 토큰은 iat 를 초 단위로 내림한 값이라 같은 초에 발급된 토큰도 폐기로 판단)
+            long issuedAt = verifiedToken.issuedAt().toEpochMilli();
+            if (!revokedUsers.isEmpty()) {
+                Long revokedAt = revokedUsers.get(verifiedToken.userId());
+                if (revokedAt != null && issuedAt < revokedAt) {
+                    return true;
+                }
+            }
+            for (RevokedUserRange range : revokedUserRanges) {
+                if (range.contains(verifiedToken.userId()) && issuedAt < range.revokedAt()) {
+                    return true;
+                }
+            }
+        }
+
+        return verifiedToken.tokenId() != null && revokedTokenIds.containsKey(verifiedToken.tokenId());
+    }
+
+    /**
+     * 토큰 id(jti) 단위 폐기 (여러 건을 하나의 stream 이벤트로 기록)
+     */
+    void revokeTokens(Collection<String> tokenIds) {
+        publish(RevocationType.TOKEN, tokenIds.stream().collect(Collectors.joining(ID_DELIMITER)));
+    }
+
+    /**
+     * 사용자 단위 폐기 (지금까지 발급된 해당 사용자의 access token 전체)
+     */
+    void revokeUsers(Collection<Long> userIds) {
+        publish(RevocationType.USER, userIds.stream().map(String::valueOf).collect(Collectors.joining(ID_DELIMITER)));
+    }
+
+    /**
+     * userId 범위(양 끝 포함) 단위 폐기
+     */
+    void revokeUserRange(long fromUserId, long toUserId) {
+        publish(RevocationType.USER_RANGE, fromUserId + ID_DELIMITER + toUserId);
+    }
+
+    @PostConstruct
+    public void start() {
+        String lastId = loadRecentEvents();
+
+        listenerContainer = StreamMessageListenerContainer.create(redisConnectionFactory,
+            StreamMessageListenerContainerOptions.builder()
+                .pollTimeout(POLL_TIMEOUT)
+                .errorHandler(e -> log.warn("Token revocation stream read failed", e))
+                .build());
+        listenerContainer.receive(
+            StreamOffset.create(RedisKey.TOKEN_REVOCATION_STREAM, ReadOffset.from(lastId)),
+            record -> apply(record.getValue()));
+        listenerContainer.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (listenerContainer != null) {
+            listenerContainer.stop();
+        }
+    }
+
+    private void publish(RevocationType type, String ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        Map<String, String> event = Map.of(
+            TYPE_FIELD, type.name(),
+            IDS_FIELD, ids,
+            REVOKED_AT_FIELD, String.valueOf(System.currentTimeMillis())
+        );
+        // 로컬에는 즉시 반영하고, 다른 노드에는 stream으로 전파
+        apply(event);
+        redisTemplate.opsForStream().add(StreamRecords.newRecord()
+            .in(RedisKey.TOKEN_REVOCATION_STREAM)
+            .ofMap(event));
+        redisTemplate.opsForStream().trim(RedisKey.TOKEN_REVOCATION_STREAM, STREAM_MAX_LENGTH, true);
+    }
+
+    /**
+     * 기동 시 access token 유효시간 이내에 기록된 폐기 이벤트를 읽어 로컬 목록 복구
+     *
+     * @return 이어서 구독할 stream id
+     */
+    private String loadRecentEvents() {
+        String startId = (System.currentTimeMillis() - retention.toMillis()) + "-0";
+        String lastId = startId;
+        try {
+            List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream()
+                .range(RedisKey.TOKEN_REVOCATION_STREAM, Range.rightUnbounded(Range.Bound.inclusive(startId)));
+            if (CollectionUtils.isEmpty(records)) {
+                return lastId;
+            }
+
+            for (MapRecord<String, Object, Object> record : records) {
+                apply(record.getValue().entrySet().stream()
+                    .collect(Collectors.toMap(e -> String.valueOf(e.getKey()), e -> String.valueOf(e.getValue()))));
+                lastId = record.getId().getValue();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to load token revocation events", e);
+        }
+        return lastId;
+    }
+
+    private void apply(Map<String, String> event) {
+        try {
+            RevocationType type = RevocationType.valueOf(event.get(TYPE_FIELD));
+            long revokedAt = Long.parseLong(event.get(REVOKED_AT_FIELD));
+            if (type == RevocationType.USER_RANGE) {
+                String[] range = event.get(IDS_FIELD).split(ID_DELIMITER);
+                revokedUserRanges.add(new RevokedUserRange(Long.parseLong(range[0]), Long.parseLong(range[1]),
+                    revokedAt));
+            } else {
+                for (String id : event.get(IDS_FIELD).split(ID_DELIMITER)) {
+                    if (type == RevocationType.USER) {
+                        revokedUsers.merge(Long.valueOf(id), revokedAt, Math::max);
+                    } else {
+                        revokedTokenIds.put(id, revokedAt);
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Invalid token revocation event: {}", event, e);
+        }
+
+        purgeExpired();
+    }
+
+    // access token 유효시간이 지난 폐기 항목 정리 (해당 시점 이전에 발급된 토큰은 이미 만료되었고, 세션도 삭제되어 재발급 불가)
+    private void purgeExpired() {
+        long threshold = Instant.now().minus(retention).toEpochMilli();
+        revokedTokenIds.values().removeIf(revokedAt -> revokedAt < threshold);
+        revokedUsers.values().removeIf(revokedAt -> revokedAt < threshold);
+        revokedUserRanges.removeIf(range -> range.revokedAt() < threshold);
+    }
+
+    private enum RevocationType {
+        USER,
+        USER_RANGE,
+        TOKEN
+    }
+
+    private record RevokedUserRange(long fromUserId, long toUserId, long revokedAt) {
+        private boolean contains(long userId) {
+            return fromUserId <= userId && userId <= toUserId;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package server.api.security.route;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum RouteAccess {
+    // 정적 리소스 (인증 필터 미적용)
+    STATIC(true),
+    // 인증 없이 접근 가능한 페이지/API
+    PUBLIC(true),
+    // 로그인한 사용자만 접근 가능
+    AUTHENTICATED(false),
+    // 특정 role을 가진 사용자만 접근 가능
+    ROLE_RESTRICTED(false);
+
+    private final boolean permitAll;
+}
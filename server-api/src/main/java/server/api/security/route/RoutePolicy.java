@@ -0,0 +1,30 @@
+package server.api.security.route;
+
+import module.common.enums.RoleType;
+
+/**
+ * 경로 패턴에 적용되는 접근 정책
+ *
+ * @param access 접근 유형
+ * @param role   ROLE_RESTRICTED 인 경우 필요한 role (그 외 null)
+ */
+public record RoutePolicy(
+    RouteAccess access,
+    RoleType role
+) {
+    public static final RoutePolicy STATIC = new RoutePolicy(RouteAccess.STATIC, null);
+    public static final RoutePolicy PUBLIC = new RoutePolicy(RouteAccess.PUBLIC, null);
+    public static final RoutePolicy AUTHENTICATED = new RoutePolicy(RouteAccess.AUTHENTICATED, null);
+
+    public static RoutePolicy roleRestricted(RoleType role) {
+        return new RoutePolicy(RouteAccess.ROLE_RESTRICTED, role);
+    }
+
+    public boolean isPermitAll() {
+        return access.isPermitAll();
+    }
+
+    public boolean requires(RoleType roleType) {
+        return access == RouteAccess.ROLE_RESTRICTED && role == roleType;
+    }
+}
@@ -0,0 +1,166 @@
+package server.api.security.route;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.Arrays;
+import module.common.enums.RoleType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.UrlPathHelper;
+
+/**
+ * WebSecurityConfig와 AuthTokenFilter가 함께 사용하는 경로별 접근 정책 테이블
+ * - 시작 시 설정값의 경로 패턴을 문자 단위 prefix trie로 컴파일
+ * - 조회는 URI를 한 번 순회하며 가장 긴 패턴의 정책을 반환 (객체 할당 없음)
+ *
+ * 패턴 규칙
+ * - "/css/**" : /css 및 하위 경로 전체 ("/cssx"는 매칭되지 않음)
+ * - "/login"  : 정확히 일치하는 경로
+ * - role 패턴은 "ROLE_ADMIN:/admin/**" 형식
+ * - 어떤 패턴에도 매칭되지 않으면 AUTHENTICATED
+ */
+@Component
+public class RoutePolicyTable {
+
+    private static final String PREFIX_WILDCARD = "/**";
+    private static final String ROLE_SEPARATOR = ":";
+    // 디코딩, ';' 파라미터 제거 후 context path 를 제외한 경로 (읽기 전용 공유 인스턴스)
+    private static final UrlPathHelper URL_PATH_HELPER = UrlPathHelper.defaultInstance;
+
+    private final Node root = new Node();
+
+    public RoutePolicyTable(
+        @Value("${security.route.static-paths:/css/**,/js/**,/lib/**,/images/**,/favicon.ico,/index.html}")
+        String[] staticPaths,
+        @Value("${security.route.public-paths:/login,/error,/oauth2/**}") String[] publicPaths,
+        @Value("${security.route.authenticated-paths:}") String[] authenticatedPaths,
+        @Value("${security.route.role-paths:}") String[] rolePaths
+    ) {
+        register(staticPaths, RoutePolicy.STATIC);
+        register(publicPaths, RoutePolicy.PUBLIC);
+        register(authenticatedPaths, RoutePolicy.AUTHENTICATED);
+        for (String rolePath : rolePaths) {
+            if (!StringUtils.hasText(rolePath)) {
+                continue;
+            }
+            String[] roleAndPattern = rolePath.trim().split(ROLE_SEPARATOR, 2);
+            if (roleAndPattern.length != 2) {
+                throw new IllegalStateException("role 경로 패턴 형식이 올바르지 않습니다: " + rolePath);
+            }
+            register(roleAndPattern[1], RoutePolicy.roleRestricted(RoleType.valueOf(roleAndPattern[0])));
+        }
+    }
+
+    /**
+     * URI에 적용되는 정책 반환 (가장 긴 패턴 우선, 정확히 일치하는 패턴이 prefix 패턴보다 우선)
+     */
+    public RoutePolicy match(String uri) {
+        RoutePolicy matched = RoutePolicy.AUTHENTICATED;
+        Node node = root;
+        int length = uri.length();
+
+        for (int i = 0; ; i++) {
+            if (node.prefix != null && (i == length || uri.charAt(i) == '/')) {
+                matched = node.prefix;
+            }
+            if (i == length) {
+                if (node.exact != null) {
+                    matched = node.exact;
+                }
+                return matched;
+            }
+
+            node = node.child(uri.charAt(i));
+            if (node == null) {
+                return matched;
+            }
+        }
+    }
+
+    public boolean isPermitAll(HttpServletRequest request) {
+        return match(request).isPermitAll();
+    }
+
+    public boolean requires(HttpServletRequest request, RoleType role) {
+        return match(request).requires(role);
+    }
+
+    /**
+     * context path 를 제외한 애플리케이션 내 경로로 조회 (AntPathRequestMatcher 와 같은 기준)
+     * getRequestURI 를 그대로 쓰면 context path 가 설정된 경우 어떤 패턴에도 매칭되지 않아
+     * 공개 경로는 인증을 요구하고 role 패턴은 인증만으로 통과됨
+     */
+    RoutePolicy match(HttpServletRequest request) {
+        return match(URL_PATH_HELPER.getPathWithinApplication(request));
+    }
+
+    private void register(String[] patterns, RoutePolicy policy) {
+        for (String pattern : patterns) {
+            if (StringUtils.hasText(pattern)) {
+                register(pattern.trim(), policy);
+            }
+        }
+    }
+
+    private void register(String pattern, RoutePolicy policy) {
+        if (!pattern.startsWith("/")) {
+            throw new IllegalStateException("경로 패턴은 '/'로 시작해야 합니다: " + pattern);
+        }
+
+        boolean prefix = pattern.endsWith(PREFIX_WILDCARD);
+        String path = prefix ? pattern.substring(0, pattern.length() - PREFIX_WILDCARD.length()) : pattern;
+        if (path.contains("*")) {
+            throw new IllegalStateException("'/**'로 끝나는 패턴과 정확한 경로만 지원합니다: " + pattern);
+        }
+
+        Node node = root;
+        for (int i = 0; i < path.length(); i++) {
+            node = node.getOrCreateChild(path.charAt(i));
+        }
+
+        RoutePolicy existing = prefix ? node.prefix : node.exact;
+        if (existing != null && !existing.equals(policy)) {
+            throw new IllegalStateException("서로 다른 정책에 같은 경로 패턴이 등록되었습니다: " + pattern);
+        }
+        if (prefix) {
+            node.prefix = policy;
+        } else {
+            node.exact = policy;
+        }
+    }
+
+    private static final class Node {
+        // 자식 노드는 문자 오름차순으로 정렬해 이진 탐색
+        private char[] labels = new char[0];
+        private Node[] children = new Node[0];
+        private RoutePolicy exact;
+        private RoutePolicy prefix;
+
+        private Node child(char c) {
+            int index = Arrays.binarySearch(labels, c);
+            return index >= 0 ? children[index] : null;
+        }
+
+        private Node getOrCreateChild(char c) {
+            int index = Arrays.binarySearch(labels, c);
+            if (index >= 0) {
+                return children[index];
+            }
+
+            int insertAt = -(index + 1);
+            char[] newLabels = new char[labels.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(labels, 0, newLabels, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            System.arraycopy(labels, insertAt, newLabels, insertAt + 1, labels.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+
+            Node child = new Node();
+            newLabels[insertAt] = c;
+            newChildren[insertAt] = child;
+            labels = newLabels;
+            children = newChildren;
+            return child;
+        }
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import server.api.security.cache.UserInfoCache;
 import server.api.security.details.CustomUserDetails;
 import server.api.security.model.CustomUserInfo;
 
@@ -15,6 +16,7 @@ import server.api.security.model.CustomUserInfo;
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
     private final UserRepository userRepository;
+    private final UserInfoCache userInfoCache;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
@@ -25,10 +27,12 @@ public class CustomUserDetailsService implements UserDetailsService {
         return new CustomUserDetails(CustomUserInfo.of(user), null);
     }
 
-    public UserDetails loadUserById(Long userId) {
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new UsernameNotFoundException("User not found with id: " + userId));
+    // 인증 필터에서 매 요청 호출되므로 로컬 캐시를 먼저 조회
+    public CustomUserDetails loadUserById(Long userId) {
+        CustomUserInfo customUserInfo = userInfoCache.get(userId, id ->
+            CustomUserInfo.of(userRepository.findById(id)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with id: " + id))));
 
-        return new CustomUserDetails(CustomUserInfo.of(user), null);
+        return new CustomUserDetails(customUserInfo, null);
     }
 }
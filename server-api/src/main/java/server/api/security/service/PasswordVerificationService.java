@@ -0,0 +1,147 @@
+package server.api.security.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import module.common.exception.ErrorCode;
+import module.common.exception.InternalServerException;
+import module.common.exception.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+/**
+ * 로그인 비밀번호 검증(BCrypt)과 비밀번호 변경 시 해시 생성을 요청 스레드가 아닌 전용 스레드 풀에서 수행
+ * - 스레드 수와 대기 큐 크기를 제한해 로그인 폭주 시에도 일반 API 요청의 worker 스레드를 점유하지 않음
+ * - 큐가 가득 차면 즉시 거절하고, 대기 시간을 넘기면 503으로 응답
+ * - 설정된 BCrypt cost보다 낮은 해시는 검증 성공 시 같은 작업에서 다시 해시 생성
+ * - 스레드 풀 지표는 micrometer("executor.*", name=passwordHashExecutor)로 노출
+ */
+@Slf4j
+@Service
+public class PasswordVerificationService {
+
+    private static final String EXECUTOR_NAME = "passwordHashExecutor";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor threadPoolExecutor;
+    private final ExecutorService executor;
+    private final Duration timeout;
+
+    public PasswordVerificationService(
+        PasswordEncoder passwordEncoder,
+        @Value("${auth.password.threads:0}") int threads,
+        @Value("${auth.password.queue-capacity:64}") int queueCapacity,
+        @Value("${auth.password.timeout:3s}") Duration timeout,
+        MeterRegistry meterRegistry
+    ) {
+        // 0 이하이면 CPU 코어 수 (BCrypt는 CPU 연산이므로 코어 수 이상은 의미 없음)
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        this.passwordEncoder = passwordEncoder;
+        this.timeout = timeout;
+        this.threadPoolExecutor = new ThreadPoolExecutor(
+            poolSize,
+            poolSize,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, threadPoolExecutor, EXECUTOR_NAME);
+    }
+
+    /**
+     * 비밀번호 검증 (필요 시 재해시)
+     *
+     * @param rawPassword     입력된 비밀번호
+     * @param encodedPassword 저장된 비밀번호 해시
+     * @return 검증 결과 (재해시가 필요 없으면 upgradedPassword = null)
+     */
+    public PasswordCheck verify(String rawPassword, String encodedPassword) {
+        return execute(() -> check(rawPassword, encodedPassword), "비밀번호 검증");
+    }
+
+    /**
+     * 새 비밀번호 해시 생성 (비밀번호 변경 등)
+     *
+     * @param rawPassword 새 비밀번호
+     * @return 현재 설정의 cost로 생성한 해시
+     */
+    public String encode(String rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword), "비밀번호 해시 생성");
+    }
+
+    private <T> T execute(Callable<T> task, String taskName) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            log.warn("Password hash executor is saturated. queue: {}", threadPoolExecutor.getQueue().size());
+            throw new ServiceUnavailableException(e.getMessage(), ErrorCode.SERVICE_UNAVAILABLE_LOGIN_BUSY_EXCEPTION);
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ServiceUnavailableException(taskName + " 대기 시간 초과",
+                ErrorCode.SERVICE_UNAVAILABLE_LOGIN_BUSY_EXCEPTION);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException(taskName + " 중단", ErrorCode.SERVICE_UNAVAILABLE_LOGIN_BUSY_EXCEPTION);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new InternalServerException(e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        threadPoolExecutor.shutdown();
+    }
+
+    private PasswordCheck check(String rawPassword, String encodedPassword) {
+        if (!passwordEncoder.matches(rawPassword, encodedPassword)) {
+            return PasswordCheck.MISMATCH;
+        }
+
+        if (passwordEncoder.upgradeEncoding(encodedPassword)) {
+            return new PasswordCheck(true, passwordEncoder.encode(rawPassword));
+        }
+        return PasswordCheck.MATCHED;
+    }
+
+    /**
+     * @param matched          비밀번호 일치 여부
+     * @param upgradedPassword 현재 설정의 cost로 다시 생성한 해시 (재해시가 필요 없으면 null)
+     */
+    public record PasswordCheck(
+        boolean matched,
+        String upgradedPassword
+    ) {
+        private static final PasswordCheck MATCHED = new PasswordCheck(true, null);
+        private static final PasswordCheck MISMATCH = new PasswordCheck(false, null);
+    }
+}
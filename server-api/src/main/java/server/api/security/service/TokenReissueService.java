@@ -0,0 +1,135 @@
+package server.api.security.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import lombok.extern.slf4j.Slf4j;
+import module.common.contstant.RedisKey;
+import module.common.enums.ProviderType;
+import module.common.enums.RoleType;
+import module.common.utils.JwtUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+/**
+ * access token 만료 시점에 같은 세션(사용자 + 기기)의 병렬 요청이 각각 재발급하지 않도록 재발급을 하나로 합침
+ * - 노드 내: 세션별로 진행 중인 재발급 결과를 공유하고, 발급된 토큰을 짧게 보관해 늦게 도착한 요청에도 재사용
+ * - 노드 간: Redis SET NX로 한 노드만 재발급하고, 나머지 노드는 Redis에 저장된 결과를 사용
+ */
+@Slf4j
+@Service
+public class TokenReissueService {
+
+    // 다른 노드의 재발급 결과를 기다리는 최대 시간 및 조회 간격
+    private static final Duration PENDING_DURATION = Duration.ofSeconds(3);
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(50);
+    private static final String PENDING = "PENDING";
+
+    private final JwtUtils jwtUtils;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Duration memoDuration;
+    private final AsyncCache<String, String> reissuedTokens;
+
+    public TokenReissueService(
+        JwtUtils jwtUtils,
+        RedisTemplate<String, Object> redisTemplate,
+        @Value("${jwt.reissue.memo-ttl:10s}") Duration memoDuration
+    ) {
+        this.jwtUtils = jwtUtils;
+        this.redisTemplate = redisTemplate;
+        this.memoDuration = memoDuration;
+        this.reissuedTokens = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterWrite(memoDuration)
+            .buildAsync();
+    }
+
+    /**
+     * userId + 세션 id 기준으로 동시에 들어온 재발급 요청을 합쳐 하나의 access token을 발급
+     * refresh token 검증은 합치기 전에 요청마다 수행 (다른 요청의 재발급 결과를 토큰 없이 받지 못하도록)
+     *
+     * @param refreshToken 요청에 포함된 refresh token (세션에 저장된 해시와 비교)
+     * @return 재발급된 access token (같은 세션의 동시 요청은 같은 토큰을 받음)
+     */
+    public String reissue(Long userId, String sessionId, String refreshToken, RoleType role,
+        ProviderType providerType) {
+        jwtUtils.verifyRefreshToken(userId, sessionId, refreshToken);
+
+        String sessionKey = userId + ":" + sessionId;
+        CompletableFuture<String> created = new CompletableFuture<>();
+        CompletableFuture<String> inFlight = reissuedTokens.asMap().putIfAbsent(sessionKey, created);
+        if (inFlight != null) {
+            return join(inFlight);
+        }
+
+        try {
+            String accessToken = reissueAcrossNodes(userId, sessionId, sessionKey, role, providerType);
+            created.complete(accessToken);
+            return accessToken;
+        } catch (RuntimeException e) {
+            // 실패한 결과는 캐시에서 자동으로 제거됨
+            created.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private String reissueAcrossNodes(Long userId, String sessionId, String sessionKey, RoleType role,
+        ProviderType providerType) {
+        String key = RedisKey.REISSUED_ACCESS_TOKEN + sessionKey;
+
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key, PENDING, PENDING_DURATION);
+        if (Boolean.TRUE.equals(acquired)) {
+            try {
+                String accessToken = jwtUtils.reissueAccessToken(userId, sessionId, role, providerType);
+                redisTemplate.opsForValue().set(key, accessToken, memoDuration);
+                return accessToken;
+            } catch (RuntimeException e) {
+                redisTemplate.delete(key);
+                throw e;
+            }
+        }
+
+        // 다른 노드가 재발급 중이면 결과가 저장될 때까지 잠시 대기
+        long deadline = System.nanoTime() + PENDING_DURATION.toNanos();
+        do {
+            String accessToken = (String) redisTemplate.opsForValue().get(key);
+            if (accessToken == null) {
+                break; // 다른 노드의 재발급이 실패했거나 만료됨
+            }
+            if (StringUtils.hasText(accessToken) && !PENDING.equals(accessToken)) {
+                return accessToken;
+            }
+            if (!sleepPollInterval()) {
+                break;
+            }
+        } while (System.nanoTime() < deadline);
+
+        log.debug("Reissue result from another node is not available. session: {}", sessionKey);
+        return jwtUtils.reissueAccessToken(userId, sessionId, role, providerType);
+    }
+
+    private String join(CompletableFuture<String> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private boolean sleepPollInterval() {
+        try {
+            Thread.sleep(POLL_INTERVAL.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package server.api.storage;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * TAR 항목 위치 색인({storage.root}/.archive-index) 정리
+ * - 사용자 파일이 삭제되거나 이동되어 가리키는 TAR 파일이 없어진 색인 파일을 sweep-interval 마다 삭제
+ *   (TAR 파일이 바뀐 경우는 색인을 읽을 때 크기 / 수정 시각으로 확인해 다시 생성하므로 여기서는 삭제하지 않음)
+ * - 색인 파일을 모두 삭제해 비어있는 디렉토리도 삭제
+ */
+@Slf4j
+@Component
+public class ArchiveIndexSweeper {
+
+    private final UserStorage userStorage;
+    private final Duration sweepInterval;
+
+    private ScheduledExecutorService sweepExecutor;
+
+    public ArchiveIndexSweeper(
+        UserStorage userStorage,
+        @Value("${storage.archive-index.sweep-interval:1h}") Duration sweepInterval
+    ) {
+        this.userStorage = userStorage;
+        this.sweepInterval = sweepInterval;
+    }
+
+    @PostConstruct
+    void start() {
+        sweepExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "archive-index-sweep");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sweepExecutor.scheduleWithFixedDelay(this::sweep, sweepInterval.toMillis(), sweepInterval.toMillis(),
+            TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        sweepExecutor.shutdownNow();
+    }
+
+    void sweep() {
+        Path indexRoot = userStorage.archiveIndexRoot();
+        if (!Files.isDirectory(indexRoot)) {
+            return;
+        }
+
+        try {
+            Files.walkFileTree(indexRoot, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                    if (UserStorage.isArchiveIndex(file) && !Files.isRegularFile(userStorage.archivePathOf(file))) {
+                        Files.deleteIfExists(file);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException e) {
+                    // 순회 중 다른 요청이 삭제한 파일은 무시
+                    if (!(e instanceof NoSuchFileException)) {
+                        log.warn("Failed to visit archive index. path: {}", file, e);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult postVisitDirectory(Path dir, IOException e) throws IOException {
+                    if (!dir.equals(indexRoot)) {
+                        try {
+                            Files.deleteIfExists(dir);
+                        } catch (DirectoryNotEmptyException ignored) {
+                            // 사용 중인 색인이 남아있는 디렉토리
+                        }
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to sweep archive indexes. root: {}", indexRoot, e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package server.api.storage;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import module.core.domain.blob.BlobStore;
+import org.springframework.stereotype.Component;
+
+/**
+ * 중복 제거 저장소(BlobStore) 지표 (micrometer "storage.blob.*")
+ * - 저장 크기 / 중복 제거 비율: 전체 blob 집계 (BlobStore 가 stats-interval 마다 갱신한 값, 모든 노드가 같은 값)
+ * - 중복 제거 횟수 / 절약한 크기: 이 노드가 시작된 뒤 누적
+ */
+@Component
+public class BlobStoreMetrics {
+
+    public BlobStoreMetrics(BlobStore blobStore, MeterRegistry meterRegistry) {
+        Gauge.builder("storage.blob.count", blobStore, store -> store.getStats().blobCount())
+            .description("참조 중인 blob 수")
+            .register(meterRegistry);
+        Gauge.builder("storage.blob.references", blobStore, store -> store.getStats().referenceCount())
+            .description("blob 을 가리키는 사용자 파일 수")
+            .register(meterRegistry);
+        Gauge.builder("storage.blob.stored", blobStore, store -> store.getStats().storedBytes())
+            .description("실제 저장한 크기")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        Gauge.builder("storage.blob.logical", blobStore, store -> store.getStats().logicalBytes())
+            .description("중복 제거 전 크기")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        Gauge.builder("storage.blob.dedup.ratio", blobStore, store -> store.getStats().dedupRatio())
+            .description("중복 제거 비율 (중복 제거 전 크기 / 실제 저장 크기)")
+            .register(meterRegistry);
+
+        FunctionCounter.builder("storage.blob.dedup.files", blobStore, BlobStore::getDeduplicatedFiles)
+            .description("blob 링크로 교체한 중복 파일 수")
+            .register(meterRegistry);
+        FunctionCounter.builder("storage.blob.dedup.saved", blobStore, BlobStore::getDeduplicatedBytes)
+            .description("중복 제거로 절약한 크기")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,142 @@
+package server.api.storage;
+
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import module.common.exception.ErrorCode;
+import module.common.exception.ForbiddenException;
+import module.common.exception.InternalServerException;
+import module.common.exception.NotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 사용자별 파일 저장소 경로 관리
+ * - 사용자 파일은 {storage.root}/{userId} 하위에만 위치
+ * - 요청으로 받은 상대 경로는 정규화 후 사용자 디렉토리를 벗어나면 거부 (path traversal 방지)
+ */
+@Component
+public class UserStorage {
+
+    private static final String ARCHIVE_INDEX_DIRECTORY = ".archive-index";
+    private static final String ARCHIVE_INDEX_EXTENSION = ".idx";
+
+    private final Path root;
+
+    public UserStorage(@Value("${storage.root:./storage}") String root) {
+        this.root = Path.of(root).toAbsolutePath().normalize();
+    }
+
+    public Path getRoot() {
+        return root;
+    }
+
+    // 사용자 디렉토리 반환 (없으면 생성)
+    public Path userRoot(Long userId) {
+        Path userRoot = root.resolve(String.valueOf(userId));
+        try {
+            return Files.createDirectories(userRoot);
+        } catch (IOException e) {
+            throw new InternalServerException("사용자 저장소 디렉토리를 생성할 수 없습니다: " + userRoot);
+        }
+    }
+
+    /**
+     * 사용자 디렉토리 기준 상대 경로를 절대 경로로 변환
+     *
+     * @param userId       사용자 id
+     * @param relativePath 사용자 디렉토리 기준 상대 경로
+     * @return 사용자 디렉토리 하위의 정규화된 경로 (존재 여부는 검사하지 않음)
+     */
+    public Path resolve(Long userId, String relativePath) {
+        Path userRoot = userRoot(userId);
+        try {
+            Path resolved = userRoot.resolve(relativePath).normalize();
+            if (!resolved.startsWith(userRoot) || resolved.equals(userRoot)) {
+                throw new ForbiddenException("허용되지 않은 경로입니다: " + relativePath,
+                    ErrorCode.FORBIDDEN_FILE_NAME_EXCEPTION);
+            }
+            return resolved;
+        } catch (InvalidPathException e) {
+            throw new ForbiddenException("허용되지 않은 경로입니다: " + relativePath,
+                ErrorCode.FORBIDDEN_FILE_NAME_EXCEPTION);
+        }
+    }
+
+    /**
+     * 사용자 파일의 TAR 항목 위치 색인 파일 경로
+     * 사용자 디렉토리 밖({storage.root}/.archive-index/{userId})에 두어 사용자 파일 목록에 보이지 않도록 함
+     */
+    public Path archiveIndexPath(Long userId, Path archivePath) {
+        Path relativePath = userRoot(userId).relativize(archivePath);
+        return archiveIndexRoot().resolve(String.valueOf(userId))
+            .resolve(relativePath + ARCHIVE_INDEX_EXTENSION);
+    }
+
+    public Path archiveIndexRoot() {
+        return root.resolve(ARCHIVE_INDEX_DIRECTORY);
+    }
+
+    public static boolean isArchiveIndex(Path path) {
+        return path.getFileName().toString().endsWith(ARCHIVE_INDEX_EXTENSION);
+    }
+
+    // 색인 파일이 가리키는 사용자 파일 경로 (archiveIndexPath 의 역변환)
+    public Path archivePathOf(Path indexPath) {
+        String relativePath = archiveIndexRoot().relativize(indexPath).toString();
+        return root.resolve(relativePath.substring(0, relativePath.length() - ARCHIVE_INDEX_EXTENSION.length()));
+    }
+
+    /**
+     * 업로드가 끝난 파일을 사용자 디렉토리로 이동 (같은 파일 시스템이면 이름만 바뀌므로 데이터를 다시 쓰지 않음)
+     * 같은 이름의 파일이 있으면 " (n)" 을 붙인 이름으로 저장
+     *
+     * @param fileName 저장할 파일 이름 (sanitizeFileName 으로 정리된 이름)
+     * @return 이동한 경로
+     */
+    public Path moveIn(Long userId, Path source, String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        String baseName = dot > 0 ? fileName.substring(0, dot) : fileName;
+        String extension = dot > 0 ? fileName.substring(dot) : "";
+
+        for (int suffix = 0; ; suffix++) {
+            String candidate = suffix == 0 ? fileName : baseName + " (" + suffix + ")" + extension;
+            Path target = resolve(userId, candidate);
+            try {
+                return Files.move(source, target);
+            } catch (FileAlreadyExistsException e) {
+                // 다음 번호로 다시 시도
+            } catch (IOException e) {
+                throw new InternalServerException("업로드 파일을 저장할 수 없습니다: " + fileName);
+            }
+        }
+    }
+
+    /**
+     * 클라이언트가 보낸 파일 이름을 저장할 이름으로 정리
+     * 경로 구분자가 포함된 이름은 마지막 부분만 사용
+     *
+     * @param fallback 이름이 없거나 사용할 수 없는 이름일 때 사용할 이름
+     */
+    public static String sanitizeFileName(String fileName, String fallback) {
+        if (StringUtils.hasText(fileName)) {
+            fileName = StringUtils.getFilename(StringUtils.cleanPath(fileName.replace('\\', '/')));
+        }
+        if (!StringUtils.hasText(fileName) || ".".equals(fileName) || "..".equals(fileName)) {
+            return fallback;
+        }
+        return fileName;
+    }
+
+    // 존재하는 파일 또는 디렉토리만 반환
+    public Path resolveExisting(Long userId, String relativePath) {
+        Path resolved = resolve(userId, relativePath);
+        if (!Files.exists(resolved)) {
+            throw new NotFoundException("존재하지 않는 파일입니다: " + relativePath);
+        }
+        return resolved;
+    }
+}
@@ -0,0 +1,38 @@
+package server.api.upload.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import module.common.dto.SuccessResponse;
+import module.common.success.SuccessCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+import server.api.security.details.CustomUserDetails;
+import server.api.upload.dto.response.UploadedFileResponseDto;
+import server.api.upload.multipart.MultipartUploadService;
+
+/**
+ * multipart/form-data 파일 업로드 (pages/upload/basicFileUpload.html)
+ * - 요청 본문을 MultipartFile 로 받지 않고 직접 스트림으로 읽음 (MultipartConfig 에서 이 경로는 multipart 처리 제외)
+ * - form field "extract" = true 를 파일보다 먼저 보내면 압축 파일을 업로드하면서 압축 해제
+ */
+@RestController
+@RequiredArgsConstructor
+public class MultipartUploadController {
+
+    private final MultipartUploadService multipartUploadService;
+
+    @PostMapping(value = "${upload.multipart.path:/api/data}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<SuccessResponse<List<UploadedFileResponseDto>>> upload(
+        @AuthenticationPrincipal CustomUserDetails userDetails,
+        HttpServletRequest request
+    ) throws IOException {
+        return SuccessResponse.success(SuccessCode.CREATED_SUCCESS, UploadedFileResponseDto.of(
+            multipartUploadService.upload(userDetails.customUserInfo().id(), request.getContentType(),
+                request.getContentLengthLong(), request.getInputStream())));
+    }
+}
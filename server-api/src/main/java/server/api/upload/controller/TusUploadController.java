@@ -0,0 +1,249 @@
+package server.api.upload.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import lombok.RequiredArgsConstructor;
+import module.common.exception.ErrorCode;
+import module.common.exception.PreconditionFailedException;
+import module.common.exception.ValidationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+import server.api.security.details.CustomUserDetails;
+import server.api.upload.tus.TusUpload;
+import server.api.upload.tus.TusUploadService;
+
+/**
+ * tus 1.0 재개 가능 업로드 (https://tus.io/protocols/resumable-upload)
+ * - 지원 확장: creation, creation-with-upload, creation-defer-length, termination, expiration, concatenation
+ * - concatenation 은 부분 업로드를 모두 받은 뒤에 최종 업로드를 생성해야 함 (concatenation-unfinished 미지원)
+ * - 오류 응답 본문은 다른 API 와 같은 ErrorResponse (tus 클라이언트는 상태 코드만 사용)
+ * - Upload-Metadata 에 "extract" = true 이면 업로드 중 압축 해제 (진행 상태는 HEAD 의 Upload-Extract-* 헤더, 확장 헤더)
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("${upload.tus.path:/data_learnway/api/tus}")
+public class TusUploadController {
+
+    private static final String TUS_VERSION = "1.0.0";
+    private static final String TUS_EXTENSIONS =
+        "creation,creation-with-upload,creation-defer-length,termination,expiration,concatenation";
+    private static final String OFFSET_CONTENT_TYPE = "application/offset+octet-stream";
+
+    private static final String TUS_RESUMABLE = "Tus-Resumable";
+    private static final String TUS_VERSION_HEADER = "Tus-Version";
+    private static final String TUS_EXTENSION = "Tus-Extension";
+    private static final String TUS_MAX_SIZE = "Tus-Max-Size";
+    private static final String UPLOAD_OFFSET = "Upload-Offset";
+    private static final String UPLOAD_LENGTH = "Upload-Length";
+    private static final String UPLOAD_DEFER_LENGTH = "Upload-Defer-Length";
+    private static final String UPLOAD_METADATA = "Upload-Metadata";
+    private static final String UPLOAD_EXPIRES = "Upload-Expires";
+    private static final String UPLOAD_CONCAT = "Upload-Concat";
+    private static final String UPLOAD_EXTRACT_STATE = "Upload-Extract-State";
+    private static final String UPLOAD_EXTRACT_ENTRIES = "Upload-Extract-Entries";
+    private static final String UPLOAD_EXTRACT_PATH = "Upload-Extract-Path";
+
+    private final TusUploadService tusUploadService;
+
+    // 서버가 지원하는 버전 / 확장 (Tus-Resumable 검사 없음)
+    @RequestMapping(method = RequestMethod.OPTIONS)
+    public ResponseEntity<Void> options() {
+        return ResponseEntity.noContent()
+            .header(TUS_RESUMABLE, TUS_VERSION)
+            .header(TUS_VERSION_HEADER, TUS_VERSION)
+            .header(TUS_EXTENSION, TUS_EXTENSIONS)
+            .header(TUS_MAX_SIZE, String.valueOf(tusUploadService.getMaxSize()))
+            .build();
+    }
+
+    @PostMapping
+    public ResponseEntity<Void> create(
+        @AuthenticationPrincipal CustomUserDetails userDetails,
+        HttpServletRequest request,
+        HttpServletResponse response
+    ) throws IOException {
+        checkTusResumable(request, response);
+        Long userId = userDetails.customUserInfo().id();
+        String uploadConcat = request.getHeader(UPLOAD_CONCAT);
+        if (uploadConcat != null && uploadConcat.startsWith(TusUpload.CONCAT_FINAL_PREFIX)) {
+            // 최종 업로드: 크기는 부분 업로드 크기의 합, 본문 없음
+            TusUpload tusUpload = tusUploadService.createFinal(userId, uploadConcat,
+                request.getHeader(UPLOAD_METADATA));
+            return ResponseEntity.status(HttpStatus.CREATED)
+                .header(TUS_RESUMABLE, TUS_VERSION)
+                .header(HttpHeaders.LOCATION, location(request, tusUpload))
+                .header(UPLOAD_EXPIRES, formatExpires(tusUpload))
+                .build();
+        }
+        if (uploadConcat != null && !TusUpload.CONCAT_PARTIAL.equals(uploadConcat)) {
+            throw new ValidationException("Upload-Concat 헤더 값이 올바르지 않습니다: " + uploadConcat,
+                ErrorCode.VALIDATION_UPLOAD_HEADER_EXCEPTION);
+        }
+
+        String uploadLength = request.getHeader(UPLOAD_LENGTH);
+        long length;
+        if (uploadLength != null) {
+            length = parseLength(UPLOAD_LENGTH, uploadLength);
+        } else if ("1".equals(request.getHeader(UPLOAD_DEFER_LENGTH))) {
+            length = TusUpload.DEFERRED_LENGTH;
+        } else {
+            throw new ValidationException("Upload-Length 또는 Upload-Defer-Length 헤더가 필요합니다.",
+                ErrorCode.VALIDATION_UPLOAD_HEADER_EXCEPTION);
+        }
+
+        TusUpload tusUpload = tusUploadService.create(userId, length, request.getHeader(UPLOAD_METADATA),
+            uploadConcat);
+        String location = location(request, tusUpload);
+
+        // creation-with-upload: 생성 요청 본문을 첫 PATCH 로 처리
+        if (isOffsetContent(request) && request.getContentLengthLong() != 0) {
+            tusUpload = tusUploadService.patch(userId, tusUpload.uploadId(), 0, null,
+                request.getContentLengthLong(), request.getInputStream());
+        }
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+            .header(TUS_RESUMABLE, TUS_VERSION)
+            .header(HttpHeaders.LOCATION, location)
+            .header(UPLOAD_OFFSET, String.valueOf(tusUpload.offset()))
+            .header(UPLOAD_EXPIRES, formatExpires(tusUpload))
+            .build();
+    }
+
+    // 현재 offset 조회 (이어서 업로드할 위치)
+    @RequestMapping(value = "/{uploadId}", method = RequestMethod.HEAD)
+    public ResponseEntity<Void> head(
+        @AuthenticationPrincipal CustomUserDetails userDetails,
+        @PathVariable String uploadId,
+        HttpServletRequest request,
+        HttpServletResponse response
+    ) {
+        checkTusResumable(request, response);
+        TusUpload tusUpload = tusUploadService.getUpload(userDetails.customUserInfo().id(), uploadId);
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+            .header(TUS_RESUMABLE, TUS_VERSION)
+            .header(HttpHeaders.CACHE_CONTROL, "no-store")
+            .header(UPLOAD_EXPIRES, formatExpires(tusUpload));
+        // 최종 업로드는 병합이 끝나기 전에는 offset 을 응답하지 않음
+        if (!tusUpload.isFinal() || tusUpload.isCompleted()) {
+            builder.header(UPLOAD_OFFSET, String.valueOf(tusUpload.offset()));
+        }
+        if (tusUpload.uploadConcat() != null) {
+            builder.header(UPLOAD_CONCAT, tusUpload.uploadConcat());
+        }
+        if (tusUpload.isLengthDeferred()) {
+            builder.header(UPLOAD_DEFER_LENGTH, "1");
+        } else {
+            builder.header(UPLOAD_LENGTH, String.valueOf(tusUpload.length()));
+        }
+        if (tusUpload.metadata() != null) {
+            builder.header(UPLOAD_METADATA, tusUpload.metadata());
+        }
+        if (tusUpload.extract() != null) {
+            // UNSUPPORTED / FAILED 이면 압축 해제 디렉토리는 삭제됨
+            builder.header(UPLOAD_EXTRACT_STATE, tusUpload.extract().state().name())
+                .header(UPLOAD_EXTRACT_ENTRIES, String.valueOf(tusUpload.extract().entries()))
+                .header(UPLOAD_EXTRACT_PATH, UriUtils.encodePath(tusUpload.extractPath(), StandardCharsets.UTF_8));
+        }
+        return builder.build();
+    }
+
+    @PatchMapping("/{uploadId}")
+    public ResponseEntity<Void> patch(
+        @AuthenticationPrincipal CustomUserDetails userDetails,
+        @PathVariable String uploadId,
+        HttpServletRequest request,
+        HttpServletResponse response
+    ) throws IOException {
+        checkTusResumable(request, response);
+        if (!isOffsetContent(request)) {
+            throw new ValidationException("Content-Type 은 " + OFFSET_CONTENT_TYPE + " 이어야 합니다.",
+                ErrorCode.UNSUPPORTED_MEDIA_TYPE_EXCEPTION);
+        }
+        String uploadOffset = request.getHeader(UPLOAD_OFFSET);
+        if (uploadOffset == null) {
+            throw new ValidationException("Upload-Offset 헤더가 필요합니다.",
+                ErrorCode.VALIDATION_UPLOAD_HEADER_EXCEPTION);
+        }
+        String uploadLength = request.getHeader(UPLOAD_LENGTH);
+
+        TusUpload tusUpload = tusUploadService.patch(userDetails.customUserInfo().id(), uploadId,
+            parseLength(UPLOAD_OFFSET, uploadOffset),
+            uploadLength == null ? null : parseLength(UPLOAD_LENGTH, uploadLength),
+            request.getContentLengthLong(), request.getInputStream());
+
+        return ResponseEntity.noContent()
+            .header(TUS_RESUMABLE, TUS_VERSION)
+            .header(UPLOAD_OFFSET, String.valueOf(tusUpload.offset()))
+            .header(UPLOAD_EXPIRES, formatExpires(tusUpload))
+            .build();
+    }
+
+    @DeleteMapping("/{uploadId}")
+    public ResponseEntity<Void> terminate(
+        @AuthenticationPrincipal CustomUserDetails userDetails,
+        @PathVariable String uploadId,
+        HttpServletRequest request,
+        HttpServletResponse response
+    ) {
+        checkTusResumable(request, response);
+        tusUploadService.terminate(userDetails.customUserInfo().id(), uploadId);
+        return ResponseEntity.noContent()
+            .header(TUS_RESUMABLE, TUS_VERSION)
+            .build();
+    }
+
+    /**
+     * Tus-Resumable 헤더 검사
+     * 오류 응답에도 tus 헤더가 포함되도록 예외 발생 전에 응답 헤더를 먼저 설정
+     */
+    private static void checkTusResumable(HttpServletRequest request, HttpServletResponse response) {
+        response.setHeader(TUS_RESUMABLE, TUS_VERSION);
+        if (!TUS_VERSION.equals(request.getHeader(TUS_RESUMABLE))) {
+            response.setHeader(TUS_VERSION_HEADER, TUS_VERSION);
+            throw new PreconditionFailedException("지원하지 않는 tus 버전입니다: " + request.getHeader(TUS_RESUMABLE));
+        }
+    }
+
+    private static boolean isOffsetContent(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        return contentType != null && contentType.toLowerCase().startsWith(OFFSET_CONTENT_TYPE);
+    }
+
+    private static long parseLength(String header, String value) {
+        try {
+            long parsed = Long.parseLong(value.trim());
+            if (parsed >= 0) {
+                return parsed;
+            }
+        } catch (NumberFormatException ignored) {
+            // 아래에서 처리
+        }
+        throw new ValidationException(header + " 헤더 값이 올바르지 않습니다: " + value,
+            ErrorCode.VALIDATION_UPLOAD_HEADER_EXCEPTION);
+    }
+
+    private static String location(HttpServletRequest request, TusUpload tusUpload) {
+        return ServletUriComponentsBuilder.fromRequestUri(request)
+            .path("/{uploadId}").buildAndExpand(tusUpload.uploadId()).toUriString();
+    }
+
+    private static String formatExpires(TusUpload tusUpload) {
+        return DateTimeFormatter.RFC_1123_DATE_TIME.format(tusUpload.expiresAt().atZone(ZoneOffset.UTC));
+    }
+}
@@ -0,0 +1,44 @@
+package server.api.upload.dto.response;
+
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import module.common.compress.ExtractCheckpoint;
+import server.api.upload.multipart.UploadedFile;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder(access = AccessLevel.PRIVATE)
+public class UploadedFileResponseDto {
+    private String fileName;
+    // 저장한 파일의 사용자 저장소 기준 상대 경로
+    private String path;
+    private long size;
+    private String sha256;
+    private String contentType;
+    // 업로드 중 압축 해제한 디렉토리 (압축 해제를 요청하지 않았거나 실패하면 null)
+    private String extractPath;
+    private ExtractCheckpoint.State extractState;
+
+    public static UploadedFileResponseDto of(UploadedFile uploadedFile) {
+        return UploadedFileResponseDto.builder()
+            .fileName(uploadedFile.fileName())
+            .path(uploadedFile.path())
+            .size(uploadedFile.size())
+            .sha256(uploadedFile.sha256())
+            .contentType(uploadedFile.contentType())
+            .extractPath(uploadedFile.extractPath())
+            .extractState(uploadedFile.extractState())
+            .build();
+    }
+
+    public static List<UploadedFileResponseDto> of(List<UploadedFile> uploadedFiles) {
+        return uploadedFiles.stream()
+            .map(UploadedFileResponseDto::of)
+            .toList();
+    }
+}
@@ -0,0 +1,98 @@
+package server.api.upload.extract;
+
+import java.nio.file.Path;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import module.common.compress.ArchiveEntryFilter;
+import module.common.compress.ExtractCheckpoint;
+import module.common.compress.ExtractCheckpoint.State;
+import module.common.compress.IncrementalArchiveExtractor;
+import module.common.exception.CustomException;
+import module.common.utils.DecompressUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import server.api.archive.service.ArchiveService;
+import server.api.storage.UserStorage;
+
+/**
+ * 업로드 중 압축 해제 (업로드가 끝난 뒤 파일 전체를 다시 읽어 압축 해제하지 않고, 기록된 만큼씩 이어서 압축 해제)
+ * - 업로드 처리 측이 청크를 기록할 때마다 extract 를 호출하고, 반환된 checkpoint 를 업로드 상태와 함께 저장
+ * - 압축 해제 결과는 사용자 저장소의 "{압축 파일 이름}" 디렉토리 (이미 있으면 "_n" 추가, DecompressUtils 와 같은 규칙)
+ * - 업로드 중 압축 해제할 수 없는 형식(tar.gz 등)이거나 실패하면 디렉토리를 삭제하고 상태만 기록
+ *   (업로드된 압축 파일은 그대로 저장되므로 압축 해제 작업 API 로 압축 해제 가능)
+ */
+@Slf4j
+@Service
+public class UploadExtractService {
+
+    // 업로드 metadata 중 압축 해제 요청 여부 (값: true)
+    public static final String EXTRACT_METADATA = "extract";
+
+    private final UserStorage userStorage;
+    private final ArchiveEntryFilter entryFilter;
+    private final boolean enabled;
+
+    public UploadExtractService(
+        UserStorage userStorage,
+        ArchiveService archiveService,
+        @Value("${upload.extract.enabled:true}") boolean enabled
+    ) {
+        this.userStorage = userStorage;
+        this.entryFilter = archiveService.getCompressOptions().entryFilter();
+        this.enabled = enabled;
+    }
+
+    // 업로드 metadata 로 압축 해제를 요청했는지 확인
+    public boolean isRequested(Map<String, String> metadata) {
+        return enabled && Boolean.parseBoolean(metadata.get(EXTRACT_METADATA));
+    }
+
+    /**
+     * 압축 해제할 디렉토리 생성
+     *
+     * @param fileName 업로드 파일 이름 (a.tar -> a)
+     * @return 생성한 디렉토리
+     */
+    public Path createDestination(Long userId, String fileName) {
+        return DecompressUtils.initializeDestPath(userStorage.resolve(userId, fileName), null);
+    }
+
+    /**
+     * 기록된 범위까지 압축 해제
+     * 업로드 중 압축 해제할 수 없거나 실패하면 디렉토리를 삭제 (업로드는 계속 진행)
+     *
+     * @param archivePath 기록 중인 업로드 파일
+     * @param available   기록된 byte 수
+     * @param complete    업로드 완료 여부
+     * @param destination createDestination 으로 생성한 디렉토리
+     * @param checkpoint  이전 호출의 결과
+     * @return 다음 호출에 전달할 checkpoint
+     */
+    public ExtractCheckpoint extract(Path archivePath, long available, boolean complete, Path destination,
+        ExtractCheckpoint checkpoint) {
+        if (!checkpoint.isInProgress()) {
+            return checkpoint;
+        }
+        ExtractCheckpoint next;
+        try {
+            next = IncrementalArchiveExtractor.extract(archivePath, available, complete, destination, entryFilter,
+                checkpoint);
+        } catch (CustomException e) {
+            log.warn("업로드 중 압축 해제 실패: {} (offset: {}, 원인: {})", destination, checkpoint.offset(),
+                e.getMessage());
+            next = checkpoint.withState(State.FAILED);
+        }
+
+        if (next.state() == State.UNSUPPORTED || next.state() == State.FAILED) {
+            DecompressUtils.deleteRecursively(destination);
+        } else if (next.state() == State.FINISHED) {
+            log.info("업로드 중 압축 해제 완료: {} (항목 {}개)", destination, next.entries());
+        }
+        return next;
+    }
+
+    // 업로드 중단 시 압축 해제하던 디렉토리 삭제
+    public void discard(Path destination) {
+        DecompressUtils.deleteRecursively(destination);
+    }
+}
@@ -0,0 +1,23 @@
+package server.api.upload.multipart;
+
+import java.io.InputStream;
+
+/**
+ * multipart 요청의 part 하나
+ *
+ * @param name        form field 이름
+ * @param fileName    파일 이름 (파일이 아닌 form field 는 null)
+ * @param contentType part 의 Content-Type 헤더 (없으면 null)
+ * @param body        part 본문 (다음 part 로 이동하면 더 이상 읽을 수 없음)
+ */
+public record MultipartPart(
+    String name,
+    String fileName,
+    String contentType,
+    InputStream body
+) {
+
+    public boolean isFile() {
+        return fileName != null;
+    }
+}
@@ -0,0 +1,265 @@
+package server.api.upload.multipart;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import module.common.compress.FileTransfer;
+import module.common.exception.ErrorCode;
+import module.common.exception.ValidationException;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.MediaType;
+import org.springframework.util.StringUtils;
+
+/**
+ * multipart/form-data 요청 본문을 앞에서부터 읽으며 part 단위로 나누는 parser (RFC 7578)
+ * - part 본문은 임시 파일이나 메모리에 모아두지 않고, 요청 본문에서 바로 읽는 InputStream 으로 제공
+ * - 버퍼는 고정 크기 하나만 사용 (part 크기와 관계없이 메모리 사용량 일정)
+ * - 이전 part 의 본문을 다 읽지 않고 nextPart 를 호출하면 남은 본문은 읽어서 버림
+ */
+public class MultipartStream {
+
+    private static final byte[] CRLF = {'\r', '\n'};
+    private static final byte[] HEADER_END = {'\r', '\n', '\r', '\n'};
+    private static final byte[] CLOSE_DELIMITER_SUFFIX = {'-', '-'};
+    // part 헤더 최대 크기
+    private static final int MAX_HEADER_SIZE = 8 * 1024;
+    // RFC 2046 boundary 최대 길이
+    private static final int MAX_BOUNDARY_LENGTH = 70;
+
+    private final InputStream in;
+    // "\r\n--{boundary}"
+    private final byte[] delimiter;
+    private final byte[] buffer = new byte[FileTransfer.BUFFER_SIZE];
+    // 버퍼의 유효한 범위 [head, tail)
+    private int head;
+    private int tail;
+    // 이 위치 이전에서는 delimiter 가 시작되지 않음 (같은 범위를 다시 검색하지 않도록 기록)
+    private int scanned;
+    private PartInputStream current;
+    private boolean finished;
+
+    /**
+     * @param in       요청 본문
+     * @param boundary Content-Type 의 boundary 파라미터
+     */
+    public MultipartStream(InputStream in, String boundary) {
+        this.in = in;
+        this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+        // 본문은 CRLF 없이 첫 boundary 로 시작할 수 있으므로 CRLF 가 앞에 있는 것처럼 처리
+        System.arraycopy(CRLF, 0, buffer, 0, CRLF.length);
+        this.tail = CRLF.length;
+    }
+
+    /**
+     * Content-Type 헤더에서 boundary 추출
+     *
+     * @throws ValidationException multipart/form-data 가 아니거나 boundary 가 없는 경우
+     */
+    public static String boundary(String contentType) {
+        try {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            String boundary = mediaType.getParameter("boundary");
+            if (MediaType.MULTIPART_FORM_DATA.includes(mediaType) && StringUtils.hasLength(boundary)) {
+                boundary = StringUtils.trimTrailingCharacter(StringUtils.trimLeadingCharacter(boundary, '"'), '"');
+                if (!boundary.isEmpty() && boundary.length() <= MAX_BOUNDARY_LENGTH) {
+                    return boundary;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            // InvalidMediaTypeException 포함, 아래에서 처리
+        }
+        throw new ValidationException("multipart/form-data 요청이 아닙니다: " + contentType,
+            ErrorCode.UNSUPPORTED_MEDIA_TYPE_EXCEPTION);
+    }
+
+    /**
+     * 다음 part 로 이동
+     *
+     * @return 다음 part (마지막 part 이후에는 null)
+     */
+    public MultipartPart nextPart() throws IOException {
+        if (finished) {
+            return null;
+        }
+        if (current == null) {
+            // 첫 boundary 이전(preamble)은 버림
+            new PartInputStream().transferTo(OutputStream.nullOutputStream());
+        } else {
+            current.transferTo(OutputStream.nullOutputStream());
+        }
+
+        // delimiter 다음: "--" 이면 마지막, CRLF 이면 part 헤더 시작
+        ensure(CLOSE_DELIMITER_SUFFIX.length);
+        if (startsWith(CLOSE_DELIMITER_SUFFIX)) {
+            finished = true;
+            return null;
+        }
+        // boundary 뒤의 공백(transport padding) 허용
+        while (!startsWith(CRLF)) {
+            if (buffer[head] != ' ' && buffer[head] != '\t') {
+                throw malformed("boundary 다음에 줄바꿈이 없습니다.");
+            }
+            head++;
+            ensure(CRLF.length);
+        }
+        head += CRLF.length;
+
+        String headers = readHeaders();
+        current = new PartInputStream();
+        return parsePart(headers, current);
+    }
+
+    private String readHeaders() throws IOException {
+        // 헤더가 없는 part 는 바로 빈 줄
+        ensure(CRLF.length);
+        if (startsWith(CRLF)) {
+            head += CRLF.length;
+            return "";
+        }
+        while (true) {
+            int end = indexOf(HEADER_END, head, tail);
+            if (end >= 0) {
+                String headers = new String(buffer, head, end - head, StandardCharsets.UTF_8);
+                head = end + HEADER_END.length;
+                scanned = head;
+                return headers;
+            }
+            if (tail - head >= MAX_HEADER_SIZE) {
+                throw malformed("part 헤더가 너무 깁니다.");
+            }
+            if (!fill()) {
+                throw malformed("part 헤더가 끝나지 않았습니다.");
+            }
+        }
+    }
+
+    private static MultipartPart parsePart(String headers, InputStream body) {
+        String name = null;
+        String fileName = null;
+        String contentType = null;
+        for (String line : headers.split("\r\n")) {
+            int colon = line.indexOf(':');
+            if (colon <= 0) {
+                continue;
+            }
+            String headerName = line.substring(0, colon).trim();
+            String value = line.substring(colon + 1).trim();
+            if ("Content-Disposition".equalsIgnoreCase(headerName)) {
+                try {
+                    ContentDisposition disposition = ContentDisposition.parse(value);
+                    name = disposition.getName();
+                    fileName = disposition.getFilename();
+                } catch (IllegalArgumentException e) {
+                    throw malformed("Content-Disposition 헤더가 올바르지 않습니다: " + value);
+                }
+            } else if ("Content-Type".equalsIgnoreCase(headerName)) {
+                contentType = value;
+            }
+        }
+        if (name == null) {
+            throw malformed("part 에 Content-Disposition name 이 없습니다.");
+        }
+        return new MultipartPart(name, fileName, contentType, body);
+    }
+
+    // 버퍼에 최소 count byte 가 있도록 채움
+    private void ensure(int count) throws IOException {
+        while (tail - head < count) {
+            if (!fill()) {
+                throw malformed("요청 본문이 끝났습니다.");
+            }
+        }
+    }
+
+    // 남은 데이터를 버퍼 앞으로 옮기고 이어서 읽음 (읽은 데이터가 없으면 false)
+    private boolean fill() throws IOException {
+        if (head > 0) {
+            System.arraycopy(buffer, head, buffer, 0, tail - head);
+            tail -= head;
+            scanned = Math.max(0, scanned - head);
+            head = 0;
+        }
+        if (tail == buffer.length) {
+            return true;
+        }
+        int read = in.read(buffer, tail, buffer.length - tail);
+        if (read == -1) {
+            return false;
+        }
+        tail += read;
+        return true;
+    }
+
+    private boolean startsWith(byte[] prefix) {
+        return Arrays.equals(buffer, head, head + prefix.length, prefix, 0, prefix.length);
+    }
+
+    private int indexOf(byte[] pattern, int from, int to) {
+        byte first = pattern[0];
+        for (int i = from; i <= to - pattern.length; i++) {
+            if (buffer[i] == first && Arrays.equals(buffer, i, i + pattern.length, pattern, 0, pattern.length)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // 현재 part 본문 중 delimiter 이전까지 읽을 수 있는 위치 (delimiter 를 찾으면 그 위치, -1: 아직 찾지 못함)
+    private int findDelimiter() {
+        int found = indexOf(delimiter, Math.max(head, scanned), tail);
+        // 버퍼 끝에 걸친 delimiter 앞부분일 수 있는 마지막 (delimiter 길이 - 1) byte 는 다시 검색
+        scanned = found >= 0 ? found : Math.max(head, tail - delimiter.length + 1);
+        return found;
+    }
+
+    private static ValidationException malformed(String message) {
+        return new ValidationException("multipart 요청 형식이 올바르지 않습니다. " + message,
+            ErrorCode.VALIDATION_MULTIPART_EXCEPTION);
+    }
+
+    /**
+     * 현재 part 의 본문 (다음 delimiter 직전까지)
+     */
+    private final class PartInputStream extends InputStream {
+
+        private boolean ended;
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) == -1 ? -1 : Byte.toUnsignedInt(single[0]);
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (ended) {
+                return -1;
+            }
+            if (len == 0) {
+                return 0;
+            }
+            while (true) {
+                int found = findDelimiter();
+                int readable = found >= 0 ? found - head : scanned - head;
+                if (found == head) {
+                    head += delimiter.length;
+                    scanned = head;
+                    ended = true;
+                    return -1;
+                }
+                if (readable > 0) {
+                    int count = Math.min(len, readable);
+                    System.arraycopy(buffer, head, b, off, count);
+                    head += count;
+                    return count;
+                }
+                if (!fill()) {
+                    throw new EOFException("multipart 요청 본문이 part 중간에 끝났습니다.");
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,330 @@
+package server.api.upload.multipart;
+
+import jakarta.annotation.PostConstruct;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import module.common.compress.CompressedFileSignature;
+import module.common.compress.ExtractCheckpoint;
+import module.common.compress.FileTransfer;
+import module.common.exception.CustomException;
+import module.common.exception.ErrorCode;
+import module.common.exception.InternalServerException;
+import module.common.exception.PayloadTooLargeException;
+import module.common.exception.ValidationException;
+import module.core.domain.blob.BlobStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+import server.api.storage.UserStorage;
+import server.api.upload.extract.UploadExtractService;
+
+/**
+ * multipart/form-data 파일 업로드 (요청 본문을 스트림으로 읽어 part 별로 바로 저장)
+ * - Spring 의 MultipartFile 처리는 part 를 임시 파일(또는 메모리)에 모두 받은 뒤 컨트롤러를 호출하므로,
+ *   저장할 위치로 다시 복사하면 파일마다 디스크에 두 번 쓰게 됨
+ *   -> MultipartStream 으로 본문을 앞에서부터 읽으며 part 본문을 사용자 저장소와 같은 파일 시스템의
+ *      {upload.multipart.directory} 에 한 번만 기록하고, 완료되면 이름만 바꿔 사용자 저장소로 이동
+ * - 기록하면서 SHA-256, 크기, 앞부분 시그니처(MIME type)를 같이 계산 (파일을 다시 읽지 않음)
+ * - 저장한 파일은 계산한 SHA-256 으로 BlobStore 에 등록 (이미 있는 내용이면 하드 링크로 교체해 중복 제거)
+ * - 크기 제한은 읽는 중에 검사해 초과하는 즉시 중단 (Content-Length 가 있으면 본문을 읽기 전에 거부)
+ * - form field "extract" = true 이후의 파일은 기록하면서 압축 해제 (UploadExtractService)
+ * - 요청이 실패하면 이 요청으로 저장한 파일과 압축 해제 디렉토리를 모두 삭제
+ */
+@Slf4j
+@Service
+public class MultipartUploadService {
+
+    // MIME type 판별에 사용할 앞부분 크기
+    private static final int SNIFF_LENGTH = CompressedFileSignature.MAX_SIGNATURE_LENGTH;
+    // 이 시간보다 오래된 기록 중 파일은 중단된 업로드로 보고 시작 시 삭제
+    private static final Duration STALE_THRESHOLD = Duration.ofDays(1);
+
+    private final UserStorage userStorage;
+    private final UploadExtractService uploadExtractService;
+    private final BlobStore blobStore;
+    private final Path directory;
+    private final long maxRequestSize;
+    private final long maxFileSize;
+    private final int maxFiles;
+    private final int maxFieldSize;
+    private final long extractInterval;
+
+    public MultipartUploadService(
+        UserStorage userStorage,
+        UploadExtractService uploadExtractService,
+        BlobStore blobStore,
+        // 기록 중인 파일 위치 (사용자 저장소와 같은 파일 시스템이어야 완료 후 복사 없이 이동)
+        @Value("${upload.multipart.directory:${storage.root:./storage}/.upload}") String directory,
+        @Value("${upload.multipart.max-request-size:10GB}") DataSize maxRequestSize,
+        @Value("${upload.multipart.max-file-size:5GB}") DataSize maxFileSize,
+        @Value("${upload.multipart.max-files:100}") int maxFiles,
+        // 파일이 아닌 form field 값의 최대 크기
+        @Value("${upload.multipart.max-field-size:8KB}") DataSize maxFieldSize,
+        // 업로드 중 압축 해제를 이어서 진행하는 간격 (기록한 byte 수)
+        @Value("${upload.multipart.extract-interval:8MB}") DataSize extractInterval
+    ) {
+        this.userStorage = userStorage;
+        this.uploadExtractService = uploadExtractService;
+        this.blobStore = blobStore;
+        this.directory = Path.of(directory).toAbsolutePath().normalize();
+        this.maxRequestSize = maxRequestSize.toBytes();
+        this.maxFileSize = maxFileSize.toBytes();
+        this.maxFiles = maxFiles;
+        this.maxFieldSize = (int) maxFieldSize.toBytes();
+        this.extractInterval = extractInterval.toBytes();
+    }
+
+    @PostConstruct
+    void start() throws IOException {
+        Files.createDirectories(directory);
+        Instant threshold = Instant.now().minus(STALE_THRESHOLD);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                if (Files.getLastModifiedTime(file).toInstant().isBefore(threshold)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    /**
+     * multipart 요청 본문의 파일 part 를 사용자 저장소에 저장
+     *
+     * @param contentType   요청 Content-Type (boundary 포함)
+     * @param contentLength 요청 본문 크기 (chunked 전송이면 -1)
+     * @return 저장한 파일 목록 (요청 순서)
+     */
+    public List<UploadedFile> upload(Long userId, String contentType, long contentLength, InputStream body) {
+        if (contentLength > maxRequestSize) {
+            throw new PayloadTooLargeException(
+                "업로드 요청 크기를 초과했습니다. 최대: " + maxRequestSize + ", 요청: " + contentLength);
+        }
+        MultipartStream multipart = new MultipartStream(new LimitedInputStream(body, maxRequestSize),
+            MultipartStream.boundary(contentType));
+
+        List<UploadedFile> uploadedFiles = new ArrayList<>();
+        boolean extract = false;
+        try {
+            MultipartPart part;
+            while ((part = multipart.nextPart()) != null) {
+                if (!part.isFile()) {
+                    String value = readField(part);
+                    if (UploadExtractService.EXTRACT_METADATA.equals(part.name())) {
+                        extract = uploadExtractService.isRequested(
+                            Map.of(UploadExtractService.EXTRACT_METADATA, value));
+                    }
+                    continue;
+                }
+                // 파일을 선택하지 않은 input 은 빈 파일 이름으로 전송됨
+                if (!StringUtils.hasText(part.fileName())) {
+                    continue;
+                }
+                if (uploadedFiles.size() >= maxFiles) {
+                    throw new PayloadTooLargeException("한 번에 업로드할 수 있는 파일 수를 초과했습니다: " + maxFiles);
+                }
+                uploadedFiles.add(save(userId, part, extract));
+            }
+        } catch (IOException e) {
+            // 클라이언트 연결이 끊긴 경우
+            rollback(userId, uploadedFiles);
+            throw new InternalServerException("업로드 요청 본문을 읽지 못했습니다: " + e.getMessage());
+        } catch (RuntimeException e) {
+            rollback(userId, uploadedFiles);
+            throw e;
+        }
+
+        log.info("multipart 업로드 완료: 사용자 {}, 파일 {}개", userId, uploadedFiles.size());
+        return uploadedFiles;
+    }
+
+    private String readField(MultipartPart part) throws IOException {
+        byte[] value = part.body().readNBytes(maxFieldSize + 1);
+        if (value.length > maxFieldSize) {
+            throw new ValidationException("form field 값이 너무 큽니다: " + part.name(),
+                ErrorCode.VALIDATION_MULTIPART_EXCEPTION);
+        }
+        return new String(value, StandardCharsets.UTF_8).trim();
+    }
+
+    /**
+     * part 본문을 기록 중 파일에 한 번만 쓰면서 SHA-256 / 크기 / MIME type 계산, 완료되면 사용자 저장소로 이동
+     */
+    private UploadedFile save(Long userId, MultipartPart part, boolean extract) throws IOException {
+        String fileName = UserStorage.sanitizeFileName(part.fileName(), UUID.randomUUID().toString());
+        Path uploadPath = directory.resolve(UUID.randomUUID().toString());
+        Path destination = extract ? uploadExtractService.createDestination(userId, fileName) : null;
+        MessageDigest digest = BlobStore.newDigest();
+
+        try {
+            DigestInputStream in = new DigestInputStream(part.body(), digest);
+            byte[] header;
+            long size;
+            ExtractProgress extractProgress = new ExtractProgress(uploadPath, destination);
+            try (FileChannel channel = FileChannel.open(uploadPath,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                header = in.readNBytes((int) Math.min(SNIFF_LENGTH, maxFileSize));
+                ByteBuffer headerBuffer = ByteBuffer.wrap(header);
+                while (headerBuffer.hasRemaining()) {
+                    channel.write(headerBuffer);
+                }
+                long remaining = maxFileSize - header.length;
+                long written = FileTransfer.write(in, channel, header.length, remaining,
+                    bytes -> extractProgress.onWritten(header.length + bytes));
+                if (written == remaining && in.read() != -1) {
+                    throw new PayloadTooLargeException(
+                        "업로드 가능한 파일 크기를 초과했습니다. 최대: " + maxFileSize + ", 파일: " + part.fileName());
+                }
+                size = header.length + written;
+            }
+            extractProgress.finish(size);
+
+            Path target = userStorage.moveIn(userId, uploadPath, fileName);
+            String sha256 = BlobStore.toHash(digest);
+            blobStore.adopt(target, sha256);
+            Path userRoot = userStorage.userRoot(userId);
+            ExtractCheckpoint checkpoint = extractProgress.checkpoint;
+            boolean extracted = checkpoint != null && checkpoint.state() == ExtractCheckpoint.State.FINISHED;
+            return new UploadedFile(part.fileName(), userRoot.relativize(target).toString(), size,
+                sha256, sniffContentType(header, part.contentType(), fileName),
+                extracted ? userRoot.relativize(destination).toString() : null,
+                checkpoint == null ? null : checkpoint.state());
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(uploadPath);
+            if (destination != null) {
+                uploadExtractService.discard(destination);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 파일 앞부분의 시그니처로 MIME type 판별
+     * 시그니처로 알 수 없으면 part 의 Content-Type, 파일 이름 순으로 사용
+     */
+    static String sniffContentType(byte[] header, String declaredContentType, String fileName) {
+        return CompressedFileSignature.detect(header, header.length)
+            .map(CompressedFileSignature::getContentType)
+            .or(() -> parseContentType(declaredContentType))
+            .or(() -> Optional.ofNullable(URLConnection.guessContentTypeFromName(fileName)))
+            .orElse(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+    }
+
+    private static Optional<String> parseContentType(String contentType) {
+        if (!StringUtils.hasText(contentType)) {
+            return Optional.empty();
+        }
+        try {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            return MediaType.APPLICATION_OCTET_STREAM.equalsTypeAndSubtype(mediaType) ?
+                Optional.empty() : Optional.of(mediaType.getType() + "/" + mediaType.getSubtype());
+        } catch (InvalidMediaTypeException e) {
+            return Optional.empty();
+        }
+    }
+
+    // 실패한 요청으로 이미 저장한 파일 삭제 (일부 파일만 저장된 상태로 남기지 않음)
+    private void rollback(Long userId, List<UploadedFile> uploadedFiles) {
+        for (UploadedFile uploadedFile : uploadedFiles) {
+            try {
+                Files.deleteIfExists(userStorage.resolve(userId, uploadedFile.path()));
+                if (uploadedFile.extractPath() != null) {
+                    uploadExtractService.discard(userStorage.resolve(userId, uploadedFile.extractPath()));
+                }
+            } catch (IOException | CustomException e) {
+                log.warn("실패한 업로드 파일 삭제 실패: {}", uploadedFile.path(), e);
+            }
+        }
+    }
+
+    /**
+     * 기록 중인 파일의 압축 해제 (extract-interval 만큼 기록할 때마다 이어서 진행)
+     */
+    private final class ExtractProgress {
+
+        private final Path uploadPath;
+        private final Path destination;
+        private ExtractCheckpoint checkpoint;
+        private long extractedUntil;
+
+        private ExtractProgress(Path uploadPath, Path destination) {
+            this.uploadPath = uploadPath;
+            this.destination = destination;
+            this.checkpoint = destination == null ? null : ExtractCheckpoint.START;
+        }
+
+        void onWritten(long written) {
+            if (checkpoint != null && written - extractedUntil >= extractInterval) {
+                extractedUntil = written;
+                checkpoint = uploadExtractService.extract(uploadPath, written, false, destination, checkpoint);
+            }
+        }
+
+        // 남은 항목 압축 해제 (마지막 항목까지 읽지 못하면 손상된 파일로 처리)
+        void finish(long size) {
+            if (checkpoint != null) {
+                checkpoint = uploadExtractService.extract(uploadPath, size, true, destination, checkpoint);
+            }
+        }
+    }
+
+    /**
+     * 요청 본문 전체 크기 제한 (chunked 전송처럼 Content-Length 가 없어도 초과하는 즉시 중단)
+     */
+    private static final class LimitedInputStream extends FilterInputStream {
+
+        private final long limit;
+        private long read;
+
+        private LimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int count = super.read(b, off, len);
+            if (count > 0) {
+                count(count);
+            }
+            return count;
+        }
+
+        private void count(long bytes) {
+            read += bytes;
+            if (read > limit) {
+                throw new PayloadTooLargeException("업로드 요청 크기를 초과했습니다. 최대: " + limit);
+            }
+        }
+    }
+}
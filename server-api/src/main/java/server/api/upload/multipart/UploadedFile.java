@@ -0,0 +1,25 @@
+package server.api.upload.multipart;
+
+import module.common.compress.ExtractCheckpoint;
+
+/**
+ * multipart 업로드로 저장한 파일
+ *
+ * @param fileName     클라이언트가 보낸 파일 이름
+ * @param path         저장한 파일의 사용자 저장소 기준 상대 경로 (같은 이름이 있으면 " (n)" 추가)
+ * @param size         파일 크기
+ * @param sha256       내용의 SHA-256 (hex)
+ * @param contentType  내용으로 판별한 MIME type (판별할 수 없으면 part 의 Content-Type, 파일 이름 순으로 사용)
+ * @param extractPath  업로드 중 압축 해제한 디렉토리의 상대 경로 (압축 해제를 요청하지 않았거나 실패하면 null)
+ * @param extractState 업로드 중 압축 해제 결과 (압축 해제를 요청하지 않았으면 null)
+ */
+public record UploadedFile(
+    String fileName,
+    String path,
+    long size,
+    String sha256,
+    String contentType,
+    String extractPath,
+    ExtractCheckpoint.State extractState
+) {
+}
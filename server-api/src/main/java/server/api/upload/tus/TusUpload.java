@@ -0,0 +1,228 @@
+package server.api.upload.tus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import module.common.compress.ExtractCheckpoint;
+import module.common.enums.CompressFileType;
+import module.common.exception.ErrorCode;
+import module.common.exception.ValidationException;
+import org.springframework.util.StringUtils;
+
+/**
+ * tus 업로드 상태 (Redis hash 한 개에 저장)
+ *
+ * @param length        전체 크기 (Upload-Defer-Length 로 생성해 아직 정해지지 않았으면 DEFERRED_LENGTH)
+ * @param offset        서버에 기록된 byte 수 (다음 PATCH 의 Upload-Offset)
+ * @param metadata      Upload-Metadata 헤더 원문 (HEAD 응답에 그대로 돌려줌)
+ * @param resultPath    완료 후 이동한 파일의 사용자 저장소 기준 상대 경로 (완료 전에는 null)
+ * @param expiresAt     만료 시각 (PATCH 마다 연장, 만료되면 Redis 상태와 기록 중인 파일 삭제)
+ * @param uploadConcat  Upload-Concat 헤더 원문 ("partial" 또는 "final;{부분 업로드 URL 목록}", 일반 업로드는 null)
+ * @param finalUploadId 부분 업로드를 합치는 중인 최종 업로드 id (부분 업로드에서만 사용, 합치기 전에는 null)
+ * @param extractPath   업로드 중 압축 해제하는 디렉토리의 사용자 저장소 기준 상대 경로 (압축 해제를 요청하지 않았으면 null)
+ * @param extract       업로드 중 압축 해제 진행 위치 (압축 해제를 요청하지 않았으면 null)
+ */
+public record TusUpload(
+    String uploadId,
+    Long userId,
+    long length,
+    long offset,
+    String metadata,
+    String resultPath,
+    Instant createdAt,
+    Instant expiresAt,
+    String uploadConcat,
+    String finalUploadId,
+    String extractPath,
+    ExtractCheckpoint extract
+) {
+
+    public static final long DEFERRED_LENGTH = -1;
+
+    // Upload-Metadata 의 파일 이름 key (tus-js-client 기본값)
+    public static final String FILENAME_METADATA = "filename";
+
+    public static final String CONCAT_PARTIAL = "partial";
+    public static final String CONCAT_FINAL_PREFIX = "final;";
+
+    static final String LENGTH = "length";
+    static final String OFFSET = "offset";
+    static final String RESULT_PATH = "resultPath";
+    static final String EXPIRES_AT = "expiresAt";
+    static final String FINAL_UPLOAD_ID = "finalUploadId";
+    static final String EXTRACT_FORMAT = "extractFormat";
+    static final String EXTRACT_OFFSET = "extractOffset";
+    static final String EXTRACT_ENTRIES = "extractEntries";
+    static final String EXTRACT_ATTEMPTED = "extractAttempted";
+    static final String EXTRACT_STATE = "extractState";
+
+    public static TusUpload created(String uploadId, Long userId, long length, String metadata, Instant expiresAt,
+        String uploadConcat) {
+        return new TusUpload(uploadId, userId, length, 0, metadata, null, Instant.now(), expiresAt, uploadConcat,
+            null, null, null);
+    }
+
+    // 업로드 중 압축 해제 시작 (생성 시에만 사용)
+    public TusUpload withExtractPath(String extractPath) {
+        return new TusUpload(uploadId, userId, length, offset, metadata, resultPath, createdAt, expiresAt,
+            uploadConcat, finalUploadId, extractPath, ExtractCheckpoint.START);
+    }
+
+    public TusUpload withExtract(ExtractCheckpoint extract) {
+        return new TusUpload(uploadId, userId, length, offset, metadata, resultPath, createdAt, expiresAt,
+            uploadConcat, finalUploadId, extractPath, extract);
+    }
+
+    public TusUpload withOffset(long offset, Instant expiresAt) {
+        return new TusUpload(uploadId, userId, length, offset, metadata, resultPath, createdAt, expiresAt,
+            uploadConcat, finalUploadId, extractPath, extract);
+    }
+
+    public TusUpload withLength(long length, Instant expiresAt) {
+        return new TusUpload(uploadId, userId, length, offset, metadata, resultPath, createdAt, expiresAt,
+            uploadConcat, finalUploadId, extractPath, extract);
+    }
+
+    public TusUpload withResultPath(String resultPath) {
+        return new TusUpload(uploadId, userId, length, offset, metadata, resultPath, createdAt, expiresAt,
+            uploadConcat, finalUploadId, extractPath, extract);
+    }
+
+    public boolean isLengthDeferred() {
+        return length == DEFERRED_LENGTH;
+    }
+
+    public boolean isCompleted() {
+        return resultPath != null;
+    }
+
+    // 모든 데이터를 받은 상태 (부분 업로드는 사용자 저장소로 이동하지 않으므로 isCompleted 대신 사용)
+    public boolean isFullyReceived() {
+        return !isLengthDeferred() && offset == length;
+    }
+
+    public boolean isExtracting() {
+        return extract != null && extract.isInProgress();
+    }
+
+    public boolean isPartial() {
+        return CONCAT_PARTIAL.equals(uploadConcat);
+    }
+
+    public boolean isFinal() {
+        return uploadConcat != null && uploadConcat.startsWith(CONCAT_FINAL_PREFIX);
+    }
+
+    // 최종 업로드를 구성하는 부분 업로드 id 목록 (순서대로)
+    public List<String> partUploadIds() {
+        return isFinal() ? parsePartUploadIds(uploadConcat) : List.of();
+    }
+
+    /**
+     * Upload-Concat: final 헤더의 부분 업로드 URL 목록에서 id 추출
+     * 형식: "final;/files/a http://host/files/b" (URL 의 마지막 경로가 업로드 id)
+     */
+    public static List<String> parsePartUploadIds(String uploadConcat) {
+        List<String> partUploadIds = new ArrayList<>();
+        for (String url : uploadConcat.substring(CONCAT_FINAL_PREFIX.length()).trim().split("\\s+")) {
+            String trimmed = url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+            String partUploadId = trimmed.substring(trimmed.lastIndexOf('/') + 1);
+            if (!partUploadId.isEmpty()) {
+                partUploadIds.add(partUploadId);
+            }
+        }
+        return partUploadIds;
+    }
+
+    /**
+     * Upload-Metadata 헤더 파싱
+     * 형식: "key base64(value),key base64(value)" (값은 생략 가능)
+     */
+    public static Map<String, String> parseMetadata(String metadata) {
+        Map<String, String> parsed = new LinkedHashMap<>();
+        if (!StringUtils.hasText(metadata)) {
+            return parsed;
+        }
+        try {
+            for (String pair : metadata.split(",")) {
+                String[] keyAndValue = pair.trim().split(" ", 2);
+                if (keyAndValue[0].isEmpty() || parsed.containsKey(keyAndValue[0])) {
+                    throw new ValidationException("Upload-Metadata 형식이 올바르지 않습니다: " + metadata,
+                        ErrorCode.VALIDATION_UPLOAD_HEADER_EXCEPTION);
+                }
+                String value = keyAndValue.length == 2 ?
+                    new String(Base64.getDecoder().decode(keyAndValue[1].trim()), StandardCharsets.UTF_8) : "";
+                parsed.put(keyAndValue[0], value);
+            }
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Upload-Metadata 값이 base64 가 아닙니다: " + metadata,
+                ErrorCode.VALIDATION_UPLOAD_HEADER_EXCEPTION);
+        }
+        return parsed;
+    }
+
+    Map<String, String> toHash() {
+        Map<String, String> hash = new HashMap<>();
+        hash.put("uploadId", uploadId);
+        hash.put("userId", String.valueOf(userId));
+        hash.put(LENGTH, String.valueOf(length));
+        hash.put(OFFSET, String.valueOf(offset));
+        if (metadata != null) {
+            hash.put("metadata", metadata);
+        }
+        hash.put("createdAt", String.valueOf(createdAt.toEpochMilli()));
+        hash.put(EXPIRES_AT, String.valueOf(expiresAt.toEpochMilli()));
+        if (uploadConcat != null) {
+            hash.put("uploadConcat", uploadConcat);
+        }
+        if (extractPath != null) {
+            hash.put("extractPath", extractPath);
+            hash.putAll(toHash(extract));
+        }
+        return hash;
+    }
+
+    static Map<String, String> toHash(ExtractCheckpoint extract) {
+        Map<String, String> hash = new HashMap<>();
+        // 형식은 판별 전이면 빈 문자열
+        hash.put(EXTRACT_FORMAT, extract.format() == null ? "" : extract.format().name());
+        hash.put(EXTRACT_OFFSET, String.valueOf(extract.offset()));
+        hash.put(EXTRACT_ENTRIES, String.valueOf(extract.entries()));
+        hash.put(EXTRACT_ATTEMPTED, String.valueOf(extract.attemptedBytes()));
+        hash.put(EXTRACT_STATE, extract.state().name());
+        return hash;
+    }
+
+    static TusUpload fromHash(Map<Object, Object> hash) {
+        return new TusUpload(
+            (String) hash.get("uploadId"),
+            Long.valueOf((String) hash.get("userId")),
+            Long.parseLong((String) hash.get(LENGTH)),
+            Long.parseLong((String) hash.get(OFFSET)),
+            (String) hash.get("metadata"),
+            (String) hash.get(RESULT_PATH),
+            Instant.ofEpochMilli(Long.parseLong((String) hash.get("createdAt"))),
+            Instant.ofEpochMilli(Long.parseLong((String) hash.get(EXPIRES_AT))),
+            (String) hash.get("uploadConcat"),
+            (String) hash.get(FINAL_UPLOAD_ID),
+            (String) hash.get("extractPath"),
+            hash.containsKey(EXTRACT_STATE) ? extractFromHash(hash) : null
+        );
+    }
+
+    private static ExtractCheckpoint extractFromHash(Map<Object, Object> hash) {
+        String format = (String) hash.get(EXTRACT_FORMAT);
+        return new ExtractCheckpoint(
+            format.isEmpty() ? null : CompressFileType.valueOf(format),
+            Long.parseLong((String) hash.get(EXTRACT_OFFSET)),
+            Long.parseLong((String) hash.get(EXTRACT_ENTRIES)),
+            Long.parseLong((String) hash.get(EXTRACT_ATTEMPTED)),
+            ExtractCheckpoint.State.valueOf((String) hash.get(EXTRACT_STATE))
+        );
+    }
+}
@@ -0,0 +1,670 @@
+package server.api.upload.tus;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import module.common.compress.ExtractCheckpoint;
+import module.common.compress.FileTransfer;
+import module.common.exception.ConflictException;
+import module.common.exception.ErrorCode;
+import module.common.exception.ForbiddenException;
+import module.common.exception.InternalServerException;
+import module.common.exception.NotFoundException;
+import module.common.exception.PayloadTooLargeException;
+import module.common.exception.ValidationException;
+import module.core.domain.blob.BlobStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import server.api.storage.UserStorage;
+import server.api.upload.extract.UploadExtractService;
+
+/**
+ * tus 1.0 업로드 처리 (core, creation, termination, expiration, concatenation)
+ * - 업로드 파일은 {upload.tus.directory}/{업로드 id} 에 기록하고, 완료되면 사용자 저장소로 이동
+ * - PATCH 본문은 Upload-Offset 위치부터 FileChannel positional write 로 바로 기록 (청크 전체를 메모리에 두지 않음)
+ * - offset 은 checkpoint-interval 마다 Redis 에 저장하므로 연결이 끊겨도 기록된 만큼 이어서 업로드 가능
+ * - 같은 업로드의 PATCH 는 Redis 잠금으로 노드 간 하나만 처리 (동시 요청은 409)
+ * - Redis 상태가 만료된 업로드 파일은 cleanup-interval 마다 삭제
+ *
+ * concatenation (클라이언트가 파일을 나눠 여러 연결로 동시에 업로드)
+ * - 부분(partial) 업로드는 다 받아도 사용자 저장소로 옮기지 않고, 최종(final) 업로드 생성 시 순서대로 병합
+ * - 첫 부분 업로드 파일은 이름만 바꿔 최종 파일로 사용하고 (데이터 복사 없음), 나머지는 transferTo 로 이어 붙임
+ *   (Java 표준 API 로는 reflink 같은 블록 공유 복사를 할 수 없어 첫 부분만 복사 없이 처리)
+ * - 부분 업로드별 병합한 byte 수를 Redis(TUC:)에 기록하므로, 병합이 중단되면 같은 최종 업로드 요청으로 이어서 병합
+ *
+ * 업로드 중 압축 해제 (Upload-Metadata 에 "extract" = true)
+ * - offset 을 저장할 때마다 기록된 범위까지 압축 해제하고 진행 위치를 업로드 상태에 함께 저장
+ *   (이어서 업로드하면 마지막으로 압축 해제한 항목 다음부터 진행)
+ * - 압축 해제는 오래 걸릴 수 있으므로 압축 해제하는 동안 lock-timeout 의 1/3 마다 잠금을 연장
+ * - 압축 해제 디렉토리 경로는 {업로드 id}.extract 파일에 기록해 두고, 업로드가 완료되기 전에 만료되면 함께 삭제
+ * - 부분 업로드는 압축 해제하지 않고, 최종 업로드가 병합을 마친 뒤 한 번에 압축 해제
+ */
+@Slf4j
+@Service
+public class TusUploadService {
+
+    // 병합 진행 상황을 저장하는 단위
+    private static final long CONCAT_CHUNK_SIZE = 256L * 1024 * 1024;
+    // 업로드 중 압축 해제하는 디렉토리 경로를 기록하는 파일 ({업로드 id}.extract)
+    private static final String EXTRACT_MARKER_SUFFIX = ".extract";
+
+    private final TusUploadStore tusUploadStore;
+    private final UserStorage userStorage;
+    private final UploadExtractService uploadExtractService;
+    private final BlobStore blobStore;
+    private final Path directory;
+    private final long maxSize;
+    private final Duration expiration;
+    private final Duration lockTimeout;
+    private final long checkpointIntervalNanos;
+    private final Duration cleanupInterval;
+
+    private ScheduledExecutorService cleanupExecutor;
+    private ScheduledExecutorService lockRefreshExecutor;
+    // 완료된 업로드 파일의 BlobStore 등록 (파일 전체를 다시 읽으므로 한 번에 하나씩)
+    private ExecutorService adoptExecutor;
+
+    public TusUploadService(
+        TusUploadStore tusUploadStore,
+        UserStorage userStorage,
+        UploadExtractService uploadExtractService,
+        BlobStore blobStore,
+        @Value("${upload.tus.directory:${storage.root:./storage}/.tus}") String directory,
+        @Value("${upload.tus.max-size:20GB}") DataSize maxSize,
+        // 마지막 PATCH 이후 이 시간 동안 이어서 업로드하지 않으면 만료
+        @Value("${upload.tus.expiration:1d}") Duration expiration,
+        @Value("${upload.tus.lock-timeout:1m}") Duration lockTimeout,
+        // PATCH 처리 중 offset 을 Redis 에 저장하는 간격 (노드 장애 시 이 간격만큼의 데이터만 다시 받음)
+        @Value("${upload.tus.checkpoint-interval:1s}") Duration checkpointInterval,
+        @Value("${upload.tus.cleanup-interval:1h}") Duration cleanupInterval
+    ) {
+        this.tusUploadStore = tusUploadStore;
+        this.userStorage = userStorage;
+        this.uploadExtractService = uploadExtractService;
+        this.blobStore = blobStore;
+        this.directory = Path.of(directory).toAbsolutePath().normalize();
+        this.maxSize = maxSize.toBytes();
+        this.expiration = expiration;
+        this.lockTimeout = lockTimeout;
+        this.checkpointIntervalNanos = checkpointInterval.toNanos();
+        this.cleanupInterval = cleanupInterval;
+    }
+
+    @PostConstruct
+    void start() throws IOException {
+        Files.createDirectories(directory);
+        cleanupExecutor = Executors.newSingleThreadScheduledExecutor(daemonThreadFactory("tus-cleanup"));
+        cleanupExecutor.scheduleWithFixedDelay(this::cleanupExpired, cleanupInterval.toMillis(),
+            cleanupInterval.toMillis(), TimeUnit.MILLISECONDS);
+        lockRefreshExecutor = Executors.newSingleThreadScheduledExecutor(daemonThreadFactory("tus-lock-refresh"));
+        adoptExecutor = Executors.newSingleThreadExecutor(daemonThreadFactory("tus-blob-adopt"));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        cleanupExecutor.shutdownNow();
+        lockRefreshExecutor.shutdownNow();
+        adoptExecutor.shutdownNow();
+    }
+
+    private static ThreadFactory daemonThreadFactory(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * 업로드 생성 (빈 파일 생성 후 Redis 에 상태 저장)
+     *
+     * @param length       전체 크기 (Upload-Defer-Length 인 경우 TusUpload.DEFERRED_LENGTH)
+     * @param uploadConcat 부분 업로드면 "partial", 일반 업로드면 null
+     */
+    public TusUpload create(Long userId, long length, String metadata, String uploadConcat) {
+        if (length > maxSize) {
+            throw new PayloadTooLargeException("업로드 가능한 최대 크기를 초과했습니다: " + length);
+        }
+        Map<String, String> parsedMetadata = TusUpload.parseMetadata(metadata);
+
+        TusUpload tusUpload = TusUpload.created(newUploadId(), userId, length, metadata,
+            Instant.now().plus(expiration), uploadConcat);
+        try {
+            Files.createFile(uploadPath(tusUpload.uploadId()));
+        } catch (IOException e) {
+            throw new InternalServerException("업로드 파일을 생성할 수 없습니다: " + tusUpload.uploadId());
+        }
+        if (!tusUpload.isPartial() && uploadExtractService.isRequested(parsedMetadata)) {
+            tusUpload = startExtract(tusUpload);
+        }
+        tusUploadStore.create(tusUpload);
+
+        if (length == 0 && !tusUpload.isPartial()) {
+            String lockToken = lock(tusUpload.uploadId());
+            try {
+                return complete(tusUpload, lockToken);
+            } finally {
+                tusUploadStore.unlock(tusUpload.uploadId(), lockToken);
+            }
+        }
+        return tusUpload;
+    }
+
+    /**
+     * 최종 업로드 생성 후 부분 업로드 병합 (병합이 끝나면 사용자 저장소로 이동)
+     * 부분 업로드가 모두 같은 최종 업로드에 선점되어 있으면 (이전 요청의 병합이 중단된 경우) 그 최종 업로드를 이어서 병합
+     *
+     * @param uploadConcat Upload-Concat 헤더 ("final;{부분 업로드 URL 목록}")
+     */
+    public TusUpload createFinal(Long userId, String uploadConcat, String metadata) {
+        Map<String, String> parsedMetadata = TusUpload.parseMetadata(metadata);
+        List<TusUpload> parts = getParts(userId, TusUpload.parsePartUploadIds(uploadConcat));
+
+        TusUpload finalUpload = findClaimingFinal(userId, parts);
+        if (finalUpload == null) {
+            long length = parts.stream().mapToLong(TusUpload::length).sum();
+            if (length > maxSize) {
+                throw new PayloadTooLargeException("업로드 가능한 최대 크기를 초과했습니다: " + length);
+            }
+            finalUpload = TusUpload.created(newUploadId(), userId, length, metadata,
+                Instant.now().plus(expiration), uploadConcat);
+            if (uploadExtractService.isRequested(parsedMetadata)) {
+                finalUpload = startExtract(finalUpload);
+            }
+            tusUploadStore.create(finalUpload);
+            claim(finalUpload, parts);
+        }
+        if (finalUpload.isCompleted()) {
+            // 완료 후 부분 업로드를 삭제하기 전에 중단된 경우
+            parts.forEach(part -> deleteUpload(part.uploadId()));
+            return finalUpload;
+        }
+
+        String lockToken = lock(finalUpload.uploadId());
+        try {
+            assemble(finalUpload, parts, lockToken);
+            Instant expiresAt = Instant.now().plus(expiration);
+            tusUploadStore.updateOffset(finalUpload.uploadId(), finalUpload.length(), expiresAt);
+            TusUpload completed = complete(finalUpload.withOffset(finalUpload.length(), expiresAt), lockToken);
+            for (TusUpload part : parts) {
+                deleteUpload(part.uploadId());
+            }
+            return completed;
+        } finally {
+            tusUploadStore.unlock(finalUpload.uploadId(), lockToken);
+        }
+    }
+
+    // 사용자의 업로드 조회 (다른 사용자의 업로드는 존재하지 않는 것으로 처리)
+    public TusUpload getUpload(Long userId, String uploadId) {
+        return tusUploadStore.find(uploadId)
+            .filter(tusUpload -> tusUpload.userId().equals(userId))
+            .orElseThrow(() -> new NotFoundException("존재하지 않거나 만료된 업로드입니다: " + uploadId,
+                ErrorCode.NOT_FOUND_UPLOAD_EXCEPTION));
+    }
+
+    /**
+     * PATCH 본문을 Upload-Offset 위치부터 기록
+     *
+     * @param offset        요청의 Upload-Offset (서버에 저장된 offset 과 다르면 409)
+     * @param length        요청의 Upload-Length (크기를 미뤄둔 업로드에서만 사용, 없으면 null)
+     * @param contentLength 요청 본문 크기 (chunked 전송이면 -1)
+     * @return 기록 후 업로드 상태
+     */
+    public TusUpload patch(Long userId, String uploadId, long offset, Long length, long contentLength,
+        InputStream body) {
+        if (getUpload(userId, uploadId).isFinal()) {
+            throw new ForbiddenException("병합된 업로드에는 데이터를 추가할 수 없습니다: " + uploadId,
+                ErrorCode.FORBIDDEN_UPLOAD_CONCAT_FINAL_EXCEPTION);
+        }
+        String lockToken = lock(uploadId);
+        try {
+            // 잠금을 얻기 전의 상태는 다른 노드의 PATCH 로 바뀌었을 수 있으므로 다시 조회
+            TusUpload tusUpload = getUpload(userId, uploadId);
+            if (tusUpload.offset() != offset) {
+                throw new ConflictException(
+                    "업로드 위치가 다릅니다. 요청: " + offset + ", 서버: " + tusUpload.offset(),
+                    ErrorCode.CONFLICT_UPLOAD_OFFSET_EXCEPTION);
+            }
+            tusUpload = resolveLength(tusUpload, length);
+
+            long limit = tusUpload.isLengthDeferred() ? maxSize : tusUpload.length();
+            if (contentLength > limit - offset) {
+                throw new PayloadTooLargeException(
+                    "업로드 크기를 초과했습니다. 남은 크기: " + (limit - offset) + ", 요청: " + contentLength);
+            }
+            // 이미 완료되었거나 병합에 사용 중인 부분 업로드는 파일이 옮겨졌을 수 있으므로 기록하지 않음
+            if (tusUpload.isCompleted() || tusUpload.finalUploadId() != null) {
+                return tusUpload;
+            }
+
+            tusUpload = write(tusUpload, lockToken, limit - offset, body);
+            if (tusUpload.isFullyReceived() && !tusUpload.isPartial()) {
+                return complete(tusUpload, lockToken);
+            }
+            return tusUpload;
+        } finally {
+            tusUploadStore.unlock(uploadId, lockToken);
+        }
+    }
+
+    /**
+     * 업로드 중단 (기록 중인 파일과 상태 삭제, 완료된 업로드는 상태만 삭제)
+     * 최종 업로드를 중단하면 병합 중이던 부분 업로드도 함께 삭제 (첫 부분 업로드는 이미 최종 파일로 옮겨졌을 수 있음)
+     */
+    public void terminate(Long userId, String uploadId) {
+        TusUpload tusUpload = getUpload(userId, uploadId);
+        if (tusUpload.finalUploadId() != null) {
+            throw new ConflictException("병합에 사용 중인 부분 업로드입니다: " + uploadId,
+                ErrorCode.CONFLICT_UPLOAD_CONCAT_EXCEPTION);
+        }
+        String lockToken = lock(uploadId);
+        try {
+            deleteUpload(uploadId);
+            if (tusUpload.isFinal() && !tusUpload.isCompleted()) {
+                tusUpload.partUploadIds().forEach(this::deleteUpload);
+            }
+            // 완료된 업로드의 압축 해제 결과는 업로드된 파일과 같이 유지
+            if (tusUpload.extractPath() != null && !tusUpload.isCompleted()) {
+                uploadExtractService.discard(extractDestination(tusUpload));
+            }
+        } finally {
+            tusUploadStore.unlock(uploadId, lockToken);
+        }
+    }
+
+    private String lock(String uploadId) {
+        return tusUploadStore.tryLock(uploadId, lockTimeout)
+            .orElseThrow(() -> new ConflictException("같은 업로드에 대한 다른 요청이 처리 중입니다: " + uploadId,
+                ErrorCode.CONFLICT_UPLOAD_LOCKED_EXCEPTION));
+    }
+
+    /**
+     * 오래 걸리는 작업(압축 해제 등)을 실행하는 동안 lock-timeout 의 1/3 마다 잠금 연장
+     * 작업 중 잠금을 잃으면 (다른 요청이 이어서 처리했을 수 있으므로) 결과를 저장하지 않도록 409
+     */
+    private <T> T whileLocked(String uploadId, String lockToken, Supplier<T> task) {
+        AtomicBoolean lockLost = new AtomicBoolean();
+        long interval = Math.max(1, lockTimeout.toMillis() / 3);
+        ScheduledFuture<?> refresh = lockRefreshExecutor.scheduleWithFixedDelay(() -> {
+            try {
+                if (!tusUploadStore.refreshLock(uploadId, lockToken, lockTimeout)) {
+                    lockLost.set(true);
+                }
+            } catch (RuntimeException e) {
+                log.warn("업로드 잠금 연장 실패: {}", uploadId, e);
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+        T result;
+        try {
+            result = task.get();
+        } finally {
+            refresh.cancel(false);
+        }
+        if (lockLost.get()) {
+            throw new ConflictException("업로드 잠금이 만료되었습니다: " + uploadId,
+                ErrorCode.CONFLICT_UPLOAD_LOCKED_EXCEPTION);
+        }
+        return result;
+    }
+
+    private void deleteUpload(String uploadId) {
+        tusUploadStore.delete(uploadId);
+        try {
+            Files.deleteIfExists(uploadPath(uploadId));
+        } catch (IOException e) {
+            log.warn("업로드 파일 삭제 실패: {}", uploadId, e);
+        }
+        deleteExtractMarker(uploadId);
+    }
+
+    // 병합할 부분 업로드 (모두 같은 사용자의, 데이터를 다 받은 부분 업로드여야 함)
+    private List<TusUpload> getParts(Long userId, List<String> partUploadIds) {
+        if (partUploadIds.isEmpty()) {
+            throw new ValidationException("병합할 부분 업로드가 없습니다.", ErrorCode.VALIDATION_UPLOAD_CONCAT_EXCEPTION);
+        }
+        List<TusUpload> parts = new ArrayList<>();
+        for (String partUploadId : partUploadIds) {
+            TusUpload part = getUpload(userId, partUploadId);
+            if (!part.isPartial() || !part.isFullyReceived()
+                || parts.stream().anyMatch(added -> added.uploadId().equals(partUploadId))) {
+                throw new ValidationException("병합할 수 없는 부분 업로드입니다: " + partUploadId,
+                    ErrorCode.VALIDATION_UPLOAD_CONCAT_EXCEPTION);
+            }
+            parts.add(part);
+        }
+        return parts;
+    }
+
+    // 부분 업로드가 모두 같은 최종 업로드에 선점되어 있으면 그 최종 업로드 (이어서 병합)
+    private TusUpload findClaimingFinal(Long userId, List<TusUpload> parts) {
+        String finalUploadId = parts.get(0).finalUploadId();
+        if (finalUploadId == null) {
+            return null;
+        }
+        for (TusUpload part : parts) {
+            if (!finalUploadId.equals(part.finalUploadId())) {
+                throw new ConflictException("다른 병합에 사용 중인 부분 업로드입니다: " + part.uploadId(),
+                    ErrorCode.CONFLICT_UPLOAD_CONCAT_EXCEPTION);
+            }
+        }
+        return tusUploadStore.find(finalUploadId)
+            .filter(finalUpload -> finalUpload.userId().equals(userId))
+            .orElseThrow(() -> new ConflictException("다른 병합에 사용 중인 부분 업로드입니다: " + finalUploadId,
+                ErrorCode.CONFLICT_UPLOAD_CONCAT_EXCEPTION));
+    }
+
+    // 부분 업로드 선점 (하나라도 실패하면 선점한 부분 업로드를 풀고 최종 업로드 삭제)
+    private void claim(TusUpload finalUpload, List<TusUpload> parts) {
+        List<TusUpload> claimed = new ArrayList<>();
+        for (TusUpload part : parts) {
+            if (!tusUploadStore.claim(part.uploadId(), finalUpload.uploadId(), finalUpload.expiresAt())) {
+                claimed.forEach(claimedPart -> tusUploadStore.unclaim(claimedPart.uploadId(), finalUpload.uploadId()));
+                deleteUpload(finalUpload.uploadId());
+                if (finalUpload.extractPath() != null) {
+                    uploadExtractService.discard(extractDestination(finalUpload));
+                }
+                throw new ConflictException("다른 병합에 사용 중인 부분 업로드입니다: " + part.uploadId(),
+                    ErrorCode.CONFLICT_UPLOAD_CONCAT_EXCEPTION);
+            }
+            claimed.add(part);
+        }
+    }
+
+    /**
+     * 부분 업로드를 순서대로 최종 파일에 병합
+     * - 첫 부분 업로드: 파일 이름 변경 (같은 디렉토리이므로 데이터 복사 없음)
+     * - 나머지: 최종 파일의 해당 위치에 transferTo 로 복사 (heap 버퍼를 거치지 않음)
+     * - CONCAT_CHUNK_SIZE 마다 병합한 byte 수를 저장하고 잠금을 연장
+     */
+    private void assemble(TusUpload finalUpload, List<TusUpload> parts, String lockToken) {
+        Path target = uploadPath(finalUpload.uploadId());
+        Map<String, Long> progress = tusUploadStore.findConcatProgress(finalUpload.uploadId());
+        long position = 0;
+        try {
+            for (int i = 0; i < parts.size(); i++) {
+                TusUpload part = parts.get(i);
+                Path partPath = uploadPath(part.uploadId());
+                long done = progress.getOrDefault(part.uploadId(), 0L);
+
+                if (i == 0 && done == 0) {
+                    // 이름을 바꾼 뒤 진행 상황을 저장하기 전에 중단되었으면 부분 파일은 없고 최종 파일만 있음
+                    if (Files.exists(partPath) || Files.notExists(target)) {
+                        Files.move(partPath, target);
+                    }
+                    saveConcatProgress(finalUpload, part, part.length(), lockToken);
+                } else if (done < part.length()) {
+                    try (FileChannel source = FileChannel.open(partPath, StandardOpenOption.READ);
+                        FileChannel channel = FileChannel.open(target, StandardOpenOption.WRITE)) {
+                        while (done < part.length()) {
+                            long count = Math.min(CONCAT_CHUNK_SIZE, part.length() - done);
+                            FileTransfer.transfer(source, done, count, channel, position + done);
+                            done += count;
+                            saveConcatProgress(finalUpload, part, done, lockToken);
+                        }
+                    }
+                }
+                position += part.length();
+            }
+        } catch (IOException e) {
+            throw new InternalServerException("부분 업로드를 병합하지 못했습니다: " + finalUpload.uploadId());
+        }
+        log.info("부분 업로드 병합 완료: {} (부분 {}개, {} bytes)", finalUpload.uploadId(), parts.size(), position);
+    }
+
+    private void saveConcatProgress(TusUpload finalUpload, TusUpload part, long bytes, String lockToken) {
+        tusUploadStore.updateConcatProgress(finalUpload.uploadId(), part.uploadId(), bytes, finalUpload.expiresAt());
+        if (!tusUploadStore.refreshLock(finalUpload.uploadId(), lockToken, lockTimeout)) {
+            throw new ConflictException("업로드 잠금이 만료되었습니다: " + finalUpload.uploadId(),
+                ErrorCode.CONFLICT_UPLOAD_LOCKED_EXCEPTION);
+        }
+    }
+
+    private TusUpload resolveLength(TusUpload tusUpload, Long length) {
+        if (length == null || !tusUpload.isLengthDeferred()) {
+            return tusUpload;
+        }
+        if (length < tusUpload.offset() || length > maxSize) {
+            throw new PayloadTooLargeException("업로드 크기가 올바르지 않습니다: " + length);
+        }
+        Instant expiresAt = Instant.now().plus(expiration);
+        if (!tusUploadStore.updateLength(tusUpload.uploadId(), length, expiresAt)) {
+            throw new NotFoundException("존재하지 않거나 만료된 업로드입니다: " + tusUpload.uploadId(),
+                ErrorCode.NOT_FOUND_UPLOAD_EXCEPTION);
+        }
+        return tusUpload.withLength(length, expiresAt);
+    }
+
+    /**
+     * 본문을 파일에 기록하고 offset 을 주기적으로 저장
+     * 본문이 끊기거나 잠금을 잃어도 그때까지 기록한 offset 은 저장 (tus 는 일부만 받은 PATCH 도 인정)
+     *
+     * @param remaining 이 PATCH 로 받을 수 있는 최대 크기
+     * @return 기록 후 업로드 상태
+     */
+    private TusUpload write(TusUpload tusUpload, String lockToken, long remaining, InputStream body) {
+        Checkpoint checkpoint = new Checkpoint(tusUpload, lockToken);
+        try (FileChannel channel = FileChannel.open(uploadPath(tusUpload.uploadId()), StandardOpenOption.WRITE)) {
+            long written = FileTransfer.write(body, channel, tusUpload.offset(), remaining, checkpoint::onWritten);
+            if (written == remaining && body.read() != -1) {
+                throw new PayloadTooLargeException("업로드 크기를 초과했습니다: " + tusUpload.uploadId());
+            }
+            checkpoint.save();
+            return tusUpload.withOffset(tusUpload.offset() + written, Instant.now().plus(expiration))
+                .withExtract(checkpoint.extract);
+        } catch (IOException e) {
+            // 클라이언트 연결이 끊긴 경우 (기록된 만큼은 다음 PATCH 에서 이어서 받음)
+            log.info("업로드 본문 수신 중단: {}, 기록: {} bytes", tusUpload.uploadId(), checkpoint.written);
+            throw new InternalServerException("업로드 본문을 기록하지 못했습니다: " + tusUpload.uploadId());
+        } finally {
+            checkpoint.save();
+        }
+    }
+
+    /**
+     * 완료된 업로드 파일을 사용자 저장소로 이동 (Upload-Metadata 의 filename, 같은 이름이 있으면 " (n)" 추가)
+     * 이동한 파일은 완료 상태를 저장한 뒤 별도 스레드에서 BlobStore 에 등록 (이미 있는 내용이면 하드 링크로 교체해 중복 제거)
+     * (등록은 파일 전체를 다시 읽으므로 요청 스레드에서 잠금을 잡고 기다리지 않음, 등록하지 못해도 중복만 남음)
+     * 상태는 만료 시각까지 유지해 완료 후 HEAD 요청에도 offset 을 응답
+     *
+     * @param lockToken 호출 측이 잡고 있는 업로드 잠금 (남은 항목을 압축 해제하는 동안 연장)
+     */
+    private TusUpload complete(TusUpload tusUpload, String lockToken) {
+        Path uploadPath = uploadPath(tusUpload.uploadId());
+        if (tusUpload.isExtracting()) {
+            // 남은 항목 압축 해제 (마지막 항목까지 읽지 못하면 손상된 파일로 처리)
+            TusUpload extracting = tusUpload;
+            ExtractCheckpoint extract = whileLocked(tusUpload.uploadId(), lockToken,
+                () -> uploadExtractService.extract(uploadPath, extracting.offset(), true,
+                    extractDestination(extracting), extracting.extract()));
+            tusUploadStore.updateExtract(tusUpload.uploadId(), extract, tusUpload.expiresAt());
+            tusUpload = tusUpload.withExtract(extract);
+        }
+        // 이동한 뒤 중단되어 상태가 만료되어도 압축 해제 결과는 남도록 이동 전에 삭제
+        deleteExtractMarker(tusUpload.uploadId());
+        Path target = userStorage.moveIn(tusUpload.userId(), uploadPath, resolveFileName(tusUpload));
+
+        String resultPath = userStorage.userRoot(tusUpload.userId()).relativize(target).toString();
+        tusUploadStore.complete(tusUpload.uploadId(), resultPath, tusUpload.expiresAt());
+        log.info("업로드 완료: {} -> {} ({} bytes)", tusUpload.uploadId(), resultPath, tusUpload.offset());
+        // PATCH 는 여러 요청 / 노드에 나뉘어 기록되므로 기록하면서 해시를 계산할 수 없어 완료 후 한 번 읽어서 등록
+        adoptExecutor.execute(() -> blobStore.adopt(target));
+        return tusUpload.withResultPath(resultPath);
+    }
+
+    // Upload-Metadata 의 filename (이름이 없으면 업로드 id)
+    private static String resolveFileName(TusUpload tusUpload) {
+        return UserStorage.sanitizeFileName(
+            TusUpload.parseMetadata(tusUpload.metadata()).get(TusUpload.FILENAME_METADATA), tusUpload.uploadId());
+    }
+
+    /**
+     * Redis 상태가 없는 (만료 / 삭제된) 업로드 파일 삭제, 생성 직후인 파일은 잠금 유지 시간이 지난 뒤에 삭제
+     * 완료되지 않은 채 만료된 업로드의 압축 해제 디렉토리도 .extract 파일에 기록된 경로로 찾아 삭제
+     */
+    void cleanupExpired() {
+        Instant threshold = Instant.now().minus(lockTimeout);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                boolean extractMarker = fileName.endsWith(EXTRACT_MARKER_SUFFIX);
+                String uploadId = extractMarker ?
+                    fileName.substring(0, fileName.length() - EXTRACT_MARKER_SUFFIX.length()) : fileName;
+                if (Files.getLastModifiedTime(file).toInstant().isBefore(threshold)
+                    && !tusUploadStore.exists(uploadId)) {
+                    if (extractMarker) {
+                        discardExtract(file);
+                    }
+                    Files.deleteIfExists(file);
+                    log.info("만료된 업로드 파일 삭제: {}", fileName);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("만료된 업로드 정리 실패", e);
+        }
+    }
+
+    // 만료된 업로드의 압축 해제 디렉토리 삭제 (사용자 저장소 밖의 경로는 무시)
+    private void discardExtract(Path extractMarker) throws IOException {
+        Path destination = Path.of(Files.readString(extractMarker)).normalize();
+        if (destination.startsWith(userStorage.getRoot())) {
+            uploadExtractService.discard(destination);
+            log.info("만료된 업로드의 압축 해제 디렉토리 삭제: {}", destination);
+        }
+    }
+
+    /**
+     * 압축 해제할 디렉토리 생성 (압축 파일과 같은 이름, 업로드 완료 후 압축 파일은 그 옆에 저장)
+     * 업로드가 완료되기 전에 만료되면 삭제할 수 있도록 경로를 .extract 파일에 기록
+     */
+    private TusUpload startExtract(TusUpload tusUpload) {
+        Path destination = uploadExtractService.createDestination(tusUpload.userId(), resolveFileName(tusUpload));
+        try {
+            Files.writeString(extractMarkerPath(tusUpload.uploadId()), destination.toString());
+        } catch (IOException e) {
+            uploadExtractService.discard(destination);
+            throw new InternalServerException("업로드 파일을 생성할 수 없습니다: " + tusUpload.uploadId());
+        }
+        return tusUpload.withExtractPath(userStorage.userRoot(tusUpload.userId()).relativize(destination).toString());
+    }
+
+    private Path extractDestination(TusUpload tusUpload) {
+        return userStorage.resolve(tusUpload.userId(), tusUpload.extractPath());
+    }
+
+    private static String newUploadId() {
+        return UUID.randomUUID().toString();
+    }
+
+    private Path uploadPath(String uploadId) {
+        return directory.resolve(uploadId);
+    }
+
+    private void deleteExtractMarker(String uploadId) {
+        try {
+            Files.deleteIfExists(extractMarkerPath(uploadId));
+        } catch (IOException e) {
+            log.warn("압축 해제 경로 기록 파일 삭제 실패: {}", uploadId, e);
+        }
+    }
+
+    private Path extractMarkerPath(String uploadId) {
+        return directory.resolve(uploadId + EXTRACT_MARKER_SUFFIX);
+    }
+
+    /**
+     * PATCH 처리 중 offset 저장 (checkpoint-interval 마다, 마지막에 한 번 더)
+     * 저장할 때 잠금도 연장하므로 큰 본문을 오래 받아도 다른 요청이 끼어들지 않음
+     * 업로드 중 압축 해제를 요청한 업로드는 저장한 offset 까지 압축 해제하고 진행 위치도 함께 저장
+     * (압축 해제 중에도 잠금을 연장하고, 그 사이 잠금을 잃으면 진행 위치를 저장하지 않음)
+     */
+    private final class Checkpoint {
+
+        private final TusUpload tusUpload;
+        private final String lockToken;
+        private long written;
+        private long saved;
+        private long lastSavedAt = System.nanoTime();
+        // 잠금을 잃은 뒤에는 다른 요청이 offset 을 바꿀 수 있으므로 저장하지 않음
+        private boolean lockLost;
+        private ExtractCheckpoint extract;
+
+        private Checkpoint(TusUpload tusUpload, String lockToken) {
+            this.tusUpload = tusUpload;
+            this.lockToken = lockToken;
+            this.extract = tusUpload.extract();
+        }
+
+        void onWritten(long written) {
+            this.written = written;
+            long now = System.nanoTime();
+            if (now - lastSavedAt >= checkpointIntervalNanos) {
+                lastSavedAt = now;
+                save();
+                if (!tusUploadStore.refreshLock(tusUpload.uploadId(), lockToken, lockTimeout)) {
+                    lockLost = true;
+                    throw new ConflictException("업로드 잠금이 만료되었습니다: " + tusUpload.uploadId(),
+                        ErrorCode.CONFLICT_UPLOAD_LOCKED_EXCEPTION);
+                }
+            }
+        }
+
+        void save() {
+            if (lockLost || written == saved) {
+                return;
+            }
+            if (!tusUploadStore.updateOffset(tusUpload.uploadId(), tusUpload.offset() + written,
+                Instant.now().plus(expiration))) {
+                throw new NotFoundException("존재하지 않거나 만료된 업로드입니다: " + tusUpload.uploadId(),
+                    ErrorCode.NOT_FOUND_UPLOAD_EXCEPTION);
+            }
+            saved = written;
+            extract();
+        }
+
+        private void extract() {
+            if (extract == null || !extract.isInProgress()) {
+                return;
+            }
+            ExtractCheckpoint next;
+            try {
+                next = whileLocked(tusUpload.uploadId(), lockToken, () -> uploadExtractService.extract(
+                    uploadPath(tusUpload.uploadId()), tusUpload.offset() + written, false,
+                    extractDestination(tusUpload), extract));
+            } catch (ConflictException e) {
+                lockLost = true;
+                throw e;
+            }
+            if (!next.equals(extract)) {
+                tusUploadStore.updateExtract(tusUpload.uploadId(), next, Instant.now().plus(expiration));
+                extract = next;
+            }
+        }
+    }
+}
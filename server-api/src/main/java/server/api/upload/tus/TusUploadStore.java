@@ -0,0 +1,209 @@
+package server.api.upload.tus;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import module.common.compress.ExtractCheckpoint;
+import module.common.contstant.RedisKey;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * tus 업로드 상태 저장소
+ * - key: TU:{업로드 id} (hash, 필드는 TusUpload 참고), 만료 시각(expiresAt)에 Redis 가 삭제
+ * - key: TUL:{업로드 id} (string, 값: 잠금 token) PATCH 처리 중인 노드만 offset 을 바꿀 수 있도록 잠금
+ * - key: TUC:{최종 업로드 id} (hash, field: 부분 업로드 id, 값: 병합한 byte 수) 병합이 중단되면 이어서 진행
+ * 상태를 Redis 에 두므로 업로드를 시작한 노드와 다른 노드에서도 이어서 업로드 가능 (업로드 파일은 공유 저장소에 위치)
+ */
+@Component
+public class TusUploadStore {
+
+    /**
+     * KEYS[1]: 업로드 hash key
+     * ARGV[1]: 만료 시각(epoch millis), ARGV[2..]: field, value 반복
+     * - 이미 만료(삭제)된 업로드는 일부 필드만 있는 hash 로 되살리지 않음
+     */
+    private static final RedisScript<Long> UPDATE_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('EXISTS', KEYS[1]) == 0 then
+            return 0
+        end
+        redis.call('HSET', KEYS[1], unpack(ARGV, 2))
+        redis.call('PEXPIREAT', KEYS[1], ARGV[1])
+        return 1
+        """, Long.class);
+
+    /**
+     * KEYS[1]: 부분 업로드 hash key
+     * ARGV[1]: 최종 업로드 id, ARGV[2]: 만료 시각(epoch millis, 병합 중 부분 업로드가 만료되지 않도록 연장)
+     * - 반환: 0 (만료된 업로드), 1 (선점 성공 또는 이미 같은 최종 업로드가 선점), -1 (다른 최종 업로드가 선점)
+     */
+    private static final RedisScript<Long> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('EXISTS', KEYS[1]) == 0 then
+            return 0
+        end
+        local current = redis.call('HGET', KEYS[1], 'finalUploadId')
+        if current and current ~= ARGV[1] then
+            return -1
+        end
+        redis.call('HSET', KEYS[1], 'finalUploadId', ARGV[1], 'expiresAt', ARGV[2])
+        redis.call('PEXPIREAT', KEYS[1], ARGV[2])
+        return 1
+        """, Long.class);
+
+    // KEYS[1]: 부분 업로드 hash key, ARGV[1]: 최종 업로드 id (그 최종 업로드가 선점한 경우에만 해제)
+    private static final RedisScript<Long> UNCLAIM_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('HGET', KEYS[1], 'finalUploadId') == ARGV[1] then
+            return redis.call('HDEL', KEYS[1], 'finalUploadId')
+        end
+        return 0
+        """, Long.class);
+
+    // KEYS[1]: 잠금 key, ARGV[1]: 잠금 token, ARGV[2]: 잠금 유지 시간(millis)
+    private static final RedisScript<Long> REFRESH_LOCK_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('GET', KEYS[1]) == ARGV[1] then
+            return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+        end
+        return 0
+        """, Long.class);
+
+    // KEYS[1]: 잠금 key, ARGV[1]: 잠금 token (다른 요청이 다시 얻은 잠금은 풀지 않음)
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('GET', KEYS[1]) == ARGV[1] then
+            return redis.call('DEL', KEYS[1])
+        end
+        return 0
+        """, Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public TusUploadStore(RedisTemplate<String, Object> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public void create(TusUpload tusUpload) {
+        String key = uploadKey(tusUpload.uploadId());
+        redisTemplate.opsForHash().putAll(key, tusUpload.toHash());
+        redisTemplate.expireAt(key, tusUpload.expiresAt());
+    }
+
+    public Optional<TusUpload> find(String uploadId) {
+        Map<Object, Object> hash = redisTemplate.opsForHash().entries(uploadKey(uploadId));
+        return hash.isEmpty() ? Optional.empty() : Optional.of(TusUpload.fromHash(hash));
+    }
+
+    public boolean exists(String uploadId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(uploadKey(uploadId)));
+    }
+
+    public void delete(String uploadId) {
+        redisTemplate.delete(List.of(uploadKey(uploadId), concatKey(uploadId)));
+    }
+
+    /**
+     * @return 업로드가 만료되지 않아 갱신했으면 true
+     */
+    public boolean updateOffset(String uploadId, long offset, Instant expiresAt) {
+        return update(uploadId, expiresAt, TusUpload.OFFSET, String.valueOf(offset));
+    }
+
+    public boolean updateLength(String uploadId, long length, Instant expiresAt) {
+        return update(uploadId, expiresAt, TusUpload.LENGTH, String.valueOf(length));
+    }
+
+    public boolean complete(String uploadId, String resultPath, Instant expiresAt) {
+        return update(uploadId, expiresAt, TusUpload.RESULT_PATH, resultPath);
+    }
+
+    // 업로드 중 압축 해제 진행 위치 저장
+    public boolean updateExtract(String uploadId, ExtractCheckpoint extract, Instant expiresAt) {
+        return update(uploadId, expiresAt, TusUpload.toHash(extract));
+    }
+
+    /**
+     * 부분 업로드를 최종 업로드에 사용하도록 선점 (한 부분 업로드는 하나의 최종 업로드에만 사용)
+     *
+     * @return 선점했거나 이미 같은 최종 업로드가 선점한 경우 true
+     */
+    public boolean claim(String partUploadId, String finalUploadId, Instant expiresAt) {
+        Long claimed = redisTemplate.execute(CLAIM_SCRIPT, List.of(uploadKey(partUploadId)), finalUploadId,
+            String.valueOf(expiresAt.toEpochMilli()));
+        return claimed != null && claimed == 1;
+    }
+
+    public void unclaim(String partUploadId, String finalUploadId) {
+        redisTemplate.execute(UNCLAIM_SCRIPT, List.of(uploadKey(partUploadId)), finalUploadId);
+    }
+
+    // 최종 업로드의 부분 업로드별 병합한 byte 수
+    public Map<String, Long> findConcatProgress(String finalUploadId) {
+        Map<String, Long> progress = new HashMap<>();
+        redisTemplate.opsForHash().entries(concatKey(finalUploadId))
+            .forEach((partUploadId, bytes) -> progress.put((String) partUploadId, Long.valueOf((String) bytes)));
+        return progress;
+    }
+
+    public void updateConcatProgress(String finalUploadId, String partUploadId, long bytes, Instant expiresAt) {
+        String key = concatKey(finalUploadId);
+        redisTemplate.opsForHash().put(key, partUploadId, String.valueOf(bytes));
+        redisTemplate.expireAt(key, expiresAt);
+    }
+
+    /**
+     * PATCH / DELETE 처리 잠금
+     *
+     * @param timeout 잠금 유지 시간 (잠금을 가진 노드가 죽어도 이 시간이 지나면 다른 노드가 이어서 처리)
+     * @return 잠금 token (다른 요청이 잠금을 가지고 있으면 empty)
+     */
+    public Optional<String> tryLock(String uploadId, Duration timeout) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(lockKey(uploadId), token, timeout);
+        return Boolean.TRUE.equals(acquired) ? Optional.of(token) : Optional.empty();
+    }
+
+    // 잠금 유지 시간 연장 (잠금을 잃었으면 false)
+    public boolean refreshLock(String uploadId, String token, Duration timeout) {
+        Long refreshed = redisTemplate.execute(REFRESH_LOCK_SCRIPT, List.of(lockKey(uploadId)), token,
+            String.valueOf(timeout.toMillis()));
+        return refreshed != null && refreshed == 1;
+    }
+
+    public void unlock(String uploadId, String token) {
+        redisTemplate.execute(UNLOCK_SCRIPT, List.of(lockKey(uploadId)), token);
+    }
+
+    private boolean update(String uploadId, Instant expiresAt, String field, String value) {
+        return update(uploadId, expiresAt, Map.of(field, value));
+    }
+
+    private boolean update(String uploadId, Instant expiresAt, Map<String, String> fields) {
+        List<Object> args = new ArrayList<>();
+        args.add(String.valueOf(expiresAt.toEpochMilli()));
+        args.add(TusUpload.EXPIRES_AT);
+        args.add(String.valueOf(expiresAt.toEpochMilli()));
+        fields.forEach((field, value) -> {
+            args.add(field);
+            args.add(value);
+        });
+        Long updated = redisTemplate.execute(UPDATE_SCRIPT, List.of(uploadKey(uploadId)), args.toArray());
+        return updated != null && updated == 1;
+    }
+
+    private static String uploadKey(String uploadId) {
+        return RedisKey.TUS_UPLOAD + uploadId;
+    }
+
+    private static String concatKey(String uploadId) {
+        return RedisKey.TUS_UPLOAD_CONCAT + uploadId;
+    }
+
+    private static String lockKey(String uploadId) {
+        return RedisKey.TUS_UPLOAD_LOCK + uploadId;
+    }
+}
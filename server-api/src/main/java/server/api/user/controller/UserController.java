@@ -0,0 +1,46 @@
+package server.api.user.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import module.common.dto.SuccessResponse;
+import module.common.success.SuccessCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import server.api.security.details.CustomUserDetails;
+import server.api.user.dto.request.PasswordChangeRequestDto;
+import server.api.user.dto.request.RoleChangeRequestDto;
+import server.api.user.service.UserService;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/users")
+public class UserController {
+
+    private final UserService userService;
+
+    @PatchMapping("/me/password")
+    public ResponseEntity<SuccessResponse<Void>> changePassword(
+        @AuthenticationPrincipal CustomUserDetails userDetails,
+        @Valid @RequestBody PasswordChangeRequestDto requestDto
+    ) {
+        userService.changePassword(userDetails.customUserInfo().id(), requestDto.getCurrentPassword(),
+            requestDto.getNewPassword());
+        return SuccessResponse.success(SuccessCode.OK_SUCCESS, null);
+    }
+
+    // 관리자 전용
+    @PatchMapping("/{userId}/role")
+    public ResponseEntity<SuccessResponse<Void>> changeRole(
+        @AuthenticationPrincipal CustomUserDetails userDetails,
+        @PathVariable Long userId,
+        @Valid @RequestBody RoleChangeRequestDto requestDto
+    ) {
+        userService.changeRole(userDetails.customUserInfo().role(), userId, requestDto.getRole());
+        return SuccessResponse.success(SuccessCode.OK_SUCCESS, null);
+    }
+}
@@ -0,0 +1,21 @@
+package server.api.user.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder(access = AccessLevel.PRIVATE)
+public class PasswordChangeRequestDto {
+    @NotBlank
+    private String currentPassword;
+    @NotBlank
+    @Size(max = 72) // BCrypt 입력 최대 길이
+    private String newPassword;
+}
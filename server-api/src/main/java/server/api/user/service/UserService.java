@@ -0,0 +1,67 @@
+package server.api.user.service;
+
+import lombok.RequiredArgsConstructor;
+import module.common.enums.RoleType;
+import module.common.exception.ErrorCode;
+import module.common.exception.ForbiddenException;
+import module.common.exception.NotFoundException;
+import module.common.exception.UnAuthorizedException;
+import module.core.domain.user.User;
+import module.core.domain.user.mysql.UserRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import server.api.security.cache.UserInfoCache;
+import server.api.security.revocation.SessionRevocationService;
+import server.api.security.service.PasswordVerificationService;
+
+/**
+ * 사용자 정보(비밀번호, role) 변경
+ * - 인증에 사용하는 정보가 바뀌므로 저장(commit) 후 모든 노드의 사용자 정보 캐시를 무효화
+ *   (commit 전에 무효화하면 그 사이 다른 요청이 이전 값을 다시 캐시할 수 있음)
+ * - 이전 정보로 발급된 토큰은 사용하지 못하도록 사용자의 전체 세션 폐기 (다시 로그인 필요)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class UserService {
+
+    private final UserRepository userRepository;
+    private final PasswordVerificationService passwordVerificationService;
+    private final UserInfoCache userInfoCache;
+    private final SessionRevocationService sessionRevocationService;
+
+    // 비밀번호 검증 / 해시 생성(BCrypt) 동안 DB 커넥션을 점유하지 않도록 트랜잭션 없이 실행 (save 는 자체 트랜잭션)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void changePassword(Long userId, String currentPassword, String newPassword) {
+        User user = findUser(userId);
+        if (user.getPassword() == null // 소셜 로그인 사용자
+            || !passwordVerificationService.verify(currentPassword, user.getPassword()).matched()) {
+            throw new UnAuthorizedException(ErrorCode.UNAUTHORIZED_EXCEPTION);
+        }
+
+        user.updatePassword(passwordVerificationService.encode(newPassword));
+        userRepository.save(user);
+        userInfoCache.invalidate(userId);
+        sessionRevocationService.revokeUser(userId);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void changeRole(RoleType requesterRole, Long userId, RoleType role) {
+        if (requesterRole != RoleType.ROLE_ADMIN) {
+            throw new ForbiddenException("관리자만 role 을 변경할 수 있습니다.");
+        }
+
+        User user = findUser(userId);
+        user.updateRole(role);
+        userRepository.save(user);
+        userInfoCache.invalidate(userId);
+        sessionRevocationService.revokeUser(userId);
+    }
+
+    private User findUser(Long userId) {
+        return userRepository.findById(userId)
+            .orElseThrow(() -> new NotFoundException("존재하지 않는 유저입니다: " + userId,
+                ErrorCode.NOT_FOUND_USER_EXCEPTION));
+    }
+}
@@ -0,0 +1,28 @@
+package server.api.archive.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class ArchiveJobExecutorTest {
+
+    @ParameterizedTest(name = "workers={0}, parallelism={1}, cores={2} -> {3}")
+    @CsvSource({
+        // 기본값: 코어 수의 절반을 작업당 스레드 수로 나눔
+        "0, 1, 8, 4",
+        "0, 2, 8, 2",
+        "0, 4, 8, 1",
+        "0, 1, 1, 1",
+        // 설정값은 작업 스레드 수 * 작업당 스레드 수가 코어 수를 넘지 않는 범위에서 사용
+        "6, 1, 8, 6",
+        "8, 2, 8, 4",
+        "3, 16, 8, 1",
+        "2, 0, 8, 2",
+    })
+    @DisplayName("작업 스레드 수 * 작업당 스레드 수는 CPU 코어 수를 넘지 않음")
+    void resolveWorkerCount(int workers, int parallelism, int cores, int expected) {
+        assertThat(ArchiveJobExecutor.resolveWorkerCount(workers, parallelism, cores)).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,34 @@
+package server.api.archive.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ArchiveJobStoreTest {
+
+    @Test
+    @DisplayName("node-id 를 설정하면 그대로 사용")
+    void configuredNodeId() {
+        assertThat(ArchiveJobStore.resolveNodeId(" api-1 ", 8080)).isEqualTo("api-1");
+    }
+
+    @Test
+    @DisplayName("node-id 가 없으면 호스트 이름과 포트로 노드를 구분")
+    void derivedNodeId() throws UnknownHostException {
+        String hostName = InetAddress.getLocalHost().getHostName();
+
+        assertThat(ArchiveJobStore.resolveNodeId("", 8080)).isEqualTo(hostName + ":8080");
+        assertThat(ArchiveJobStore.resolveNodeId("", 8081)).isEqualTo(hostName + ":8081");
+    }
+
+    @Test
+    @DisplayName("임의 포트로 실행하면 node-id 를 설정해야 함")
+    void randomPortRequiresNodeId() {
+        assertThatThrownBy(() -> ArchiveJobStore.resolveNodeId(null, 0))
+            .isInstanceOf(IllegalStateException.class);
+    }
+}
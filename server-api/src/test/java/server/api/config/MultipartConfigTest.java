@@ -0,0 +1,34 @@
+package server.api.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+class MultipartConfigTest {
+
+    private static final PathPattern STREAMING_PATTERN = PathPatternParser.defaultInstance.parse("/api/data");
+
+    @ParameterizedTest(name = "{0}{1} -> {2}")
+    @CsvSource({
+        "'', /api/data, true",
+        "'', /api/data/, true",
+        "'', /api/data;jsessionid=abc, true",
+        "'', /api/%64ata, true",
+        "/app, /app/api/data, true",
+        "'', /api/data/other, false",
+        "'', /api/database, false",
+        "'', /app/api/data, false",
+    })
+    @DisplayName("스트리밍 업로드 경로는 컨트롤러 매핑과 같은 규칙으로 비교")
+    void matchesStreamingPath(String contextPath, String requestUri, boolean expected) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", requestUri);
+        request.setContextPath(contextPath);
+
+        assertThat(MultipartConfig.isStreamingPath(STREAMING_PATTERN, request)).isEqualTo(expected);
+    }
+}
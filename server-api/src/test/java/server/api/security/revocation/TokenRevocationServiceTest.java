@@ -0,0 +1,95 @@
+package server.api.security.revocation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import module.common.dto.VerifiedToken;
+import module.common.utils.JwtUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.RedisTemplate;
+
+class TokenRevocationServiceTest {
+
+    private static final long USER_ID = 7L;
+
+    private RedisTemplate<String, Object> redisTemplate;
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class, RETURNS_DEEP_STUBS);
+        JwtUtils jwtUtils = mock(JwtUtils.class);
+        when(jwtUtils.getAccessTokenDuration()).thenReturn(Duration.ofMinutes(10));
+        tokenRevocationService = new TokenRevocationService(redisTemplate, mock(RedisConnectionFactory.class),
+            jwtUtils);
+    }
+
+    @Test
+    @DisplayName("사용자 폐기 이후 같은 초에 발급된 토큰은 유효하고, 이전에 발급된 토큰은 폐기")
+    void userRevocationComparesMillis() {
+        tokenRevocationService.revokeUsers(List.of(USER_ID));
+        long revokedAt = publishedRevokedAt();
+        Instant revokedSecond = Instant.ofEpochMilli(revokedAt).truncatedTo(ChronoUnit.SECONDS);
+
+        // 폐기 직후 재로그인 (같은 초의 마지막 밀리초)
+        assertThat(tokenRevocationService.isRevoked(token(USER_ID, revokedSecond.plusMillis(999)))).isFalse();
+        assertThat(tokenRevocationService.isRevoked(token(USER_ID, Instant.ofEpochMilli(revokedAt - 1)))).isTrue();
+        // 밀리초 claim 이 없는 이전 토큰 (iat 를 초 단위로 내림)
+        assertThat(tokenRevocationService.isRevoked(token(USER_ID, revokedSecond))).isTrue();
+        assertThat(tokenRevocationService.isRevoked(token(USER_ID + 1, revokedSecond))).isFalse();
+    }
+
+    @Test
+    @DisplayName("userId 범위 폐기는 범위 안의 사용자에게만 적용")
+    void userRangeRevocation() {
+        tokenRevocationService.revokeUserRange(10, 1_000_000_000L);
+        Instant revokedAt = Instant.ofEpochMilli(publishedRevokedAt());
+
+        Instant before = revokedAt.minusMillis(1);
+        assertThat(tokenRevocationService.isRevoked(token(10, before))).isTrue();
+        assertThat(tokenRevocationService.isRevoked(token(1_000_000_000L, before))).isTrue();
+        assertThat(tokenRevocationService.isRevoked(token(9, before))).isFalse();
+        assertThat(tokenRevocationService.isRevoked(token(1_000_000_001L, before))).isFalse();
+        assertThat(tokenRevocationService.isRevoked(token(500, revokedAt.plusMillis(1)))).isFalse();
+    }
+
+    @Test
+    @DisplayName("토큰 id(jti) 단위 폐기")
+    void tokenRevocation() {
+        tokenRevocationService.revokeTokens(List.of("jti-1"));
+
+        assertThat(tokenRevocationService.isRevoked(token(USER_ID, Instant.now(), "jti-1"))).isTrue();
+        assertThat(tokenRevocationService.isRevoked(token(USER_ID, Instant.now(), "jti-2"))).isFalse();
+    }
+
+    // 로컬에 반영한 것과 같은 폐기 시각 (stream 에 기록한 이벤트)
+    @SuppressWarnings("unchecked")
+    private long publishedRevokedAt() {
+        ArgumentCaptor<MapRecord<String, String, String>> captor = ArgumentCaptor.forClass(MapRecord.class);
+        verify(redisTemplate.opsForStream(), atLeastOnce()).add(captor.capture());
+        return Long.parseLong(captor.getValue().getValue().get("at"));
+    }
+
+    private static VerifiedToken token(long userId, Instant issuedAt) {
+        return token(userId, issuedAt, "jti");
+    }
+
+    private static VerifiedToken token(long userId, Instant issuedAt, String tokenId) {
+        return new VerifiedToken(userId, tokenId, "sid", issuedAt, issuedAt.plus(Duration.ofMinutes(10)), false,
+            null, null);
+    }
+}
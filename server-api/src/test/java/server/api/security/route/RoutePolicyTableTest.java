@@ -0,0 +1,132 @@
+package server.api.security.route;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import module.common.enums.RoleType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class RoutePolicyTableTest {
+
+    private final RoutePolicyTable routePolicyTable = new RoutePolicyTable(
+        new String[]{"/css/**", "/js/**", "/favicon.ico", "/index.html"},
+        new String[]{"/login", "/error", "/oauth2/**", " /api/public/** ", ""},
+        new String[]{"/api/**", "/api/public/secret"},
+        new String[]{"ROLE_ADMIN:/admin/**", "ROLE_USER:/api/public/me"}
+    );
+
+    @ParameterizedTest(name = "{0} -> {1}")
+    @CsvSource({
+        "/css/app.css, STATIC",
+        "/css, STATIC",
+        "/css/, STATIC",
+        "/css/a/b/c.map, STATIC",
+        "/cssx/app.css, AUTHENTICATED",
+        "/favicon.ico, STATIC",
+        "/favicon.ico/x, AUTHENTICATED",
+        "/login, PUBLIC",
+        "/login/, AUTHENTICATED",
+        "/loginx, AUTHENTICATED",
+        "/oauth2/authorization/google, PUBLIC",
+        "/api/public/docs, PUBLIC",
+        "/api/public/secret, AUTHENTICATED",
+        "/api/publicx, AUTHENTICATED",
+        "/api/v1/users, AUTHENTICATED",
+        "/admin, ROLE_RESTRICTED",
+        "/admin/users, ROLE_RESTRICTED",
+        "/, AUTHENTICATED",
+        "'', AUTHENTICATED",
+        "/unknown, AUTHENTICATED",
+    })
+    @DisplayName("가장 긴 패턴의 정책을 적용하고, '/**' 는 경로 구성요소 단위로만 일치")
+    void matchesLongestPattern(String uri, RouteAccess expected) {
+        assertThat(routePolicyTable.match(uri).access()).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("정확히 일치하는 패턴이 같은 경로의 prefix 패턴보다 우선")
+    void exactPatternOverridesPrefix() {
+        RoutePolicyTable table = new RoutePolicyTable(
+            new String[]{}, new String[]{"/docs"}, new String[]{"/docs/**"}, new String[]{});
+
+        assertThat(table.match("/docs")).isEqualTo(RoutePolicy.PUBLIC);
+        assertThat(table.match("/docs/a")).isEqualTo(RoutePolicy.AUTHENTICATED);
+    }
+
+    @Test
+    @DisplayName("role 패턴은 지정한 role 만 요구")
+    void rolePattern() {
+        RoutePolicy admin = routePolicyTable.match("/admin/users");
+        RoutePolicy me = routePolicyTable.match("/api/public/me");
+
+        assertThat(admin).isEqualTo(RoutePolicy.roleRestricted(RoleType.ROLE_ADMIN));
+        assertThat(admin.requires(RoleType.ROLE_ADMIN)).isTrue();
+        assertThat(admin.requires(RoleType.ROLE_USER)).isFalse();
+        assertThat(me.requires(RoleType.ROLE_USER)).isTrue();
+        assertThat(routePolicyTable.match("/api/v1/users").requires(RoleType.ROLE_ADMIN)).isFalse();
+    }
+
+    @Test
+    @DisplayName("'/**' 를 등록하면 모든 경로에 적용")
+    void rootPrefixPattern() {
+        RoutePolicyTable table = new RoutePolicyTable(
+            new String[]{}, new String[]{"/**"}, new String[]{"/api/**"}, new String[]{});
+
+        assertThat(table.match("/")).isEqualTo(RoutePolicy.PUBLIC);
+        assertThat(table.match("/anything/else")).isEqualTo(RoutePolicy.PUBLIC);
+        assertThat(table.match("/api/v1")).isEqualTo(RoutePolicy.AUTHENTICATED);
+    }
+
+    @Test
+    @DisplayName("같은 패턴을 같은 정책으로 다시 등록하는 것은 허용")
+    void allowsDuplicatePatternWithSamePolicy() {
+        RoutePolicyTable table = new RoutePolicyTable(
+            new String[]{"/css/**", "/css/**"}, new String[]{}, new String[]{}, new String[]{});
+
+        assertThat(table.match("/css/a.css")).isEqualTo(RoutePolicy.STATIC);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 패턴이나 서로 다른 정책의 같은 패턴은 시작 시 실패")
+    void rejectsInvalidPatterns() {
+        assertThatThrownBy(() -> new RoutePolicyTable(
+            new String[]{"css/**"}, new String[]{}, new String[]{}, new String[]{}))
+            .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new RoutePolicyTable(
+            new String[]{"/css/*.css"}, new String[]{}, new String[]{}, new String[]{}))
+            .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new RoutePolicyTable(
+            new String[]{"/docs/**"}, new String[]{"/docs/**"}, new String[]{}, new String[]{}))
+            .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new RoutePolicyTable(
+            new String[]{}, new String[]{}, new String[]{}, new String[]{"/admin/**"}))
+            .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new RoutePolicyTable(
+            new String[]{}, new String[]{}, new String[]{}, new String[]{"ROLE_UNKNOWN:/admin/**"}))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest(name = "{0}{1} -> {2}")
+    @CsvSource({
+        "/app, /app/login, PUBLIC",
+        "/app, /app/css/app.css, STATIC",
+        "/app, /app/admin/users, ROLE_RESTRICTED",
+        "/app, /app/api/v1/users, AUTHENTICATED",
+        "'', /login;jsessionid=abc, PUBLIC",
+        "'', /admin/%75sers, ROLE_RESTRICTED",
+    })
+    @DisplayName("요청은 context path 를 제외한 애플리케이션 내 경로로 조회")
+    void matchesPathWithinApplication(String contextPath, String requestUri, RouteAccess expected) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", requestUri);
+        request.setContextPath(contextPath);
+
+        assertThat(routePolicyTable.match(request).access()).isEqualTo(expected);
+        assertThat(routePolicyTable.isPermitAll(request)).isEqualTo(expected.isPermitAll());
+        assertThat(routePolicyTable.requires(request, RoleType.ROLE_ADMIN))
+            .isEqualTo(expected == RouteAccess.ROLE_RESTRICTED);
+    }
+}
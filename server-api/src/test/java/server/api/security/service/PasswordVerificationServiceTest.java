@@ -0,0 +1,94 @@
+package server.api.security.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import module.common.exception.CustomException;
+import module.common.exception.ErrorCode;
+import module.common.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class PasswordVerificationServiceTest {
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private PasswordVerificationService service;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("새 비밀번호 해시는 요청 스레드가 아닌 전용 스레드에서 생성")
+    void encodeOnHashThread() {
+        release.countDown();
+        service = new PasswordVerificationService(new BlockingEncoder(), 1, 1, Duration.ofSeconds(5),
+            meterRegistry);
+
+        assertThat(service.encode("password")).startsWith("password-hash-");
+    }
+
+    @Test
+    @DisplayName("스레드와 대기 큐가 모두 사용 중이면 해시 생성도 503으로 거절")
+    void encodeRejectedWhenSaturated() throws Exception {
+        service = new PasswordVerificationService(new BlockingEncoder(), 1, 1, Duration.ofSeconds(5),
+            meterRegistry);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> service.encode("running"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> service.encode("queued"));
+        waitUntilQueued();
+
+        assertThatThrownBy(() -> service.encode("rejected"))
+            .isInstanceOf(ServiceUnavailableException.class)
+            .extracting(e -> ((CustomException) e).getErrorCode())
+            .isEqualTo(ErrorCode.SERVICE_UNAVAILABLE_LOGIN_BUSY_EXCEPTION);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).startsWith("password-hash-");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).startsWith("password-hash-");
+    }
+
+    // 두 번째 작업이 대기 큐에 들어갈 때까지 대기 (executor.queued 지표로 확인)
+    private void waitUntilQueued() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("executor.queued").gauge().value() < 1) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("작업이 대기 큐에 들어가지 않았습니다.");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    // 해시 대신 실행 스레드 이름을 반환하고, release 전까지 대기
+    private class BlockingEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Thread.currentThread().getName();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package server.api.upload.multipart;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import module.common.compress.FileTransfer;
+import module.common.exception.ValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class MultipartStreamTest {
+
+    private static final String BOUNDARY = "----boundary1234";
+
+    @Test
+    @DisplayName("form field 와 파일 part 를 순서대로 읽음")
+    void readsFieldsAndFiles() throws IOException {
+        String body = "--" + BOUNDARY + "\r\n"
+            + "Content-Disposition: form-data; name=\"extract\"\r\n\r\n"
+            + "true\r\n"
+            + "--" + BOUNDARY + "\r\n"
+            + "Content-Disposition: form-data; name=\"files\"; filename=\"a.txt\"\r\n"
+            + "Content-Type: text/plain\r\n\r\n"
+            + "line1\r\nline2\r\n"
+            + "--" + BOUNDARY + "--\r\n";
+
+        List<Part> parts = readAll(new ByteArrayInputStream(bytes(body)));
+
+        assertThat(parts).containsExactly(
+            new Part("extract", null, null, "true"),
+            new Part("files", "a.txt", "text/plain", "line1\r\nline2"));
+    }
+
+    @ParameterizedTest(name = "chunk={0}")
+    @CsvSource({"1", "3", "7", "17"})
+    @DisplayName("delimiter 가 여러 번의 read 에 나뉘어 도착해도 같은 결과")
+    void boundarySplitAcrossReads(int chunkSize) throws IOException {
+        String body = "--" + BOUNDARY + "\r\n"
+            + "Content-Disposition: form-data; name=\"files\"; filename=\"a.bin\"\r\n\r\n"
+            // delimiter 의 앞부분과 같은 데이터
+            + "data\r\n--" + BOUNDARY.substring(0, 5) + "more\r\n"
+            + "--" + BOUNDARY + "\r\n"
+            + "Content-Disposition: form-data; name=\"b\"\r\n\r\n"
+            + "b-value\r\n"
+            + "--" + BOUNDARY + "--";
+
+        List<Part> parts = readAll(new ChunkedInputStream(bytes(body), chunkSize));
+
+        assertThat(parts).containsExactly(
+            new Part("files", "a.bin", null, "data\r\n--" + BOUNDARY.substring(0, 5) + "more"),
+            new Part("b", null, null, "b-value"));
+    }
+
+    @ParameterizedTest(name = "size={0}")
+    @CsvSource({"65500", "65510", "65520", "65530", "65536", "131072"})
+    @DisplayName("delimiter 가 버퍼 끝에 걸쳐도 part 본문을 정확히 나눔")
+    void boundaryAcrossBufferRefill(int size) throws IOException {
+        String content = "x".repeat(size);
+        String body = "--" + BOUNDARY + "\r\n"
+            + "Content-Disposition: form-data; name=\"files\"; filename=\"big.txt\"\r\n\r\n"
+            + content + "\r\n"
+            + "--" + BOUNDARY + "\r\n"
+            + "Content-Disposition: form-data; name=\"next\"\r\n\r\n"
+            + "n\r\n"
+            + "--" + BOUNDARY + "--\r\n";
+
+        List<Part> parts = readAll(new ChunkedInputStream(bytes(body), FileTransfer.BUFFER_SIZE / 3));
+
+        assertThat(parts).hasSize(2);
+        assertThat(parts.get(0).content()).isEqualTo(content);
+        assertThat(parts.get(1)).isEqualTo(new Part("next", null, null, "n"));
+    }
+
+    @Test
+    @DisplayName("첫 boundary 이전(preamble)과 마지막 boundary 이후(epilogue)는 무시")
+    void ignoresPreambleAndEpilogue() throws IOException {
+        String body = "This is the preamble.\r\n"
+            + "--" + BOUNDARY + "\r\n"
+            + "Content-Disposition: form-data; name=\"a\"\r\n\r\n"
+            + "1\r\n"
+            + "--" + BOUNDARY + "--\r\n"
+            + "This is the epilogue.\r\n";
+
+        List<Part> parts = readAll(new ByteArrayInputStream(bytes(body)));
+
+        assertThat(parts).containsExactly(new Part("a", null, null, "1"));
+    }
+
+    @Test
+    @DisplayName("boundary 뒤의 공백(transport padding)은 허용")
+    void allowsTransportPadding() throws IOException {
+        String body = "--" + BOUNDARY + " \t \r\n"
+            + "Content-Disposition: form-data; name=\"a\"\r\n\r\n"
+            + "1\r\n"
+            + "--" + BOUNDARY + "\t\r\n"
+            + "Content-Disposition: form-data; name=\"b\"\r\n\r\n"
+            + "2\r\n"
+            + "--" + BOUNDARY + "--";
+
+        List<Part> parts = readAll(new ChunkedInputStream(bytes(body), 1));
+
+        assertThat(parts).containsExactly(new Part("a", null, null, "1"), new Part("b", null, null, "2"));
+    }
+
+    @Test
+    @DisplayName("boundary 뒤에 공백이 아닌 문자가 있으면 형식 오류")
+    void rejectsGarbageAfterBoundary() {
+        String body = "--" + BOUNDARY + "x\r\n"
+            + "Content-Disposition: form-data; name=\"a\"\r\n\r\n"
+            + "1\r\n"
+            + "--" + BOUNDARY + "--";
+
+        assertThatThrownBy(() -> readAll(new ByteArrayInputStream(bytes(body))))
+            .isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    @DisplayName("읽지 않은 part 본문은 다음 part 로 이동할 때 건너뜀")
+    void skipsUnreadBody() throws IOException {
+        String body = "--" + BOUNDARY + "\r\n"
+            + "Content-Disposition: form-data; name=\"skip\"\r\n\r\n"
+            + "y".repeat(200_000) + "\r\n"
+            + "--" + BOUNDARY + "\r\n"
+            + "Content-Disposition: form-data; name=\"a\"\r\n\r\n"
+            + "1\r\n"
+            + "--" + BOUNDARY + "--";
+        MultipartStream stream = new MultipartStream(new ByteArrayInputStream(bytes(body)), BOUNDARY);
+
+        assertThat(stream.nextPart().name()).isEqualTo("skip");
+        MultipartPart second = stream.nextPart();
+
+        assertThat(second.name()).isEqualTo("a");
+        assertThat(new String(second.body().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("1");
+        assertThat(stream.nextPart()).isNull();
+        assertThat(stream.nextPart()).isNull();
+    }
+
+    @Test
+    @DisplayName("part 중간에 본문이 끝나면 EOFException")
+    void truncatedBody() throws IOException {
+        String body = "--" + BOUNDARY + "\r\n"
+            + "Content-Disposition: form-data; name=\"files\"; filename=\"a.txt\"\r\n\r\n"
+            + "partial";
+        MultipartStream stream = new MultipartStream(new ByteArrayInputStream(bytes(body)), BOUNDARY);
+        MultipartPart part = stream.nextPart();
+
+        assertThatThrownBy(() -> part.body().readAllBytes()).isInstanceOf(EOFException.class);
+    }
+
+    @Test
+    @DisplayName("Content-Disposition name 이 없는 part 는 형식 오류")
+    void rejectsPartWithoutName() {
+        String body = "--" + BOUNDARY + "\r\n"
+            + "Content-Type: text/plain\r\n\r\n"
+            + "1\r\n"
+            + "--" + BOUNDARY + "--";
+
+        assertThatThrownBy(() -> readAll(new ByteArrayInputStream(bytes(body))))
+            .isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    @DisplayName("Content-Type 에서 boundary 추출 (따옴표 제거), multipart/form-data 가 아니면 실패")
+    void boundaryFromContentType() {
+        assertThat(MultipartStream.boundary("multipart/form-data; boundary=abc")).isEqualTo("abc");
+        assertThat(MultipartStream.boundary("multipart/form-data; boundary=\"a b:c\"")).isEqualTo("a b:c");
+        assertThatThrownBy(() -> MultipartStream.boundary("application/json"))
+            .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> MultipartStream.boundary("multipart/form-data"))
+            .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> MultipartStream.boundary("multipart/form-data; boundary=" + "b".repeat(71)))
+            .isInstanceOf(ValidationException.class);
+    }
+
+    private static List<Part> readAll(InputStream in) throws IOException {
+        MultipartStream stream = new MultipartStream(in, BOUNDARY);
+        List<Part> parts = new ArrayList<>();
+        for (MultipartPart part = stream.nextPart(); part != null; part = stream.nextPart()) {
+            parts.add(new Part(part.name(), part.fileName(), part.contentType(),
+                new String(part.body().readAllBytes(), StandardCharsets.UTF_8)));
+        }
+        return parts;
+    }
+
+    private static byte[] bytes(String body) {
+        return body.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private record Part(String name, String fileName, String contentType, String content) {
+    }
+
+    // 한 번의 read 로 최대 chunkSize byte 만 반환 (네트워크에서 나뉘어 도착하는 본문)
+    private static final class ChunkedInputStream extends InputStream {
+
+        private final ByteArrayInputStream in;
+        private final int chunkSize;
+
+        private ChunkedInputStream(byte[] data, int chunkSize) {
+            this.in = new ByteArrayInputStream(data);
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public int read() {
+            return in.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            return in.read(b, off, Math.min(len, chunkSize));
+        }
+    }
+}
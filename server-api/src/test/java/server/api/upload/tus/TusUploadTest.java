@@ -0,0 +1,94 @@
+package server.api.upload.tus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import module.common.compress.ExtractCheckpoint;
+import module.common.enums.CompressFileType;
+import module.common.exception.ValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class TusUploadTest {
+
+    @Test
+    @DisplayName("Upload-Metadata 의 base64 값을 순서대로 해석하고, 값이 없는 key 는 빈 문자열")
+    void parseMetadata() {
+        // filename: "보고서 1.zip", filetype: "application/zip"
+        Map<String, String> metadata = TusUpload.parseMetadata(
+            "filename 67O06rOg7IScIDEuemlw, filetype YXBwbGljYXRpb24vemlw,is_confidential");
+
+        assertThat(metadata).containsExactly(
+            Map.entry("filename", "보고서 1.zip"),
+            Map.entry("filetype", "application/zip"),
+            Map.entry("is_confidential", ""));
+    }
+
+    @Test
+    @DisplayName("Upload-Metadata 가 없으면 빈 map")
+    void parseEmptyMetadata() {
+        assertThat(TusUpload.parseMetadata(null)).isEmpty();
+        assertThat(TusUpload.parseMetadata(" ")).isEmpty();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @CsvSource(delimiter = '|', value = {
+        "filename !!!",
+        "filename YQ==,,filetype YQ==",
+        "filename YQ==,filename Yg==",
+    })
+    @DisplayName("base64 가 아닌 값, 빈 key, 중복 key 는 형식 오류")
+    void rejectsInvalidMetadata(String metadata) {
+        assertThatThrownBy(() -> TusUpload.parseMetadata(metadata))
+            .isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    @DisplayName("Upload-Concat: final 의 URL 목록에서 마지막 경로를 순서대로 부분 업로드 id 로 사용")
+    void parsePartUploadIds() {
+        assertThat(TusUpload.parsePartUploadIds("final;/api/tus/a http://host/api/tus/b/  https://host:8080/c"))
+            .containsExactly("a", "b", "c");
+        assertThat(TusUpload.parsePartUploadIds("final; b a ")).containsExactly("b", "a");
+        assertThat(TusUpload.parsePartUploadIds("final;")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("partial / final 구분과 최종 업로드의 부분 업로드 목록")
+    void concatType() {
+        Instant expiresAt = Instant.ofEpochMilli(1_000);
+        TusUpload partial = TusUpload.created("p", 1L, 10, null, expiresAt, TusUpload.CONCAT_PARTIAL);
+        TusUpload finalUpload = TusUpload.created("f", 1L, 20, null, expiresAt, "final;/api/tus/p /api/tus/q");
+        TusUpload single = TusUpload.created("s", 1L, 10, null, expiresAt, null);
+
+        assertThat(partial.isPartial()).isTrue();
+        assertThat(partial.isFinal()).isFalse();
+        assertThat(partial.partUploadIds()).isEmpty();
+        assertThat(finalUpload.isFinal()).isTrue();
+        assertThat(finalUpload.partUploadIds()).isEqualTo(List.of("p", "q"));
+        assertThat(single.isPartial()).isFalse();
+        assertThat(single.isFinal()).isFalse();
+        assertThat(single.partUploadIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Redis hash 로 저장한 뒤 읽으면 같은 상태")
+    void hashRoundTrip() {
+        TusUpload tusUpload = TusUpload.created("upload-1", 7L, 100, "filename YQ==",
+                Instant.ofEpochMilli(2_000), null)
+            .withExtractPath("a")
+            .withExtract(new ExtractCheckpoint(CompressFileType.ZIP, 40, 2, 60, ExtractCheckpoint.State.IN_PROGRESS))
+            .withOffset(60, Instant.ofEpochMilli(3_000));
+
+        TusUpload restored = TusUpload.fromHash(new HashMap<Object, Object>(tusUpload.toHash()));
+
+        assertThat(restored).isEqualTo(new TusUpload("upload-1", 7L, 100, 60, "filename YQ==", null,
+            Instant.ofEpochMilli(tusUpload.createdAt().toEpochMilli()), Instant.ofEpochMilli(3_000), null, null, "a",
+            tusUpload.extract()));
+    }
+}